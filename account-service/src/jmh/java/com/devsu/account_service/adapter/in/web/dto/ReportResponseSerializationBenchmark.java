@@ -0,0 +1,65 @@
+package com.devsu.account_service.adapter.in.web.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReportResponseSerializationBenchmark {
+    
+    @Param({"1", "10"})
+    private int accountCount;
+    
+    @Param({"100", "10000"})
+    private int transactionsPerAccount;
+    
+    private ObjectWriter writer;
+    private ReportResponse report;
+    
+    @Setup
+    public void setUp() {
+        // Same modules and date handling Spring Boot applies to the WebFlux codecs
+        writer = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build()
+            .writerFor(ReportResponse.class);
+        
+        List<AccountStatementDto> accounts = new ArrayList<>(accountCount);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int a = 0; a < accountCount; a++) {
+            List<TransactionStatementDto> transactions = new ArrayList<>(transactionsPerAccount);
+            BigDecimal balance = new BigDecimal("1000.00");
+            for (int i = 0; i < transactionsPerAccount; i++) {
+                BigDecimal amount = new BigDecimal("10.00");
+                balance = balance.add(amount);
+                transactions.add(new TransactionStatementDto(start.plusMinutes(i), "Deposito", amount, balance));
+            }
+            accounts.add(new AccountStatementDto(String.format("%010d", a), "AHORROS", balance, true,
+                transactions, null, null, List.of()));
+        }
+        report = new ReportResponse("client-1", "John Doe", accounts);
+    }
+    
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(report);
+    }
+}
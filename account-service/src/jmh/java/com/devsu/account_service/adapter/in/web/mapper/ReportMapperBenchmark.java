@@ -0,0 +1,53 @@
+package com.devsu.account_service.adapter.in.web.mapper;
+
+import com.devsu.account_service.adapter.in.web.dto.AccountStatementDto;
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.AccountType;
+import com.devsu.account_service.domain.model.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReportMapperBenchmark {
+    
+    @Param({"100", "10000", "100000"})
+    private int transactionCount;
+    
+    private final ReportMapper reportMapper = new ReportMapper();
+    private Account account;
+    private List<Transaction> transactions;
+    
+    @Setup
+    public void setUp() {
+        account = new Account(1L, "1234567890", AccountType.AHORROS, new BigDecimal("1000.00"),
+            true, "client-1", "John Doe", true);
+        transactions = new ArrayList<>(transactionCount);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        BigDecimal balance = new BigDecimal("1000.00");
+        for (int i = 0; i < transactionCount; i++) {
+            BigDecimal amount = i % 2 == 0 ? new BigDecimal("50.00") : new BigDecimal("-25.00");
+            balance = balance.add(amount);
+            transactions.add(new Transaction((long) i, start.plusMinutes(i), i % 2 == 0 ? "Deposito" : "Retiro",
+                amount, balance, account.getAccountNumber()));
+        }
+    }
+    
+    @Benchmark
+    public AccountStatementDto toAccountStatement() {
+        return reportMapper.toAccountStatement(account, transactions);
+    }
+}
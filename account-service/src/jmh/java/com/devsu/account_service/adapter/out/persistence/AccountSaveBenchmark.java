@@ -0,0 +1,125 @@
+package com.devsu.account_service.adapter.out.persistence;
+
+import com.devsu.account_service.adapter.out.persistence.entity.AccountEntity;
+import com.devsu.account_service.adapter.out.persistence.mapper.AccountPersistenceMapper;
+import com.devsu.account_service.adapter.out.persistence.mapper.TransactionPersistenceMapper;
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.AccountType;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Compares the former read-then-save update with the single versioned UPDATE. The latency
+// parameter delays every statement to show what each saved round trip is worth over a network.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccountSaveBenchmark {
+    private static final String CREATE_ACCOUNT_TABLE =
+        "CREATE TABLE account (" +
+        "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+        "account_number VARCHAR(50) NOT NULL UNIQUE, " +
+        "account_type VARCHAR(20) NOT NULL, " +
+        "balance DECIMAL(15,2) NOT NULL DEFAULT 0.00, " +
+        "status BOOLEAN NOT NULL DEFAULT true, " +
+        "client_id VARCHAR(50) NOT NULL, " +
+        "client_name VARCHAR(100) NOT NULL, " +
+        "client_status BOOLEAN NOT NULL DEFAULT true, " +
+        "version BIGINT NOT NULL DEFAULT 0, " +
+        "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+        "updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)";
+    
+    @Param({"0", "1"})
+    public int latencyMillis;
+    
+    private RoundTripCountingConnectionFactory connectionFactory;
+    private AccountR2dbcRepository repository;
+    private AccountPersistenceMapper mapper;
+    private AccountRepositoryAdapter adapter;
+    private Account readThenSaveAccount;
+    private Account singleUpdateAccount;
+    
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RoundTrips {
+        public long statements;
+    }
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        connectionFactory = new RoundTripCountingConnectionFactory(
+            H2ConnectionFactory.inMemory("account-save-" + UUID.randomUUID()),
+            Duration.ofMillis(latencyMillis));
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(connectionFactory);
+        template.getDatabaseClient().sql(CREATE_ACCOUNT_TABLE).then().block();
+        
+        R2dbcRepositoryFactory repositoryFactory = new R2dbcRepositoryFactory(template);
+        repository = repositoryFactory.getRepository(AccountR2dbcRepository.class);
+        mapper = new AccountPersistenceMapper();
+        adapter = new AccountRepositoryAdapter(
+            repository,
+            mapper,
+            repositoryFactory.getRepository(TransactionR2dbcRepository.class),
+            new TransactionPersistenceMapper(),
+            new TransactionBatchInserter(template.getDatabaseClient()),
+            new DailyBalanceRecorder(template.getDatabaseClient()),
+            TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)),
+            template);
+        
+        readThenSaveAccount = adapter.save(account("1000000001")).block();
+        singleUpdateAccount = adapter.save(account("1000000002")).block();
+        connectionFactory.drainStatementCount();
+    }
+    
+    @Benchmark
+    public Account readThenSave(RoundTrips roundTrips) {
+        readThenSaveAccount.setStatus(!readThenSaveAccount.getStatus());
+        readThenSaveAccount = readThenSave(readThenSaveAccount).block();
+        roundTrips.statements += connectionFactory.drainStatementCount();
+        return readThenSaveAccount;
+    }
+    
+    @Benchmark
+    public Account singleUpdate(RoundTrips roundTrips) {
+        singleUpdateAccount.setStatus(!singleUpdateAccount.getStatus());
+        singleUpdateAccount = adapter.save(singleUpdateAccount).block();
+        roundTrips.statements += connectionFactory.drainStatementCount();
+        return singleUpdateAccount;
+    }
+    
+    // The update path the adapter used before: load the row only to carry created_at over
+    private Mono<Account> readThenSave(Account account) {
+        return repository.findById(account.getId())
+            .flatMap(existingEntity -> {
+                AccountEntity entity = mapper.toEntity(account);
+                entity.setCreatedAt(existingEntity.getCreatedAt());
+                entity.setUpdatedAt(LocalDateTime.now());
+                return repository.save(entity);
+            })
+            .map(mapper::toDomain);
+    }
+    
+    private static Account account(String accountNumber) {
+        return new Account(null, accountNumber, AccountType.AHORROS, new BigDecimal("1000.00"),
+            true, "client-1", "John Doe", true);
+    }
+}
@@ -0,0 +1,113 @@
+package com.devsu.account_service.adapter.out.persistence;
+
+import com.devsu.account_service.adapter.out.persistence.mapper.AccountPersistenceMapper;
+import com.devsu.account_service.adapter.out.persistence.mapper.TransactionPersistenceMapper;
+import com.devsu.account_service.application.usecase.bulkcreatetransactions.BulkCreateTransactionsUseCase;
+import com.devsu.account_service.application.usecase.bulkcreatetransactions.BulkTransactionCommand;
+import com.devsu.account_service.application.usecase.createtransaction.CreateTransactionCommand;
+import com.devsu.account_service.application.usecase.createtransaction.CreateTransactionUseCase;
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.AccountType;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Ingests the same stream of movements spread over a set of accounts, either one posting per movement
+// (what a client looping over POST /movimientos costs) or through the chunked bulk use case.
+// Scores are movements per second; latencyMillis adds a fixed delay per statement to model a remote database.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkIngestionBenchmark {
+    private static final int MOVEMENTS = 1000;
+    private static final int ACCOUNTS = 50;
+    
+    @Param({"100", "500"})
+    public int chunkSize;
+    
+    @Param({"0", "1"})
+    public int latencyMillis;
+    
+    private CreateTransactionUseCase createTransactionUseCase;
+    private BulkCreateTransactionsUseCase bulkCreateTransactionsUseCase;
+    private List<BulkTransactionCommand> commands;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        RoundTripCountingConnectionFactory connectionFactory = new RoundTripCountingConnectionFactory(
+            H2ConnectionFactory.inMemory("bulk-" + UUID.randomUUID()),
+            Duration.ofMillis(latencyMillis));
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(connectionFactory);
+        DatabaseClient databaseClient = template.getDatabaseClient();
+        Flux.fromIterable(TransferBenchmark.SCHEMA)
+            .concatMap(ddl -> databaseClient.sql(ddl).then())
+            .then()
+            .block();
+        
+        R2dbcRepositoryFactory repositoryFactory = new R2dbcRepositoryFactory(template);
+        AccountRepositoryAdapter adapter = new AccountRepositoryAdapter(
+            repositoryFactory.getRepository(AccountR2dbcRepository.class),
+            new AccountPersistenceMapper(),
+            repositoryFactory.getRepository(TransactionR2dbcRepository.class),
+            new TransactionPersistenceMapper(),
+            new TransactionBatchInserter(databaseClient),
+            new DailyBalanceRecorder(databaseClient),
+            TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)),
+            template);
+        createTransactionUseCase = new CreateTransactionUseCase(adapter);
+        bulkCreateTransactionsUseCase = new BulkCreateTransactionsUseCase(adapter, chunkSize);
+        
+        for (int i = 0; i < ACCOUNTS; i++) {
+            adapter.save(new Account(null, accountNumber(i), AccountType.CORRIENTE,
+                BigDecimal.ZERO, true, "client-1", "John Doe", true)).block();
+        }
+        
+        commands = new ArrayList<>(MOVEMENTS);
+        for (int i = 0; i < MOVEMENTS; i++) {
+            commands.add(new BulkTransactionCommand(i, accountNumber(i % ACCOUNTS), "Deposito", BigDecimal.ONE));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(MOVEMENTS)
+    public Long singlePostings() {
+        return Flux.fromIterable(commands)
+            .concatMap(command -> createTransactionUseCase.execute(new CreateTransactionCommand(
+                command.getAccountNumber(), command.getTransactionType(), command.getAmount())))
+            .count()
+            .block();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(MOVEMENTS)
+    public Long bulk() {
+        return bulkCreateTransactionsUseCase.execute(Flux.fromIterable(commands))
+            .count()
+            .block();
+    }
+    
+    private static String accountNumber(int index) {
+        return String.format("40000000%02d", index);
+    }
+}
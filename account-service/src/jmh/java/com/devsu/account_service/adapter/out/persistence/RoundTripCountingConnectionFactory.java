@@ -0,0 +1,78 @@
+package com.devsu.account_service.adapter.out.persistence;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Statement;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Counts every executed statement and delays it by a fixed latency, standing in for the network
+// round trip an in-memory database does not have.
+class RoundTripCountingConnectionFactory implements ConnectionFactory {
+    private final ConnectionFactory delegate;
+    private final Duration latency;
+    private final AtomicLong statements = new AtomicLong();
+    
+    RoundTripCountingConnectionFactory(ConnectionFactory delegate, Duration latency) {
+        this.delegate = delegate;
+        this.latency = latency;
+    }
+    
+    long drainStatementCount() {
+        return statements.getAndSet(0);
+    }
+    
+    @Override
+    public Publisher<? extends Connection> create() {
+        return Mono.from(delegate.create()).map(this::countingConnection);
+    }
+    
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+    
+    private Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, result) ->
+            "createStatement".equals(method.getName()) ? countingStatement((Statement) result) : result);
+    }
+    
+    private Statement countingStatement(Statement statement) {
+        return proxy(Statement.class, statement, (method, result) -> {
+            if ("execute".equals(method.getName())) {
+                statements.incrementAndGet();
+                Flux<?> executed = Flux.from((Publisher<?>) result);
+                return latency.isZero() ? executed : executed.delaySubscription(latency);
+            }
+            return result;
+        });
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultDecorator decorator) {
+        Object[] self = new Object[1];
+        self[0] = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            // Fluent statement methods return the target itself and must keep returning the proxy
+            return result == target ? self[0] : decorator.decorate(method, result);
+        });
+        return (T) self[0];
+    }
+    
+    private interface ResultDecorator {
+        Object decorate(Method method, Object result);
+    }
+}
@@ -0,0 +1,159 @@
+package com.devsu.account_service.adapter.out.persistence;
+
+import com.devsu.account_service.adapter.out.persistence.mapper.AccountPersistenceMapper;
+import com.devsu.account_service.adapter.out.persistence.mapper.TransactionPersistenceMapper;
+import com.devsu.account_service.application.usecase.createtransaction.CreateTransactionCommand;
+import com.devsu.account_service.application.usecase.createtransaction.CreateTransactionUseCase;
+import com.devsu.account_service.application.usecase.transfer.TransferCommand;
+import com.devsu.account_service.application.usecase.transfer.TransferUseCase;
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.AccountType;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Random transfers among a small hot set of accounts from several threads. Opposite transfers
+// between the same pair are frequent, so any lock-order mistake shows up as deadlock failures.
+// The baseline is what clients did before: two independent postings with no atomicity.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class TransferBenchmark {
+    static final List<String> SCHEMA = List.of(
+        "CREATE TABLE account (" +
+            "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+            "account_number VARCHAR(50) NOT NULL UNIQUE, " +
+            "account_type VARCHAR(20) NOT NULL, " +
+            "balance DECIMAL(15,2) NOT NULL DEFAULT 0.00, " +
+            "status BOOLEAN NOT NULL DEFAULT true, " +
+            "client_id VARCHAR(50) NOT NULL, " +
+            "client_name VARCHAR(100) NOT NULL, " +
+            "client_status BOOLEAN NOT NULL DEFAULT true, " +
+            "version BIGINT NOT NULL DEFAULT 0, " +
+            "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+            "updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)",
+        "CREATE TABLE transaction (" +
+            "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+            "date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+            "transaction_type VARCHAR(50) NOT NULL, " +
+            "amount DECIMAL(15,2) NOT NULL, " +
+            "balance DECIMAL(15,2) NOT NULL, " +
+            "account_number VARCHAR(50) NOT NULL, " +
+            "correlation_id VARCHAR(36), " +
+            "version BIGINT NOT NULL DEFAULT 0, " +
+            "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+            "updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)",
+        "CREATE TABLE account_daily_balance (" +
+            "account_number VARCHAR(50) NOT NULL, " +
+            "balance_date DATE NOT NULL, " +
+            "opening_balance DECIMAL(15,2) NOT NULL, " +
+            "closing_balance DECIMAL(15,2) NOT NULL, " +
+            "total_credits DECIMAL(15,2) NOT NULL DEFAULT 0.00, " +
+            "total_debits DECIMAL(15,2) NOT NULL DEFAULT 0.00, " +
+            "movement_count INTEGER NOT NULL DEFAULT 0, " +
+            "updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+            "PRIMARY KEY (account_number, balance_date))");
+    private static final BigDecimal AMOUNT = BigDecimal.ONE;
+    
+    @Param({"2", "4", "16"})
+    public int hotAccounts;
+    
+    @Param({"0", "1"})
+    public int latencyMillis;
+    
+    private TransferUseCase transferUseCase;
+    private CreateTransactionUseCase createTransactionUseCase;
+    private String[] accountNumbers;
+    
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long failures;
+    }
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        RoundTripCountingConnectionFactory connectionFactory = new RoundTripCountingConnectionFactory(
+            H2ConnectionFactory.inMemory("transfer-" + UUID.randomUUID()),
+            Duration.ofMillis(latencyMillis));
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(connectionFactory);
+        DatabaseClient databaseClient = template.getDatabaseClient();
+        Flux.fromIterable(SCHEMA)
+            .concatMap(ddl -> databaseClient.sql(ddl).then())
+            .then()
+            .block();
+        
+        R2dbcRepositoryFactory repositoryFactory = new R2dbcRepositoryFactory(template);
+        AccountRepositoryAdapter adapter = new AccountRepositoryAdapter(
+            repositoryFactory.getRepository(AccountR2dbcRepository.class),
+            new AccountPersistenceMapper(),
+            repositoryFactory.getRepository(TransactionR2dbcRepository.class),
+            new TransactionPersistenceMapper(),
+            new TransactionBatchInserter(databaseClient),
+            new DailyBalanceRecorder(databaseClient),
+            TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)),
+            template);
+        transferUseCase = new TransferUseCase(adapter);
+        createTransactionUseCase = new CreateTransactionUseCase(adapter);
+        
+        accountNumbers = new String[hotAccounts];
+        for (int i = 0; i < hotAccounts; i++) {
+            accountNumbers[i] = String.format("30000000%02d", i);
+            adapter.save(new Account(null, accountNumbers[i], AccountType.CORRIENTE,
+                new BigDecimal("1000000000.00"), true, "client-1", "John Doe", true)).block();
+        }
+    }
+    
+    @Benchmark
+    public Object transfer(Outcomes outcomes) {
+        String[] pair = randomPair();
+        try {
+            return transferUseCase.execute(new TransferCommand(pair[0], pair[1], AMOUNT)).block();
+        } catch (RuntimeException e) {
+            outcomes.failures++;
+            return e;
+        }
+    }
+    
+    @Benchmark
+    public Object twoPostings(Outcomes outcomes) {
+        String[] pair = randomPair();
+        try {
+            createTransactionUseCase.execute(new CreateTransactionCommand(pair[0], "Retiro", AMOUNT.negate())).block();
+            return createTransactionUseCase.execute(new CreateTransactionCommand(pair[1], "Deposito", AMOUNT)).block();
+        } catch (RuntimeException e) {
+            outcomes.failures++;
+            return e;
+        }
+    }
+    
+    private String[] randomPair() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int source = random.nextInt(hotAccounts);
+        int target = (source + 1 + random.nextInt(hotAccounts - 1)) % hotAccounts;
+        return new String[]{accountNumbers[source], accountNumbers[target]};
+    }
+}
@@ -0,0 +1,45 @@
+package com.devsu.account_service.adapter.out.persistence.mapper;
+
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.AccountType;
+import com.devsu.account_service.domain.model.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersistenceMapperBenchmark {
+    private final AccountPersistenceMapper accountMapper = new AccountPersistenceMapper();
+    private final TransactionPersistenceMapper transactionMapper = new TransactionPersistenceMapper();
+    
+    private Account account;
+    private Transaction transaction;
+    
+    @Setup
+    public void setUp() {
+        account = new Account(1L, "1234567890", AccountType.AHORROS, new BigDecimal("1000.00"),
+            true, "client-1", "John Doe", true);
+        transaction = new Transaction(1L, LocalDateTime.of(2024, 1, 15, 10, 0), "Deposito",
+            new BigDecimal("500.00"), new BigDecimal("1500.00"), "1234567890");
+    }
+    
+    @Benchmark
+    public Account accountRoundTrip() {
+        return accountMapper.toDomain(accountMapper.toEntity(account));
+    }
+    
+    @Benchmark
+    public Transaction transactionRoundTrip() {
+        return transactionMapper.toDomain(transactionMapper.toEntity(transaction));
+    }
+}
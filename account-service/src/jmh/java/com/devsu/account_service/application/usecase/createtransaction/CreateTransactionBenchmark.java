@@ -0,0 +1,153 @@
+package com.devsu.account_service.application.usecase.createtransaction;
+
+import com.devsu.account_service.domain.exception.InsufficientBalanceException;
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.AccountType;
+import com.devsu.account_service.domain.model.PostingResult;
+import com.devsu.account_service.domain.model.StatementLine;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.model.Transfer;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CreateTransactionBenchmark {
+    private static final String ACCOUNT_NUMBER = "1234567890";
+    
+    private CreateTransactionUseCase useCase;
+    private CreateTransactionCommand deposit;
+    private CreateTransactionCommand withdrawal;
+    
+    @Setup(Level.Iteration)
+    public void setUp() {
+        InMemoryAccountRepository repository = new InMemoryAccountRepository();
+        repository.accounts.put(ACCOUNT_NUMBER, new Account(1L, ACCOUNT_NUMBER, AccountType.AHORROS,
+            new BigDecimal("1000000000.00"), true, "client-1", "John Doe", true));
+        useCase = new CreateTransactionUseCase(repository);
+        deposit = new CreateTransactionCommand(ACCOUNT_NUMBER, "Deposito", new BigDecimal("100.00"));
+        withdrawal = new CreateTransactionCommand(ACCOUNT_NUMBER, "Retiro", new BigDecimal("-100.00"));
+    }
+    
+    @Benchmark
+    public Transaction depositAndWithdraw() {
+        useCase.execute(deposit).block();
+        return useCase.execute(withdrawal).block();
+    }
+    
+    // Mirrors the atomic posting contract of the persistence adapter without a database
+    static class InMemoryAccountRepository implements AccountRepositoryPort {
+        private final Map<String, Account> accounts = new ConcurrentHashMap<>();
+        private long nextTransactionId;
+        
+        @Override
+        public Mono<BigDecimal> applyBalanceDelta(String accountNumber, BigDecimal amount) {
+            return Mono.fromCallable(() -> {
+                Account account = accounts.get(accountNumber);
+                BigDecimal balance = account.getBalance().add(amount);
+                if (balance.signum() < 0) {
+                    throw new InsufficientBalanceException("Saldo no disponible");
+                }
+                account.setBalance(balance);
+                return balance;
+            });
+        }
+        
+        @Override
+        public Mono<Transaction> postTransaction(Transaction transaction) {
+            return applyBalanceDelta(transaction.getAccountNumber(), transaction.getAmount())
+                .map(balance -> {
+                    transaction.setId(++nextTransactionId);
+                    transaction.setBalance(balance);
+                    return transaction;
+                });
+        }
+        
+        @Override
+        public Mono<List<PostingResult>> postTransactions(String accountNumber, List<Transaction> transactions) {
+            return Flux.fromIterable(transactions)
+                .concatMap(this::postTransaction)
+                .map(PostingResult::posted)
+                .collectList();
+        }
+        
+        @Override
+        public Mono<Transfer> postTransfer(Transfer transfer) {
+            return postTransaction(transfer.getDebit())
+                .then(postTransaction(transfer.getCredit()))
+                .thenReturn(transfer);
+        }
+        
+        @Override
+        public Mono<List<PostingResult>> postTransactionChunk(List<Transaction> transactions) {
+            return Flux.fromIterable(transactions)
+                .concatMap(this::postTransaction)
+                .map(PostingResult::posted)
+                .collectList();
+        }
+        
+        @Override
+        public Mono<Account> save(Account account) {
+            accounts.put(account.getAccountNumber(), account);
+            return Mono.just(account);
+        }
+        
+        @Override
+        public Flux<Account> findAll() {
+            return Flux.fromIterable(accounts.values());
+        }
+        
+        @Override
+        public Flux<Account> findPage(String clientId, Long afterId, Integer limit) {
+            return findAll();
+        }
+        
+        @Override
+        public Mono<Account> findByAccountNumber(String accountNumber) {
+            return Mono.justOrEmpty(accounts.get(accountNumber));
+        }
+        
+        @Override
+        public Mono<Account> findByAccountNumberUncached(String accountNumber) {
+            return findByAccountNumber(accountNumber);
+        }
+        
+        @Override
+        public Mono<Boolean> existsByAccountNumber(String accountNumber) {
+            return Mono.just(accounts.containsKey(accountNumber));
+        }
+        
+        @Override
+        public Flux<Account> findByClientId(String clientId) {
+            return findAll().filter(account -> clientId.equals(account.getClientId()));
+        }
+        
+        @Override
+        public Mono<Long> updateClientInfo(String clientId, String clientName, Boolean clientStatus,
+                                           LocalDateTime changedAt) {
+            return Mono.just(0L);
+        }
+        
+        @Override
+        public Flux<StatementLine> findStatementLines(String clientId, LocalDateTime startDate, LocalDateTime endDate) {
+            return Flux.empty();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.devsu.account_service.application.usecase.createtransaction;
+
+import com.devsu.account_service.domain.exception.DuplicateIdempotencyKeyException;
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.AccountType;
+import com.devsu.account_service.domain.model.IdempotencyRecord;
+import com.devsu.account_service.domain.model.IdempotentPosting;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.port.out.IdempotencyKeyRepositoryPort;
+import com.devsu.account_service.domain.port.out.TransactionRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.transaction.reactive.TransactionCallback;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Latency the Idempotency-Key adds on top of a posting: a replay served from the in-memory tier
+// should stay well below a millisecond, and a first request pays one key lookup and one key insert
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdempotentCreateTransactionBenchmark {
+    private static final String ACCOUNT_NUMBER = "1234567890";
+    private static final String REPLAYED_KEY = "3f1c9a52-6d1e-4b7a-9a0e-1d2c3b4a5f60";
+    
+    private CreateTransactionUseCase createTransactionUseCase;
+    private IdempotentCreateTransactionUseCase idempotentUseCase;
+    private CreateTransactionCommand deposit;
+    private IdempotentCreateTransactionCommand replayed;
+    private long nextKey;
+    
+    @Setup(Level.Iteration)
+    public void setUp() {
+        CreateTransactionBenchmark.InMemoryAccountRepository accounts = new CreateTransactionBenchmark.InMemoryAccountRepository();
+        accounts.save(new Account(1L, ACCOUNT_NUMBER, AccountType.AHORROS,
+            new BigDecimal("1000000000.00"), true, "client-1", "John Doe", true)).block();
+        createTransactionUseCase = new CreateTransactionUseCase(accounts);
+        idempotentUseCase = new IdempotentCreateTransactionUseCase(createTransactionUseCase,
+            new InMemoryTransactionRepository(), new InMemoryIdempotencyKeyRepository(), new NoTransactionOperator(),
+            new SimpleMeterRegistry(), Duration.ofHours(24), 100_000);
+        deposit = new CreateTransactionCommand(ACCOUNT_NUMBER, "Deposito", new BigDecimal("100.00"));
+        replayed = new IdempotentCreateTransactionCommand(REPLAYED_KEY, deposit);
+        idempotentUseCase.execute(replayed).block();
+    }
+    
+    @Benchmark
+    public Transaction postWithoutKey() {
+        return createTransactionUseCase.execute(deposit).block();
+    }
+    
+    @Benchmark
+    public IdempotentPosting postWithNewKey() {
+        return idempotentUseCase.execute(new IdempotentCreateTransactionCommand("key-" + nextKey++, deposit)).block();
+    }
+    
+    @Benchmark
+    public IdempotentPosting replayFromMemory() {
+        return idempotentUseCase.execute(replayed).block();
+    }
+    
+    static class InMemoryIdempotencyKeyRepository implements IdempotencyKeyRepositoryPort {
+        private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+        
+        @Override
+        public Mono<IdempotencyRecord> findByKey(String key) {
+            return Mono.justOrEmpty(records.get(key));
+        }
+        
+        @Override
+        public Mono<IdempotencyRecord> save(IdempotencyRecord record) {
+            return records.putIfAbsent(record.getKey(), record) == null
+                ? Mono.just(record)
+                : Mono.error(new DuplicateIdempotencyKeyException(record.getKey(), "Idempotency key already recorded"));
+        }
+        
+        @Override
+        public Mono<Long> deleteExpired(LocalDateTime now) {
+            return Mono.just(0L);
+        }
+    }
+    
+    // Replays from the durable tier are not measured here, postings never read the ledger back
+    static class InMemoryTransactionRepository implements TransactionRepositoryPort {
+        @Override
+        public Mono<Transaction> save(Transaction transaction) {
+            return Mono.just(transaction);
+        }
+        
+        @Override
+        public Flux<Transaction> findAll() {
+            return Flux.empty();
+        }
+        
+        @Override
+        public Flux<Transaction> findPage(String accountNumber, LocalDateTime startDate, LocalDateTime endDate,
+                                          Long afterId, Integer limit) {
+            return Flux.empty();
+        }
+        
+        @Override
+        public Mono<Transaction> findById(Long id) {
+            return Mono.empty();
+        }
+        
+        @Override
+        public Flux<Transaction> findByAccountNumber(String accountNumber) {
+            return Flux.empty();
+        }
+        
+        @Override
+        public Flux<Transaction> findByAccountNumberAndDateBetween(String accountNumber, LocalDateTime startDate,
+                                                                   LocalDateTime endDate) {
+            return Flux.empty();
+        }
+        
+        @Override
+        public Mono<Long> shiftBalancesAfter(String accountNumber, Long afterId, BigDecimal delta) {
+            return Mono.just(0L);
+        }
+    }
+    
+    static class NoTransactionOperator implements TransactionalOperator {
+        @Override
+        public <T> Mono<T> transactional(Mono<T> mono) {
+            return mono;
+        }
+        
+        @Override
+        public <T> Flux<T> execute(TransactionCallback<T> action) {
+            return Flux.from(action.doInTransaction(null));
+        }
+    }
+}
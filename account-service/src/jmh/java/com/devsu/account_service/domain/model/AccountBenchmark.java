@@ -0,0 +1,41 @@
+package com.devsu.account_service.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccountBenchmark {
+    private static final BigDecimal AMOUNT = new BigDecimal("125.50");
+    
+    private Account account;
+    
+    @Setup(Level.Iteration)
+    public void setUp() {
+        account = new Account(1L, "1234567890", AccountType.AHORROS, new BigDecimal("1000000000.00"),
+            true, "client-1", "John Doe", true);
+    }
+    
+    @Benchmark
+    public BigDecimal deposit() {
+        account.deposit(AMOUNT);
+        return account.getBalance();
+    }
+    
+    @Benchmark
+    public BigDecimal depositThenWithdraw() {
+        account.deposit(AMOUNT);
+        account.withdraw(AMOUNT);
+        return account.getBalance();
+    }
+}
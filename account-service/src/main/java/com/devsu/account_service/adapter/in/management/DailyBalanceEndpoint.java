@@ -0,0 +1,42 @@
+package com.devsu.account_service.adapter.in.management;
+
+import com.devsu.account_service.application.usecase.rebuilddailybalances.RebuildDailyBalancesCommand;
+import com.devsu.account_service.domain.model.DailyBalanceMismatch;
+import com.devsu.account_service.domain.port.in.CheckDailyBalancesPort;
+import com.devsu.account_service.domain.port.in.RebuildDailyBalancesPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "dailybalances")
+@RequiredArgsConstructor
+public class DailyBalanceEndpoint {
+    private final CheckDailyBalancesPort checkDailyBalancesPort;
+    private final RebuildDailyBalancesPort rebuildDailyBalancesPort;
+    
+    @ReadOperation
+    public Mono<List<DailyBalanceMismatch>> mismatches() {
+        return checkDailyBalancesPort.execute(null)
+            .collectList();
+    }
+    
+    @WriteOperation
+    public Mono<Map<String, Long>> rebuild(@Nullable String accountNumber, @Nullable String fromDate) {
+        RebuildDailyBalancesCommand command = new RebuildDailyBalancesCommand(
+            accountNumber,
+            fromDate != null ? LocalDate.parse(fromDate) : null
+        );
+        
+        return rebuildDailyBalancesPort.execute(command)
+            .map(days -> Map.of("rebuiltDays", days));
+    }
+}
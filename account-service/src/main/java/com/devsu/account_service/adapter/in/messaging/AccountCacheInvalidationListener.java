@@ -0,0 +1,23 @@
+package com.devsu.account_service.adapter.in.messaging;
+
+import com.devsu.account_service.adapter.in.messaging.dto.AccountsChangedEvent;
+import com.devsu.account_service.adapter.out.cache.CachingAccountRepositoryAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Each replica listens on its own anonymous queue, so a posting on any replica evicts the account everywhere
+@Component
+@ConditionalOnProperty(name = "account.cache.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class AccountCacheInvalidationListener {
+    private final CachingAccountRepositoryAdapter accountCache;
+    
+    @RabbitListener(queues = "#{accountCacheQueue.name}")
+    public void onAccountsChanged(AccountsChangedEvent event) {
+        if (event.getAccountNumbers() != null && !event.getAccountNumbers().isEmpty()) {
+            accountCache.evict(event.getAccountNumbers());
+        }
+    }
+}
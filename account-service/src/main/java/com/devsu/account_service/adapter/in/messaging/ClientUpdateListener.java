@@ -3,30 +3,178 @@ package com.devsu.account_service.adapter.in.messaging;
 import com.devsu.account_service.adapter.in.messaging.dto.ClientUpdatedEvent;
 import com.devsu.account_service.application.usecase.updateclientinfo.UpdateClientInfoCommand;
 import com.devsu.account_service.domain.port.in.UpdateClientInfoPort;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ClientUpdateListener {
     private final UpdateClientInfoPort updateClientInfoPort;
+    private final AmqpTemplate amqpTemplate;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${rabbitmq.queue.client-updated}")
+    private String clientUpdatedQueue;
+    
+    @Value("${rabbitmq.exchange.client-dlx}")
+    private String clientDeadLetterExchange;
+    
+    @Value("${rabbitmq.queue.client-updated-dlq}")
+    private String clientUpdatedDeadLetterQueue;
     
-    @RabbitListener(queues = "${rabbitmq.queue.client-updated}")
-    public void handleClientUpdated(ClientUpdatedEvent event) {
-        log.info("Received client updated event for clientId: {}", event.getClientId());
+    @Value("${rabbitmq.listener.client-updated.db-concurrency:4}")
+    private int dbConcurrency;
+    
+    @Value("${rabbitmq.listener.client-updated.max-attempts:3}")
+    private int maxAttempts;
+    
+    @RabbitListener(
+        queues = "${rabbitmq.queue.client-updated}",
+        containerFactory = "clientUpdatedListenerContainerFactory")
+    public void handleClientUpdated(List<Message<ClientUpdatedEvent>> messages, Channel channel) {
+        Map<String, List<Message<ClientUpdatedEvent>>> byClient = groupByClient(messages);
+        log.info("Received {} client updated events for {} clients", messages.size(), byClient.size());
+        messages.forEach(message -> recordLag(message.getPayload()));
         
+        // Blocking the listener thread keeps unacked messages within the prefetch window and
+        // database work within dbConcurrency until every message of the batch is settled
+        Flux.fromIterable(byClient.values())
+            .flatMap(clientMessages -> apply(clientMessages, channel), dbConcurrency)
+            .then()
+            .block();
+    }
+    
+    private Mono<Void> apply(List<Message<ClientUpdatedEvent>> clientMessages, Channel channel) {
+        ClientUpdatedEvent event = latest(clientMessages);
         UpdateClientInfoCommand command = new UpdateClientInfoCommand(
             event.getClientId(),
             event.getClientName(),
-            event.getClientStatus()
+            event.getClientStatus(),
+            event.getTimestamp()
         );
         
-        updateClientInfoPort.execute(command)
-            .doOnSuccess(v -> log.info("Successfully updated client info for clientId: {}", event.getClientId()))
-            .doOnError(e -> log.error("Failed to update client info for clientId: {}", event.getClientId(), e))
-            .subscribe();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return updateClientInfoPort.execute(command)
+            .doOnSuccess(v -> {
+                sample.stop(consumeTimer("success"));
+                clientMessages.forEach(message -> ack(message, channel));
+            })
+            .onErrorResume(error -> {
+                sample.stop(consumeTimer("error"));
+                log.warn("Rejecting {} client updated events for clientId: {}", clientMessages.size(), event.getClientId());
+                clientMessages.forEach(message -> reject(message, channel, error));
+                return Mono.empty();
+            });
+    }
+    
+    private Timer consumeTimer(String outcome) {
+        return Timer.builder("amqp.consume")
+            .tag("queue", clientUpdatedQueue)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+    
+    // Time from the change in person-service to its delivery here; both services share a clock zone
+    private void recordLag(ClientUpdatedEvent event) {
+        if (event.getTimestamp() == null) {
+            return;
+        }
+        Duration lag = Duration.between(event.getTimestamp(), LocalDateTime.now());
+        if (!lag.isNegative()) {
+            Timer.builder("amqp.consume.lag")
+                .tag("queue", clientUpdatedQueue)
+                .register(meterRegistry)
+                .record(lag);
+        }
+    }
+    
+    private void ack(Message<ClientUpdatedEvent> message, Channel channel) {
+        try {
+            channel.basicAck(deliveryTag(message), false);
+        } catch (IOException e) {
+            log.error("Could not ack client updated event for clientId: {}", message.getPayload().getClientId(), e);
+        }
+    }
+    
+    private void reject(Message<ClientUpdatedEvent> message, Channel channel, Throwable error) {
+        try {
+            if (attempts(message) >= maxAttempts) {
+                amqpTemplate.convertAndSend(clientDeadLetterExchange, clientUpdatedDeadLetterQueue,
+                    message.getPayload(), dead -> {
+                        dead.getMessageProperties().setHeader("x-exception-message", error.getMessage());
+                        return dead;
+                    });
+                channel.basicAck(deliveryTag(message), false);
+            } else {
+                channel.basicNack(deliveryTag(message), false, false);
+            }
+        } catch (IOException e) {
+            log.error("Could not reject client updated event for clientId: {}", message.getPayload().getClientId(), e);
+        }
+    }
+    
+    private long attempts(Message<ClientUpdatedEvent> message) {
+        Object deaths = message.getHeaders().get("x-death");
+        long rejected = 0;
+        if (deaths instanceof List<?> entries) {
+            for (Object entry : entries) {
+                if (entry instanceof Map<?, ?> death
+                        && clientUpdatedQueue.equals(String.valueOf(death.get("queue")))
+                        && "rejected".equals(String.valueOf(death.get("reason")))
+                        && death.get("count") instanceof Number count) {
+                    rejected += count.longValue();
+                }
+            }
+        }
+        return rejected + 1;
+    }
+    
+    private long deliveryTag(Message<ClientUpdatedEvent> message) {
+        return message.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class);
+    }
+    
+    private Map<String, List<Message<ClientUpdatedEvent>>> groupByClient(List<Message<ClientUpdatedEvent>> messages) {
+        Map<String, List<Message<ClientUpdatedEvent>>> byClient = new LinkedHashMap<>();
+        for (Message<ClientUpdatedEvent> message : messages) {
+            byClient.computeIfAbsent(message.getPayload().getClientId(), clientId -> new ArrayList<>()).add(message);
+        }
+        return byClient;
+    }
+    
+    private ClientUpdatedEvent latest(List<Message<ClientUpdatedEvent>> clientMessages) {
+        ClientUpdatedEvent latest = clientMessages.get(0).getPayload();
+        for (Message<ClientUpdatedEvent> message : clientMessages) {
+            if (isNewer(message.getPayload(), latest)) {
+                latest = message.getPayload();
+            }
+        }
+        return latest;
+    }
+    
+    private boolean isNewer(ClientUpdatedEvent candidate, ClientUpdatedEvent current) {
+        if (candidate.getTimestamp() == null || current.getTimestamp() == null) {
+            return true;
+        }
+        return !candidate.getTimestamp().isBefore(current.getTimestamp());
     }
 }
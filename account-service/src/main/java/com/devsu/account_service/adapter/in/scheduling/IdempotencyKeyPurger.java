@@ -0,0 +1,53 @@
+package com.devsu.account_service.adapter.in.scheduling;
+
+import com.devsu.account_service.domain.port.in.PurgeIdempotencyKeysPort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Keys are honoured until the purge after their expiry removes them
+@Component
+@Slf4j
+public class IdempotencyKeyPurger {
+    private final PurgeIdempotencyKeysPort purgeIdempotencyKeysPort;
+    private final Duration purgeInterval;
+    private Disposable subscription;
+    
+    public IdempotencyKeyPurger(PurgeIdempotencyKeysPort purgeIdempotencyKeysPort,
+                                @Value("${account.idempotency.purge-interval:10m}") Duration purgeInterval) {
+        this.purgeIdempotencyKeysPort = purgeIdempotencyKeysPort;
+        this.purgeInterval = purgeInterval;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = Flux.interval(purgeInterval)
+            .onBackpressureDrop()
+            .concatMap(tick -> purge())
+            .subscribe();
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+    
+    public Mono<Long> purge() {
+        return purgeIdempotencyKeysPort.execute(LocalDateTime.now())
+            .onErrorResume(e -> {
+                log.warn("Could not purge expired idempotency keys", e);
+                return Mono.just(0L);
+            });
+    }
+}
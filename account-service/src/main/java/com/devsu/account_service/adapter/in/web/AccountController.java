@@ -5,6 +5,7 @@ import com.devsu.account_service.adapter.in.web.dto.AccountRequest;
 import com.devsu.account_service.adapter.in.web.dto.AccountResponse;
 import com.devsu.account_service.adapter.in.web.mapper.AccountMapper;
 import com.devsu.account_service.application.usecase.createaccount.CreateAccountCommand;
+import com.devsu.account_service.application.usecase.getallaccounts.GetAllAccountsQuery;
 import com.devsu.account_service.application.usecase.patchaccount.PatchAccountCommand;
 import com.devsu.account_service.application.usecase.updateaccount.UpdateAccountCommand;
 import com.devsu.account_service.domain.model.Account;
@@ -15,8 +16,11 @@ import com.devsu.account_service.domain.port.in.PatchAccountPort;
 import com.devsu.account_service.domain.port.in.UpdateAccountPort;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -24,6 +28,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -32,6 +37,8 @@ import reactor.core.publisher.Mono;
 @RequestMapping("/cuentas")
 @RequiredArgsConstructor
 public class AccountController {
+    static final String NEXT_AFTER_ID_HEADER = "X-Next-After-Id";
+    
     private final CreateAccountPort createAccountPort;
     private final GetAllAccountsPort getAllAccountsPort;
     private final GetAccountByNumberPort getAccountByNumberPort;
@@ -39,6 +46,12 @@ public class AccountController {
     private final PatchAccountPort patchAccountPort;
     private final AccountMapper mapper;
     
+    @Value("${account.pagination.default-limit:100}")
+    private int defaultPageLimit;
+    
+    @Value("${account.pagination.max-limit:1000}")
+    private int maxPageLimit;
+    
     @PostMapping
     public Mono<ResponseEntity<AccountResponse>> createAccount(@Valid @RequestBody AccountRequest request) {
         Account account = mapper.toDomain(request);
@@ -49,10 +62,30 @@ public class AccountController {
             .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
     }
     
-    @GetMapping
-    public Flux<AccountResponse> getAllAccounts() {
-        return getAllAccountsPort.execute(null)
-            .map(mapper::toResponse);
+    // A JSON array is one page: the default size without a limit, never more than the maximum, and
+    // X-Next-After-Id names the cursor when more accounts follow. NDJSON streams with backpressure, uncapped.
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<AccountResponse>>> getAllAccounts(
+            @RequestParam(required = false) String clientId,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit,
+            ServerHttpRequest request) {
+        if (streaming(request)) {
+            return Mono.just(ResponseEntity.ok(getAllAccountsPort.execute(new GetAllAccountsQuery(clientId, afterId, limit))
+                .map(mapper::toResponse)));
+        }
+        
+        int pageSize = limit != null && limit > 0 ? Math.min(limit, maxPageLimit) : defaultPageLimit;
+        return getAllAccountsPort.execute(new GetAllAccountsQuery(clientId, afterId, pageSize + 1))
+            .collectList()
+            .map(accounts -> {
+                if (accounts.size() <= pageSize) {
+                    return ResponseEntity.ok(Flux.fromIterable(accounts).map(mapper::toResponse));
+                }
+                return ResponseEntity.ok()
+                    .header(NEXT_AFTER_ID_HEADER, String.valueOf(accounts.get(pageSize - 1).getId()))
+                    .body(Flux.fromIterable(accounts.subList(0, pageSize)).map(mapper::toResponse));
+            });
     }
     
     @GetMapping("/{accountNumber}")
@@ -86,4 +119,9 @@ public class AccountController {
             .map(mapper::toResponse)
             .map(ResponseEntity::ok);
     }
+    
+    private static boolean streaming(ServerHttpRequest request) {
+        return request.getHeaders().getAccept().stream()
+            .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
 }
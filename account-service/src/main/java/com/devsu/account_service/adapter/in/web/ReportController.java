@@ -1,14 +1,23 @@
 package com.devsu.account_service.adapter.in.web;
 
 import com.devsu.account_service.adapter.in.web.dto.ReportResponse;
+import com.devsu.account_service.adapter.in.web.mapper.ReportExportWriter;
 import com.devsu.account_service.application.usecase.generatereport.GenerateReportQuery;
+import com.devsu.account_service.domain.port.in.ExportReportPort;
 import com.devsu.account_service.domain.port.in.GenerateReportPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
@@ -18,20 +27,73 @@ import java.time.LocalDateTime;
 @RequestMapping("/reportes")
 @RequiredArgsConstructor
 public class ReportController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    
     private final GenerateReportPort generateReportPort;
+    private final ExportReportPort exportReportPort;
+    private final ReportExportWriter reportExportWriter;
     
     @GetMapping
     public Mono<ResponseEntity<ReportResponse>> generateReport(
             @RequestParam String fecha,
             @RequestParam String cliente) {
+        return generateReportPort.execute(toQuery(fecha, cliente))
+            .map(ResponseEntity::ok);
+    }
+    
+    @GetMapping(produces = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<DataBuffer>> exportReport(
+            @RequestParam String fecha,
+            @RequestParam String cliente,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        boolean ndjson = request.getHeaders().getAccept().stream()
+            .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        return export(fecha, cliente, ndjson ? MediaType.APPLICATION_NDJSON : ReportExportWriter.TEXT_CSV, response);
+    }
+    
+    @GetMapping(params = "formato=csv")
+    public ResponseEntity<Flux<DataBuffer>> exportReportAsCsv(
+            @RequestParam String fecha,
+            @RequestParam String cliente,
+            ServerHttpResponse response) {
+        return export(fecha, cliente, ReportExportWriter.TEXT_CSV, response);
+    }
+    
+    @GetMapping(params = "formato=ndjson")
+    public ResponseEntity<Flux<DataBuffer>> exportReportAsNdjson(
+            @RequestParam String fecha,
+            @RequestParam String cliente,
+            ServerHttpResponse response) {
+        return export(fecha, cliente, MediaType.APPLICATION_NDJSON, response);
+    }
+    
+    private ResponseEntity<Flux<DataBuffer>> export(
+            String fecha,
+            String cliente,
+            MediaType format,
+            ServerHttpResponse response) {
+        String extension = format.equals(MediaType.APPLICATION_NDJSON) ? "ndjson" : "csv";
+        Flux<DataBuffer> body = reportExportWriter.write(
+            exportReportPort.execute(toQuery(fecha, cliente)),
+            format,
+            response.bufferFactory()
+        );
         
+        return ResponseEntity.ok()
+            .contentType(format)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("reporte-" + cliente + "." + extension)
+                .build()
+                .toString())
+            .body(body);
+    }
+    
+    private GenerateReportQuery toQuery(String fecha, String cliente) {
         String[] dates = fecha.contains(",") ? fecha.split(",") : fecha.split("-");
         LocalDateTime startDate = LocalDate.parse(dates[0].trim()).atStartOfDay();
         LocalDateTime endDate = LocalDate.parse(dates[1].trim()).atTime(23, 59, 59);
         
-        GenerateReportQuery query = new GenerateReportQuery(cliente, startDate, endDate);
-        
-        return generateReportPort.execute(query)
-            .map(ResponseEntity::ok);
+        return new GenerateReportQuery(cliente, startDate, endDate);
     }
 }
@@ -1,40 +1,78 @@
 package com.devsu.account_service.adapter.in.web;
 
+import com.devsu.account_service.adapter.in.web.dto.BulkTransactionResult;
 import com.devsu.account_service.adapter.in.web.dto.TransactionRequest;
 import com.devsu.account_service.adapter.in.web.dto.TransactionResponse;
+import com.devsu.account_service.adapter.in.web.dto.TransferRequest;
+import com.devsu.account_service.adapter.in.web.dto.TransferResponse;
 import com.devsu.account_service.adapter.in.web.mapper.TransactionMapper;
+import com.devsu.account_service.application.usecase.bulkcreatetransactions.BulkTransactionCommand;
 import com.devsu.account_service.application.usecase.createtransaction.CreateTransactionCommand;
+import com.devsu.account_service.application.usecase.createtransaction.IdempotentCreateTransactionCommand;
+import com.devsu.account_service.application.usecase.getalltransactions.GetAllTransactionsQuery;
+import com.devsu.account_service.application.usecase.transfer.TransferCommand;
 import com.devsu.account_service.application.usecase.updatetransaction.UpdateTransactionCommand;
+import com.devsu.account_service.domain.port.in.BulkCreateTransactionsPort;
 import com.devsu.account_service.domain.port.in.CreateTransactionPort;
 import com.devsu.account_service.domain.port.in.GetAllTransactionsPort;
 import com.devsu.account_service.domain.port.in.GetTransactionByIdPort;
+import com.devsu.account_service.domain.port.in.IdempotentCreateTransactionPort;
+import com.devsu.account_service.domain.port.in.TransferPort;
 import com.devsu.account_service.domain.port.in.UpdateTransactionPort;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @RestController
 @RequestMapping("/movimientos")
 @RequiredArgsConstructor
 public class TransactionController {
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String NEXT_AFTER_ID_HEADER = "X-Next-After-Id";
+    
     private final CreateTransactionPort createTransactionPort;
+    private final IdempotentCreateTransactionPort idempotentCreateTransactionPort;
     private final GetAllTransactionsPort getAllTransactionsPort;
     private final GetTransactionByIdPort getTransactionByIdPort;
     private final UpdateTransactionPort updateTransactionPort;
+    private final TransferPort transferPort;
+    private final BulkCreateTransactionsPort bulkCreateTransactionsPort;
     private final TransactionMapper mapper;
+    private final Validator validator;
+    
+    @Value("${account.pagination.default-limit:100}")
+    private int defaultPageLimit;
+    
+    @Value("${account.pagination.max-limit:1000}")
+    private int maxPageLimit;
     
     @PostMapping
     public Mono<ResponseEntity<TransactionResponse>> createTransaction(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody TransactionRequest request) {
         CreateTransactionCommand command = new CreateTransactionCommand(
             request.getAccountNumber(),
@@ -42,15 +80,82 @@ public class TransactionController {
             request.getAmount()
         );
         
-        return createTransactionPort.execute(command)
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return createTransactionPort.execute(command)
+                .map(mapper::toResponse)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+        }
+        
+        // A replay answers with the movement and status of the original request
+        return idempotentCreateTransactionPort.execute(new IdempotentCreateTransactionCommand(idempotencyKey, command))
+            .map(posting -> ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(posting.isReplayed()))
+                .body(mapper.toResponse(posting.getTransaction())));
+    }
+    
+    @PostMapping("/transferencias")
+    public Mono<ResponseEntity<TransferResponse>> transfer(
+            @Valid @RequestBody TransferRequest request) {
+        TransferCommand command = new TransferCommand(
+            request.getSourceAccountNumber(),
+            request.getTargetAccountNumber(),
+            request.getAmount()
+        );
+        
+        return transferPort.execute(command)
             .map(mapper::toResponse)
             .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
     }
     
-    @GetMapping
-    public Flux<TransactionResponse> getAllTransactions() {
-        return getAllTransactionsPort.execute(null)
-            .map(mapper::toResponse);
+    // Items are validated one by one so a malformed line is reported in place instead of failing the
+    // whole upload; valid items flow on to the use case, which posts them in chunked transactions.
+    @PostMapping(value = "/lote",
+        consumes = MediaType.APPLICATION_NDJSON_VALUE,
+        produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BulkTransactionResult> createTransactions(@RequestBody Flux<TransactionRequest> requests) {
+        return requests.index()
+            .map(item -> new IndexedRequest(item.getT1(), item.getT2(), violations(item.getT2())))
+            .publish(items -> Flux.merge(
+                items.filter(IndexedRequest::invalid)
+                    .map(item -> new BulkTransactionResult(
+                        item.index(), BulkTransactionResult.INVALID, null, item.violations())),
+                bulkCreateTransactionsPort.execute(items.filter(item -> !item.invalid()).map(IndexedRequest::toCommand))
+                    .map(mapper::toBulkResult)));
+    }
+    
+    // Paged and streamed the same way as GET /cuentas
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<TransactionResponse>>> getAllTransactions(
+            @RequestParam(required = false) String accountNumber,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit,
+            ServerHttpRequest request) {
+        GetAllTransactionsQuery query = new GetAllTransactionsQuery(
+            accountNumber,
+            startDate != null ? startDate.atStartOfDay() : null,
+            endDate != null ? endDate.atTime(LocalTime.MAX) : null,
+            afterId,
+            limit
+        );
+        
+        if (streaming(request)) {
+            return Mono.just(ResponseEntity.ok(getAllTransactionsPort.execute(query).map(mapper::toResponse)));
+        }
+        
+        int pageSize = limit != null && limit > 0 ? Math.min(limit, maxPageLimit) : defaultPageLimit;
+        query.setLimit(pageSize + 1);
+        return getAllTransactionsPort.execute(query)
+            .collectList()
+            .map(transactions -> {
+                if (transactions.size() <= pageSize) {
+                    return ResponseEntity.ok(Flux.fromIterable(transactions).map(mapper::toResponse));
+                }
+                return ResponseEntity.ok()
+                    .header(NEXT_AFTER_ID_HEADER, String.valueOf(transactions.get(pageSize - 1).getId()))
+                    .body(Flux.fromIterable(transactions.subList(0, pageSize)).map(mapper::toResponse));
+            });
     }
     
     @GetMapping("/{id}")
@@ -74,4 +179,35 @@ public class TransactionController {
             .map(mapper::toResponse)
             .map(ResponseEntity::ok);
     }
+    
+    private String violations(TransactionRequest request) {
+        Set<ConstraintViolation<TransactionRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
+    
+    private static boolean streaming(ServerHttpRequest request) {
+        return request.getHeaders().getAccept().stream()
+            .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+    
+    private record IndexedRequest(long index, TransactionRequest request, String violations) {
+        boolean invalid() {
+            return violations != null;
+        }
+        
+        BulkTransactionCommand toCommand() {
+            return new BulkTransactionCommand(
+                index,
+                request.getAccountNumber(),
+                request.getTransactionType(),
+                request.getAmount()
+            );
+        }
+    }
 }
@@ -16,4 +16,7 @@ public class AccountStatementDto {
     private BigDecimal currentBalance;
     private Boolean status;
     private List<TransactionStatementDto> transactions;
+    private BigDecimal openingBalance;
+    private BigDecimal closingBalance;
+    private List<DailyBalanceDto> dailyBalances;
 }
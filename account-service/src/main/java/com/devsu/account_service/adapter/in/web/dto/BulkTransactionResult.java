@@ -0,0 +1,19 @@
+package com.devsu.account_service.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTransactionResult {
+    public static final String POSTED = "POSTED";
+    public static final String REJECTED = "REJECTED";
+    public static final String INVALID = "INVALID";
+    
+    private long index;
+    private String status;
+    private TransactionResponse transaction;
+    private String message;
+}
@@ -0,0 +1,24 @@
+package com.devsu.account_service.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatementExportRow {
+    private String clientId;
+    private String clientName;
+    private String accountNumber;
+    private String accountType;
+    private BigDecimal currentBalance;
+    private Boolean status;
+    private LocalDateTime date;
+    private String transactionType;
+    private BigDecimal amount;
+    private BigDecimal balance;
+}
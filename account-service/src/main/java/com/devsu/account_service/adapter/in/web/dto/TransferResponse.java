@@ -0,0 +1,14 @@
+package com.devsu.account_service.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransferResponse {
+    private String correlationId;
+    private TransactionResponse debit;
+    private TransactionResponse credit;
+}
@@ -4,8 +4,11 @@ import com.devsu.account_service.adapter.in.web.dto.ErrorResponse;
 import com.devsu.account_service.domain.exception.AccountAlreadyExistsException;
 import com.devsu.account_service.domain.exception.AccountNotFoundException;
 import com.devsu.account_service.domain.exception.ClientNotFoundException;
+import com.devsu.account_service.domain.exception.ConcurrentUpdateException;
 import com.devsu.account_service.domain.exception.InactiveClientException;
 import com.devsu.account_service.domain.exception.InsufficientBalanceException;
+import com.devsu.account_service.domain.exception.InvalidIdempotencyKeyException;
+import com.devsu.account_service.domain.exception.InvalidTransferException;
 import com.devsu.account_service.domain.exception.TransactionNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -59,6 +62,24 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(error));
     }
     
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleConcurrentUpdate(
+            ConcurrentUpdateException ex,
+            ServerWebExchange exchange) {
+        log.warn("Concurrent update rejected: {}", ex.getResourceId());
+        
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.CONFLICT.value())
+            .error("Concurrent Update")
+            .message(ex.getMessage())
+            .nextSteps(ex.getNextSteps())
+            .path(exchange.getRequest().getPath().value())
+            .build();
+            
+        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(error));
+    }
+    
     @ExceptionHandler(TransactionNotFoundException.class)
     public Mono<ResponseEntity<ErrorResponse>> handleTransactionNotFound(
             TransactionNotFoundException ex,
@@ -95,6 +116,42 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.badRequest().body(error));
     }
     
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleInvalidIdempotencyKey(
+            InvalidIdempotencyKeyException ex,
+            ServerWebExchange exchange) {
+        log.warn("Invalid idempotency key: {}", ex.getIdempotencyKey());
+        
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
+            .error("Invalid Idempotency Key")
+            .message(ex.getMessage())
+            .nextSteps(ex.getNextSteps())
+            .path(exchange.getRequest().getPath().value())
+            .build();
+            
+        return Mono.just(ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error));
+    }
+    
+    @ExceptionHandler(InvalidTransferException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleInvalidTransfer(
+            InvalidTransferException ex,
+            ServerWebExchange exchange) {
+        log.error("Invalid transfer", ex);
+        
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.BAD_REQUEST.value())
+            .error("Invalid Transfer")
+            .message(ex.getMessage())
+            .nextSteps(ex.getNextSteps())
+            .path(exchange.getRequest().getPath().value())
+            .build();
+            
+        return Mono.just(ResponseEntity.badRequest().body(error));
+    }
+    
     @ExceptionHandler(ClientNotFoundException.class)
     public Mono<ResponseEntity<ErrorResponse>> handleClientNotFound(
             ClientNotFoundException ex,
@@ -0,0 +1,102 @@
+package com.devsu.account_service.adapter.in.web.mapper;
+
+import com.devsu.account_service.adapter.in.web.dto.StatementExportRow;
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.StatementLine;
+import com.devsu.account_service.domain.model.Transaction;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ReportExportWriter {
+    public static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    
+    private static final String CSV_HEADER =
+        "clientId,clientName,accountNumber,accountType,currentBalance,status,date,transactionType,amount,balance\n";
+    private static final int LINES_PER_BUFFER = 256;
+    
+    private final ObjectMapper objectMapper;
+    
+    // Rows are encoded as they arrive from the cursor; only one small chunk of lines is held at a time.
+    public Flux<DataBuffer> write(Flux<StatementLine> lines, MediaType format, DataBufferFactory bufferFactory) {
+        boolean csv = TEXT_CSV.equalsTypeAndSubtype(format);
+        Flux<DataBuffer> rows = lines
+            .map(line -> csv ? toCsvLine(line) : toJsonLine(line))
+            .buffer(LINES_PER_BUFFER)
+            .map(chunk -> toBuffer(chunk, bufferFactory));
+        
+        return csv
+            ? rows.startWith(Flux.defer(() -> Flux.just(bufferFactory.wrap(CSV_HEADER.getBytes(StandardCharsets.UTF_8)))))
+            : rows;
+    }
+    
+    public StatementExportRow toExportRow(StatementLine line) {
+        Account account = line.getAccount();
+        Transaction transaction = line.getTransaction();
+        
+        return new StatementExportRow(
+            account.getClientId(),
+            account.getClientName(),
+            account.getAccountNumber(),
+            account.getAccountType() != null ? account.getAccountType().name() : null,
+            account.getBalance(),
+            account.getStatus(),
+            transaction != null ? transaction.getDate() : null,
+            transaction != null ? transaction.getTransactionType() : null,
+            transaction != null ? transaction.getAmount() : null,
+            transaction != null ? transaction.getBalance() : null
+        );
+    }
+    
+    private String toJsonLine(StatementLine line) {
+        try {
+            return objectMapper.writeValueAsString(toExportRow(line)) + "\n";
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private String toCsvLine(StatementLine line) {
+        StatementExportRow row = toExportRow(line);
+        return String.join(",",
+            csvField(row.getClientId()),
+            csvField(row.getClientName()),
+            csvField(row.getAccountNumber()),
+            csvField(row.getAccountType()),
+            csvField(row.getCurrentBalance() != null ? row.getCurrentBalance().toPlainString() : null),
+            csvField(row.getStatus()),
+            csvField(row.getDate()),
+            csvField(row.getTransactionType()),
+            csvField(row.getAmount() != null ? row.getAmount().toPlainString() : null),
+            csvField(row.getBalance() != null ? row.getBalance().toPlainString() : null)
+        ) + "\n";
+    }
+    
+    private String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+    
+    private DataBuffer toBuffer(List<String> chunk, DataBufferFactory bufferFactory) {
+        StringBuilder text = new StringBuilder(chunk.size() * 128);
+        chunk.forEach(text::append);
+        return bufferFactory.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
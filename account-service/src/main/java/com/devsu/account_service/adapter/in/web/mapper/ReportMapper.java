@@ -1,13 +1,22 @@
 package com.devsu.account_service.adapter.in.web.mapper;
 
 import com.devsu.account_service.adapter.in.web.dto.AccountStatementDto;
+import com.devsu.account_service.adapter.in.web.dto.DailyBalanceDto;
 import com.devsu.account_service.adapter.in.web.dto.ReportResponse;
 import com.devsu.account_service.adapter.in.web.dto.TransactionStatementDto;
 import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.DailyBalance;
+import com.devsu.account_service.domain.model.StatementLine;
 import com.devsu.account_service.domain.model.Transaction;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
@@ -23,7 +32,86 @@ public class ReportMapper {
             account.getAccountType().name(),
             account.getBalance(),
             account.getStatus(),
-            transactionStatements
+            transactionStatements,
+            null,
+            null,
+            new ArrayList<>()
+        );
+    }
+    
+    // Lines arrive ordered by account, so each account's movements are folded into the report in one pass.
+    public Mono<ReportResponse> toReportResponse(Flux<StatementLine> lines) {
+        return lines
+            .bufferUntilChanged(line -> line.getAccount().getAccountNumber())
+            .reduceWith(() -> new ReportResponse(null, null, new ArrayList<>()), (report, accountLines) -> {
+                if (report.getAccounts().isEmpty()) {
+                    Account account = accountLines.get(0).getAccount();
+                    report.setClientId(account.getClientId());
+                    report.setClientName(account.getClientName());
+                }
+                report.getAccounts().add(toAccountStatement(accountLines));
+                return report;
+            })
+            .filter(report -> !report.getAccounts().isEmpty());
+    }
+    
+    public AccountStatementDto toAccountStatement(List<StatementLine> accountLines) {
+        List<Transaction> transactions = accountLines.stream()
+            .map(StatementLine::getTransaction)
+            .filter(transaction -> transaction != null)
+            .collect(Collectors.toList());
+        
+        return toAccountStatement(accountLines.get(0).getAccount(), transactions);
+    }
+    
+    // Balances come from the daily snapshots: days inside the range plus the nearest snapshot on each side.
+    public ReportResponse applyDailyBalances(
+            ReportResponse report,
+            List<DailyBalance> balances,
+            LocalDate startDate,
+            LocalDate endDate) {
+        Map<String, List<DailyBalance>> balancesByAccount = balances.stream()
+            .collect(Collectors.groupingBy(DailyBalance::getAccountNumber));
+        
+        for (AccountStatementDto statement : report.getAccounts()) {
+            DailyBalance before = null;
+            DailyBalance after = null;
+            List<DailyBalanceDto> days = new ArrayList<>();
+            
+            for (DailyBalance balance : balancesByAccount.getOrDefault(statement.getAccountNumber(), List.of())) {
+                if (balance.getBalanceDate().isBefore(startDate)) {
+                    before = balance;
+                } else if (balance.getBalanceDate().isAfter(endDate)) {
+                    after = after == null ? balance : after;
+                } else {
+                    days.add(toDailyBalance(balance));
+                }
+            }
+            
+            BigDecimal untouched = after != null ? after.getOpeningBalance() : statement.getCurrentBalance();
+            BigDecimal opening = before != null
+                ? before.getClosingBalance()
+                : days.isEmpty() ? untouched : days.get(0).getOpeningBalance();
+            BigDecimal closing = !days.isEmpty()
+                ? days.get(days.size() - 1).getClosingBalance()
+                : before != null ? before.getClosingBalance() : untouched;
+            
+            statement.setOpeningBalance(opening);
+            statement.setClosingBalance(closing);
+            statement.setDailyBalances(days);
+        }
+        
+        return report;
+    }
+    
+    public DailyBalanceDto toDailyBalance(DailyBalance balance) {
+        return new DailyBalanceDto(
+            balance.getBalanceDate(),
+            balance.getOpeningBalance(),
+            balance.getClosingBalance(),
+            balance.getTotalCredits(),
+            balance.getTotalDebits(),
+            balance.getMovementCount()
         );
     }
     
@@ -1,9 +1,13 @@
 package com.devsu.account_service.adapter.in.web.mapper;
 
+import com.devsu.account_service.adapter.in.web.dto.BulkTransactionResult;
 import com.devsu.account_service.adapter.in.web.dto.TransactionRequest;
 import com.devsu.account_service.adapter.in.web.dto.TransactionResponse;
+import com.devsu.account_service.adapter.in.web.dto.TransferResponse;
 import com.devsu.account_service.adapter.out.persistence.entity.TransactionEntity;
+import com.devsu.account_service.domain.model.BulkPostingResult;
 import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.model.Transfer;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -37,6 +41,31 @@ public class TransactionMapper {
         );
     }
     
+    public TransferResponse toResponse(Transfer transfer) {
+        if (transfer == null) {
+            return null;
+        }
+        
+        return new TransferResponse(
+            transfer.getCorrelationId(),
+            toResponse(transfer.getDebit()),
+            toResponse(transfer.getCredit())
+        );
+    }
+    
+    public BulkTransactionResult toBulkResult(BulkPostingResult result) {
+        if (result == null) {
+            return null;
+        }
+        
+        return new BulkTransactionResult(
+            result.getIndex(),
+            result.isRejected() ? BulkTransactionResult.REJECTED : BulkTransactionResult.POSTED,
+            result.isRejected() ? null : toResponse(result.getTransaction()),
+            result.getReason()
+        );
+    }
+    
     public TransactionEntity toEntity(Transaction transaction) {
         if (transaction == null) {
             return null;
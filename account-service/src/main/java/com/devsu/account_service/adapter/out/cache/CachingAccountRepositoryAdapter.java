@@ -0,0 +1,165 @@
+package com.devsu.account_service.adapter.out.cache;
+
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.PostingResult;
+import com.devsu.account_service.domain.model.StatementLine;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.model.Transfer;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+public class CachingAccountRepositoryAdapter implements AccountRepositoryPort {
+    public static final String CACHE_NAME = "accounts";
+    
+    private final AccountRepositoryPort delegate;
+    private final AsyncCache<String, Account> cache;
+    
+    public CachingAccountRepositoryAdapter(AccountRepositoryPort delegate, MeterRegistry meterRegistry,
+                                           long maximumSize, Duration timeToLive) {
+        this(delegate, meterRegistry, maximumSize, timeToLive, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+    
+    CachingAccountRepositoryAdapter(AccountRepositoryPort delegate, MeterRegistry meterRegistry,
+                                    long maximumSize, Duration timeToLive, Ticker ticker, Executor executor) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .ticker(ticker)
+            .executor(executor)
+            .recordStats()
+            .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+    }
+    
+    @Override
+    public Mono<Account> findByAccountNumber(String accountNumber) {
+        // Shared loads must not be cancelled by a single subscriber going away
+        return Mono.fromFuture(() -> cache.get(accountNumber,
+                    (key, executor) -> delegate.findByAccountNumber(key).toFuture()), true)
+            .map(this::copy);
+    }
+    
+    @Override
+    public Mono<Account> findByAccountNumberUncached(String accountNumber) {
+        return delegate.findByAccountNumberUncached(accountNumber);
+    }
+    
+    @Override
+    public Mono<Account> save(Account account) {
+        return delegate.save(account)
+            .doOnSuccess(saved -> invalidate(account.getAccountNumber()))
+            .doOnError(e -> invalidate(account.getAccountNumber()));
+    }
+    
+    @Override
+    public Mono<BigDecimal> applyBalanceDelta(String accountNumber, BigDecimal amount) {
+        return delegate.applyBalanceDelta(accountNumber, amount)
+            .doOnSuccess(balance -> invalidate(accountNumber));
+    }
+    
+    @Override
+    public Mono<Transaction> postTransaction(Transaction transaction) {
+        return delegate.postTransaction(transaction)
+            .doOnSuccess(posted -> invalidate(transaction.getAccountNumber()));
+    }
+    
+    @Override
+    public Mono<List<PostingResult>> postTransactions(String accountNumber, List<Transaction> transactions) {
+        return delegate.postTransactions(accountNumber, transactions)
+            .doOnSuccess(results -> invalidate(accountNumber));
+    }
+    
+    @Override
+    public Mono<Transfer> postTransfer(Transfer transfer) {
+        return delegate.postTransfer(transfer)
+            .doOnSuccess(posted -> {
+                invalidate(transfer.getDebit().getAccountNumber());
+                invalidate(transfer.getCredit().getAccountNumber());
+            });
+    }
+    
+    @Override
+    public Mono<List<PostingResult>> postTransactionChunk(List<Transaction> transactions) {
+        return delegate.postTransactionChunk(transactions)
+            .doOnSuccess(results -> transactions.stream()
+                .map(Transaction::getAccountNumber)
+                .distinct()
+                .forEach(this::invalidate));
+    }
+    
+    @Override
+    public Flux<Account> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public Flux<Account> findPage(String clientId, Long afterId, Integer limit) {
+        return delegate.findPage(clientId, afterId, limit);
+    }
+    
+    @Override
+    public Mono<Boolean> existsByAccountNumber(String accountNumber) {
+        return delegate.existsByAccountNumber(accountNumber);
+    }
+    
+    @Override
+    public Flux<Account> findByClientId(String clientId) {
+        return delegate.findByClientId(clientId);
+    }
+    
+    @Override
+    public Mono<Long> updateClientInfo(String clientId, String clientName, Boolean clientStatus,
+                                       LocalDateTime changedAt) {
+        return delegate.updateClientInfo(clientId, clientName, clientStatus, changedAt)
+            .doOnSuccess(updated -> invalidateClient(clientId))
+            .doOnError(e -> invalidateClient(clientId));
+    }
+    
+    @Override
+    public Flux<StatementLine> findStatementLines(String clientId, LocalDateTime startDate, LocalDateTime endDate) {
+        return delegate.findStatementLines(clientId, startDate, endDate);
+    }
+    
+    // Called for changes made on other replicas, which only reach this one through account.changed
+    public void evict(List<String> accountNumbers) {
+        cache.synchronous().invalidateAll(accountNumbers);
+    }
+    
+    private void invalidate(String accountNumber) {
+        if (accountNumber != null) {
+            cache.synchronous().invalidate(accountNumber);
+        }
+    }
+    
+    private void invalidateClient(String clientId) {
+        cache.synchronous().asMap().values().removeIf(account -> clientId.equals(account.getClientId()));
+    }
+    
+    private Account copy(Account account) {
+        return new Account(
+            account.getId(),
+            account.getAccountNumber(),
+            account.getAccountType(),
+            account.getBalance(),
+            account.getStatus(),
+            account.getClientId(),
+            account.getClientName(),
+            account.getClientStatus(),
+            account.getVersion()
+        );
+    }
+}
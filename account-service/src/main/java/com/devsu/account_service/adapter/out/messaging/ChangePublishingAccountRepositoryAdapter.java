@@ -0,0 +1,111 @@
+package com.devsu.account_service.adapter.out.messaging;
+
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.PostingResult;
+import com.devsu.account_service.domain.model.StatementLine;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.model.Transfer;
+import com.devsu.account_service.domain.port.out.AccountChangeEventPort;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Announces every committed account write so caches outside this service (the gateway) can drop
+// what they hold. Client data changes are not announced here: consumers follow client events directly.
+@RequiredArgsConstructor
+public class ChangePublishingAccountRepositoryAdapter implements AccountRepositoryPort {
+    private final AccountRepositoryPort delegate;
+    private final AccountChangeEventPort accountChangeEventPort;
+    
+    @Override
+    public Mono<Account> save(Account account) {
+        return delegate.save(account)
+            .doOnSuccess(saved -> accountChangeEventPort.accountChanged(account.getAccountNumber()));
+    }
+    
+    @Override
+    public Mono<BigDecimal> applyBalanceDelta(String accountNumber, BigDecimal amount) {
+        return delegate.applyBalanceDelta(accountNumber, amount)
+            .doOnSuccess(balance -> accountChangeEventPort.accountChanged(accountNumber));
+    }
+    
+    @Override
+    public Mono<Transaction> postTransaction(Transaction transaction) {
+        return delegate.postTransaction(transaction)
+            .doOnSuccess(posted -> accountChangeEventPort.accountChanged(transaction.getAccountNumber()));
+    }
+    
+    @Override
+    public Mono<List<PostingResult>> postTransactions(String accountNumber, List<Transaction> transactions) {
+        return delegate.postTransactions(accountNumber, transactions)
+            .doOnSuccess(results -> accountChangeEventPort.accountChanged(accountNumber));
+    }
+    
+    @Override
+    public Mono<Transfer> postTransfer(Transfer transfer) {
+        return delegate.postTransfer(transfer)
+            .doOnSuccess(posted -> {
+                accountChangeEventPort.accountChanged(transfer.getDebit().getAccountNumber());
+                accountChangeEventPort.accountChanged(transfer.getCredit().getAccountNumber());
+            });
+    }
+    
+    @Override
+    public Mono<List<PostingResult>> postTransactionChunk(List<Transaction> transactions) {
+        return delegate.postTransactionChunk(transactions)
+            .doOnSuccess(results -> {
+                if (results != null) {
+                    results.stream()
+                        .filter(result -> !result.isRejected())
+                        .map(result -> result.getTransaction().getAccountNumber())
+                        .forEach(accountChangeEventPort::accountChanged);
+                }
+            });
+    }
+    
+    @Override
+    public Flux<Account> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public Flux<Account> findPage(String clientId, Long afterId, Integer limit) {
+        return delegate.findPage(clientId, afterId, limit);
+    }
+    
+    @Override
+    public Mono<Account> findByAccountNumber(String accountNumber) {
+        return delegate.findByAccountNumber(accountNumber);
+    }
+    
+    @Override
+    public Mono<Account> findByAccountNumberUncached(String accountNumber) {
+        return delegate.findByAccountNumberUncached(accountNumber);
+    }
+    
+    @Override
+    public Mono<Boolean> existsByAccountNumber(String accountNumber) {
+        return delegate.existsByAccountNumber(accountNumber);
+    }
+    
+    @Override
+    public Flux<Account> findByClientId(String clientId) {
+        return delegate.findByClientId(clientId);
+    }
+    
+    @Override
+    public Mono<Long> updateClientInfo(String clientId, String clientName, Boolean clientStatus,
+                                       LocalDateTime changedAt) {
+        return delegate.updateClientInfo(clientId, clientName, clientStatus, changedAt);
+    }
+    
+    @Override
+    public Flux<StatementLine> findStatementLines(String clientId, LocalDateTime startDate, LocalDateTime endDate) {
+        return delegate.findStatementLines(clientId, startDate, endDate);
+    }
+}
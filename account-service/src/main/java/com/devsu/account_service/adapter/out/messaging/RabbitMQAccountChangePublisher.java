@@ -0,0 +1,107 @@
+package com.devsu.account_service.adapter.out.messaging;
+
+import com.devsu.account_service.adapter.out.messaging.dto.AccountsChangedEvent;
+import com.devsu.account_service.domain.port.out.AccountChangeEventPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Changes are coalesced per account and flushed once per window, so a burst of postings on one
+// account costs a single message. Delivery is best effort: consumers also expire what they cache.
+@Component
+@Slf4j
+public class RabbitMQAccountChangePublisher implements AccountChangeEventPort {
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+    private final String routingKey;
+    private final Duration flushInterval;
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private Disposable subscription;
+    
+    public RabbitMQAccountChangePublisher(RabbitTemplate rabbitTemplate,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${rabbitmq.exchange.account}") String exchange,
+                                          @Value("${rabbitmq.routing-key.account-changed}") String routingKey,
+                                          @Value("${rabbitmq.publisher.account-changed.flush-interval:200ms}") Duration flushInterval) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.flushInterval = flushInterval;
+        this.publishedCounter = Counter.builder("account.change.events.published")
+            .description("Account numbers announced as changed")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("account.change.events.failures")
+            .description("Account change batches that could not be published")
+            .register(meterRegistry);
+    }
+    
+    @Override
+    public void accountChanged(String accountNumber) {
+        if (accountNumber != null) {
+            pending.add(accountNumber);
+        }
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = Flux.interval(flushInterval)
+            .onBackpressureDrop()
+            .concatMap(tick -> flush())
+            .subscribe();
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+    
+    public Mono<Integer> flush() {
+        return Mono.fromCallable(() -> {
+                List<String> accountNumbers = drainPending();
+                if (accountNumbers.isEmpty()) {
+                    return 0;
+                }
+                try {
+                    rabbitTemplate.convertAndSend(exchange, routingKey,
+                        new AccountsChangedEvent(accountNumbers, LocalDateTime.now()));
+                    publishedCounter.increment(accountNumbers.size());
+                } catch (RuntimeException e) {
+                    log.warn("Could not publish changes for {} accounts", accountNumbers.size(), e);
+                    failureCounter.increment();
+                }
+                return accountNumbers.size();
+            })
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+    
+    private List<String> drainPending() {
+        List<String> drained = new ArrayList<>(pending.size());
+        for (String accountNumber : pending) {
+            if (pending.remove(accountNumber)) {
+                drained.add(accountNumber);
+            }
+        }
+        return drained;
+    }
+}
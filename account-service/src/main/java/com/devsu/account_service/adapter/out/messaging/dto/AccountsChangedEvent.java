@@ -0,0 +1,16 @@
+package com.devsu.account_service.adapter.out.messaging.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountsChangedEvent {
+    private List<String> accountNumbers;
+    private LocalDateTime timestamp;
+}
@@ -1,14 +1,31 @@
 package com.devsu.account_service.adapter.out.persistence;
 
 import com.devsu.account_service.adapter.out.persistence.entity.AccountEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
 @Repository
 public interface AccountR2dbcRepository extends ReactiveCrudRepository<AccountEntity, Long> {
     Mono<AccountEntity> findByAccountNumber(String accountNumber);
     Mono<Boolean> existsByAccountNumber(String accountNumber);
     Flux<AccountEntity> findByClientId(String clientId);
+    
+    // Leaves version alone: it guards the account's metadata, which postings never touch
+    @Modifying
+    @Query("UPDATE account SET balance = balance + :amount, updated_at = :updatedAt " +
+           "WHERE account_number = :accountNumber AND balance + :amount >= 0")
+    Mono<Integer> applyBalanceDelta(String accountNumber, BigDecimal amount, LocalDateTime updatedAt);
+    
+    @Query("SELECT balance FROM account WHERE account_number = :accountNumber")
+    Mono<BigDecimal> findBalanceByAccountNumber(String accountNumber);
+    
+    @Query("SELECT balance FROM account WHERE account_number = :accountNumber FOR UPDATE")
+    Mono<BigDecimal> lockBalanceByAccountNumber(String accountNumber);
 }
@@ -1,32 +1,76 @@
 package com.devsu.account_service.adapter.out.persistence;
 
 import com.devsu.account_service.adapter.out.persistence.entity.AccountEntity;
+import com.devsu.account_service.adapter.out.persistence.entity.TransactionEntity;
 import com.devsu.account_service.adapter.out.persistence.mapper.AccountPersistenceMapper;
+import com.devsu.account_service.adapter.out.persistence.mapper.TransactionPersistenceMapper;
+import com.devsu.account_service.domain.exception.AccountNotFoundException;
+import com.devsu.account_service.domain.exception.ConcurrentUpdateException;
+import com.devsu.account_service.domain.exception.InsufficientBalanceException;
 import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.PostingResult;
+import com.devsu.account_service.domain.model.StatementLine;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.model.Transfer;
 import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import io.r2dbc.spi.Row;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
 public class AccountRepositoryAdapter implements AccountRepositoryPort {
+    private static final String SELECT_STATEMENT_LINES =
+        "SELECT a.id AS account_id, a.account_number, a.account_type, a.balance AS account_balance, a.status, " +
+        "a.client_id, a.client_name, a.client_status, " +
+        "t.id AS transaction_id, t.date, t.transaction_type, t.amount, t.balance AS transaction_balance " +
+        "FROM account a LEFT JOIN transaction t ON t.account_number = a.account_number " +
+        "AND t.date BETWEEN :startDate AND :endDate " +
+        "WHERE a.client_id = :clientId " +
+        "ORDER BY a.id, t.id";
+    private static final String UPDATE_CLIENT_INFO =
+        "UPDATE account SET client_name = :clientName, client_status = :clientStatus, updated_at = :updatedAt, " +
+        "version = version + 1 " +
+        "WHERE client_id = :clientId";
+    private static final String UPDATE_CLIENT_INFO_IF_NEWER =
+        "UPDATE account SET client_name = :clientName, client_status = :clientStatus, updated_at = :updatedAt, " +
+        "client_changed_at = :changedAt, version = version + 1 " +
+        "WHERE client_id = :clientId AND (client_changed_at IS NULL OR client_changed_at <= :changedAt)";
+    private static final String UPDATE_ACCOUNT =
+        "UPDATE account SET account_number = :accountNumber, account_type = :accountType, status = :status, " +
+        "client_id = :clientId, client_name = :clientName, client_status = :clientStatus, " +
+        "updated_at = CURRENT_TIMESTAMP, version = version + 1 " +
+        "WHERE id = :id";
+    private static final String VERSION_PREDICATE = " AND version = :version";
+    
     private final AccountR2dbcRepository repository;
     private final AccountPersistenceMapper mapper;
+    private final TransactionR2dbcRepository transactionRepository;
+    private final TransactionPersistenceMapper transactionMapper;
+    private final TransactionBatchInserter transactionBatchInserter;
+    private final DailyBalanceRecorder dailyBalanceRecorder;
+    private final TransactionalOperator transactionalOperator;
+    private final R2dbcEntityTemplate template;
     
     @Override
     public Mono<Account> save(Account account) {
         if (account.getId() != null) {
-            return repository.findById(account.getId())
-                .flatMap(existingEntity -> {
-                    AccountEntity entity = mapper.toEntity(account);
-                    entity.setCreatedAt(existingEntity.getCreatedAt());
-                    entity.setUpdatedAt(LocalDateTime.now());
-                    return repository.save(entity);
-                })
+            return update(mapper.toEntity(account))
                 .map(mapper::toDomain);
         } else {
             AccountEntity entity = mapper.toEntity(account);
@@ -43,12 +87,38 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
             .map(mapper::toDomain);
     }
     
+    @Override
+    public Flux<Account> findPage(String clientId, Long afterId, Integer limit) {
+        Criteria criteria = Criteria.empty();
+        if (clientId != null) {
+            criteria = criteria.and("clientId").is(clientId);
+        }
+        if (afterId != null) {
+            criteria = criteria.and("id").greaterThan(afterId);
+        }
+        
+        Query query = Query.query(criteria).sort(Sort.by("id"));
+        if (limit != null && limit > 0) {
+            query = query.limit(limit);
+        }
+        
+        return template.select(AccountEntity.class)
+            .matching(query)
+            .all()
+            .map(mapper::toDomain);
+    }
+    
     @Override
     public Mono<Account> findByAccountNumber(String accountNumber) {
         return repository.findByAccountNumber(accountNumber)
             .map(mapper::toDomain);
     }
     
+    @Override
+    public Mono<Account> findByAccountNumberUncached(String accountNumber) {
+        return findByAccountNumber(accountNumber);
+    }
+    
     @Override
     public Mono<Boolean> existsByAccountNumber(String accountNumber) {
         return repository.existsByAccountNumber(accountNumber);
@@ -59,4 +129,299 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
         return repository.findByClientId(clientId)
             .map(mapper::toDomain);
     }
+    
+    // When the change carries the time it happened in person-service, rows that already hold a
+    // later change are left alone, so an event delivered late or retried never overwrites a newer one.
+    @Override
+    public Mono<Long> updateClientInfo(String clientId, String clientName, Boolean clientStatus,
+                                       LocalDateTime changedAt) {
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient()
+            .sql(changedAt != null ? UPDATE_CLIENT_INFO_IF_NEWER : UPDATE_CLIENT_INFO)
+            .bind("clientName", clientName)
+            .bind("clientStatus", clientStatus)
+            .bind("updatedAt", LocalDateTime.now())
+            .bind("clientId", clientId);
+        if (changedAt != null) {
+            spec = spec.bind("changedAt", changedAt);
+        }
+        return spec.fetch()
+            .rowsUpdated();
+    }
+    
+    @Override
+    public Flux<StatementLine> findStatementLines(String clientId, LocalDateTime startDate, LocalDateTime endDate) {
+        return template.getDatabaseClient().sql(SELECT_STATEMENT_LINES)
+            .bind("clientId", clientId)
+            .bind("startDate", startDate)
+            .bind("endDate", endDate)
+            .map((row, metadata) -> toStatementLine(row))
+            .all();
+    }
+    
+    // Joins the caller's transaction, so the delta rolls back with whatever else the caller writes
+    @Override
+    public Mono<BigDecimal> applyBalanceDelta(String accountNumber, BigDecimal amount) {
+        return repository.applyBalanceDelta(accountNumber, amount, LocalDateTime.now())
+            .flatMap(updatedRows -> updatedRows > 0
+                ? repository.findBalanceByAccountNumber(accountNumber)
+                : rejectPosting(accountNumber));
+    }
+    
+    // The conditional UPDATE takes the row lock and applies the delta in the database, so
+    // concurrent postings serialize on the account row instead of overwriting each other.
+    @Override
+    public Mono<Transaction> postTransaction(Transaction transaction) {
+        LocalDateTime now = LocalDateTime.now();
+        String accountNumber = transaction.getAccountNumber();
+        
+        return repository.applyBalanceDelta(accountNumber, transaction.getAmount(), now)
+            .flatMap(updatedRows -> updatedRows > 0
+                ? repository.findBalanceByAccountNumber(accountNumber)
+                : rejectPosting(accountNumber))
+            .flatMap(newBalance -> {
+                TransactionEntity entity = transactionMapper.toEntity(transaction);
+                entity.setBalance(newBalance);
+                entity.setCreatedAt(now);
+                entity.setUpdatedAt(now);
+                return transactionRepository.save(entity);
+            })
+            .flatMap(saved -> dailyBalanceRecorder.record(List.of(saved)).thenReturn(saved))
+            .map(transactionMapper::toDomain)
+            .as(transactionalOperator::transactional);
+    }
+    
+    // Locks the account row once, applies the movements in order and writes the accepted ones
+    // with a single balance update and a single multi-row insert.
+    @Override
+    public Mono<List<PostingResult>> postTransactions(String accountNumber, List<Transaction> transactions) {
+        LocalDateTime now = LocalDateTime.now();
+        
+        return repository.lockBalanceByAccountNumber(accountNumber)
+            .switchIfEmpty(Mono.error(new AccountNotFoundException(accountNumber, "Account not found")))
+            .flatMap(openingBalance -> {
+                List<PostingResult> results = new ArrayList<>(transactions.size());
+                List<TransactionEntity> accepted = new ArrayList<>(transactions.size());
+                List<Transaction> acceptedTransactions = new ArrayList<>(transactions.size());
+                BigDecimal runningBalance = openingBalance;
+                
+                for (Transaction transaction : transactions) {
+                    BigDecimal newBalance = runningBalance.add(transaction.getAmount());
+                    if (newBalance.compareTo(BigDecimal.ZERO) < 0) {
+                        results.add(PostingResult.rejected(transaction));
+                        continue;
+                    }
+                    runningBalance = newBalance;
+                    transaction.setBalance(newBalance);
+                    results.add(PostingResult.posted(transaction));
+                    acceptedTransactions.add(transaction);
+                    
+                    TransactionEntity entity = transactionMapper.toEntity(transaction);
+                    entity.setCreatedAt(now);
+                    entity.setUpdatedAt(now);
+                    accepted.add(entity);
+                }
+                
+                if (accepted.isEmpty()) {
+                    return Mono.just(results);
+                }
+                
+                return repository.applyBalanceDelta(accountNumber, runningBalance.subtract(openingBalance), now)
+                    .thenMany(transactionBatchInserter.insertAll(accepted))
+                    .then(dailyBalanceRecorder.record(accepted))
+                    .then(Mono.fromCallable(() -> {
+                        for (int i = 0; i < accepted.size(); i++) {
+                            acceptedTransactions.get(i).setId(accepted.get(i).getId());
+                        }
+                        return results;
+                    }));
+            })
+            .as(transactionalOperator::transactional);
+    }
+    
+    // Writes the row in one statement that leaves created_at alone; when the caller read a version,
+    // a concurrent writer makes the update match nothing and fail instead of being overwritten.
+    // The balance is never written here: it only moves through the delta statements, so postings
+    // neither conflict with a metadata edit nor get reverted by one, and the result re-reads it.
+    private Mono<AccountEntity> update(AccountEntity entity) {
+        boolean versioned = entity.getVersion() != null;
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient()
+            .sql(versioned ? UPDATE_ACCOUNT + VERSION_PREDICATE : UPDATE_ACCOUNT)
+            .bind("accountNumber", entity.getAccountNumber())
+            .bind("accountType", entity.getAccountType())
+            .bind("status", entity.getStatus())
+            .bind("clientId", entity.getClientId())
+            .bind("clientName", entity.getClientName())
+            .bind("clientStatus", entity.getClientStatus())
+            .bind("id", entity.getId());
+        if (versioned) {
+            spec = spec.bind("version", entity.getVersion());
+        }
+        
+        return spec.fetch()
+            .rowsUpdated()
+            .flatMap(updatedRows -> {
+                if (updatedRows > 0) {
+                    entity.setVersion(versioned ? entity.getVersion() + 1 : null);
+                    return repository.findBalanceByAccountNumber(entity.getAccountNumber())
+                        .map(balance -> {
+                            entity.setBalance(balance);
+                            return entity;
+                        });
+                }
+                return repository.existsById(entity.getId())
+                    .flatMap(exists -> exists
+                        ? Mono.error(new ConcurrentUpdateException(
+                            entity.getAccountNumber(),
+                            "Account was modified by another request"))
+                        : Mono.<AccountEntity>empty());
+            });
+    }
+    
+    // Locks both account rows in account_number order, so opposite transfers between the same
+    // accounts queue behind each other instead of deadlocking, then writes both balances and both legs.
+    @Override
+    public Mono<Transfer> postTransfer(Transfer transfer) {
+        LocalDateTime now = LocalDateTime.now();
+        Transaction debit = transfer.getDebit();
+        Transaction credit = transfer.getCredit();
+        List<Transaction> legsInLockOrder = debit.getAccountNumber().compareTo(credit.getAccountNumber()) < 0
+            ? List.of(debit, credit)
+            : List.of(credit, debit);
+        
+        return Flux.fromIterable(legsInLockOrder)
+            .concatMap(leg -> repository.lockBalanceByAccountNumber(leg.getAccountNumber())
+                .switchIfEmpty(Mono.error(new AccountNotFoundException(leg.getAccountNumber(), "Account not found")))
+                .map(balance -> Map.entry(leg.getAccountNumber(), balance)))
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+            .flatMap(balances -> {
+                BigDecimal debitBalance = balances.get(debit.getAccountNumber()).add(debit.getAmount());
+                if (debitBalance.compareTo(BigDecimal.ZERO) < 0) {
+                    return Mono.error(new InsufficientBalanceException("Saldo no disponible"));
+                }
+                debit.setBalance(debitBalance);
+                credit.setBalance(balances.get(credit.getAccountNumber()).add(credit.getAmount()));
+                
+                List<TransactionEntity> entities = new ArrayList<>(2);
+                for (Transaction leg : List.of(debit, credit)) {
+                    TransactionEntity entity = transactionMapper.toEntity(leg);
+                    entity.setCreatedAt(now);
+                    entity.setUpdatedAt(now);
+                    entities.add(entity);
+                }
+                
+                return Flux.fromIterable(legsInLockOrder)
+                    .concatMap(leg -> repository.applyBalanceDelta(leg.getAccountNumber(), leg.getAmount(), now))
+                    .thenMany(transactionBatchInserter.insertAll(entities))
+                    .then(dailyBalanceRecorder.record(entities))
+                    .then(Mono.fromCallable(() -> {
+                        debit.setId(entities.get(0).getId());
+                        credit.setId(entities.get(1).getId());
+                        return transfer;
+                    }));
+            })
+            .as(transactionalOperator::transactional);
+    }
+    
+    // Locks every account of the chunk in account_number order, replays each account's movements in
+    // arrival order against its running balance, then writes one balance update per account and one
+    // multi-row insert for the whole chunk. Unknown accounts and overdrafts reject only their own items.
+    @Override
+    public Mono<List<PostingResult>> postTransactionChunk(List<Transaction> transactions) {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> accountNumbers = transactions.stream()
+            .map(Transaction::getAccountNumber)
+            .distinct()
+            .sorted()
+            .toList();
+        
+        return Flux.fromIterable(accountNumbers)
+            .concatMap(accountNumber -> repository.lockBalanceByAccountNumber(accountNumber)
+                .map(balance -> Map.entry(accountNumber, balance)))
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+            .flatMap(openingBalances -> {
+                Map<String, BigDecimal> runningBalances = new HashMap<>(openingBalances);
+                List<PostingResult> results = new ArrayList<>(transactions.size());
+                List<TransactionEntity> accepted = new ArrayList<>(transactions.size());
+                List<Transaction> acceptedTransactions = new ArrayList<>(transactions.size());
+                
+                for (Transaction transaction : transactions) {
+                    BigDecimal runningBalance = runningBalances.get(transaction.getAccountNumber());
+                    if (runningBalance == null) {
+                        results.add(PostingResult.rejected(transaction, "Account not found"));
+                        continue;
+                    }
+                    BigDecimal newBalance = runningBalance.add(transaction.getAmount());
+                    if (newBalance.compareTo(BigDecimal.ZERO) < 0) {
+                        results.add(PostingResult.rejected(transaction, "Saldo no disponible"));
+                        continue;
+                    }
+                    runningBalances.put(transaction.getAccountNumber(), newBalance);
+                    transaction.setBalance(newBalance);
+                    results.add(PostingResult.posted(transaction));
+                    acceptedTransactions.add(transaction);
+                    
+                    TransactionEntity entity = transactionMapper.toEntity(transaction);
+                    entity.setCreatedAt(now);
+                    entity.setUpdatedAt(now);
+                    accepted.add(entity);
+                }
+                
+                if (accepted.isEmpty()) {
+                    return Mono.just(results);
+                }
+                
+                List<Map.Entry<String, BigDecimal>> deltas = accountNumbers.stream()
+                    .filter(openingBalances::containsKey)
+                    .map(accountNumber -> Map.entry(accountNumber,
+                        runningBalances.get(accountNumber).subtract(openingBalances.get(accountNumber))))
+                    .filter(delta -> delta.getValue().signum() != 0)
+                    .toList();
+                
+                return Flux.fromIterable(deltas)
+                    .concatMap(delta -> repository.applyBalanceDelta(delta.getKey(), delta.getValue(), now))
+                    .thenMany(transactionBatchInserter.insertAll(accepted))
+                    .then(dailyBalanceRecorder.record(accepted))
+                    .then(Mono.fromCallable(() -> {
+                        for (int i = 0; i < accepted.size(); i++) {
+                            acceptedTransactions.get(i).setId(accepted.get(i).getId());
+                        }
+                        return results;
+                    }));
+            })
+            .as(transactionalOperator::transactional);
+    }
+    
+    private Mono<BigDecimal> rejectPosting(String accountNumber) {
+        return repository.existsByAccountNumber(accountNumber)
+            .flatMap(exists -> Mono.error(exists
+                ? new InsufficientBalanceException("Saldo no disponible")
+                : new AccountNotFoundException(accountNumber, "Account not found")));
+    }
+    
+    private StatementLine toStatementLine(Row row) {
+        AccountEntity account = new AccountEntity();
+        account.setId(row.get("account_id", Long.class));
+        account.setAccountNumber(row.get("account_number", String.class));
+        account.setAccountType(row.get("account_type", String.class));
+        account.setBalance(row.get("account_balance", BigDecimal.class));
+        account.setStatus(row.get("status", Boolean.class));
+        account.setClientId(row.get("client_id", String.class));
+        account.setClientName(row.get("client_name", String.class));
+        account.setClientStatus(row.get("client_status", Boolean.class));
+        
+        Long transactionId = row.get("transaction_id", Long.class);
+        if (transactionId == null) {
+            return new StatementLine(mapper.toDomain(account), null);
+        }
+        
+        TransactionEntity transaction = new TransactionEntity();
+        transaction.setId(transactionId);
+        transaction.setDate(row.get("date", LocalDateTime.class));
+        transaction.setTransactionType(row.get("transaction_type", String.class));
+        transaction.setAmount(row.get("amount", BigDecimal.class));
+        transaction.setBalance(row.get("transaction_balance", BigDecimal.class));
+        transaction.setAccountNumber(account.getAccountNumber());
+        
+        return new StatementLine(mapper.toDomain(account), transactionMapper.toDomain(transaction));
+    }
 }
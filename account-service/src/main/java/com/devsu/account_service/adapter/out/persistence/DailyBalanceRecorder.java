@@ -0,0 +1,102 @@
+package com.devsu.account_service.adapter.out.persistence;
+
+import com.devsu.account_service.adapter.out.persistence.entity.TransactionEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class DailyBalanceRecorder {
+    private static final String UPDATE_DAY =
+        "UPDATE account_daily_balance SET closing_balance = :closingBalance, " +
+        "total_credits = total_credits + :totalCredits, total_debits = total_debits + :totalDebits, " +
+        "movement_count = movement_count + :movementCount, updated_at = :updatedAt " +
+        "WHERE account_number = :accountNumber AND balance_date = :balanceDate";
+    private static final String INSERT_DAY =
+        "INSERT INTO account_daily_balance (account_number, balance_date, opening_balance, closing_balance, " +
+        "total_credits, total_debits, movement_count, updated_at) " +
+        "VALUES (:accountNumber, :balanceDate, :openingBalance, :closingBalance, " +
+        ":totalCredits, :totalDebits, :movementCount, :updatedAt)";
+    
+    private final DatabaseClient databaseClient;
+    
+    // Must run inside the posting transaction, after the account row has been locked by the balance update,
+    // so that movements for the same account never race on the same day row.
+    public Mono<Void> record(List<TransactionEntity> postedInOrder) {
+        Map<String, DayTotals> days = new LinkedHashMap<>();
+        for (TransactionEntity entity : postedInOrder) {
+            LocalDate balanceDate = entity.getDate().toLocalDate();
+            days.computeIfAbsent(entity.getAccountNumber() + "|" + balanceDate,
+                    key -> new DayTotals(entity.getAccountNumber(), balanceDate,
+                        entity.getBalance().subtract(entity.getAmount())))
+                .add(entity);
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        return Flux.fromIterable(days.values())
+            .concatMap(day -> databaseClient.sql(UPDATE_DAY)
+                .bind("closingBalance", day.closingBalance)
+                .bind("totalCredits", day.totalCredits)
+                .bind("totalDebits", day.totalDebits)
+                .bind("movementCount", day.movementCount)
+                .bind("updatedAt", now)
+                .bind("accountNumber", day.accountNumber)
+                .bind("balanceDate", day.balanceDate)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(rows -> rows > 0 ? Mono.empty() : insert(day, now)))
+            .then();
+    }
+    
+    private Mono<Long> insert(DayTotals day, LocalDateTime now) {
+        return databaseClient.sql(INSERT_DAY)
+            .bind("accountNumber", day.accountNumber)
+            .bind("balanceDate", day.balanceDate)
+            .bind("openingBalance", day.openingBalance)
+            .bind("closingBalance", day.closingBalance)
+            .bind("totalCredits", day.totalCredits)
+            .bind("totalDebits", day.totalDebits)
+            .bind("movementCount", day.movementCount)
+            .bind("updatedAt", now)
+            .fetch()
+            .rowsUpdated();
+    }
+    
+    private static class DayTotals {
+        private final String accountNumber;
+        private final LocalDate balanceDate;
+        private final BigDecimal openingBalance;
+        private BigDecimal closingBalance;
+        private BigDecimal totalCredits = BigDecimal.ZERO;
+        private BigDecimal totalDebits = BigDecimal.ZERO;
+        private int movementCount;
+        
+        private DayTotals(String accountNumber, LocalDate balanceDate, BigDecimal openingBalance) {
+            this.accountNumber = accountNumber;
+            this.balanceDate = balanceDate;
+            this.openingBalance = openingBalance;
+            this.closingBalance = openingBalance;
+        }
+        
+        private void add(TransactionEntity entity) {
+            BigDecimal amount = entity.getAmount();
+            if (amount.signum() > 0) {
+                totalCredits = totalCredits.add(amount);
+            } else {
+                totalDebits = totalDebits.add(amount.negate());
+            }
+            closingBalance = entity.getBalance();
+            movementCount++;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.devsu.account_service.adapter.out.persistence;
+
+import com.devsu.account_service.domain.model.DailyBalance;
+import com.devsu.account_service.domain.model.DailyBalanceMismatch;
+import com.devsu.account_service.domain.port.out.DailyBalanceRepositoryPort;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class DailyBalanceRepositoryAdapter implements DailyBalanceRepositoryPort {
+    private static final String SNAPSHOT_COLUMNS =
+        "d.account_number, d.balance_date, d.opening_balance, d.closing_balance, " +
+        "d.total_credits, d.total_debits, d.movement_count";
+    
+    // Days inside the range plus, per account, the nearest snapshot on each side of it,
+    // which is enough to derive opening and closing balances for the range.
+    private static final String SELECT_FOR_CLIENT =
+        "SELECT " + SNAPSHOT_COLUMNS + " FROM account_daily_balance d " +
+        "JOIN account a ON a.account_number = d.account_number " +
+        "WHERE a.client_id = :clientId AND (" +
+        "d.balance_date BETWEEN :startDate AND :endDate " +
+        "OR d.balance_date = (SELECT MAX(p.balance_date) FROM account_daily_balance p " +
+        "WHERE p.account_number = d.account_number AND p.balance_date < :startDate) " +
+        "OR d.balance_date = (SELECT MIN(n.balance_date) FROM account_daily_balance n " +
+        "WHERE n.account_number = d.account_number AND n.balance_date > :endDate)) " +
+        "ORDER BY a.id, d.balance_date";
+    
+    // Per-day aggregate of the ledger; the first and last movement of each day give its opening and closing balance.
+    private static final String LEDGER_DAYS =
+        "SELECT g.account_number, g.balance_date, f.balance - f.amount AS opening_balance, " +
+        "l.balance AS closing_balance, g.total_credits, g.total_debits, g.movement_count " +
+        "FROM (SELECT account_number, CAST(date AS DATE) AS balance_date, MIN(id) AS first_id, MAX(id) AS last_id, " +
+        "SUM(CASE WHEN amount > 0 THEN amount ELSE 0 END) AS total_credits, " +
+        "SUM(CASE WHEN amount < 0 THEN -amount ELSE 0 END) AS total_debits, " +
+        "COUNT(*) AS movement_count " +
+        "FROM transaction %s " +
+        "GROUP BY account_number, CAST(date AS DATE)) g " +
+        "JOIN transaction f ON f.id = g.first_id " +
+        "JOIN transaction l ON l.id = g.last_id";
+    
+    // Postings lock the account row before recording their day, so holding it keeps them from inserting
+    // a day row between the delete and the insert below
+    private static final String LOCK_ACCOUNT =
+        "SELECT account_number FROM account WHERE account_number = :accountNumber FOR UPDATE";
+    
+    private static final String DELETE_FOR_REBUILD =
+        "DELETE FROM account_daily_balance WHERE account_number = :accountNumber";
+    
+    private static final String INSERT_FROM_LEDGER =
+        "INSERT INTO account_daily_balance (account_number, balance_date, opening_balance, closing_balance, " +
+        "total_credits, total_debits, movement_count, updated_at) " +
+        "SELECT ledger.account_number, ledger.balance_date, ledger.opening_balance, ledger.closing_balance, " +
+        "ledger.total_credits, ledger.total_debits, ledger.movement_count, :updatedAt " +
+        "FROM (" + LEDGER_DAYS + ") ledger";
+    
+    private static final String SELECT_MISMATCHES =
+        "SELECT ledger.account_number, ledger.balance_date, " +
+        "ledger.opening_balance AS ledger_opening, ledger.closing_balance AS ledger_closing, " +
+        "ledger.total_credits AS ledger_credits, ledger.total_debits AS ledger_debits, " +
+        "ledger.movement_count AS ledger_count, " +
+        "d.opening_balance AS snapshot_opening, d.closing_balance AS snapshot_closing, " +
+        "d.total_credits AS snapshot_credits, d.total_debits AS snapshot_debits, " +
+        "d.movement_count AS snapshot_count " +
+        "FROM (" + String.format(LEDGER_DAYS, "") + ") ledger " +
+        "LEFT JOIN account_daily_balance d " +
+        "ON d.account_number = ledger.account_number AND d.balance_date = ledger.balance_date " +
+        "WHERE d.account_number IS NULL " +
+        "OR d.opening_balance <> ledger.opening_balance OR d.closing_balance <> ledger.closing_balance " +
+        "OR d.total_credits <> ledger.total_credits OR d.total_debits <> ledger.total_debits " +
+        "OR d.movement_count <> ledger.movement_count " +
+        "UNION ALL " +
+        "SELECT d.account_number, d.balance_date, " +
+        "NULL, NULL, NULL, NULL, NULL, " +
+        "d.opening_balance, d.closing_balance, d.total_credits, d.total_debits, d.movement_count " +
+        "FROM account_daily_balance d " +
+        "WHERE NOT EXISTS (SELECT 1 FROM transaction t " +
+        "WHERE t.account_number = d.account_number AND CAST(t.date AS DATE) = d.balance_date)";
+    
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    
+    @Override
+    public Flux<DailyBalance> findForClient(String clientId, LocalDate startDate, LocalDate endDate) {
+        return databaseClient.sql(SELECT_FOR_CLIENT)
+            .bind("clientId", clientId)
+            .bind("startDate", startDate)
+            .bind("endDate", endDate)
+            .map((row, metadata) -> toDailyBalance(row))
+            .all();
+    }
+    
+    @Override
+    public Mono<Long> rebuild(String accountNumber, LocalDate fromDate) {
+        String deleteSql = DELETE_FOR_REBUILD;
+        String ledgerFilter = "WHERE account_number = :accountNumber";
+        if (fromDate != null) {
+            deleteSql += " AND balance_date >= :fromDate";
+            ledgerFilter += " AND CAST(date AS DATE) >= :fromDate";
+        }
+        
+        DatabaseClient.GenericExecuteSpec delete = databaseClient.sql(deleteSql)
+            .bind("accountNumber", accountNumber);
+        DatabaseClient.GenericExecuteSpec insert = databaseClient.sql(String.format(INSERT_FROM_LEDGER, ledgerFilter))
+            .bind("accountNumber", accountNumber)
+            .bind("updatedAt", LocalDateTime.now());
+        if (fromDate != null) {
+            delete = delete.bind("fromDate", fromDate);
+            insert = insert.bind("fromDate", fromDate);
+        }
+        
+        return databaseClient.sql(LOCK_ACCOUNT)
+            .bind("accountNumber", accountNumber)
+            .fetch()
+            .all()
+            .then(delete.fetch().rowsUpdated())
+            .then(insert.fetch().rowsUpdated())
+            .as(transactionalOperator::transactional);
+    }
+    
+    @Override
+    public Flux<DailyBalanceMismatch> findMismatches() {
+        return databaseClient.sql(SELECT_MISMATCHES)
+            .map((row, metadata) -> {
+                DailyBalance ledger = row.get("ledger_count") == null ? null : new DailyBalance(
+                    row.get("account_number", String.class),
+                    row.get("balance_date", LocalDate.class),
+                    row.get("ledger_opening", BigDecimal.class),
+                    row.get("ledger_closing", BigDecimal.class),
+                    row.get("ledger_credits", BigDecimal.class),
+                    row.get("ledger_debits", BigDecimal.class),
+                    row.get("ledger_count", Number.class).intValue()
+                );
+                DailyBalance snapshot = row.get("snapshot_count") == null ? null : new DailyBalance(
+                    row.get("account_number", String.class),
+                    row.get("balance_date", LocalDate.class),
+                    row.get("snapshot_opening", BigDecimal.class),
+                    row.get("snapshot_closing", BigDecimal.class),
+                    row.get("snapshot_credits", BigDecimal.class),
+                    row.get("snapshot_debits", BigDecimal.class),
+                    row.get("snapshot_count", Number.class).intValue()
+                );
+                return new DailyBalanceMismatch(
+                    row.get("account_number", String.class),
+                    row.get("balance_date", LocalDate.class),
+                    snapshot,
+                    ledger
+                );
+            })
+            .all();
+    }
+    
+    private DailyBalance toDailyBalance(Row row) {
+        return new DailyBalance(
+            row.get("account_number", String.class),
+            row.get("balance_date", LocalDate.class),
+            row.get("opening_balance", BigDecimal.class),
+            row.get("closing_balance", BigDecimal.class),
+            row.get("total_credits", BigDecimal.class),
+            row.get("total_debits", BigDecimal.class),
+            row.get("movement_count", Number.class).intValue()
+        );
+    }
+}
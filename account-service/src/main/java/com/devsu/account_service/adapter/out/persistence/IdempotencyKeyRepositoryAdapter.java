@@ -0,0 +1,67 @@
+package com.devsu.account_service.adapter.out.persistence;
+
+import com.devsu.account_service.domain.exception.DuplicateIdempotencyKeyException;
+import com.devsu.account_service.domain.model.IdempotencyRecord;
+import com.devsu.account_service.domain.port.out.IdempotencyKeyRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyRepositoryAdapter implements IdempotencyKeyRepositoryPort {
+    private static final String SELECT_BY_KEY =
+        "SELECT idempotency_key, request_hash, transaction_id, created_at, expires_at " +
+        "FROM idempotency_key WHERE idempotency_key = :key";
+    
+    // Plain insert: the primary key decides which of two racing requests owns the key
+    private static final String INSERT =
+        "INSERT INTO idempotency_key (idempotency_key, request_hash, transaction_id, created_at, expires_at) " +
+        "VALUES (:key, :requestHash, :transactionId, :createdAt, :expiresAt)";
+    
+    private static final String DELETE_EXPIRED =
+        "DELETE FROM idempotency_key WHERE expires_at < :now";
+    
+    private final DatabaseClient databaseClient;
+    
+    @Override
+    public Mono<IdempotencyRecord> findByKey(String key) {
+        return databaseClient.sql(SELECT_BY_KEY)
+            .bind("key", key)
+            .map((row, metadata) -> new IdempotencyRecord(
+                row.get("idempotency_key", String.class),
+                row.get("request_hash", String.class),
+                row.get("transaction_id", Long.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("expires_at", LocalDateTime.class)
+            ))
+            .one();
+    }
+    
+    @Override
+    public Mono<IdempotencyRecord> save(IdempotencyRecord record) {
+        return databaseClient.sql(INSERT)
+            .bind("key", record.getKey())
+            .bind("requestHash", record.getRequestHash())
+            .bind("transactionId", record.getTransactionId())
+            .bind("createdAt", record.getCreatedAt())
+            .bind("expiresAt", record.getExpiresAt())
+            .fetch()
+            .rowsUpdated()
+            .thenReturn(record)
+            .onErrorMap(DuplicateKeyException.class, e -> new DuplicateIdempotencyKeyException(
+                record.getKey(), "Idempotency key already recorded"));
+    }
+    
+    @Override
+    public Mono<Long> deleteExpired(LocalDateTime now) {
+        return databaseClient.sql(DELETE_EXPIRED)
+            .bind("now", now)
+            .fetch()
+            .rowsUpdated();
+    }
+}
@@ -0,0 +1,67 @@
+package com.devsu.account_service.adapter.out.persistence;
+
+import com.devsu.account_service.adapter.out.persistence.entity.TransactionEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class TransactionBatchInserter {
+    private static final String INSERT_PREFIX =
+        "INSERT INTO transaction (date, transaction_type, amount, balance, account_number, correlation_id, " +
+        "created_at, updated_at) VALUES ";
+    
+    private final DatabaseClient databaseClient;
+    
+    // Writes every entity with one multi-row INSERT and fills in the generated ids, in order.
+    public Flux<TransactionEntity> insertAll(List<TransactionEntity> entities) {
+        if (entities.isEmpty()) {
+            return Flux.empty();
+        }
+        
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < entities.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:date").append(i)
+                .append(", :type").append(i)
+                .append(", :amount").append(i)
+                .append(", :balance").append(i)
+                .append(", :account").append(i)
+                .append(", :correlation").append(i)
+                .append(", :createdAt").append(i)
+                .append(", :updatedAt").append(i)
+                .append(')');
+        }
+        
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < entities.size(); i++) {
+            TransactionEntity entity = entities.get(i);
+            spec = spec.bind("date" + i, entity.getDate())
+                .bind("type" + i, entity.getTransactionType())
+                .bind("amount" + i, entity.getAmount())
+                .bind("balance" + i, entity.getBalance())
+                .bind("account" + i, entity.getAccountNumber())
+                .bind("createdAt" + i, entity.getCreatedAt())
+                .bind("updatedAt" + i, entity.getUpdatedAt());
+            spec = entity.getCorrelationId() != null
+                ? spec.bind("correlation" + i, entity.getCorrelationId())
+                : spec.bindNull("correlation" + i, String.class);
+        }
+        
+        return spec.filter(statement -> statement.returnGeneratedValues("id"))
+            .map(row -> row.get("id", Long.class))
+            .all()
+            .index()
+            .map(indexedId -> {
+                TransactionEntity entity = entities.get(indexedId.getT1().intValue());
+                entity.setId(indexedId.getT2());
+                return entity;
+            });
+    }
+}
@@ -2,31 +2,45 @@ package com.devsu.account_service.adapter.out.persistence;
 
 import com.devsu.account_service.adapter.out.persistence.entity.TransactionEntity;
 import com.devsu.account_service.adapter.out.persistence.mapper.TransactionPersistenceMapper;
+import com.devsu.account_service.domain.exception.ConcurrentUpdateException;
 import com.devsu.account_service.domain.model.Transaction;
 import com.devsu.account_service.domain.port.out.TransactionRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Component
 @RequiredArgsConstructor
 public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
+    private static final String UPDATE_TRANSACTION =
+        "UPDATE transaction SET date = :date, transaction_type = :transactionType, amount = :amount, " +
+        "balance = :balance, account_number = :accountNumber, " +
+        "updated_at = CURRENT_TIMESTAMP, version = version + 1 " +
+        "WHERE id = :id";
+    private static final String VERSION_PREDICATE = " AND version = :version";
+    // Leaves version alone, like the account's balance delta: the running balance is derived from the
+    // amounts before it, and the version only guards the movement's own fields
+    private static final String SHIFT_BALANCES_AFTER =
+        "UPDATE transaction SET balance = balance + :delta, updated_at = CURRENT_TIMESTAMP " +
+        "WHERE account_number = :accountNumber AND id > :afterId";
+    
     private final TransactionR2dbcRepository repository;
     private final TransactionPersistenceMapper mapper;
+    private final R2dbcEntityTemplate template;
     
     @Override
     public Mono<Transaction> save(Transaction transaction) {
         if (transaction.getId() != null) {
-            return repository.findById(transaction.getId())
-                .flatMap(existingEntity -> {
-                    TransactionEntity entity = mapper.toEntity(transaction);
-                    entity.setCreatedAt(existingEntity.getCreatedAt());
-                    entity.setUpdatedAt(LocalDateTime.now());
-                    return repository.save(entity);
-                })
+            return update(mapper.toEntity(transaction))
                 .map(mapper::toDomain);
         } else {
             TransactionEntity entity = mapper.toEntity(transaction);
@@ -43,6 +57,38 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
             .map(mapper::toDomain);
     }
     
+    @Override
+    public Flux<Transaction> findPage(
+            String accountNumber,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Long afterId,
+            Integer limit) {
+        Criteria criteria = Criteria.empty();
+        if (accountNumber != null) {
+            criteria = criteria.and("accountNumber").is(accountNumber);
+        }
+        if (startDate != null) {
+            criteria = criteria.and("date").greaterThanOrEquals(startDate);
+        }
+        if (endDate != null) {
+            criteria = criteria.and("date").lessThanOrEquals(endDate);
+        }
+        if (afterId != null) {
+            criteria = criteria.and("id").greaterThan(afterId);
+        }
+        
+        Query query = Query.query(criteria).sort(Sort.by("id"));
+        if (limit != null && limit > 0) {
+            query = query.limit(limit);
+        }
+        
+        return template.select(TransactionEntity.class)
+            .matching(query)
+            .all()
+            .map(mapper::toDomain);
+    }
+    
     @Override
     public Mono<Transaction> findById(Long id) {
         return repository.findById(id)
@@ -63,4 +109,46 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
         return repository.findByAccountNumberAndDateBetween(accountNumber, startDate, endDate)
             .map(mapper::toDomain);
     }
+    
+    @Override
+    public Mono<Long> shiftBalancesAfter(String accountNumber, Long afterId, BigDecimal delta) {
+        return template.getDatabaseClient()
+            .sql(SHIFT_BALANCES_AFTER)
+            .bind("delta", delta)
+            .bind("accountNumber", accountNumber)
+            .bind("afterId", afterId)
+            .fetch()
+            .rowsUpdated();
+    }
+    
+    // Same single-statement, version-checked update as the account adapter.
+    private Mono<TransactionEntity> update(TransactionEntity entity) {
+        boolean versioned = entity.getVersion() != null;
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient()
+            .sql(versioned ? UPDATE_TRANSACTION + VERSION_PREDICATE : UPDATE_TRANSACTION)
+            .bind("date", entity.getDate())
+            .bind("transactionType", entity.getTransactionType())
+            .bind("amount", entity.getAmount())
+            .bind("balance", entity.getBalance())
+            .bind("accountNumber", entity.getAccountNumber())
+            .bind("id", entity.getId());
+        if (versioned) {
+            spec = spec.bind("version", entity.getVersion());
+        }
+        
+        return spec.fetch()
+            .rowsUpdated()
+            .flatMap(updatedRows -> {
+                if (updatedRows > 0) {
+                    entity.setVersion(versioned ? entity.getVersion() + 1 : null);
+                    return Mono.just(entity);
+                }
+                return repository.existsById(entity.getId())
+                    .flatMap(exists -> exists
+                        ? Mono.error(new ConcurrentUpdateException(
+                            String.valueOf(entity.getId()),
+                            "Transaction was modified by another request"))
+                        : Mono.<TransactionEntity>empty());
+            });
+    }
 }
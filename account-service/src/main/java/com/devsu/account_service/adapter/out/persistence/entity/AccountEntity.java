@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.math.BigDecimal;
@@ -25,6 +26,9 @@ public class AccountEntity {
     private String clientName;
     private Boolean clientStatus;
     
+    @Version
+    private Long version;
+    
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
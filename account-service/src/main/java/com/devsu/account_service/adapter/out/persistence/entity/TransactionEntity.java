@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.math.BigDecimal;
@@ -22,6 +23,10 @@ public class TransactionEntity {
     private BigDecimal amount;
     private BigDecimal balance;
     private String accountNumber;
+    private String correlationId;
+    
+    @Version
+    private Long version;
     
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -22,6 +22,7 @@ public class AccountPersistenceMapper {
         entity.setClientId(account.getClientId());
         entity.setClientName(account.getClientName());
         entity.setClientStatus(account.getClientStatus());
+        entity.setVersion(account.getVersion());
         
         return entity;
     }
@@ -40,6 +41,7 @@ public class AccountPersistenceMapper {
         account.setClientId(entity.getClientId());
         account.setClientName(entity.getClientName());
         account.setClientStatus(entity.getClientStatus());
+        account.setVersion(entity.getVersion());
         
         return account;
     }
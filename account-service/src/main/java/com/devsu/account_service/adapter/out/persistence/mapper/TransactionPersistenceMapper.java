@@ -19,6 +19,8 @@ public class TransactionPersistenceMapper {
         entity.setAmount(transaction.getAmount());
         entity.setBalance(transaction.getBalance());
         entity.setAccountNumber(transaction.getAccountNumber());
+        entity.setCorrelationId(transaction.getCorrelationId());
+        entity.setVersion(transaction.getVersion());
         
         return entity;
     }
@@ -35,6 +37,8 @@ public class TransactionPersistenceMapper {
         transaction.setAmount(entity.getAmount());
         transaction.setBalance(entity.getBalance());
         transaction.setAccountNumber(entity.getAccountNumber());
+        transaction.setCorrelationId(entity.getCorrelationId());
+        transaction.setVersion(entity.getVersion());
         
         return transaction;
     }
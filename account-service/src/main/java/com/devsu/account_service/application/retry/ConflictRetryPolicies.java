@@ -0,0 +1,40 @@
+package com.devsu.account_service.application.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Resolves account.conflict-retry.<UseCase>.* and falls back to account.conflict-retry.default.*
+@Component
+@RequiredArgsConstructor
+public class ConflictRetryPolicies {
+    private static final String PREFIX = "account.conflict-retry.";
+    
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ConflictRetryPolicy> policies = new ConcurrentHashMap<>();
+    
+    public ConflictRetryPolicy forUseCase(String useCase) {
+        return policies.computeIfAbsent(useCase, this::create);
+    }
+    
+    private ConflictRetryPolicy create(String useCase) {
+        return new ConflictRetryPolicy(
+            useCase,
+            property(useCase, "max-retries", Integer.class, 5),
+            property(useCase, "min-backoff", Duration.class, Duration.ofMillis(10)),
+            property(useCase, "max-backoff", Duration.class, Duration.ofMillis(200)),
+            property(useCase, "jitter", Double.class, 0.5),
+            meterRegistry);
+    }
+    
+    private <T> T property(String useCase, String key, Class<T> type, T fallback) {
+        T defaultValue = environment.getProperty(PREFIX + "default." + key, type, fallback);
+        return environment.getProperty(PREFIX + useCase + "." + key, type, defaultValue);
+    }
+}
@@ -0,0 +1,58 @@
+package com.devsu.account_service.application.retry;
+
+import com.devsu.account_service.domain.exception.ConcurrentUpdateException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// Re-runs a read-modify-write when its versioned write lost to a concurrent writer, with a bounded
+// number of jittered exponential backoffs; other errors pass straight through.
+@Getter
+public class ConflictRetryPolicy {
+    private final String operation;
+    private final int maxRetries;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+    private final double jitter;
+    private final Counter conflicts;
+    private final Counter retries;
+    private final Counter exhausted;
+    
+    public ConflictRetryPolicy(String operation, int maxRetries, Duration minBackoff, Duration maxBackoff,
+                               double jitter, MeterRegistry meterRegistry) {
+        this.operation = operation;
+        this.maxRetries = maxRetries;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+        this.jitter = jitter;
+        this.conflicts = Counter.builder("usecase.conflicts")
+            .tag("operation", operation)
+            .register(meterRegistry);
+        this.retries = Counter.builder("usecase.conflict.retries")
+            .tag("operation", operation)
+            .register(meterRegistry);
+        this.exhausted = Counter.builder("usecase.conflict.exhausted")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+    
+    // The attempt is resubscribed on every retry, so it must re-read whatever it writes back
+    public <T> Mono<T> execute(Supplier<Mono<T>> attempt) {
+        return Mono.defer(attempt)
+            .doOnError(ConcurrentUpdateException.class, e -> conflicts.increment())
+            .retryWhen(Retry.backoff(maxRetries, minBackoff)
+                .maxBackoff(maxBackoff)
+                .jitter(jitter)
+                .filter(ConcurrentUpdateException.class::isInstance)
+                .doBeforeRetry(signal -> retries.increment())
+                .onRetryExhaustedThrow((spec, signal) -> {
+                    exhausted.increment();
+                    return signal.failure();
+                }));
+    }
+}
@@ -0,0 +1,67 @@
+package com.devsu.account_service.application.usecase.bulkcreatetransactions;
+
+import com.devsu.account_service.domain.model.BulkPostingResult;
+import com.devsu.account_service.domain.model.PostingResult;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.port.in.BulkCreateTransactionsPort;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Cuts the incoming stream into chunks and posts each chunk in its own database transaction, so
+// memory stays bounded by the chunk size and a failing chunk does not take the rest of the stream down.
+@Component
+@Slf4j
+public class BulkCreateTransactionsUseCase implements BulkCreateTransactionsPort {
+    private final AccountRepositoryPort accountRepositoryPort;
+    private final int chunkSize;
+    
+    public BulkCreateTransactionsUseCase(
+            AccountRepositoryPort accountRepositoryPort,
+            @Value("${account.bulk.chunk-size:500}") int chunkSize) {
+        this.accountRepositoryPort = accountRepositoryPort;
+        this.chunkSize = chunkSize;
+    }
+    
+    @Override
+    public Flux<BulkPostingResult> execute(Flux<BulkTransactionCommand> commands) {
+        return commands.buffer(chunkSize)
+            .concatMap(this::postChunk);
+    }
+    
+    private Flux<BulkPostingResult> postChunk(List<BulkTransactionCommand> chunk) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Transaction> transactions = new ArrayList<>(chunk.size());
+        for (BulkTransactionCommand command : chunk) {
+            Transaction transaction = new Transaction();
+            transaction.setDate(now);
+            transaction.setTransactionType(command.getTransactionType());
+            transaction.setAmount(command.getAmount());
+            transaction.setAccountNumber(command.getAccountNumber());
+            transactions.add(transaction);
+        }
+        
+        return accountRepositoryPort.postTransactionChunk(transactions)
+            .flatMapIterable(results -> {
+                List<BulkPostingResult> indexed = new ArrayList<>(results.size());
+                for (int i = 0; i < results.size(); i++) {
+                    PostingResult result = results.get(i);
+                    indexed.add(new BulkPostingResult(chunk.get(i).getIndex(), result.getTransaction(),
+                        result.isRejected(), result.getReason()));
+                }
+                return indexed;
+            })
+            .onErrorResume(e -> {
+                log.error("Failed to post chunk of {} movements starting at index {}",
+                    chunk.size(), chunk.get(0).getIndex(), e);
+                return Flux.fromIterable(chunk)
+                    .map(command -> new BulkPostingResult(command.getIndex(), null, true, "Chunk could not be posted"));
+            });
+    }
+}
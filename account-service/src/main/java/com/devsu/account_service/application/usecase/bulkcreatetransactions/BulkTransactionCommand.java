@@ -0,0 +1,17 @@
+package com.devsu.account_service.application.usecase.bulkcreatetransactions;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTransactionCommand {
+    private long index;
+    private String accountNumber;
+    private String transactionType;
+    private BigDecimal amount;
+}
@@ -0,0 +1,23 @@
+package com.devsu.account_service.application.usecase.checkdailybalances;
+
+import com.devsu.account_service.domain.model.DailyBalanceMismatch;
+import com.devsu.account_service.domain.port.in.CheckDailyBalancesPort;
+import com.devsu.account_service.domain.port.out.DailyBalanceRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CheckDailyBalancesUseCase implements CheckDailyBalancesPort {
+    private final DailyBalanceRepositoryPort dailyBalanceRepositoryPort;
+    
+    @Override
+    public Flux<DailyBalanceMismatch> execute(Void input) {
+        return dailyBalanceRepositoryPort.findMismatches()
+            .doOnNext(mismatch -> log.warn("Daily balance snapshot differs from ledger: account {} on {}",
+                mismatch.getAccountNumber(), mismatch.getBalanceDate()));
+    }
+}
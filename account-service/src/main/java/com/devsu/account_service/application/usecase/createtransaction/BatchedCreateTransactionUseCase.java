@@ -0,0 +1,134 @@
+package com.devsu.account_service.application.usecase.createtransaction;
+
+import com.devsu.account_service.domain.exception.InsufficientBalanceException;
+import com.devsu.account_service.domain.model.PostingResult;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.port.in.CreateTransactionPort;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Routes every posting to a shard chosen by account number. Each shard drains its mailbox one
+// batch at a time, so postings to the same account never race, and everything that queued up
+// while a batch was in flight is coalesced into the next one.
+@Component
+@ConditionalOnProperty(name = "account.posting.mode", havingValue = "batched")
+@Slf4j
+public class BatchedCreateTransactionUseCase implements CreateTransactionPort {
+    private final AccountRepositoryPort accountRepositoryPort;
+    private final Shard[] shards;
+    private final int maxBatchSize;
+    
+    public BatchedCreateTransactionUseCase(
+            AccountRepositoryPort accountRepositoryPort,
+            @Value("${account.posting.shards:16}") int shardCount,
+            @Value("${account.posting.max-batch-size:256}") int maxBatchSize) {
+        this.accountRepositoryPort = accountRepositoryPort;
+        this.maxBatchSize = maxBatchSize;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            this.shards[i] = new Shard();
+        }
+    }
+    
+    @Override
+    public Mono<Transaction> execute(CreateTransactionCommand command) {
+        return Mono.create(sink -> {
+            Transaction transaction = new Transaction();
+            transaction.setDate(LocalDateTime.now());
+            transaction.setTransactionType(command.getTransactionType());
+            transaction.setAmount(command.getAmount());
+            transaction.setAccountNumber(command.getAccountNumber());
+            
+            Shard shard = shards[Math.floorMod(command.getAccountNumber().hashCode(), shards.length)];
+            shard.mailbox.offer(new PendingPosting(transaction, sink));
+            drain(shard);
+        });
+    }
+    
+    private void drain(Shard shard) {
+        if (!shard.draining.compareAndSet(false, true)) {
+            return;
+        }
+        
+        List<PendingPosting> batch = new ArrayList<>();
+        PendingPosting next;
+        while (batch.size() < maxBatchSize && (next = shard.mailbox.poll()) != null) {
+            batch.add(next);
+        }
+        
+        if (batch.isEmpty()) {
+            shard.draining.set(false);
+            if (!shard.mailbox.isEmpty()) {
+                drain(shard);
+            }
+            return;
+        }
+        
+        postBatch(batch)
+            .doFinally(signal -> {
+                shard.draining.set(false);
+                drain(shard);
+            })
+            .subscribe();
+    }
+    
+    private Mono<Void> postBatch(List<PendingPosting> batch) {
+        Map<String, List<PendingPosting>> byAccount = new LinkedHashMap<>();
+        for (PendingPosting pending : batch) {
+            byAccount.computeIfAbsent(pending.transaction().getAccountNumber(), key -> new ArrayList<>())
+                .add(pending);
+        }
+        
+        return Flux.fromIterable(byAccount.entrySet())
+            .flatMap(entry -> postAccountBatch(entry.getKey(), entry.getValue()))
+            .then();
+    }
+    
+    private Mono<Void> postAccountBatch(String accountNumber, List<PendingPosting> pendings) {
+        List<Transaction> transactions = pendings.stream()
+            .map(PendingPosting::transaction)
+            .toList();
+        
+        return accountRepositoryPort.postTransactions(accountNumber, transactions)
+            .doOnNext(results -> {
+                for (int i = 0; i < results.size(); i++) {
+                    PostingResult result = results.get(i);
+                    MonoSink<Transaction> sink = pendings.get(i).sink();
+                    if (result.isRejected()) {
+                        sink.error(new InsufficientBalanceException("Saldo no disponible"));
+                    } else {
+                        sink.success(result.getTransaction());
+                    }
+                }
+            })
+            .doOnError(e -> {
+                log.error("Failed to post batch of {} movements for account: {}", pendings.size(), accountNumber, e);
+                pendings.forEach(pending -> pending.sink().error(e));
+            })
+            .onErrorResume(e -> Mono.empty())
+            .then();
+    }
+    
+    private record PendingPosting(Transaction transaction, MonoSink<Transaction> sink) {
+    }
+    
+    private static final class Shard {
+        private final Queue<PendingPosting> mailbox = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+    }
+}
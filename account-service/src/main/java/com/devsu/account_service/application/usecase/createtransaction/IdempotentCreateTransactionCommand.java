@@ -0,0 +1,13 @@
+package com.devsu.account_service.application.usecase.createtransaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotentCreateTransactionCommand {
+    private String idempotencyKey;
+    private CreateTransactionCommand command;
+}
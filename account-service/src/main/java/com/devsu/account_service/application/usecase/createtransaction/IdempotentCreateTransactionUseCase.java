@@ -0,0 +1,130 @@
+package com.devsu.account_service.application.usecase.createtransaction;
+
+import com.devsu.account_service.domain.exception.DuplicateIdempotencyKeyException;
+import com.devsu.account_service.domain.exception.InvalidIdempotencyKeyException;
+import com.devsu.account_service.domain.exception.TransactionNotFoundException;
+import com.devsu.account_service.domain.model.IdempotencyRecord;
+import com.devsu.account_service.domain.model.IdempotentPosting;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.port.in.CreateTransactionPort;
+import com.devsu.account_service.domain.port.in.IdempotentCreateTransactionPort;
+import com.devsu.account_service.domain.port.out.IdempotencyKeyRepositoryPort;
+import com.devsu.account_service.domain.port.out.TransactionRepositoryPort;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Posts a movement at most once per Idempotency-Key. Requests for a key share one in-flight posting
+// through the in-memory tier, so concurrent retries wait for it and later ones replay it without a
+// round trip. The key row is written in the same database transaction as the movement: a retry that
+// raced the original on another instance loses on the primary key, rolls back and replays instead.
+@Component
+public class IdempotentCreateTransactionUseCase implements IdempotentCreateTransactionPort {
+    public static final String CACHE_NAME = "idempotency-keys";
+    static final int MAX_KEY_LENGTH = 255;
+    
+    private final CreateTransactionPort createTransactionPort;
+    private final TransactionRepositoryPort transactionRepositoryPort;
+    private final IdempotencyKeyRepositoryPort idempotencyKeyRepositoryPort;
+    private final TransactionalOperator transactionalOperator;
+    private final Duration timeToLive;
+    private final AsyncCache<String, Outcome> outcomes;
+    
+    public IdempotentCreateTransactionUseCase(CreateTransactionPort createTransactionPort,
+                                              TransactionRepositoryPort transactionRepositoryPort,
+                                              IdempotencyKeyRepositoryPort idempotencyKeyRepositoryPort,
+                                              TransactionalOperator transactionalOperator,
+                                              MeterRegistry meterRegistry,
+                                              @Value("${account.idempotency.ttl:24h}") Duration timeToLive,
+                                              @Value("${account.idempotency.cache.maximum-size:100000}") long maximumSize) {
+        this.createTransactionPort = createTransactionPort;
+        this.transactionRepositoryPort = transactionRepositoryPort;
+        this.idempotencyKeyRepositoryPort = idempotencyKeyRepositoryPort;
+        this.transactionalOperator = transactionalOperator;
+        this.timeToLive = timeToLive;
+        this.outcomes = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .recordStats()
+            .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, outcomes.synchronous(), CACHE_NAME);
+    }
+    
+    @Override
+    public Mono<IdempotentPosting> execute(IdempotentCreateTransactionCommand command) {
+        String key = command.getIdempotencyKey();
+        if (key.length() > MAX_KEY_LENGTH) {
+            return Mono.error(new InvalidIdempotencyKeyException(key,
+                "Idempotency-Key must not be longer than " + MAX_KEY_LENGTH + " characters"));
+        }
+        
+        String requestHash = fingerprint(command.getCommand());
+        AtomicBoolean loaded = new AtomicBoolean();
+        // The posting is shared by every request for the key and must not be cancelled by one of them
+        // going away; failed postings leave the cache, so the next retry posts again
+        return Mono.fromFuture(() -> outcomes.get(key, (ignored, executor) -> {
+                    loaded.set(true);
+                    return resolve(key, requestHash, command.getCommand()).toFuture();
+                }), true)
+            .flatMap(outcome -> {
+                if (!outcome.requestHash().equals(requestHash)) {
+                    return Mono.error(new InvalidIdempotencyKeyException(key,
+                        "Idempotency-Key was already used for a different movement"));
+                }
+                return Mono.just(new IdempotentPosting(outcome.transaction(), outcome.replayed() || !loaded.get()));
+            });
+    }
+    
+    private Mono<Outcome> resolve(String key, String requestHash, CreateTransactionCommand command) {
+        return replay(key)
+            .switchIfEmpty(Mono.defer(() -> post(key, requestHash, command)));
+    }
+    
+    private Mono<Outcome> post(String key, String requestHash, CreateTransactionCommand command) {
+        LocalDateTime now = LocalDateTime.now();
+        return createTransactionPort.execute(command)
+            .flatMap(transaction -> idempotencyKeyRepositoryPort.save(
+                    new IdempotencyRecord(key, requestHash, transaction.getId(), now, now.plus(timeToLive)))
+                .thenReturn(new Outcome(requestHash, transaction, false)))
+            .as(transactionalOperator::transactional)
+            .onErrorResume(DuplicateIdempotencyKeyException.class, e -> replay(key)
+                .switchIfEmpty(Mono.error(e)));
+    }
+    
+    private Mono<Outcome> replay(String key) {
+        return idempotencyKeyRepositoryPort.findByKey(key)
+            .flatMap(record -> transactionRepositoryPort.findById(record.getTransactionId())
+                .switchIfEmpty(Mono.error(new TransactionNotFoundException(
+                    record.getTransactionId(), "Transaction not found")))
+                .map(transaction -> new Outcome(record.getRequestHash(), transaction, true)));
+    }
+    
+    // Same movement, same hash: amounts are compared by value so 100 and 100.00 are one request
+    static String fingerprint(CreateTransactionCommand command) {
+        String canonical = command.getAccountNumber() + '\n'
+            + command.getTransactionType() + '\n'
+            + command.getAmount().stripTrailingZeros().toPlainString();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    private record Outcome(String requestHash, Transaction transaction, boolean replayed) {
+    }
+}
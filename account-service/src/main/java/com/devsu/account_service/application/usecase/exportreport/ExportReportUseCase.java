@@ -0,0 +1,31 @@
+package com.devsu.account_service.application.usecase.exportreport;
+
+import com.devsu.account_service.application.usecase.generatereport.GenerateReportQuery;
+import com.devsu.account_service.domain.exception.ClientNotFoundException;
+import com.devsu.account_service.domain.model.StatementLine;
+import com.devsu.account_service.domain.port.in.ExportReportPort;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+@Component
+@RequiredArgsConstructor
+public class ExportReportUseCase implements ExportReportPort {
+    private final AccountRepositoryPort accountRepositoryPort;
+    
+    @Override
+    public Flux<StatementLine> execute(GenerateReportQuery query) {
+        return accountRepositoryPort.findByClientId(query.getClientId())
+            .hasElements()
+            .flatMapMany(hasAccounts -> hasAccounts
+                ? accountRepositoryPort.findStatementLines(
+                    query.getClientId(),
+                    query.getStartDate(),
+                    query.getEndDate()
+                )
+                : Flux.error(new ClientNotFoundException(
+                    query.getClientId(),
+                    "No accounts found for this client")));
+    }
+}
@@ -5,7 +5,7 @@ import com.devsu.account_service.adapter.in.web.mapper.ReportMapper;
 import com.devsu.account_service.domain.exception.ClientNotFoundException;
 import com.devsu.account_service.domain.port.in.GenerateReportPort;
 import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
-import com.devsu.account_service.domain.port.out.TransactionRepositoryPort;
+import com.devsu.account_service.domain.port.out.DailyBalanceRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
@@ -14,33 +14,32 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class GenerateReportUseCase implements GenerateReportPort {
     private final AccountRepositoryPort accountRepositoryPort;
-    private final TransactionRepositoryPort transactionRepositoryPort;
+    private final DailyBalanceRepositoryPort dailyBalanceRepositoryPort;
     private final ReportMapper reportMapper;
     
     @Override
     public Mono<ReportResponse> execute(GenerateReportQuery query) {
-        return accountRepositoryPort.findByClientId(query.getClientId())
+        return reportMapper.toReportResponse(
+                accountRepositoryPort.findStatementLines(
+                    query.getClientId(),
+                    query.getStartDate(),
+                    query.getEndDate()
+                )
+            )
             .switchIfEmpty(Mono.error(new ClientNotFoundException(
                 query.getClientId(),
                 "No accounts found for this client")))
-            .next()
-            .flatMap(firstAccount -> 
-                accountRepositoryPort.findByClientId(query.getClientId())
-                    .flatMap(account -> 
-                        transactionRepositoryPort.findByAccountNumberAndDateBetween(
-                            account.getAccountNumber(),
-                            query.getStartDate(),
-                            query.getEndDate()
-                        )
-                        .collectList()
-                        .map(transactions -> reportMapper.toAccountStatement(account, transactions))
-                    )
-                    .collectList()
-                    .map(accountStatements -> reportMapper.toReportResponse(
-                        firstAccount.getClientId(),
-                        firstAccount.getClientName(),
-                        accountStatements
-                    ))
-            );
+            .flatMap(report -> dailyBalanceRepositoryPort.findForClient(
+                    query.getClientId(),
+                    query.getStartDate().toLocalDate(),
+                    query.getEndDate().toLocalDate()
+                )
+                .collectList()
+                .map(balances -> reportMapper.applyDailyBalances(
+                    report,
+                    balances,
+                    query.getStartDate().toLocalDate(),
+                    query.getEndDate().toLocalDate()
+                )));
     }
 }
@@ -0,0 +1,14 @@
+package com.devsu.account_service.application.usecase.getallaccounts;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetAllAccountsQuery {
+    private String clientId;
+    private Long afterId;
+    private Integer limit;
+}
@@ -13,7 +13,8 @@ public class GetAllAccountsUseCase implements GetAllAccountsPort {
     private final AccountRepositoryPort accountRepositoryPort;
     
     @Override
-    public Flux<Account> execute(Void input) {
-        return accountRepositoryPort.findAll();
+    public Flux<Account> execute(GetAllAccountsQuery query) {
+        GetAllAccountsQuery criteria = query != null ? query : new GetAllAccountsQuery();
+        return accountRepositoryPort.findPage(criteria.getClientId(), criteria.getAfterId(), criteria.getLimit());
     }
 }
@@ -0,0 +1,18 @@
+package com.devsu.account_service.application.usecase.getalltransactions;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetAllTransactionsQuery {
+    private String accountNumber;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private Long afterId;
+    private Integer limit;
+}
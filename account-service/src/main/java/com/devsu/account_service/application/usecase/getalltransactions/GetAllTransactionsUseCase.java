@@ -13,7 +13,14 @@ public class GetAllTransactionsUseCase implements GetAllTransactionsPort {
     private final TransactionRepositoryPort transactionRepositoryPort;
     
     @Override
-    public Flux<Transaction> execute(Void input) {
-        return transactionRepositoryPort.findAll();
+    public Flux<Transaction> execute(GetAllTransactionsQuery query) {
+        GetAllTransactionsQuery criteria = query != null ? query : new GetAllTransactionsQuery();
+        return transactionRepositoryPort.findPage(
+            criteria.getAccountNumber(),
+            criteria.getStartDate(),
+            criteria.getEndDate(),
+            criteria.getAfterId(),
+            criteria.getLimit()
+        );
     }
 }
@@ -0,0 +1,27 @@
+package com.devsu.account_service.application.usecase.purgeidempotencykeys;
+
+import com.devsu.account_service.domain.port.in.PurgeIdempotencyKeysPort;
+import com.devsu.account_service.domain.port.out.IdempotencyKeyRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PurgeIdempotencyKeysUseCase implements PurgeIdempotencyKeysPort {
+    private final IdempotencyKeyRepositoryPort idempotencyKeyRepositoryPort;
+    
+    @Override
+    public Mono<Long> execute(LocalDateTime now) {
+        return idempotencyKeyRepositoryPort.deleteExpired(now)
+            .doOnNext(purged -> {
+                if (purged > 0) {
+                    log.debug("Purged {} expired idempotency keys", purged);
+                }
+            });
+    }
+}
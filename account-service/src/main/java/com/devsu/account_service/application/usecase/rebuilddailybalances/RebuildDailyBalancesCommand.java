@@ -0,0 +1,15 @@
+package com.devsu.account_service.application.usecase.rebuilddailybalances;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RebuildDailyBalancesCommand {
+    private String accountNumber;
+    private LocalDate fromDate;
+}
@@ -0,0 +1,33 @@
+package com.devsu.account_service.application.usecase.rebuilddailybalances;
+
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.port.in.RebuildDailyBalancesPort;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import com.devsu.account_service.domain.port.out.DailyBalanceRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RebuildDailyBalancesUseCase implements RebuildDailyBalancesPort {
+    private final AccountRepositoryPort accountRepositoryPort;
+    private final DailyBalanceRepositoryPort dailyBalanceRepositoryPort;
+    
+    @Override
+    public Mono<Long> execute(RebuildDailyBalancesCommand command) {
+        RebuildDailyBalancesCommand criteria = command != null ? command : new RebuildDailyBalancesCommand();
+        
+        if (criteria.getAccountNumber() != null) {
+            return dailyBalanceRepositoryPort.rebuild(criteria.getAccountNumber(), criteria.getFromDate());
+        }
+        
+        return accountRepositoryPort.findAll()
+            .map(Account::getAccountNumber)
+            .concatMap(accountNumber -> dailyBalanceRepositoryPort.rebuild(accountNumber, criteria.getFromDate()))
+            .reduce(0L, Long::sum)
+            .doOnNext(days -> log.info("Rebuilt {} daily balance snapshots", days));
+    }
+}
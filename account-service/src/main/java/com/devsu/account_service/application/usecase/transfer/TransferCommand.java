@@ -0,0 +1,16 @@
+package com.devsu.account_service.application.usecase.transfer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransferCommand {
+    private String sourceAccountNumber;
+    private String targetAccountNumber;
+    private BigDecimal amount;
+}
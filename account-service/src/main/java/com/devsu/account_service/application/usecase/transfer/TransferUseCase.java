@@ -0,0 +1,50 @@
+package com.devsu.account_service.application.usecase.transfer;
+
+import com.devsu.account_service.domain.exception.InvalidTransferException;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.model.Transfer;
+import com.devsu.account_service.domain.port.in.TransferPort;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class TransferUseCase implements TransferPort {
+    private static final String TRANSFER_TYPE = "Transferencia";
+    
+    private final AccountRepositoryPort accountRepositoryPort;
+    
+    @Override
+    public Mono<Transfer> execute(TransferCommand command) {
+        if (command.getSourceAccountNumber().equals(command.getTargetAccountNumber())) {
+            return Mono.error(new InvalidTransferException("Source and target accounts must be different"));
+        }
+        if (command.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            return Mono.error(new InvalidTransferException("Transfer amount must be positive"));
+        }
+        
+        // Both legs share the timestamp and the correlation id that ties them together in the ledger
+        LocalDateTime now = LocalDateTime.now();
+        String correlationId = UUID.randomUUID().toString();
+        Transaction debit = leg(command.getSourceAccountNumber(), command.getAmount().negate(), now, correlationId);
+        Transaction credit = leg(command.getTargetAccountNumber(), command.getAmount(), now, correlationId);
+        
+        return accountRepositoryPort.postTransfer(new Transfer(correlationId, debit, credit));
+    }
+    
+    private Transaction leg(String accountNumber, BigDecimal amount, LocalDateTime date, String correlationId) {
+        Transaction transaction = new Transaction();
+        transaction.setDate(date);
+        transaction.setTransactionType(TRANSFER_TYPE);
+        transaction.setAmount(amount);
+        transaction.setAccountNumber(accountNumber);
+        transaction.setCorrelationId(correlationId);
+        return transaction;
+    }
+}
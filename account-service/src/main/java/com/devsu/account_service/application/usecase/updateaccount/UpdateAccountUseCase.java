@@ -1,5 +1,6 @@
 package com.devsu.account_service.application.usecase.updateaccount;
 
+import com.devsu.account_service.application.retry.ConflictRetryPolicies;
 import com.devsu.account_service.domain.exception.AccountNotFoundException;
 import com.devsu.account_service.domain.model.Account;
 import com.devsu.account_service.domain.port.in.UpdateAccountPort;
@@ -11,22 +12,27 @@ import reactor.core.publisher.Mono;
 @Component
 @RequiredArgsConstructor
 public class UpdateAccountUseCase implements UpdateAccountPort {
+    private static final String USE_CASE = "UpdateAccountUseCase";
+    
     private final AccountRepositoryPort accountRepositoryPort;
+    private final ConflictRetryPolicies conflictRetryPolicies;
     
     @Override
     public Mono<Account> execute(UpdateAccountCommand command) {
-        return accountRepositoryPort.findByAccountNumber(command.getAccountNumber())
-            .switchIfEmpty(Mono.error(new AccountNotFoundException(
-                command.getAccountNumber(),
-                "Account not found")))
-            .flatMap(existingAccount -> {
-                if (command.getAccount().getAccountType() != null) {
-                    existingAccount.setAccountType(command.getAccount().getAccountType());
-                }
-                if (command.getAccount().getStatus() != null) {
-                    existingAccount.setStatus(command.getAccount().getStatus());
-                }
-                return accountRepositoryPort.save(existingAccount);
-            });
+        // Postings never move the version, so only a concurrent metadata edit sends this back to a re-read
+        return conflictRetryPolicies.forUseCase(USE_CASE).execute(() ->
+            accountRepositoryPort.findByAccountNumberUncached(command.getAccountNumber())
+                .switchIfEmpty(Mono.error(new AccountNotFoundException(
+                    command.getAccountNumber(),
+                    "Account not found")))
+                .flatMap(existingAccount -> {
+                    if (command.getAccount().getAccountType() != null) {
+                        existingAccount.setAccountType(command.getAccount().getAccountType());
+                    }
+                    if (command.getAccount().getStatus() != null) {
+                        existingAccount.setStatus(command.getAccount().getStatus());
+                    }
+                    return accountRepositoryPort.save(existingAccount);
+                }));
     }
 }
@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -11,4 +13,5 @@ public class UpdateClientInfoCommand {
     private String clientId;
     private String clientName;
     private Boolean clientStatus;
+    private LocalDateTime changedAt;
 }
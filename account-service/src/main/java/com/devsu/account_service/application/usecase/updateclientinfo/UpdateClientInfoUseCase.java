@@ -15,17 +15,14 @@ public class UpdateClientInfoUseCase implements UpdateClientInfoPort {
     
     @Override
     public Mono<Void> execute(UpdateClientInfoCommand command) {
-        return accountRepositoryPort.findByClientId(command.getClientId())
-            .flatMap(account -> {
-                account.setClientName(command.getClientName());
-                account.setClientStatus(command.getClientStatus());
-                return accountRepositoryPort.save(account);
-            })
-            .then()
-            .doOnSuccess(v -> log.info("Updated client info for clientId: {}", command.getClientId()))
-            .onErrorResume(e -> {
-                log.error("Error updating client info for clientId: {}", command.getClientId(), e);
-                return Mono.empty();
-            });
+        return accountRepositoryPort.updateClientInfo(
+                command.getClientId(),
+                command.getClientName(),
+                command.getClientStatus(),
+                command.getChangedAt())
+            .doOnSuccess(updated -> log.info("Updated client info on {} accounts for clientId: {}",
+                updated, command.getClientId()))
+            .doOnError(e -> log.error("Error updating client info for clientId: {}", command.getClientId(), e))
+            .then();
     }
 }
@@ -1,13 +1,15 @@
 package com.devsu.account_service.application.usecase.updatetransaction;
 
-import com.devsu.account_service.domain.exception.InsufficientBalanceException;
+import com.devsu.account_service.application.retry.ConflictRetryPolicies;
 import com.devsu.account_service.domain.exception.TransactionNotFoundException;
 import com.devsu.account_service.domain.model.Transaction;
 import com.devsu.account_service.domain.port.in.UpdateTransactionPort;
 import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import com.devsu.account_service.domain.port.out.DailyBalanceRepositoryPort;
 import com.devsu.account_service.domain.port.out.TransactionRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
@@ -15,11 +17,23 @@ import java.math.BigDecimal;
 @Component
 @RequiredArgsConstructor
 public class UpdateTransactionUseCase implements UpdateTransactionPort {
+    private static final String USE_CASE = "UpdateTransactionUseCase";
+    
     private final TransactionRepositoryPort transactionRepositoryPort;
     private final AccountRepositoryPort accountRepositoryPort;
+    private final DailyBalanceRepositoryPort dailyBalanceRepositoryPort;
+    private final TransactionalOperator transactionalOperator;
+    private final ConflictRetryPolicies conflictRetryPolicies;
     
+    // The balance delta and the versioned movement write commit together; a conflict on the movement
+    // rolls back the attempt and the retry recomputes the difference from a freshly read movement.
     @Override
     public Mono<Transaction> execute(UpdateTransactionCommand command) {
+        return conflictRetryPolicies.forUseCase(USE_CASE)
+            .execute(() -> amend(command).as(transactionalOperator::transactional));
+    }
+    
+    private Mono<Transaction> amend(UpdateTransactionCommand command) {
         return transactionRepositoryPort.findById(command.getId())
             .switchIfEmpty(Mono.error(new TransactionNotFoundException(
                 command.getId(),
@@ -29,23 +43,25 @@ public class UpdateTransactionUseCase implements UpdateTransactionPort {
                 BigDecimal newAmount = command.getAmount();
                 BigDecimal difference = newAmount.subtract(oldAmount);
                 
-                return accountRepositoryPort.findByAccountNumber(existingTransaction.getAccountNumber())
-                    .flatMap(account -> {
-                        BigDecimal newBalance = account.getBalance().add(difference);
-                        
-                        if (newBalance.compareTo(BigDecimal.ZERO) < 0) {
-                            return Mono.error(new InsufficientBalanceException(
-                                "Saldo no disponible"));
-                        }
-                        
-                        account.setBalance(newBalance);
+                String accountNumber = existingTransaction.getAccountNumber();
+                
+                // The delta locks the account row, so the running balance re-read after it already carries
+                // every earlier amendment; this movement and every later one move by the same difference
+                return accountRepositoryPort.applyBalanceDelta(accountNumber, difference)
+                    .then(transactionRepositoryPort.findById(existingTransaction.getId()))
+                    .flatMap(current -> {
                         existingTransaction.setAmount(newAmount);
-                        existingTransaction.setBalance(newBalance);
+                        existingTransaction.setBalance(current.getBalance().add(difference));
                         existingTransaction.setTransactionType(command.getTransactionType());
                         
-                        return accountRepositoryPort.save(account)
-                            .then(transactionRepositoryPort.save(existingTransaction));
-                    });
+                        return transactionRepositoryPort.save(existingTransaction);
+                    })
+                    .flatMap(savedTransaction -> transactionRepositoryPort
+                        .shiftBalancesAfter(accountNumber, savedTransaction.getId(), difference)
+                        .then(dailyBalanceRepositoryPort.rebuild(
+                            accountNumber,
+                            savedTransaction.getDate().toLocalDate()))
+                        .thenReturn(savedTransaction));
             });
     }
 }
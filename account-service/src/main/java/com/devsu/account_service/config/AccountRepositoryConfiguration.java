@@ -0,0 +1,42 @@
+package com.devsu.account_service.config;
+
+import com.devsu.account_service.adapter.out.cache.CachingAccountRepositoryAdapter;
+import com.devsu.account_service.adapter.out.messaging.ChangePublishingAccountRepositoryAdapter;
+import com.devsu.account_service.adapter.out.persistence.AccountRepositoryAdapter;
+import com.devsu.account_service.domain.port.out.AccountChangeEventPort;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+@Configuration
+public class AccountRepositoryConfiguration {
+    
+    // Database adapter, then the optional lookup cache, then change announcements on the outside
+    @Bean
+    @Primary
+    public AccountRepositoryPort accountRepositoryPort(
+            AccountRepositoryAdapter accountRepositoryAdapter,
+            ObjectProvider<CachingAccountRepositoryAdapter> accountCache,
+            AccountChangeEventPort accountChangeEventPort) {
+        CachingAccountRepositoryAdapter cache = accountCache.getIfAvailable();
+        AccountRepositoryPort port = cache != null ? cache : accountRepositoryAdapter;
+        return new ChangePublishingAccountRepositoryAdapter(port, accountChangeEventPort);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "account.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CachingAccountRepositoryAdapter accountCache(
+            AccountRepositoryAdapter accountRepositoryAdapter,
+            MeterRegistry meterRegistry,
+            @Value("${account.cache.maximum-size:10000}") long maximumSize,
+            @Value("${account.cache.ttl:30s}") Duration timeToLive) {
+        return new CachingAccountRepositoryAdapter(accountRepositoryAdapter, meterRegistry, maximumSize, timeToLive);
+    }
+}
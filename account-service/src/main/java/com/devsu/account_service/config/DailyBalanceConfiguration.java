@@ -0,0 +1,18 @@
+package com.devsu.account_service.config;
+
+import com.devsu.account_service.application.usecase.rebuilddailybalances.RebuildDailyBalancesCommand;
+import com.devsu.account_service.domain.port.in.RebuildDailyBalancesPort;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DailyBalanceConfiguration {
+    
+    @Bean
+    @ConditionalOnProperty(name = "account.daily-balance.backfill-on-startup", havingValue = "true")
+    public ApplicationRunner dailyBalanceBackfill(RebuildDailyBalancesPort rebuildDailyBalancesPort) {
+        return args -> rebuildDailyBalancesPort.execute(new RebuildDailyBalancesCommand()).block();
+    }
+}
@@ -0,0 +1,54 @@
+package com.devsu.account_service.config;
+
+import com.devsu.account_service.config.metrics.OperationTimer;
+import com.devsu.account_service.config.metrics.RepositoryPortMetricsAspect;
+import com.devsu.account_service.config.metrics.TimedConnectionFactory;
+import com.devsu.account_service.config.metrics.UseCaseMetricsAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+@Configuration
+@ConditionalOnProperty(name = "metrics.hot-path.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfiguration {
+    
+    @Bean
+    public OperationTimer operationTimer(MeterRegistry meterRegistry) {
+        return new OperationTimer(meterRegistry);
+    }
+    
+    @Bean
+    public UseCaseMetricsAspect useCaseMetricsAspect(
+            OperationTimer operationTimer,
+            @Value("${metrics.hot-path.histogram-operations:}") Set<String> histogramOperations) {
+        return new UseCaseMetricsAspect(operationTimer, histogramOperations);
+    }
+    
+    @Bean
+    public RepositoryPortMetricsAspect repositoryPortMetricsAspect(
+            OperationTimer operationTimer,
+            @Value("${metrics.hot-path.histogram-operations:}") Set<String> histogramOperations) {
+        return new RepositoryPortMetricsAspect(operationTimer, histogramOperations);
+    }
+    
+    // Static so wrapping the connection factory does not force this configuration to initialize early
+    @Bean
+    public static BeanPostProcessor timedConnectionFactoryPostProcessor(ObjectProvider<OperationTimer> operationTimer) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ConnectionFactory connectionFactory && !(bean instanceof TimedConnectionFactory)) {
+                    return new TimedConnectionFactory(connectionFactory, operationTimer.getObject(), beanName);
+                }
+                return bean;
+            }
+        };
+    }
+}
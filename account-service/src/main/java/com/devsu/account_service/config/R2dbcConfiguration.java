@@ -0,0 +1,52 @@
+package com.devsu.account_service.config;
+
+import com.devsu.account_service.config.metrics.ConnectionPoolHealthIndicator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Option;
+import io.r2dbc.spi.Wrapped;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.r2dbc.ConnectionFactoryOptionsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// Pool sizing, acquire/idle timeouts and validation come from spring.r2dbc.pool.* in application.properties
+@Configuration
+public class R2dbcConfiguration {
+    private static final Option<Integer> PREPARED_STATEMENT_CACHE_QUERIES = Option.valueOf("preparedStatementCacheQueries");
+    
+    @Bean
+    public ConnectionFactoryOptionsBuilderCustomizer preparedStatementCacheCustomizer(
+            @Value("${spring.r2dbc.url:}") String url,
+            @Value("${r2dbc.prepared-statement-cache-size:256}") int preparedStatementCacheSize) {
+        // Driver-specific option, so it is only set for PostgreSQL
+        return builder -> {
+            if (url.contains(":postgresql:")) {
+                builder.option(PREPARED_STATEMENT_CACHE_QUERIES, preparedStatementCacheSize);
+            }
+        };
+    }
+    
+    @Bean
+    public ConnectionPoolHealthIndicator connectionPoolHealthIndicator(
+            ConnectionFactory connectionFactory,
+            MeterRegistry meterRegistry,
+            @Value("${r2dbc.pool.health.acquire-threshold:500ms}") Duration acquireThreshold) {
+        return new ConnectionPoolHealthIndicator(poolMetrics(connectionFactory), meterRegistry,
+            "connectionFactory", acquireThreshold);
+    }
+    
+    private PoolMetrics poolMetrics(Object connectionFactory) {
+        if (connectionFactory instanceof ConnectionPool pool) {
+            return pool.getMetrics().orElse(null);
+        }
+        if (connectionFactory instanceof Wrapped<?> wrapped) {
+            return poolMetrics(wrapped.unwrap());
+        }
+        return null;
+    }
+}
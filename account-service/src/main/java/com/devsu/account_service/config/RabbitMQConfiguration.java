@@ -1,12 +1,20 @@
 package com.devsu.account_service.config;
 
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -16,15 +24,63 @@ public class RabbitMQConfiguration {
     @Value("${rabbitmq.queue.client-updated}")
     private String clientUpdatedQueue;
     
+    @Value("${rabbitmq.queue.client-updated-retry}")
+    private String clientUpdatedRetryQueue;
+    
+    @Value("${rabbitmq.queue.client-updated-dlq}")
+    private String clientUpdatedDeadLetterQueue;
+    
     @Value("${rabbitmq.exchange.client}")
     private String clientExchange;
     
+    @Value("${rabbitmq.exchange.account}")
+    private String accountExchange;
+    
+    @Value("${rabbitmq.routing-key.account-changed}")
+    private String accountChangedRoutingKey;
+    
+    @Value("${rabbitmq.exchange.client-dlx}")
+    private String clientDeadLetterExchange;
+    
     @Value("${rabbitmq.routing-key.client-updated}")
     private String clientUpdatedRoutingKey;
     
+    @Value("${rabbitmq.listener.client-updated.consumers:2}")
+    private int clientUpdatedConsumers;
+    
+    @Value("${rabbitmq.listener.client-updated.prefetch:100}")
+    private int clientUpdatedPrefetch;
+    
+    @Value("${rabbitmq.listener.client-updated.batch-size:100}")
+    private int clientUpdatedBatchSize;
+    
+    @Value("${rabbitmq.listener.client-updated.batch-window-ms:500}")
+    private long clientUpdatedBatchWindowMs;
+    
+    @Value("${rabbitmq.listener.client-updated.retry-delay-ms:5000}")
+    private long clientUpdatedRetryDelayMs;
+    
     @Bean
     public Queue clientUpdatedQueue() {
-        return new Queue(clientUpdatedQueue, true);
+        return QueueBuilder.durable(clientUpdatedQueue)
+            .deadLetterExchange(clientDeadLetterExchange)
+            .deadLetterRoutingKey(clientUpdatedRetryQueue)
+            .build();
+    }
+    
+    @Bean
+    public Queue clientUpdatedRetryQueue() {
+        // Expired retries go back to the main queue through the default exchange
+        return QueueBuilder.durable(clientUpdatedRetryQueue)
+            .ttl((int) clientUpdatedRetryDelayMs)
+            .deadLetterExchange("")
+            .deadLetterRoutingKey(clientUpdatedQueue)
+            .build();
+    }
+    
+    @Bean
+    public Queue clientUpdatedDeadLetterQueue() {
+        return QueueBuilder.durable(clientUpdatedDeadLetterQueue).build();
     }
     
     @Bean
@@ -32,6 +88,16 @@ public class RabbitMQConfiguration {
         return new TopicExchange(clientExchange);
     }
     
+    @Bean
+    public TopicExchange accountExchange() {
+        return new TopicExchange(accountExchange);
+    }
+    
+    @Bean
+    public DirectExchange clientDeadLetterExchange() {
+        return new DirectExchange(clientDeadLetterExchange);
+    }
+    
     @Bean
     public Binding clientUpdatedBinding() {
         return BindingBuilder
@@ -40,8 +106,58 @@ public class RabbitMQConfiguration {
             .with(clientUpdatedRoutingKey);
     }
     
+    @Bean
+    public Binding clientUpdatedRetryBinding() {
+        return BindingBuilder
+            .bind(clientUpdatedRetryQueue())
+            .to(clientDeadLetterExchange())
+            .with(clientUpdatedRetryQueue);
+    }
+    
+    @Bean
+    public Binding clientUpdatedDeadLetterBinding() {
+        return BindingBuilder
+            .bind(clientUpdatedDeadLetterQueue())
+            .to(clientDeadLetterExchange())
+            .with(clientUpdatedDeadLetterQueue);
+    }
+    
+    // One queue per replica, so every replica's account cache hears about changes made on the others
+    @Bean
+    @ConditionalOnProperty(name = "account.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public Queue accountCacheQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("account.cache."));
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "account.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public Binding accountCacheBinding() {
+        return BindingBuilder
+            .bind(accountCacheQueue())
+            .to(accountExchange())
+            .with(accountChangedRoutingKey);
+    }
+    
     @Bean
     public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
     }
+    
+    @Bean
+    public SimpleRabbitListenerContainerFactory clientUpdatedListenerContainerFactory(
+            ConnectionFactory connectionFactory, MessageConverter jsonMessageConverter) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(jsonMessageConverter);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setDefaultRequeueRejected(false);
+        factory.setConcurrentConsumers(clientUpdatedConsumers);
+        factory.setMaxConcurrentConsumers(clientUpdatedConsumers);
+        factory.setPrefetchCount(Math.max(clientUpdatedPrefetch, clientUpdatedBatchSize));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(clientUpdatedBatchSize);
+        factory.setReceiveTimeout(clientUpdatedBatchWindowMs);
+        return factory;
+    }
 }
@@ -0,0 +1,36 @@
+package com.devsu.account_service.config.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import java.util.Set;
+
+// The adapter tag separates the caching decorator from the database adapter behind it
+@Aspect
+@RequiredArgsConstructor
+public class RepositoryPortMetricsAspect {
+    private final OperationTimer operationTimer;
+    private final Set<String> histogramOperations;
+    
+    @Around("execution(* com.devsu.account_service.domain.port.out.AccountRepositoryPort.*(..))")
+    public Object timeAccountRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("AccountRepositoryPort", joinPoint);
+    }
+    
+    @Around("execution(* com.devsu.account_service.domain.port.out.TransactionRepositoryPort.*(..))")
+    public Object timeTransactionRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("TransactionRepositoryPort", joinPoint);
+    }
+    
+    private Object time(String port, ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = port + "." + joinPoint.getSignature().getName();
+        Tags tags = Tags.of(
+            "operation", operation,
+            "adapter", joinPoint.getTarget().getClass().getSimpleName()
+        );
+        return operationTimer.record("repository.port", tags, histogramOperations.contains(operation), joinPoint::proceed);
+    }
+}
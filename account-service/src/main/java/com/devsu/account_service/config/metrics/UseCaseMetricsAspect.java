@@ -0,0 +1,24 @@
+package com.devsu.account_service.config.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import java.util.Set;
+
+// Times every UseCase.execute implementation as usecase.execute{operation=<use case class>}
+@Aspect
+@RequiredArgsConstructor
+public class UseCaseMetricsAspect {
+    private final OperationTimer operationTimer;
+    private final Set<String> histogramOperations;
+    
+    @Around("execution(* com.devsu.account_service.domain.usecase.UseCase.execute(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getTarget().getClass().getSimpleName();
+        return operationTimer.record("usecase.execute", Tags.of("operation", operation),
+            histogramOperations.contains(operation), joinPoint::proceed);
+    }
+}
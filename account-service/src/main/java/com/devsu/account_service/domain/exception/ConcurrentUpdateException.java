@@ -0,0 +1,15 @@
+package com.devsu.account_service.domain.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ConcurrentUpdateException extends RuntimeException {
+    private final String resourceId;
+    private final String nextSteps;
+    
+    public ConcurrentUpdateException(String resourceId, String message) {
+        super(message);
+        this.resourceId = resourceId;
+        this.nextSteps = "Please reload the resource and apply your changes again.";
+    }
+}
@@ -0,0 +1,13 @@
+package com.devsu.account_service.domain.exception;
+
+import lombok.Getter;
+
+@Getter
+public class DuplicateIdempotencyKeyException extends RuntimeException {
+    private final String idempotencyKey;
+    
+    public DuplicateIdempotencyKeyException(String idempotencyKey, String message) {
+        super(message);
+        this.idempotencyKey = idempotencyKey;
+    }
+}
@@ -0,0 +1,15 @@
+package com.devsu.account_service.domain.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidIdempotencyKeyException extends RuntimeException {
+    private final String idempotencyKey;
+    private final String nextSteps;
+    
+    public InvalidIdempotencyKeyException(String idempotencyKey, String message) {
+        super(message);
+        this.idempotencyKey = idempotencyKey;
+        this.nextSteps = "Send a new Idempotency-Key for each movement and reuse it only to retry that same request.";
+    }
+}
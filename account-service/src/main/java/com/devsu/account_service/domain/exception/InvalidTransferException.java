@@ -0,0 +1,13 @@
+package com.devsu.account_service.domain.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidTransferException extends RuntimeException {
+    private final String nextSteps;
+    
+    public InvalidTransferException(String message) {
+        super(message);
+        this.nextSteps = "Please provide two different accounts and a positive amount.";
+    }
+}
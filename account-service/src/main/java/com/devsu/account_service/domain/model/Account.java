@@ -18,6 +18,12 @@ public class Account {
     private String clientId;
     private String clientName;
     private Boolean clientStatus;
+    private Long version;
+    
+    public Account(Long id, String accountNumber, AccountType accountType, BigDecimal balance, Boolean status,
+                   String clientId, String clientName, Boolean clientStatus) {
+        this(id, accountNumber, accountType, balance, status, clientId, clientName, clientStatus, null);
+    }
     
     public void deposit(BigDecimal amount) {
         if (amount.compareTo(BigDecimal.ZERO) <= 0) {
@@ -0,0 +1,15 @@
+package com.devsu.account_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkPostingResult {
+    private long index;
+    private Transaction transaction;
+    private boolean rejected;
+    private String reason;
+}
@@ -0,0 +1,17 @@
+package com.devsu.account_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyBalanceMismatch {
+    private String accountNumber;
+    private LocalDate balanceDate;
+    private DailyBalance snapshot;
+    private DailyBalance ledger;
+}
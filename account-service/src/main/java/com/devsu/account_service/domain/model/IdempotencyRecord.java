@@ -0,0 +1,18 @@
+package com.devsu.account_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+    private String key;
+    private String requestHash;
+    private Long transactionId;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,26 @@
+package com.devsu.account_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostingResult {
+    private Transaction transaction;
+    private boolean rejected;
+    private String reason;
+    
+    public static PostingResult posted(Transaction transaction) {
+        return new PostingResult(transaction, false, null);
+    }
+    
+    public static PostingResult rejected(Transaction transaction) {
+        return new PostingResult(transaction, true, null);
+    }
+    
+    public static PostingResult rejected(Transaction transaction, String reason) {
+        return new PostingResult(transaction, true, reason);
+    }
+}
@@ -17,6 +17,13 @@ public class Transaction {
     private BigDecimal amount;
     private BigDecimal balance;
     private String accountNumber;
+    private String correlationId;
+    private Long version;
+    
+    public Transaction(Long id, LocalDateTime date, String transactionType, BigDecimal amount, BigDecimal balance,
+                       String accountNumber) {
+        this(id, date, transactionType, amount, balance, accountNumber, null, null);
+    }
     
     public boolean isDeposit() {
         return amount.compareTo(BigDecimal.ZERO) > 0;
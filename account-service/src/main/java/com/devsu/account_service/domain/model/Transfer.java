@@ -0,0 +1,14 @@
+package com.devsu.account_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Transfer {
+    private String correlationId;
+    private Transaction debit;
+    private Transaction credit;
+}
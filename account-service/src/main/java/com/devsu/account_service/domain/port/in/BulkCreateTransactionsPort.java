@@ -0,0 +1,9 @@
+package com.devsu.account_service.domain.port.in;
+
+import com.devsu.account_service.application.usecase.bulkcreatetransactions.BulkTransactionCommand;
+import com.devsu.account_service.domain.model.BulkPostingResult;
+import com.devsu.account_service.domain.usecase.UseCase;
+import reactor.core.publisher.Flux;
+
+public interface BulkCreateTransactionsPort extends UseCase<Flux<BulkTransactionCommand>, Flux<BulkPostingResult>> {
+}
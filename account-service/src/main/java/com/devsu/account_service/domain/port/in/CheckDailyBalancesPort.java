@@ -0,0 +1,8 @@
+package com.devsu.account_service.domain.port.in;
+
+import com.devsu.account_service.domain.model.DailyBalanceMismatch;
+import com.devsu.account_service.domain.usecase.UseCase;
+import reactor.core.publisher.Flux;
+
+public interface CheckDailyBalancesPort extends UseCase<Void, Flux<DailyBalanceMismatch>> {
+}
@@ -0,0 +1,9 @@
+package com.devsu.account_service.domain.port.in;
+
+import com.devsu.account_service.application.usecase.generatereport.GenerateReportQuery;
+import com.devsu.account_service.domain.model.StatementLine;
+import com.devsu.account_service.domain.usecase.UseCase;
+import reactor.core.publisher.Flux;
+
+public interface ExportReportPort extends UseCase<GenerateReportQuery, Flux<StatementLine>> {
+}
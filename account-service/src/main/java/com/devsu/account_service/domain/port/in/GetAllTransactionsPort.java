@@ -1,8 +1,9 @@
 package com.devsu.account_service.domain.port.in;
 
+import com.devsu.account_service.application.usecase.getalltransactions.GetAllTransactionsQuery;
 import com.devsu.account_service.domain.model.Transaction;
 import com.devsu.account_service.domain.usecase.UseCase;
 import reactor.core.publisher.Flux;
 
-public interface GetAllTransactionsPort extends UseCase<Void, Flux<Transaction>> {
+public interface GetAllTransactionsPort extends UseCase<GetAllTransactionsQuery, Flux<Transaction>> {
 }
@@ -0,0 +1,9 @@
+package com.devsu.account_service.domain.port.in;
+
+import com.devsu.account_service.application.usecase.createtransaction.IdempotentCreateTransactionCommand;
+import com.devsu.account_service.domain.model.IdempotentPosting;
+import com.devsu.account_service.domain.usecase.UseCase;
+import reactor.core.publisher.Mono;
+
+public interface IdempotentCreateTransactionPort extends UseCase<IdempotentCreateTransactionCommand, Mono<IdempotentPosting>> {
+}
@@ -0,0 +1,9 @@
+package com.devsu.account_service.domain.port.in;
+
+import com.devsu.account_service.domain.usecase.UseCase;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface PurgeIdempotencyKeysPort extends UseCase<LocalDateTime, Mono<Long>> {
+}
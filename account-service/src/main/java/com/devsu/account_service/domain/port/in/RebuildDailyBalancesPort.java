@@ -0,0 +1,8 @@
+package com.devsu.account_service.domain.port.in;
+
+import com.devsu.account_service.application.usecase.rebuilddailybalances.RebuildDailyBalancesCommand;
+import com.devsu.account_service.domain.usecase.UseCase;
+import reactor.core.publisher.Mono;
+
+public interface RebuildDailyBalancesPort extends UseCase<RebuildDailyBalancesCommand, Mono<Long>> {
+}
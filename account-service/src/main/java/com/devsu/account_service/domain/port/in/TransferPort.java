@@ -0,0 +1,9 @@
+package com.devsu.account_service.domain.port.in;
+
+import com.devsu.account_service.application.usecase.transfer.TransferCommand;
+import com.devsu.account_service.domain.model.Transfer;
+import com.devsu.account_service.domain.usecase.UseCase;
+import reactor.core.publisher.Mono;
+
+public interface TransferPort extends UseCase<TransferCommand, Mono<Transfer>> {
+}
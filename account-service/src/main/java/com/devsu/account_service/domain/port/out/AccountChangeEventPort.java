@@ -0,0 +1,5 @@
+package com.devsu.account_service.domain.port.out;
+
+public interface AccountChangeEventPort {
+    void accountChanged(String accountNumber);
+}
@@ -1,13 +1,30 @@
 package com.devsu.account_service.domain.port.out;
 
 import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.PostingResult;
+import com.devsu.account_service.domain.model.StatementLine;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.model.Transfer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface AccountRepositoryPort {
     Mono<Account> save(Account account);
     Flux<Account> findAll();
+    Flux<Account> findPage(String clientId, Long afterId, Integer limit);
     Mono<Account> findByAccountNumber(String accountNumber);
+    Mono<Account> findByAccountNumberUncached(String accountNumber);
     Mono<Boolean> existsByAccountNumber(String accountNumber);
     Flux<Account> findByClientId(String clientId);
+    Mono<Long> updateClientInfo(String clientId, String clientName, Boolean clientStatus, LocalDateTime changedAt);
+    Flux<StatementLine> findStatementLines(String clientId, LocalDateTime startDate, LocalDateTime endDate);
+    Mono<BigDecimal> applyBalanceDelta(String accountNumber, BigDecimal amount);
+    Mono<Transaction> postTransaction(Transaction transaction);
+    Mono<List<PostingResult>> postTransactions(String accountNumber, List<Transaction> transactions);
+    Mono<Transfer> postTransfer(Transfer transfer);
+    Mono<List<PostingResult>> postTransactionChunk(List<Transaction> transactions);
 }
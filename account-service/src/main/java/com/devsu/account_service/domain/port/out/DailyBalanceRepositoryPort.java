@@ -0,0 +1,14 @@
+package com.devsu.account_service.domain.port.out;
+
+import com.devsu.account_service.domain.model.DailyBalance;
+import com.devsu.account_service.domain.model.DailyBalanceMismatch;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+public interface DailyBalanceRepositoryPort {
+    Flux<DailyBalance> findForClient(String clientId, LocalDate startDate, LocalDate endDate);
+    Mono<Long> rebuild(String accountNumber, LocalDate fromDate);
+    Flux<DailyBalanceMismatch> findMismatches();
+}
@@ -0,0 +1,15 @@
+package com.devsu.account_service.domain.port.out;
+
+import com.devsu.account_service.domain.model.IdempotencyRecord;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyKeyRepositoryPort {
+    Mono<IdempotencyRecord> findByKey(String key);
+    
+    // Fails with DuplicateIdempotencyKeyException when the key is already recorded
+    Mono<IdempotencyRecord> save(IdempotencyRecord record);
+    
+    Mono<Long> deleteExpired(LocalDateTime now);
+}
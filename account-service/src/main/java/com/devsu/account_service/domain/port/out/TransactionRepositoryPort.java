@@ -4,11 +4,19 @@ import com.devsu.account_service.domain.model.Transaction;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 public interface TransactionRepositoryPort {
     Mono<Transaction> save(Transaction transaction);
     Flux<Transaction> findAll();
+    Flux<Transaction> findPage(
+        String accountNumber,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Long afterId,
+        Integer limit
+    );
     Mono<Transaction> findById(Long id);
     Flux<Transaction> findByAccountNumber(String accountNumber);
     Flux<Transaction> findByAccountNumberAndDateBetween(
@@ -16,4 +24,5 @@ public interface TransactionRepositoryPort {
         LocalDateTime startDate, 
         LocalDateTime endDate
     );
+    Mono<Long> shiftBalancesAfter(String accountNumber, Long afterId, BigDecimal delta);
 }
@@ -0,0 +1,2 @@
+CREATE INDEX idx_transaction_account_number_id ON transaction(account_number, id);
+CREATE INDEX idx_account_client_id_id ON account(client_id, id);
@@ -0,0 +1,14 @@
+CREATE TABLE account_daily_balance (
+    account_number VARCHAR(50) NOT NULL,
+    balance_date DATE NOT NULL,
+    opening_balance DECIMAL(15,2) NOT NULL,
+    closing_balance DECIMAL(15,2) NOT NULL,
+    total_credits DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    total_debits DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    movement_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (account_number, balance_date),
+    CONSTRAINT fk_daily_balance_account FOREIGN KEY (account_number) 
+        REFERENCES account(account_number) 
+        ON DELETE CASCADE
+);
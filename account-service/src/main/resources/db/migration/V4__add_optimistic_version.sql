@@ -0,0 +1,3 @@
+ALTER TABLE account ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE transaction ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
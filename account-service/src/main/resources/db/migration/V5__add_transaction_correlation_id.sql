@@ -0,0 +1,3 @@
+ALTER TABLE transaction ADD COLUMN correlation_id VARCHAR(36);
+
+CREATE INDEX idx_transaction_correlation_id ON transaction(correlation_id);
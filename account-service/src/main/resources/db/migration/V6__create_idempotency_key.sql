@@ -0,0 +1,12 @@
+CREATE TABLE idempotency_key (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    transaction_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_idempotency_key_transaction FOREIGN KEY (transaction_id) 
+        REFERENCES transaction(id) 
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_idempotency_key_expires_at ON idempotency_key(expires_at);
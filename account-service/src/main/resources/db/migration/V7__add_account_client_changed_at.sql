@@ -0,0 +1 @@
+ALTER TABLE account ADD COLUMN client_changed_at TIMESTAMP;
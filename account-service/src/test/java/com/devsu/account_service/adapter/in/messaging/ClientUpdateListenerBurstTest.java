@@ -0,0 +1,207 @@
+package com.devsu.account_service.adapter.in.messaging;
+
+import com.devsu.account_service.adapter.in.messaging.dto.ClientUpdatedEvent;
+import com.devsu.account_service.domain.port.in.UpdateClientInfoPort;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+// In-memory broker stand-in: enforces the prefetch window per consumer and routes rejected messages through a retry queue
+@Slf4j
+class ClientUpdateListenerBurstTest {
+
+    private static final int EVENTS = 100_000;
+    private static final int CLIENTS = 20_000;
+    private static final int CONSUMERS = 4;
+    private static final int PREFETCH = 100;
+    private static final int DB_CONCURRENCY = 4;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String POISON_CLIENT = "client-poison";
+
+    private final ConcurrentLinkedQueue<Pending> ready = new ConcurrentLinkedQueue<>();
+    private final Map<Long, Pending> unacked = new ConcurrentHashMap<>();
+    private final AtomicLong deliveryTags = new AtomicLong();
+    private final AtomicInteger settled = new AtomicInteger();
+    private final AtomicInteger doubleSettled = new AtomicInteger();
+    private final AtomicInteger deadLettered = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger maxUnackedPerConsumer = new AtomicInteger();
+    private final Set<String> applied = ConcurrentHashMap.newKeySet();
+    private final Set<String> failedOnce = ConcurrentHashMap.newKeySet();
+
+    @Test
+    void burst_shouldSettleEveryMessage_withBoundedInFlightWork() throws Exception {
+        ClientUpdateListener listener = new ClientUpdateListener(updateClientInfoPort(), amqpTemplate(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(listener, "clientUpdatedQueue", "client.updated");
+        ReflectionTestUtils.setField(listener, "clientDeadLetterExchange", "client.exchange.dlx");
+        ReflectionTestUtils.setField(listener, "clientUpdatedDeadLetterQueue", "client.updated.dlq");
+        ReflectionTestUtils.setField(listener, "dbConcurrency", DB_CONCURRENCY);
+        ReflectionTestUtils.setField(listener, "maxAttempts", MAX_ATTEMPTS);
+
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        int poisonEvents = 0;
+        Set<String> expectedClients = new HashSet<>();
+        for (int i = 0; i < EVENTS; i++) {
+            String clientId = i % 10_000 == 0 ? POISON_CLIENT : "client-" + (i % CLIENTS);
+            if (POISON_CLIENT.equals(clientId)) {
+                poisonEvents++;
+            } else {
+                expectedClients.add(clientId);
+            }
+            ready.add(new Pending(new ClientUpdatedEvent(clientId, "Name " + i, true, "UPDATED",
+                start.plusSeconds(i)), 0));
+        }
+
+        long startNanos = System.nanoTime();
+        ExecutorService consumers = Executors.newFixedThreadPool(CONSUMERS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int c = 0; c < CONSUMERS; c++) {
+            futures.add(consumers.submit(() -> consume(listener)));
+        }
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        consumers.shutdown();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        log.info("{} events settled in {} ms: {} dead-lettered, max in-flight updates {}, max unacked per consumer {}",
+            settled.get(), elapsedMs, deadLettered.get(), maxInFlight.get(), maxUnackedPerConsumer.get());
+
+        assertThat(settled.get()).isEqualTo(EVENTS);
+        assertThat(doubleSettled.get()).isZero();
+        assertThat(unacked).isEmpty();
+        assertThat(deadLettered.get()).isEqualTo(poisonEvents);
+        assertThat(applied).isEqualTo(expectedClients);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(CONSUMERS * DB_CONCURRENCY);
+        assertThat(maxUnackedPerConsumer.get()).isLessThanOrEqualTo(PREFETCH);
+    }
+
+    private void consume(ClientUpdateListener listener) {
+        Set<Long> outstanding = ConcurrentHashMap.newKeySet();
+        Channel channel = channel(outstanding);
+        while (settled.get() < EVENTS) {
+            List<Message<ClientUpdatedEvent>> batch = new ArrayList<>();
+            Pending pending;
+            while (outstanding.size() < PREFETCH && (pending = ready.poll()) != null) {
+                long tag = deliveryTags.incrementAndGet();
+                unacked.put(tag, pending);
+                outstanding.add(tag);
+                batch.add(pending.toMessage(tag));
+            }
+            maxUnackedPerConsumer.accumulateAndGet(outstanding.size(), Math::max);
+            if (batch.isEmpty()) {
+                Thread.onSpinWait();
+                continue;
+            }
+            listener.handleClientUpdated(batch, channel);
+            assertThat(outstanding).isEmpty();
+        }
+    }
+
+    private Channel channel(Set<Long> outstanding) {
+        Channel channel = mock(Channel.class, withSettings().stubOnly());
+        try {
+            doAnswer(invocation -> {
+                settle(outstanding, invocation.getArgument(0));
+                settled.incrementAndGet();
+                return null;
+            }).when(channel).basicAck(anyLong(), anyBoolean());
+            doAnswer(invocation -> {
+                Pending rejected = settle(outstanding, invocation.getArgument(0));
+                if (rejected != null) {
+                    // The retry queue dead-letters expired messages back onto the main queue
+                    ready.add(new Pending(rejected.event(), rejected.rejections() + 1));
+                }
+                return null;
+            }).when(channel).basicNack(anyLong(), anyBoolean(), anyBoolean());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return channel;
+    }
+
+    private Pending settle(Set<Long> outstanding, long tag) {
+        outstanding.remove(tag);
+        Pending pending = unacked.remove(tag);
+        if (pending == null) {
+            doubleSettled.incrementAndGet();
+        }
+        return pending;
+    }
+
+    private UpdateClientInfoPort updateClientInfoPort() {
+        return command -> Mono.fromRunnable(() -> {
+                int current = inFlight.incrementAndGet();
+                maxInFlight.accumulateAndGet(current, Math::max);
+                try {
+                    if (POISON_CLIENT.equals(command.getClientId())) {
+                        throw new IllegalStateException("Poison client");
+                    }
+                    if (command.getClientId().hashCode() % 50 == 0 && failedOnce.add(command.getClientId())) {
+                        throw new IllegalStateException("Transient failure");
+                    }
+                    applied.add(command.getClientId());
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            })
+            .subscribeOn(Schedulers.parallel())
+            .then();
+    }
+
+    private AmqpTemplate amqpTemplate() {
+        AmqpTemplate amqpTemplate = mock(AmqpTemplate.class, withSettings().stubOnly());
+        doAnswer(invocation -> {
+            deadLettered.incrementAndGet();
+            return null;
+        }).when(amqpTemplate).convertAndSend(anyString(), anyString(), any(Object.class),
+            any(MessagePostProcessor.class));
+        return amqpTemplate;
+    }
+
+    private record Pending(ClientUpdatedEvent event, long rejections) {
+        Message<ClientUpdatedEvent> toMessage(long deliveryTag) {
+            MessageBuilder<ClientUpdatedEvent> builder = MessageBuilder.withPayload(event)
+                .setHeader(AmqpHeaders.DELIVERY_TAG, deliveryTag);
+            if (rejections > 0) {
+                builder.setHeader("x-death", List.of(
+                    Map.of("queue", "client.updated", "reason", "rejected", "count", rejections)));
+            }
+            return builder.build();
+        }
+    }
+}
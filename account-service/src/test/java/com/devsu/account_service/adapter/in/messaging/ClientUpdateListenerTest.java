@@ -0,0 +1,156 @@
+package com.devsu.account_service.adapter.in.messaging;
+
+import com.devsu.account_service.adapter.in.messaging.dto.ClientUpdatedEvent;
+import com.devsu.account_service.application.usecase.updateclientinfo.UpdateClientInfoCommand;
+import com.devsu.account_service.domain.port.in.UpdateClientInfoPort;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClientUpdateListenerTest {
+
+    @Mock
+    private UpdateClientInfoPort updateClientInfoPort;
+
+    @Mock
+    private AmqpTemplate amqpTemplate;
+
+    @Mock
+    private Channel channel;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ClientUpdateListener clientUpdateListener;
+
+    @BeforeEach
+    void setUp() {
+        clientUpdateListener = new ClientUpdateListener(updateClientInfoPort, amqpTemplate, meterRegistry);
+        ReflectionTestUtils.setField(clientUpdateListener, "clientUpdatedQueue", "client.updated");
+        ReflectionTestUtils.setField(clientUpdateListener, "clientDeadLetterExchange", "client.exchange.dlx");
+        ReflectionTestUtils.setField(clientUpdateListener, "clientUpdatedDeadLetterQueue", "client.updated.dlq");
+        ReflectionTestUtils.setField(clientUpdateListener, "dbConcurrency", 4);
+        ReflectionTestUtils.setField(clientUpdateListener, "maxAttempts", 3);
+    }
+
+    @Test
+    void handleClientUpdated_shouldApplyOnlyLatestEventPerClient_andAckEveryMessage() throws Exception {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 15, 10, 0);
+        when(updateClientInfoPort.execute(any())).thenReturn(Mono.empty());
+
+        clientUpdateListener.handleClientUpdated(List.of(
+            message(1, new ClientUpdatedEvent("client-1", "First", true, "UPDATED", now), 0),
+            message(2, new ClientUpdatedEvent("client-2", "Other", true, "UPDATED", now), 0),
+            message(3, new ClientUpdatedEvent("client-1", "Latest", false, "UPDATED", now.plusSeconds(2)), 0),
+            message(4, new ClientUpdatedEvent("client-1", "Late delivery", true, "UPDATED", now.plusSeconds(1)), 0)
+        ), channel);
+
+        ArgumentCaptor<UpdateClientInfoCommand> captor = ArgumentCaptor.forClass(UpdateClientInfoCommand.class);
+        verify(updateClientInfoPort, times(2)).execute(captor.capture());
+        assertThat(captor.getAllValues())
+            .extracting(UpdateClientInfoCommand::getClientId, UpdateClientInfoCommand::getClientName,
+                UpdateClientInfoCommand::getClientStatus, UpdateClientInfoCommand::getChangedAt)
+            .containsExactlyInAnyOrder(
+                tuple("client-1", "Latest", false, now.plusSeconds(2)),
+                tuple("client-2", "Other", true, now));
+        for (long tag = 1; tag <= 4; tag++) {
+            verify(channel).basicAck(tag, false);
+        }
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void handleClientUpdated_shouldRecordConsumeTimersByOutcome() {
+        when(updateClientInfoPort.execute(any()))
+            .thenReturn(Mono.empty())
+            .thenReturn(Mono.error(new RuntimeException("Database error")));
+
+        clientUpdateListener.handleClientUpdated(List.of(
+            message(1, new ClientUpdatedEvent("client-1", "Name", true, "UPDATED", LocalDateTime.now().minusSeconds(1)), 0),
+            message(2, new ClientUpdatedEvent("client-2", "Name", true, "UPDATED", null), 0)
+        ), channel);
+
+        assertThat(meterRegistry.get("amqp.consume").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("amqp.consume").tag("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("amqp.consume.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void handleClientUpdated_shouldKeepArrivalOrder_whenTimestampsAreMissing() {
+        when(updateClientInfoPort.execute(any())).thenReturn(Mono.empty());
+
+        clientUpdateListener.handleClientUpdated(List.of(
+            message(1, new ClientUpdatedEvent("client-1", "First", true, "UPDATED", null), 0),
+            message(2, new ClientUpdatedEvent("client-1", "Second", true, "UPDATED", null), 0)
+        ), channel);
+
+        ArgumentCaptor<UpdateClientInfoCommand> captor = ArgumentCaptor.forClass(UpdateClientInfoCommand.class);
+        verify(updateClientInfoPort).execute(captor.capture());
+        assertThat(captor.getValue().getClientName()).isEqualTo("Second");
+    }
+
+    @Test
+    void handleClientUpdated_shouldNackForRetry_whenUpdateFails() throws Exception {
+        when(updateClientInfoPort.execute(any())).thenReturn(Mono.error(new RuntimeException("Database error")));
+
+        clientUpdateListener.handleClientUpdated(List.of(
+            message(7, new ClientUpdatedEvent("client-1", "Name", true, "UPDATED", null), 1)
+        ), channel);
+
+        verify(channel).basicNack(7L, false, false);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        verify(amqpTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class),
+            any(MessagePostProcessor.class));
+    }
+
+    @Test
+    void handleClientUpdated_shouldDeadLetter_whenAttemptsAreExhausted() throws Exception {
+        ClientUpdatedEvent event = new ClientUpdatedEvent("client-1", "Name", true, "UPDATED", null);
+        when(updateClientInfoPort.execute(any())).thenReturn(Mono.error(new RuntimeException("Database error")));
+
+        clientUpdateListener.handleClientUpdated(List.of(message(9, event, 2)), channel);
+
+        verify(amqpTemplate).convertAndSend(eq("client.exchange.dlx"), eq("client.updated.dlq"), eq(event),
+            any(MessagePostProcessor.class));
+        verify(channel).basicAck(9L, false);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    private Message<ClientUpdatedEvent> message(long deliveryTag, ClientUpdatedEvent event, long rejections) {
+        MessageBuilder<ClientUpdatedEvent> builder = MessageBuilder.withPayload(event)
+            .setHeader(AmqpHeaders.DELIVERY_TAG, deliveryTag);
+        if (rejections > 0) {
+            builder.setHeader("x-death", List.of(
+                Map.of("queue", "client.updated", "reason", "rejected", "count", rejections),
+                Map.of("queue", "client.updated.retry", "reason", "expired", "count", rejections)));
+        }
+        return builder.build();
+    }
+}
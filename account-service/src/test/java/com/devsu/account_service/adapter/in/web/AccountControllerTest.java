@@ -4,8 +4,10 @@ import com.devsu.account_service.adapter.in.web.dto.AccountPatchRequest;
 import com.devsu.account_service.adapter.in.web.dto.AccountRequest;
 import com.devsu.account_service.adapter.in.web.dto.AccountResponse;
 import com.devsu.account_service.adapter.in.web.mapper.AccountMapper;
+import com.devsu.account_service.application.usecase.getallaccounts.GetAllAccountsQuery;
 import com.devsu.account_service.domain.exception.AccountAlreadyExistsException;
 import com.devsu.account_service.domain.exception.AccountNotFoundException;
+import com.devsu.account_service.domain.exception.ConcurrentUpdateException;
 import com.devsu.account_service.domain.exception.InactiveClientException;
 import com.devsu.account_service.domain.model.Account;
 import com.devsu.account_service.domain.model.AccountType;
@@ -15,6 +17,7 @@ import com.devsu.account_service.domain.port.in.GetAllAccountsPort;
 import com.devsu.account_service.domain.port.in.PatchAccountPort;
 import com.devsu.account_service.domain.port.in.UpdateAccountPort;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -25,8 +28,10 @@ import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @WebFluxTest(AccountController.class)
@@ -238,7 +243,7 @@ class AccountControllerTest {
             "Jane Smith"
         );
 
-        when(getAllAccountsPort.execute(null)).thenReturn(Flux.just(account1, account2));
+        when(getAllAccountsPort.execute(any())).thenReturn(Flux.just(account1, account2));
         when(accountMapper.toResponse(account1)).thenReturn(response1);
         when(accountMapper.toResponse(account2)).thenReturn(response2);
 
@@ -250,6 +255,72 @@ class AccountControllerTest {
             .hasSize(2);
     }
 
+    @Test
+    void getAllAccounts_shouldCutJsonPageAndNameNextCursor_whenMoreAccountsFollow() {
+        Account account1 = new Account(4L, "1234567890", AccountType.AHORROS, new BigDecimal("1000.00"),
+            true, "client-1", "John Doe", true);
+        Account account2 = new Account(7L, "0987654321", AccountType.CORRIENTE, new BigDecimal("2000.00"),
+            true, "client-1", "John Doe", true);
+        Account account3 = new Account(9L, "1122334455", AccountType.AHORROS, new BigDecimal("3000.00"),
+            true, "client-1", "John Doe", true);
+
+        when(getAllAccountsPort.execute(any())).thenReturn(Flux.just(account1, account2, account3));
+        when(accountMapper.toResponse(any(Account.class))).thenReturn(new AccountResponse());
+
+        webTestClient.get()
+            .uri("/cuentas?limit=2")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals(AccountController.NEXT_AFTER_ID_HEADER, "7")
+            .expectBodyList(AccountResponse.class)
+            .hasSize(2);
+
+        ArgumentCaptor<GetAllAccountsQuery> captor = ArgumentCaptor.forClass(GetAllAccountsQuery.class);
+        verify(getAllAccountsPort).execute(captor.capture());
+        assertThat(captor.getValue().getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void getAllAccounts_shouldStreamNdjson_withCursorQuery() {
+        Account account = new Account(
+            3L,
+            "1234567890",
+            AccountType.AHORROS,
+            new BigDecimal("1000.00"),
+            true,
+            "client-1",
+            "John Doe",
+            true
+        );
+
+        AccountResponse response = new AccountResponse(
+            "1234567890",
+            "AHORROS",
+            new BigDecimal("1000.00"),
+            true,
+            "client-1",
+            "John Doe"
+        );
+
+        when(getAllAccountsPort.execute(any())).thenReturn(Flux.just(account));
+        when(accountMapper.toResponse(account)).thenReturn(response);
+
+        webTestClient.get()
+            .uri("/cuentas?clientId=client-1&afterId=2&limit=10")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .expectBodyList(AccountResponse.class)
+            .hasSize(1);
+
+        ArgumentCaptor<GetAllAccountsQuery> captor = ArgumentCaptor.forClass(GetAllAccountsQuery.class);
+        verify(getAllAccountsPort).execute(captor.capture());
+        assertThat(captor.getValue().getClientId()).isEqualTo("client-1");
+        assertThat(captor.getValue().getAfterId()).isEqualTo(2L);
+        assertThat(captor.getValue().getLimit()).isEqualTo(10);
+    }
+
     @Test
     void getAccountByNumber_shouldReturn200_whenAccountExists() {
         Account account = new Account(
@@ -381,6 +452,44 @@ class AccountControllerTest {
             .expectStatus().isNotFound();
     }
 
+    @Test
+    void updateAccount_shouldReturn409_whenAccountWasModifiedConcurrently() {
+        AccountRequest request = new AccountRequest(
+            "1234567890",
+            "CORRIENTE",
+            new BigDecimal("1000.00"),
+            true,
+            "client-1",
+            "John Doe",
+            true
+        );
+
+        Account account = new Account(
+            null,
+            "1234567890",
+            AccountType.CORRIENTE,
+            new BigDecimal("1000.00"),
+            true,
+            "client-1",
+            "John Doe",
+            true
+        );
+
+        when(accountMapper.toDomain(any(AccountRequest.class))).thenReturn(account);
+        when(updateAccountPort.execute(any())).thenReturn(
+            Mono.error(new ConcurrentUpdateException("1234567890", "Account was modified by another request"))
+        );
+
+        webTestClient.put()
+            .uri("/cuentas/1234567890")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isEqualTo(409)
+            .expectBody()
+            .jsonPath("$.error").isEqualTo("Concurrent Update");
+    }
+
     @Test
     void patchAccount_shouldReturn200_whenAccountIsPatched() {
         AccountPatchRequest request = new AccountPatchRequest(
@@ -2,24 +2,37 @@ package com.devsu.account_service.adapter.in.web;
 
 import com.devsu.account_service.adapter.in.web.dto.AccountStatementDto;
 import com.devsu.account_service.adapter.in.web.dto.ReportResponse;
+import com.devsu.account_service.adapter.in.web.dto.StatementExportRow;
 import com.devsu.account_service.adapter.in.web.dto.TransactionStatementDto;
+import com.devsu.account_service.adapter.in.web.mapper.ReportExportWriter;
 import com.devsu.account_service.domain.exception.ClientNotFoundException;
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.AccountType;
+import com.devsu.account_service.domain.model.StatementLine;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.port.in.ExportReportPort;
 import com.devsu.account_service.domain.port.in.GenerateReportPort;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @WebFluxTest(ReportController.class)
+@Import(ReportExportWriter.class)
 class ReportControllerTest {
 
     @Autowired
@@ -28,6 +41,9 @@ class ReportControllerTest {
     @MockBean
     private GenerateReportPort generateReportPort;
 
+    @MockBean
+    private ExportReportPort exportReportPort;
+
     @Test
     void generateReport_shouldReturn200_withReportData() {
         TransactionStatementDto transaction1 = new TransactionStatementDto(
@@ -49,7 +65,10 @@ class ReportControllerTest {
             "AHORROS",
             new BigDecimal("1300.00"),
             true,
-            List.of(transaction1, transaction2)
+            List.of(transaction1, transaction2),
+            null,
+            null,
+            List.of()
         );
 
         ReportResponse reportResponse = new ReportResponse(
@@ -90,7 +109,10 @@ class ReportControllerTest {
             "AHORROS",
             new BigDecimal("1500.00"),
             true,
-            List.of(transaction)
+            List.of(transaction),
+            null,
+            null,
+            List.of()
         );
 
         ReportResponse reportResponse = new ReportResponse(
@@ -129,6 +151,9 @@ class ReportControllerTest {
             "AHORROS",
             new BigDecimal("1000.00"),
             true,
+            List.of(),
+            null,
+            null,
             List.of()
         );
 
@@ -170,7 +195,10 @@ class ReportControllerTest {
             "AHORROS",
             new BigDecimal("1500.00"),
             true,
-            List.of(transaction1)
+            List.of(transaction1),
+            null,
+            null,
+            List.of()
         );
 
         AccountStatementDto accountStatement2 = new AccountStatementDto(
@@ -178,7 +206,10 @@ class ReportControllerTest {
             "CORRIENTE",
             new BigDecimal("1900.00"),
             true,
-            List.of(transaction2)
+            List.of(transaction2),
+            null,
+            null,
+            List.of()
         );
 
         ReportResponse reportResponse = new ReportResponse(
@@ -217,4 +248,72 @@ class ReportControllerTest {
             .expectBody()
             .jsonPath("$.clientId").isEqualTo("client-1");
     }
+
+    @Test
+    void exportReport_shouldStreamCsv_whenAcceptIsTextCsv() {
+        when(exportReportPort.execute(any())).thenReturn(Flux.just(statementLine()));
+
+        String body = webTestClient.get()
+            .uri("/reportes?fecha=2024-01-01,2024-01-31&cliente=client-1")
+            .accept(MediaType.parseMediaType("text/csv"))
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.parseMediaType("text/csv"))
+            .expectBody(String.class)
+            .returnResult()
+            .getResponseBody();
+
+        assertThat(body).startsWith("clientId,clientName,accountNumber,");
+        assertThat(body).contains("client-1,\"Doe, John\",1234567890,AHORROS,1300.00,true,2024-01-15T10:00,Deposito,500.00,1500.00");
+        verifyNoInteractions(generateReportPort);
+    }
+
+    @Test
+    void exportReport_shouldStreamNdjson_whenFormatoIsNdjson() {
+        when(exportReportPort.execute(any())).thenReturn(Flux.just(statementLine(), statementLine()));
+
+        webTestClient.get()
+            .uri("/reportes?fecha=2024-01-01,2024-01-31&cliente=client-1&formato=ndjson")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .expectBodyList(StatementExportRow.class)
+            .hasSize(2);
+    }
+
+    @Test
+    void exportReport_shouldReturn404_whenClientNotFound() {
+        when(exportReportPort.execute(any())).thenReturn(
+            Flux.error(new ClientNotFoundException("client-999", "No accounts found for this client"))
+        );
+
+        webTestClient.get()
+            .uri("/reportes?fecha=2024-01-01,2024-01-31&cliente=client-999&formato=csv")
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    private StatementLine statementLine() {
+        Account account = new Account(
+            1L,
+            "1234567890",
+            AccountType.AHORROS,
+            new BigDecimal("1300.00"),
+            true,
+            "client-1",
+            "Doe, John",
+            true
+        );
+
+        Transaction transaction = new Transaction(
+            1L,
+            LocalDateTime.of(2024, 1, 15, 10, 0),
+            "Deposito",
+            new BigDecimal("500.00"),
+            new BigDecimal("1500.00"),
+            "1234567890"
+        );
+
+        return new StatementLine(account, transaction);
+    }
 }
@@ -0,0 +1,116 @@
+package com.devsu.account_service.adapter.in.web;
+
+import com.devsu.account_service.adapter.in.web.mapper.ReportExportWriter;
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.AccountType;
+import com.devsu.account_service.domain.model.StatementLine;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.port.in.ExportReportPort;
+import com.devsu.account_service.domain.port.in.GenerateReportPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+// Runs in the largeExportTest task with a small heap; buffering the export would exhaust it.
+@Tag("large-export")
+@ExtendWith(MockitoExtension.class)
+@Slf4j
+class ReportExportLargeTest {
+
+    private static final int ROWS = 1_000_000;
+
+    @Mock
+    private GenerateReportPort generateReportPort;
+
+    @Mock
+    private ExportReportPort exportReportPort;
+
+    @Test
+    void csvExportShouldStreamOneMillionRowsWithFlatHeap() {
+        long bytes = export("csv");
+        assertThat(bytes).isGreaterThan(ROWS * 50L);
+    }
+
+    @Test
+    void ndjsonExportShouldStreamOneMillionRowsWithFlatHeap() {
+        long bytes = export("ndjson");
+        assertThat(bytes).isGreaterThan(ROWS * 100L);
+    }
+
+    private long export(String format) {
+        ReportExportWriter writer = new ReportExportWriter(new ObjectMapper().registerModule(new JavaTimeModule()));
+        ReportController controller = new ReportController(generateReportPort, exportReportPort, writer);
+        when(exportReportPort.execute(any())).thenReturn(syntheticLines());
+
+        MockServerHttpResponse response = new MockServerHttpResponse();
+        ResponseEntity<Flux<DataBuffer>> entity = "csv".equals(format)
+            ? controller.exportReportAsCsv("2024-01-01,2024-12-31", "client-1", response)
+            : controller.exportReportAsNdjson("2024-01-01,2024-12-31", "client-1", response);
+
+        AtomicLong newlines = new AtomicLong();
+        long start = System.nanoTime();
+        Long bytes = entity.getBody()
+            .map(buffer -> {
+                int length = buffer.readableByteCount();
+                for (int i = buffer.readPosition(); i < buffer.writePosition(); i++) {
+                    if (buffer.getByte(i) == '\n') {
+                        newlines.incrementAndGet();
+                    }
+                }
+                DataBufferUtils.release(buffer);
+                return (long) length;
+            })
+            .reduce(0L, Long::sum)
+            .block();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        Runtime runtime = Runtime.getRuntime();
+        log.info("Exported {} rows as {}: {} bytes in {} ms, max heap {} MB",
+            ROWS, format, bytes, millis, runtime.maxMemory() / (1024 * 1024));
+
+        assertThat(newlines.get()).isEqualTo("csv".equals(format) ? ROWS + 1L : ROWS);
+        return bytes;
+    }
+
+    private Flux<StatementLine> syntheticLines() {
+        Account account = new Account(
+            1L,
+            "1234567890",
+            AccountType.CORRIENTE,
+            new BigDecimal("1000000.00"),
+            true,
+            "client-1",
+            "Corporate Client",
+            true
+        );
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        return Flux.range(0, ROWS)
+            .map(i -> new StatementLine(account, new Transaction(
+                (long) i,
+                start.plusSeconds(i * 30L),
+                i % 2 == 0 ? "Deposito" : "Retiro",
+                i % 2 == 0 ? new BigDecimal("10.00") : new BigDecimal("-10.00"),
+                new BigDecimal("1000000.00"),
+                "1234567890"
+            )));
+    }
+}
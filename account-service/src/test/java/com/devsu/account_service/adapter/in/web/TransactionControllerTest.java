@@ -1,17 +1,32 @@
 package com.devsu.account_service.adapter.in.web;
 
+import com.devsu.account_service.adapter.in.web.dto.BulkTransactionResult;
 import com.devsu.account_service.adapter.in.web.dto.TransactionRequest;
 import com.devsu.account_service.adapter.in.web.dto.TransactionResponse;
+import com.devsu.account_service.adapter.in.web.dto.TransferRequest;
+import com.devsu.account_service.adapter.in.web.dto.TransferResponse;
 import com.devsu.account_service.adapter.in.web.mapper.TransactionMapper;
+import com.devsu.account_service.application.usecase.bulkcreatetransactions.BulkTransactionCommand;
+import com.devsu.account_service.application.usecase.createtransaction.IdempotentCreateTransactionCommand;
+import com.devsu.account_service.application.usecase.getalltransactions.GetAllTransactionsQuery;
+import com.devsu.account_service.application.usecase.transfer.TransferCommand;
 import com.devsu.account_service.domain.exception.AccountNotFoundException;
 import com.devsu.account_service.domain.exception.InsufficientBalanceException;
+import com.devsu.account_service.domain.exception.InvalidIdempotencyKeyException;
 import com.devsu.account_service.domain.exception.TransactionNotFoundException;
+import com.devsu.account_service.domain.model.BulkPostingResult;
+import com.devsu.account_service.domain.model.IdempotentPosting;
 import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.model.Transfer;
+import com.devsu.account_service.domain.port.in.BulkCreateTransactionsPort;
 import com.devsu.account_service.domain.port.in.CreateTransactionPort;
 import com.devsu.account_service.domain.port.in.GetAllTransactionsPort;
 import com.devsu.account_service.domain.port.in.GetTransactionByIdPort;
+import com.devsu.account_service.domain.port.in.IdempotentCreateTransactionPort;
+import com.devsu.account_service.domain.port.in.TransferPort;
 import com.devsu.account_service.domain.port.in.UpdateTransactionPort;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -22,9 +37,14 @@ import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @WebFluxTest(TransactionController.class)
@@ -36,6 +56,9 @@ class TransactionControllerTest {
     @MockBean
     private CreateTransactionPort createTransactionPort;
 
+    @MockBean
+    private IdempotentCreateTransactionPort idempotentCreateTransactionPort;
+
     @MockBean
     private GetAllTransactionsPort getAllTransactionsPort;
 
@@ -45,6 +68,12 @@ class TransactionControllerTest {
     @MockBean
     private UpdateTransactionPort updateTransactionPort;
 
+    @MockBean
+    private TransferPort transferPort;
+
+    @MockBean
+    private BulkCreateTransactionsPort bulkCreateTransactionsPort;
+
     @MockBean
     private TransactionMapper transactionMapper;
 
@@ -147,6 +176,76 @@ class TransactionControllerTest {
             .expectStatus().isBadRequest();
     }
 
+    @Test
+    void createTransaction_shouldReturnOriginalMovement_whenIdempotencyKeyIsReplayed() {
+        TransactionRequest request = new TransactionRequest(
+            "1234567890",
+            "Deposito",
+            new BigDecimal("500.00")
+        );
+
+        Transaction transaction = new Transaction(
+            1L,
+            LocalDateTime.now(),
+            "Deposito",
+            new BigDecimal("500.00"),
+            new BigDecimal("1500.00"),
+            "1234567890"
+        );
+
+        TransactionResponse response = new TransactionResponse(
+            1L,
+            transaction.getDate(),
+            "Deposito",
+            new BigDecimal("500.00"),
+            new BigDecimal("1500.00"),
+            "1234567890"
+        );
+
+        when(idempotentCreateTransactionPort.execute(any())).thenReturn(Mono.just(new IdempotentPosting(transaction, true)));
+        when(transactionMapper.toResponse(any(Transaction.class))).thenReturn(response);
+
+        webTestClient.post()
+            .uri("/movimientos")
+            .header("Idempotency-Key", "order-42")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isCreated()
+            .expectHeader().valueEquals("Idempotent-Replayed", "true")
+            .expectBody()
+            .jsonPath("$.id").isEqualTo(1);
+
+        ArgumentCaptor<IdempotentCreateTransactionCommand> command =
+            ArgumentCaptor.forClass(IdempotentCreateTransactionCommand.class);
+        verify(idempotentCreateTransactionPort).execute(command.capture());
+        assertThat(command.getValue().getIdempotencyKey()).isEqualTo("order-42");
+        assertThat(command.getValue().getCommand().getAccountNumber()).isEqualTo("1234567890");
+        verifyNoInteractions(createTransactionPort);
+    }
+
+    @Test
+    void createTransaction_shouldReturn422_whenIdempotencyKeyWasUsedForAnotherMovement() {
+        TransactionRequest request = new TransactionRequest(
+            "1234567890",
+            "Retiro",
+            new BigDecimal("-100.00")
+        );
+
+        when(idempotentCreateTransactionPort.execute(any())).thenReturn(Mono.error(
+            new InvalidIdempotencyKeyException("order-42", "Idempotency-Key was already used for a different movement")));
+
+        webTestClient.post()
+            .uri("/movimientos")
+            .header("Idempotency-Key", "order-42")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isEqualTo(422)
+            .expectBody()
+            .jsonPath("$.error").isEqualTo("Invalid Idempotency Key");
+    }
+
     @Test
     void getAllTransactions_shouldReturn200_withTransactionList() {
         Transaction transaction1 = new Transaction(
@@ -185,7 +284,7 @@ class TransactionControllerTest {
             "1234567890"
         );
 
-        when(getAllTransactionsPort.execute(null)).thenReturn(Flux.just(transaction1, transaction2));
+        when(getAllTransactionsPort.execute(any())).thenReturn(Flux.just(transaction1, transaction2));
         when(transactionMapper.toResponse(transaction1)).thenReturn(response1);
         when(transactionMapper.toResponse(transaction2)).thenReturn(response2);
 
@@ -197,6 +296,166 @@ class TransactionControllerTest {
             .hasSize(2);
     }
 
+    @Test
+    void transfer_shouldReturn201_withBothLegs() {
+        TransferRequest request = new TransferRequest("1111111111", "2222222222", new BigDecimal("75.00"));
+        LocalDateTime now = LocalDateTime.now();
+
+        Transfer transfer = new Transfer("corr-1", new Transaction(), new Transaction());
+        TransferResponse response = new TransferResponse(
+            "corr-1",
+            new TransactionResponse(1L, now, "Transferencia", new BigDecimal("-75.00"), new BigDecimal("25.00"), "1111111111"),
+            new TransactionResponse(2L, now, "Transferencia", new BigDecimal("75.00"), new BigDecimal("175.00"), "2222222222")
+        );
+
+        when(transferPort.execute(any())).thenReturn(Mono.just(transfer));
+        when(transactionMapper.toResponse(any(Transfer.class))).thenReturn(response);
+
+        webTestClient.post()
+            .uri("/movimientos/transferencias")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isCreated()
+            .expectBody()
+            .jsonPath("$.correlationId").isEqualTo("corr-1")
+            .jsonPath("$.debit.accountNumber").isEqualTo("1111111111")
+            .jsonPath("$.credit.accountNumber").isEqualTo("2222222222");
+
+        ArgumentCaptor<TransferCommand> captor = ArgumentCaptor.forClass(TransferCommand.class);
+        verify(transferPort).execute(captor.capture());
+        assertThat(captor.getValue().getSourceAccountNumber()).isEqualTo("1111111111");
+        assertThat(captor.getValue().getTargetAccountNumber()).isEqualTo("2222222222");
+        assertThat(captor.getValue().getAmount()).isEqualByComparingTo("75.00");
+    }
+
+    @Test
+    void transfer_shouldReturn400_whenAmountIsNotPositive() {
+        TransferRequest request = new TransferRequest("1111111111", "2222222222", new BigDecimal("-1.00"));
+
+        webTestClient.post()
+            .uri("/movimientos/transferencias")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void transfer_shouldReturn400_whenSourceBalanceIsInsufficient() {
+        TransferRequest request = new TransferRequest("1111111111", "2222222222", new BigDecimal("75.00"));
+
+        when(transferPort.execute(any())).thenReturn(
+            Mono.error(new InsufficientBalanceException("Saldo no disponible"))
+        );
+
+        webTestClient.post()
+            .uri("/movimientos/transferencias")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.message").isEqualTo("Saldo no disponible");
+    }
+
+    @Test
+    void getAllTransactions_shouldPassFiltersAndCursorToQuery() {
+        when(getAllTransactionsPort.execute(any())).thenReturn(Flux.empty());
+
+        webTestClient.get()
+            .uri("/movimientos?accountNumber=1234567890&startDate=2024-01-01&endDate=2024-01-31&afterId=10&limit=50")
+            .exchange()
+            .expectStatus().isOk();
+
+        ArgumentCaptor<GetAllTransactionsQuery> captor = ArgumentCaptor.forClass(GetAllTransactionsQuery.class);
+        verify(getAllTransactionsPort).execute(captor.capture());
+        GetAllTransactionsQuery query = captor.getValue();
+        assertThat(query.getAccountNumber()).isEqualTo("1234567890");
+        assertThat(query.getStartDate()).isEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0));
+        assertThat(query.getEndDate().toLocalDate()).isEqualTo(LocalDateTime.of(2024, 1, 31, 0, 0).toLocalDate());
+        assertThat(query.getAfterId()).isEqualTo(10L);
+        assertThat(query.getLimit()).isEqualTo(51);
+    }
+
+    @Test
+    void getAllTransactions_shouldServeDefaultJsonPage_whenNoLimitIsGiven() {
+        when(getAllTransactionsPort.execute(any())).thenReturn(Flux.empty());
+
+        webTestClient.get()
+            .uri("/movimientos")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().doesNotExist(TransactionController.NEXT_AFTER_ID_HEADER);
+
+        ArgumentCaptor<GetAllTransactionsQuery> captor = ArgumentCaptor.forClass(GetAllTransactionsQuery.class);
+        verify(getAllTransactionsPort).execute(captor.capture());
+        assertThat(captor.getValue().getLimit()).isEqualTo(101);
+    }
+
+    @Test
+    void getAllTransactions_shouldStreamPastMaxLimit_overNdjson() {
+        TransactionResponse response = new TransactionResponse(
+            1L,
+            LocalDateTime.now(),
+            "Deposito",
+            new BigDecimal("500.00"),
+            new BigDecimal("1500.00"),
+            "1234567890"
+        );
+
+        when(getAllTransactionsPort.execute(any())).thenReturn(Flux.range(1, 2500)
+            .map(i -> new Transaction((long) i, response.getDate(), "Deposito", new BigDecimal("500.00"),
+                new BigDecimal("1500.00"), "1234567890")));
+        when(transactionMapper.toResponse(any(Transaction.class))).thenReturn(response);
+
+        webTestClient.get()
+            .uri("/movimientos?accountNumber=1234567890")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .expectBodyList(TransactionResponse.class)
+            .hasSize(2500);
+
+        ArgumentCaptor<GetAllTransactionsQuery> captor = ArgumentCaptor.forClass(GetAllTransactionsQuery.class);
+        verify(getAllTransactionsPort).execute(captor.capture());
+        assertThat(captor.getValue().getLimit()).isNull();
+    }
+
+    @Test
+    void getAllTransactions_shouldStreamNdjson_whenRequested() {
+        Transaction transaction = new Transaction(
+            1L,
+            LocalDateTime.now(),
+            "Deposito",
+            new BigDecimal("500.00"),
+            new BigDecimal("1500.00"),
+            "1234567890"
+        );
+
+        TransactionResponse response = new TransactionResponse(
+            1L,
+            transaction.getDate(),
+            "Deposito",
+            new BigDecimal("500.00"),
+            new BigDecimal("1500.00"),
+            "1234567890"
+        );
+
+        when(getAllTransactionsPort.execute(any())).thenReturn(Flux.just(transaction));
+        when(transactionMapper.toResponse(transaction)).thenReturn(response);
+
+        webTestClient.get()
+            .uri("/movimientos")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .expectBodyList(TransactionResponse.class)
+            .hasSize(1);
+    }
+
     @Test
     void getTransactionById_shouldReturn200_whenTransactionExists() {
         Transaction transaction = new Transaction(
@@ -324,4 +583,47 @@ class TransactionControllerTest {
             .exchange()
             .expectStatus().isBadRequest();
     }
+
+    @Test
+    void createTransactions_shouldStreamResultPerLine_andReportInvalidLinesInPlace() {
+        when(bulkCreateTransactionsPort.execute(any())).thenAnswer(invocation -> {
+            Flux<BulkTransactionCommand> commands = invocation.getArgument(0);
+            return commands.map(command -> new BulkPostingResult(command.getIndex(), null,
+                command.getAmount().signum() < 0, command.getAmount().signum() < 0 ? "Saldo no disponible" : null));
+        });
+        when(transactionMapper.toBulkResult(any())).thenAnswer(invocation -> {
+            BulkPostingResult result = invocation.getArgument(0);
+            return new BulkTransactionResult(result.getIndex(),
+                result.isRejected() ? BulkTransactionResult.REJECTED : BulkTransactionResult.POSTED,
+                null, result.getReason());
+        });
+
+        String body = """
+            {"accountNumber":"1234567890","transactionType":"Deposito","amount":100.00}
+            {"accountNumber":"","transactionType":"Deposito","amount":5.00}
+            {"accountNumber":"1234567890","transactionType":"Retiro","amount":-900.00}
+            """;
+
+        List<BulkTransactionResult> results = webTestClient.post()
+            .uri("/movimientos/lote")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .accept(MediaType.APPLICATION_NDJSON)
+            .bodyValue(body)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .expectBodyList(BulkTransactionResult.class)
+            .returnResult()
+            .getResponseBody();
+
+        assertThat(results.stream()
+                .sorted(Comparator.comparingLong(BulkTransactionResult::getIndex))
+                .map(BulkTransactionResult::getStatus)
+                .toList())
+            .containsExactly(BulkTransactionResult.POSTED, BulkTransactionResult.INVALID, BulkTransactionResult.REJECTED);
+        assertThat(results)
+            .filteredOn(result -> result.getIndex() == 1)
+            .extracting(BulkTransactionResult::getMessage)
+            .containsExactly("Account number is required");
+    }
 }
@@ -0,0 +1,188 @@
+package com.devsu.account_service.adapter.out.cache;
+
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.AccountType;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAccountRepositoryAdapterTest {
+
+    @Mock
+    private AccountRepositoryPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong nanos;
+    private CachingAccountRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nanos = new AtomicLong();
+        adapter = new CachingAccountRepositoryAdapter(delegate, meterRegistry, 2, Duration.ofSeconds(30), nanos::get, Runnable::run);
+    }
+
+    @Test
+    void findByAccountNumber_shouldLoadOnce_andCountHitsAndMisses() {
+        when(delegate.findByAccountNumber("1234567890")).thenReturn(Mono.just(account("1234567890", "1000.00")));
+
+        StepVerifier.create(adapter.findByAccountNumber("1234567890")
+                .then(adapter.findByAccountNumber("1234567890")))
+            .expectNextMatches(a -> a.getBalance().compareTo(new BigDecimal("1000.00")) == 0)
+            .verifyComplete();
+
+        verify(delegate, times(1)).findByAccountNumber("1234567890");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "accounts").tag("result", "hit")
+            .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "accounts").tag("result", "miss")
+            .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void findByAccountNumber_shouldNotCacheMissingAccounts() {
+        when(delegate.findByAccountNumber("9999999999")).thenReturn(Mono.empty());
+
+        StepVerifier.create(adapter.findByAccountNumber("9999999999")
+                .then(adapter.findByAccountNumber("9999999999")))
+            .verifyComplete();
+
+        verify(delegate, times(2)).findByAccountNumber("9999999999");
+    }
+
+    @Test
+    void findByAccountNumber_shouldReloadAfterTimeToLive() {
+        when(delegate.findByAccountNumber("1234567890")).thenReturn(Mono.just(account("1234567890", "1000.00")));
+
+        StepVerifier.create(adapter.findByAccountNumber("1234567890")).expectNextCount(1).verifyComplete();
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        StepVerifier.create(adapter.findByAccountNumber("1234567890")).expectNextCount(1).verifyComplete();
+
+        verify(delegate, times(2)).findByAccountNumber("1234567890");
+    }
+
+    @Test
+    void findByAccountNumber_shouldReturnCopies() {
+        when(delegate.findByAccountNumber("1234567890")).thenReturn(Mono.just(account("1234567890", "1000.00")));
+
+        StepVerifier.create(adapter.findByAccountNumber("1234567890")
+                .doOnNext(a -> a.setBalance(BigDecimal.ZERO))
+                .then(adapter.findByAccountNumber("1234567890")))
+            .expectNextMatches(a -> a.getBalance().compareTo(new BigDecimal("1000.00")) == 0)
+            .verifyComplete();
+    }
+
+    @Test
+    void save_shouldInvalidateCachedAccount() {
+        Account renamed = account("1234567890", "1000.00");
+        renamed.setClientName("New Name");
+        when(delegate.findByAccountNumber("1234567890"))
+            .thenReturn(Mono.just(account("1234567890", "1000.00")))
+            .thenReturn(Mono.just(renamed));
+        when(delegate.save(any(Account.class))).thenReturn(Mono.just(renamed));
+
+        StepVerifier.create(adapter.findByAccountNumber("1234567890")
+                .then(adapter.save(renamed))
+                .then(adapter.findByAccountNumber("1234567890")))
+            .expectNextMatches(a -> a.getClientName().equals("New Name"))
+            .verifyComplete();
+
+        verify(delegate, times(2)).findByAccountNumber("1234567890");
+    }
+
+    @Test
+    void updateClientInfo_shouldInvalidateEveryCachedAccountOfTheClient() {
+        Account renamed = account("1234567890", "1000.00");
+        renamed.setClientName("New Name");
+        when(delegate.findByAccountNumber("1234567890"))
+            .thenReturn(Mono.just(account("1234567890", "1000.00")))
+            .thenReturn(Mono.just(renamed));
+        when(delegate.updateClientInfo("client-1", "New Name", true, null)).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(adapter.findByAccountNumber("1234567890")
+                .then(adapter.updateClientInfo("client-1", "New Name", true, null))
+                .then(adapter.findByAccountNumber("1234567890")))
+            .expectNextMatches(a -> a.getClientName().equals("New Name"))
+            .verifyComplete();
+    }
+
+    @Test
+    void postTransaction_shouldBypassCache_andInvalidateBalance() {
+        Transaction transaction = new Transaction(null, LocalDateTime.now(), "Deposito",
+            new BigDecimal("500.00"), null, "1234567890");
+        when(delegate.findByAccountNumber("1234567890"))
+            .thenReturn(Mono.just(account("1234567890", "1000.00")))
+            .thenReturn(Mono.just(account("1234567890", "1500.00")));
+        when(delegate.postTransaction(transaction)).thenReturn(Mono.just(transaction));
+
+        StepVerifier.create(adapter.findByAccountNumber("1234567890")
+                .then(adapter.postTransaction(transaction))
+                .then(adapter.findByAccountNumber("1234567890")))
+            .expectNextMatches(a -> a.getBalance().compareTo(new BigDecimal("1500.00")) == 0)
+            .verifyComplete();
+    }
+
+    @Test
+    void evict_shouldDropAccountsChangedOnOtherReplicas() {
+        when(delegate.findByAccountNumber("1234567890"))
+            .thenReturn(Mono.just(account("1234567890", "1000.00")))
+            .thenReturn(Mono.just(account("1234567890", "1500.00")));
+
+        StepVerifier.create(adapter.findByAccountNumber("1234567890")).expectNextCount(1).verifyComplete();
+        adapter.evict(List.of("1234567890"));
+
+        StepVerifier.create(adapter.findByAccountNumber("1234567890"))
+            .expectNextMatches(a -> a.getBalance().compareTo(new BigDecimal("1500.00")) == 0)
+            .verifyComplete();
+    }
+
+    @Test
+    void findByAccountNumberUncached_shouldAlwaysReadThroughToDelegate() {
+        when(delegate.findByAccountNumber("1234567890")).thenReturn(Mono.just(account("1234567890", "1000.00")));
+        when(delegate.findByAccountNumberUncached("1234567890")).thenReturn(Mono.just(account("1234567890", "1200.00")));
+
+        StepVerifier.create(adapter.findByAccountNumber("1234567890")
+                .then(adapter.findByAccountNumberUncached("1234567890")))
+            .expectNextMatches(a -> a.getBalance().compareTo(new BigDecimal("1200.00")) == 0)
+            .verifyComplete();
+    }
+
+    @Test
+    void findByAccountNumber_shouldEvictBeyondMaximumSize() {
+        when(delegate.findByAccountNumber(any())).thenAnswer(invocation ->
+            Mono.just(account(invocation.getArgument(0), "1000.00")));
+
+        for (int i = 0; i < 10; i++) {
+            adapter.findByAccountNumber("000000000" + i).block();
+        }
+
+        assertThat(meterRegistry.get("cache.size").tag("cache", "accounts").gauge().value())
+            .isLessThanOrEqualTo(2.0);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "accounts").functionCounter().count())
+            .isGreaterThan(0.0);
+    }
+
+    private Account account(String accountNumber, String balance) {
+        return new Account(1L, accountNumber, AccountType.AHORROS, new BigDecimal(balance),
+            true, "client-1", "John Doe", true);
+    }
+}
@@ -0,0 +1,86 @@
+package com.devsu.account_service.adapter.out.messaging;
+
+import com.devsu.account_service.domain.exception.InsufficientBalanceException;
+import com.devsu.account_service.domain.model.PostingResult;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.port.out.AccountChangeEventPort;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChangePublishingAccountRepositoryAdapterTest {
+
+    @Mock
+    private AccountRepositoryPort delegate;
+
+    @Mock
+    private AccountChangeEventPort accountChangeEventPort;
+
+    private ChangePublishingAccountRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ChangePublishingAccountRepositoryAdapter(delegate, accountChangeEventPort);
+    }
+
+    @Test
+    void postTransaction_shouldAnnounceAccount_onlyAfterThePostingSucceeds() {
+        Transaction posted = movement("1111111111", "10.00");
+        Transaction rejected = movement("2222222222", "-10.00");
+        when(delegate.postTransaction(posted)).thenReturn(Mono.just(posted));
+        when(delegate.postTransaction(rejected)).thenReturn(Mono.error(new InsufficientBalanceException("Saldo no disponible")));
+
+        StepVerifier.create(adapter.postTransaction(posted)).expectNext(posted).verifyComplete();
+        StepVerifier.create(adapter.postTransaction(rejected)).expectError(InsufficientBalanceException.class).verify();
+
+        verify(accountChangeEventPort).accountChanged("1111111111");
+        verify(accountChangeEventPort, never()).accountChanged("2222222222");
+    }
+
+    @Test
+    void postTransactionChunk_shouldAnnounceOnlyAccountsWithPostedMovements() {
+        Transaction posted = movement("1111111111", "10.00");
+        Transaction rejected = movement("2222222222", "-10.00");
+        List<Transaction> chunk = List.of(posted, rejected);
+        when(delegate.postTransactionChunk(chunk))
+            .thenReturn(Mono.just(List.of(PostingResult.posted(posted), PostingResult.rejected(rejected, "Saldo no disponible"))));
+
+        StepVerifier.create(adapter.postTransactionChunk(chunk)).expectNextCount(1).verifyComplete();
+
+        verify(accountChangeEventPort).accountChanged("1111111111");
+        verify(accountChangeEventPort, never()).accountChanged("2222222222");
+    }
+
+    @Test
+    void findByAccountNumber_shouldNotAnnounceAnything() {
+        when(delegate.findByAccountNumber("1111111111")).thenReturn(Mono.empty());
+
+        StepVerifier.create(adapter.findByAccountNumber("1111111111")).verifyComplete();
+
+        verifyNoInteractions(accountChangeEventPort);
+    }
+
+    private Transaction movement(String accountNumber, String amount) {
+        Transaction transaction = new Transaction();
+        transaction.setDate(LocalDateTime.now());
+        transaction.setTransactionType("Deposito");
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setAccountNumber(accountNumber);
+        return transaction;
+    }
+}
@@ -1,19 +1,34 @@
 package com.devsu.account_service.adapter.out.persistence;
 
+import com.devsu.account_service.domain.exception.AccountNotFoundException;
+import com.devsu.account_service.domain.exception.ConcurrentUpdateException;
+import com.devsu.account_service.domain.exception.InsufficientBalanceException;
 import com.devsu.account_service.domain.model.Account;
 import com.devsu.account_service.domain.model.AccountType;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.model.Transfer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @DataR2dbcTest
-@Import({AccountRepositoryAdapter.class, com.devsu.account_service.adapter.out.persistence.mapper.AccountPersistenceMapper.class})
+@Import({
+    AccountRepositoryAdapter.class,
+    com.devsu.account_service.adapter.out.persistence.mapper.AccountPersistenceMapper.class,
+    com.devsu.account_service.adapter.out.persistence.mapper.TransactionPersistenceMapper.class,
+    TransactionBatchInserter.class,
+    DailyBalanceRecorder.class
+})
 @TestPropertySource(locations = "classpath:application-test.properties")
 class AccountRepositoryAdapterTest {
 
@@ -79,12 +94,113 @@ class AccountRepositoryAdapterTest {
             .expectNextMatches(updatedAccount ->
                 updatedAccount.getId() != null &&
                 updatedAccount.getAccountNumber().equals("9876543210") &&
-                updatedAccount.getBalance().compareTo(new BigDecimal("2500.00")) == 0 &&
+                updatedAccount.getBalance().compareTo(new BigDecimal("2000.00")) == 0 &&
                 !updatedAccount.getStatus()
             )
             .verifyComplete();
     }
 
+    @Test
+    void shouldKeepCreatedAtAndBumpVersionOnUpdate() {
+        Account account = new Account();
+        account.setAccountNumber("5555555555");
+        account.setAccountType(AccountType.AHORROS);
+        account.setBalance(new BigDecimal("100.00"));
+        account.setStatus(true);
+        account.setClientId("client-2");
+        account.setClientName("Jane Smith");
+        account.setClientStatus(true);
+
+        Account saved = accountRepositoryAdapter.save(account).block();
+        LocalDateTime createdAt = accountRepository.findById(saved.getId()).block().getCreatedAt();
+
+        saved.setAccountType(AccountType.CORRIENTE);
+
+        StepVerifier.create(accountRepositoryAdapter.save(saved))
+            .expectNextMatches(updated -> updated.getVersion() == saved.getVersion() + 1)
+            .verifyComplete();
+
+        StepVerifier.create(accountRepository.findById(saved.getId()))
+            .expectNextMatches(entity ->
+                entity.getCreatedAt().equals(createdAt) &&
+                entity.getAccountType().equals("CORRIENTE") &&
+                entity.getVersion() == saved.getVersion() + 1
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectUpdateBasedOnStaleVersion() {
+        Account account = new Account();
+        account.setAccountNumber("6666666666");
+        account.setAccountType(AccountType.AHORROS);
+        account.setBalance(new BigDecimal("100.00"));
+        account.setStatus(true);
+        account.setClientId("client-2");
+        account.setClientName("Jane Smith");
+        account.setClientStatus(true);
+
+        Account saved = accountRepositoryAdapter.save(account).block();
+        Account first = accountRepositoryAdapter.findByAccountNumber("6666666666").block();
+        Account second = accountRepositoryAdapter.findByAccountNumber("6666666666").block();
+
+        first.setStatus(false);
+        accountRepositoryAdapter.save(first).block();
+
+        second.setAccountType(AccountType.CORRIENTE);
+
+        StepVerifier.create(accountRepositoryAdapter.save(second))
+            .expectError(ConcurrentUpdateException.class)
+            .verify();
+
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber(saved.getAccountNumber()))
+            .expectNextMatches(current ->
+                !current.getStatus() &&
+                current.getAccountType() == AccountType.AHORROS
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldKeepPostingsMadeBetweenReadAndMetadataUpdate() {
+        Account account = new Account();
+        account.setAccountNumber("6666666667");
+        account.setAccountType(AccountType.AHORROS);
+        account.setBalance(new BigDecimal("100.00"));
+        account.setStatus(true);
+        account.setClientId("client-2");
+        account.setClientName("Jane Smith");
+        account.setClientStatus(true);
+
+        accountRepositoryAdapter.save(account).block();
+        Account read = accountRepositoryAdapter.findByAccountNumber("6666666667").block();
+        accountRepositoryAdapter.postTransaction(movement("6666666667", "50.00")).block();
+
+        read.setStatus(false);
+
+        StepVerifier.create(accountRepositoryAdapter.save(read))
+            .expectNextMatches(updated ->
+                !updated.getStatus() &&
+                updated.getBalance().compareTo(new BigDecimal("150.00")) == 0
+            )
+            .verifyComplete();
+
+        StepVerifier.create(accountRepository.findBalanceByAccountNumber("6666666667"))
+            .expectNextMatches(balance -> balance.compareTo(new BigDecimal("150.00")) == 0)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnEmptyWhenUpdatingMissingAccount() {
+        Account account = new Account(
+            999L, "7777777777", AccountType.AHORROS, new BigDecimal("100.00"), true,
+            "client-2", "Jane Smith", true, 0L
+        );
+
+        StepVerifier.create(accountRepositoryAdapter.save(account))
+            .verifyComplete();
+    }
+
     @Test
     void shouldFindAllAccounts() {
         Account account1 = new Account();
@@ -202,4 +318,349 @@ class AccountRepositoryAdapterTest {
         StepVerifier.create(accountRepositoryAdapter.findByClientId("non-existent-client"))
             .verifyComplete();
     }
+
+    @Test
+    void shouldUpdateClientInfoOnAllClientAccounts() {
+        Account account1 = createAccount("8000000001", "100.00");
+        Account account2 = createAccount("8000000002", "200.00");
+        Account otherClient = createAccount("8000000003", "300.00");
+        otherClient.setClientId("client-other");
+
+        StepVerifier.create(
+            accountRepositoryAdapter.save(account1)
+                .then(accountRepositoryAdapter.save(account2))
+                .then(accountRepositoryAdapter.save(otherClient))
+                .then(accountRepositoryAdapter.updateClientInfo(account1.getClientId(), "Renamed", false, null))
+        )
+            .expectNext(2L)
+            .verifyComplete();
+
+        StepVerifier.create(accountRepositoryAdapter.findByClientId(account1.getClientId()))
+            .expectNextMatches(a -> a.getClientName().equals("Renamed") && !a.getClientStatus())
+            .expectNextMatches(a -> a.getClientName().equals("Renamed") && !a.getClientStatus())
+            .verifyComplete();
+
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber("8000000003"))
+            .expectNextMatches(a -> !a.getClientName().equals("Renamed") && a.getClientStatus())
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldSkipClientInfoOlderThanTheStoredChange() {
+        Account account = createAccount("8000000004", "100.00");
+        LocalDateTime changedAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+        StepVerifier.create(
+            accountRepositoryAdapter.save(account)
+                .then(accountRepositoryAdapter.updateClientInfo(account.getClientId(), "Newer", true, changedAt))
+                .then(accountRepositoryAdapter.updateClientInfo(account.getClientId(), "Older", false,
+                    changedAt.minusSeconds(1)))
+        )
+            .expectNext(0L)
+            .verifyComplete();
+
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber("8000000004"))
+            .expectNextMatches(a -> a.getClientName().equals("Newer") && a.getClientStatus())
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldPostTransactionAndReturnNewBalance() {
+        Account account = createAccount("7000000001", "1000.00");
+
+        StepVerifier.create(
+            accountRepositoryAdapter.save(account)
+                .then(accountRepositoryAdapter.postTransaction(movement("7000000001", "-250.00")))
+        )
+            .expectNextMatches(posted ->
+                posted.getId() != null &&
+                posted.getAmount().compareTo(new BigDecimal("-250.00")) == 0 &&
+                posted.getBalance().compareTo(new BigDecimal("750.00")) == 0
+            )
+            .verifyComplete();
+
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber("7000000001"))
+            .expectNextMatches(found -> found.getBalance().compareTo(new BigDecimal("750.00")) == 0)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectPostingThatWouldOverdrawAccount() {
+        Account account = createAccount("7000000002", "100.00");
+
+        StepVerifier.create(
+            accountRepositoryAdapter.save(account)
+                .then(accountRepositoryAdapter.postTransaction(movement("7000000002", "-100.01")))
+        )
+            .expectError(InsufficientBalanceException.class)
+            .verify();
+
+        StepVerifier.create(transactionRepository.findByAccountNumber("7000000002"))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldFailPostingWhenAccountDoesNotExist() {
+        StepVerifier.create(accountRepositoryAdapter.postTransaction(movement("7000000404", "10.00")))
+            .expectError(AccountNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void shouldNotLoseUpdatesUnderConcurrentPostings() {
+        int postings = 500;
+        accountRepositoryAdapter.save(createAccount("7000000003", "0.00")).block();
+
+        StepVerifier.create(
+            Flux.range(0, postings)
+                .flatMap(i -> accountRepositoryAdapter.postTransaction(movement("7000000003", "1.00")), 16)
+                .count()
+        )
+            .expectNext((long) postings)
+            .verifyComplete();
+
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber("7000000003"))
+            .expectNextMatches(found -> found.getBalance().compareTo(new BigDecimal("500.00")) == 0)
+            .verifyComplete();
+
+        StepVerifier.create(transactionRepository.findByAccountNumber("7000000003").count())
+            .expectNext((long) postings)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldNeverOverdrawUnderConcurrentWithdrawals() {
+        int attempts = 300;
+        accountRepositoryAdapter.save(createAccount("7000000004", "200.00")).block();
+
+        // Every attempt must either post or be rejected, and a posting run of this size
+        // has to sustain well above 10 postings per second.
+        StepVerifier.create(
+            Flux.range(0, attempts)
+                .flatMap(i -> accountRepositoryAdapter.postTransaction(movement("7000000004", "-1.00"))
+                    .map(posted -> true)
+                    .onErrorReturn(InsufficientBalanceException.class, false), 16)
+                .filter(Boolean::booleanValue)
+                .count()
+        )
+            .expectNext(200L)
+            .expectComplete()
+            .verify(Duration.ofSeconds(30));
+
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber("7000000004"))
+            .expectNextMatches(found -> found.getBalance().compareTo(BigDecimal.ZERO) == 0)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldPostBatchWithRunningBalancesAndRejectOverdrafts() {
+        accountRepositoryAdapter.save(createAccount("7000000005", "100.00")).block();
+
+        List<Transaction> batch = List.of(
+            movement("7000000005", "50.00"),
+            movement("7000000005", "-200.00"),
+            movement("7000000005", "-150.00")
+        );
+
+        StepVerifier.create(accountRepositoryAdapter.postTransactions("7000000005", batch))
+            .expectNextMatches(results ->
+                results.size() == 3 &&
+                !results.get(0).isRejected() &&
+                results.get(0).getTransaction().getId() != null &&
+                results.get(0).getTransaction().getBalance().compareTo(new BigDecimal("150.00")) == 0 &&
+                results.get(1).isRejected() &&
+                !results.get(2).isRejected() &&
+                results.get(2).getTransaction().getBalance().compareTo(BigDecimal.ZERO) == 0
+            )
+            .verifyComplete();
+
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber("7000000005"))
+            .expectNextMatches(found -> found.getBalance().compareTo(BigDecimal.ZERO) == 0)
+            .verifyComplete();
+
+        StepVerifier.create(transactionRepository.findByAccountNumber("7000000005").count())
+            .expectNext(2L)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldFailBatchPostingWhenAccountDoesNotExist() {
+        StepVerifier.create(accountRepositoryAdapter.postTransactions(
+                "7000000404", List.of(movement("7000000404", "10.00"))))
+            .expectError(AccountNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void shouldPostTransferAsTwoCorrelatedLegs() {
+        accountRepositoryAdapter.save(createAccount("9200000002", "100.00")).block();
+        accountRepositoryAdapter.save(createAccount("9200000001", "20.00")).block();
+
+        StepVerifier.create(accountRepositoryAdapter.postTransfer(transfer("9200000002", "9200000001", "30.00")))
+            .expectNextMatches(posted ->
+                posted.getDebit().getId() != null &&
+                posted.getCredit().getId() != null &&
+                posted.getDebit().getBalance().compareTo(new BigDecimal("70.00")) == 0 &&
+                posted.getCredit().getBalance().compareTo(new BigDecimal("50.00")) == 0
+            )
+            .verifyComplete();
+
+        StepVerifier.create(transactionRepository.findByAccountNumber("9200000001"))
+            .expectNextMatches(leg -> "transfer-9200000002".equals(leg.getCorrelationId()))
+            .verifyComplete();
+        StepVerifier.create(transactionRepository.findByAccountNumber("9200000002"))
+            .expectNextMatches(leg -> "transfer-9200000002".equals(leg.getCorrelationId()))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectTransferThatWouldOverdrawSourceWithoutTouchingEitherAccount() {
+        accountRepositoryAdapter.save(createAccount("9200000003", "10.00")).block();
+        accountRepositoryAdapter.save(createAccount("9200000004", "10.00")).block();
+
+        StepVerifier.create(accountRepositoryAdapter.postTransfer(transfer("9200000003", "9200000004", "10.01")))
+            .expectError(InsufficientBalanceException.class)
+            .verify();
+
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber("9200000004"))
+            .expectNextMatches(found -> found.getBalance().compareTo(new BigDecimal("10.00")) == 0)
+            .verifyComplete();
+        StepVerifier.create(transactionRepository.findByAccountNumber("9200000003"))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldFailTransferWhenTargetAccountDoesNotExist() {
+        accountRepositoryAdapter.save(createAccount("9200000005", "10.00")).block();
+
+        StepVerifier.create(accountRepositoryAdapter.postTransfer(transfer("9200000005", "9200000404", "1.00")))
+            .expectError(AccountNotFoundException.class)
+            .verify();
+
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber("9200000005"))
+            .expectNextMatches(found -> found.getBalance().compareTo(new BigDecimal("10.00")) == 0)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldConserveFundsUnderConcurrentOppositeTransfers() {
+        int transfers = 200;
+        accountRepositoryAdapter.save(createAccount("9200000006", "1000.00")).block();
+        accountRepositoryAdapter.save(createAccount("9200000007", "1000.00")).block();
+
+        // Half of the transfers go each way; with unordered locking these pairs deadlock
+        StepVerifier.create(
+            Flux.range(0, transfers)
+                .flatMap(i -> accountRepositoryAdapter.postTransfer(i % 2 == 0
+                    ? transfer("9200000006", "9200000007", "1.00")
+                    : transfer("9200000007", "9200000006", "1.00")), 16)
+                .count()
+        )
+            .expectNext((long) transfers)
+            .expectComplete()
+            .verify(Duration.ofSeconds(30));
+
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber("9200000006"))
+            .expectNextMatches(found -> found.getBalance().compareTo(new BigDecimal("1000.00")) == 0)
+            .verifyComplete();
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber("9200000007"))
+            .expectNextMatches(found -> found.getBalance().compareTo(new BigDecimal("1000.00")) == 0)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldPostChunkAcrossAccountsKeepingInputOrderAndRejectingPerItem() {
+        accountRepositoryAdapter.save(createAccount("9300000002", "100.00")).block();
+        accountRepositoryAdapter.save(createAccount("9300000001", "10.00")).block();
+
+        List<Transaction> chunk = List.of(
+            movement("9300000002", "-60.00"),
+            movement("9300000001", "5.00"),
+            movement("9300000404", "1.00"),
+            movement("9300000002", "-50.00"),
+            movement("9300000002", "-40.00"),
+            movement("9300000001", "-15.00")
+        );
+
+        StepVerifier.create(accountRepositoryAdapter.postTransactionChunk(chunk))
+            .expectNextMatches(results ->
+                results.size() == 6 &&
+                results.get(0).getTransaction().getBalance().compareTo(new BigDecimal("40.00")) == 0 &&
+                results.get(1).getTransaction().getBalance().compareTo(new BigDecimal("15.00")) == 0 &&
+                results.get(2).isRejected() &&
+                "Account not found".equals(results.get(2).getReason()) &&
+                results.get(3).isRejected() &&
+                "Saldo no disponible".equals(results.get(3).getReason()) &&
+                results.get(4).getTransaction().getBalance().compareTo(BigDecimal.ZERO) == 0 &&
+                results.get(5).getTransaction().getBalance().compareTo(BigDecimal.ZERO) == 0 &&
+                results.get(5).getTransaction().getId() != null
+            )
+            .verifyComplete();
+
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber("9300000002"))
+            .expectNextMatches(found -> found.getBalance().compareTo(BigDecimal.ZERO) == 0)
+            .verifyComplete();
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber("9300000001"))
+            .expectNextMatches(found -> found.getBalance().compareTo(BigDecimal.ZERO) == 0)
+            .verifyComplete();
+        StepVerifier.create(transactionRepository.findByAccountNumber("9300000002").count())
+            .expectNext(2L)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldFindStatementLinesGroupedByAccountWithinDateRange() {
+        accountRepositoryAdapter.save(createAccount("9100000001", "100.00")).block();
+        accountRepositoryAdapter.save(createAccount("9100000002", "50.00")).block();
+        accountRepositoryAdapter.postTransaction(movement("9100000001", "10.00")).block();
+        accountRepositoryAdapter.postTransaction(movement("9100000001", "-5.00")).block();
+
+        LocalDateTime startDate = LocalDateTime.now().minusDays(1);
+        LocalDateTime endDate = LocalDateTime.now().plusDays(1);
+
+        StepVerifier.create(accountRepositoryAdapter.findStatementLines("client-8", startDate, endDate))
+            .expectNextMatches(line -> line.getAccount().getAccountNumber().equals("9100000001")
+                && line.getAccount().getAccountType() == AccountType.AHORROS
+                && line.getTransaction().getBalance().compareTo(new BigDecimal("110.00")) == 0)
+            .expectNextMatches(line -> line.getAccount().getAccountNumber().equals("9100000001")
+                && line.getTransaction().getBalance().compareTo(new BigDecimal("105.00")) == 0)
+            .expectNextMatches(line -> line.getAccount().getAccountNumber().equals("9100000002")
+                && line.getTransaction() == null)
+            .verifyComplete();
+
+        StepVerifier.create(accountRepositoryAdapter.findStatementLines("client-8", startDate.minusYears(1), startDate))
+            .expectNextMatches(line -> line.getTransaction() == null)
+            .expectNextMatches(line -> line.getTransaction() == null)
+            .verifyComplete();
+    }
+
+    private Account createAccount(String accountNumber, String balance) {
+        Account account = new Account();
+        account.setAccountNumber(accountNumber);
+        account.setAccountType(AccountType.AHORROS);
+        account.setBalance(new BigDecimal(balance));
+        account.setStatus(true);
+        account.setClientId("client-8");
+        account.setClientName("Frank Green");
+        account.setClientStatus(true);
+        return account;
+    }
+
+    private Transaction movement(String accountNumber, String amount) {
+        Transaction transaction = new Transaction();
+        transaction.setDate(LocalDateTime.now());
+        transaction.setTransactionType(amount.startsWith("-") ? "Retiro" : "Deposito");
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setAccountNumber(accountNumber);
+        return transaction;
+    }
+
+    private Transfer transfer(String sourceAccountNumber, String targetAccountNumber, String amount) {
+        String correlationId = "transfer-" + sourceAccountNumber;
+        Transaction debit = movement(sourceAccountNumber, "-" + amount);
+        debit.setCorrelationId(correlationId);
+        Transaction credit = movement(targetAccountNumber, amount);
+        credit.setCorrelationId(correlationId);
+        return new Transfer(correlationId, debit, credit);
+    }
 }
@@ -0,0 +1,167 @@
+package com.devsu.account_service.adapter.out.persistence;
+
+import com.devsu.account_service.adapter.out.persistence.mapper.AccountPersistenceMapper;
+import com.devsu.account_service.adapter.out.persistence.mapper.TransactionPersistenceMapper;
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.AccountType;
+import com.devsu.account_service.domain.model.DailyBalance;
+import com.devsu.account_service.domain.model.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.TestPropertySource;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataR2dbcTest
+@Import({
+    AccountRepositoryAdapter.class,
+    AccountPersistenceMapper.class,
+    TransactionPersistenceMapper.class,
+    TransactionBatchInserter.class,
+    DailyBalanceRecorder.class,
+    DailyBalanceRepositoryAdapter.class
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+class DailyBalanceRepositoryAdapterTest {
+
+    private static final String ACCOUNT_NUMBER = "7100000001";
+
+    @Autowired
+    private AccountRepositoryAdapter accountRepositoryAdapter;
+
+    @Autowired
+    private DailyBalanceRepositoryAdapter dailyBalanceRepositoryAdapter;
+
+    @Autowired
+    private AccountR2dbcRepository accountRepository;
+
+    @Autowired
+    private TransactionR2dbcRepository transactionRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository.deleteAll().block();
+        accountRepository.deleteAll().block();
+
+        Account account = new Account();
+        account.setAccountNumber(ACCOUNT_NUMBER);
+        account.setAccountType(AccountType.AHORROS);
+        account.setBalance(new BigDecimal("100.00"));
+        account.setStatus(true);
+        account.setClientId("client-snap");
+        account.setClientName("Snapshot Client");
+        account.setClientStatus(true);
+        accountRepositoryAdapter.save(account).block();
+    }
+
+    @Test
+    void postingShouldMaintainTodaysSnapshotIncrementally() {
+        accountRepositoryAdapter.postTransaction(movement("50.00")).block();
+        accountRepositoryAdapter.postTransaction(movement("-30.00")).block();
+        accountRepositoryAdapter.postTransactions(ACCOUNT_NUMBER, List.of(movement("10.00"), movement("-500.00"))).block();
+
+        LocalDate today = LocalDate.now();
+        StepVerifier.create(dailyBalanceRepositoryAdapter.findForClient("client-snap", today, today))
+            .expectNextMatches(day -> day.getBalanceDate().equals(today)
+                && day.getOpeningBalance().compareTo(new BigDecimal("100.00")) == 0
+                && day.getClosingBalance().compareTo(new BigDecimal("130.00")) == 0
+                && day.getTotalCredits().compareTo(new BigDecimal("60.00")) == 0
+                && day.getTotalDebits().compareTo(new BigDecimal("30.00")) == 0
+                && day.getMovementCount() == 3)
+            .verifyComplete();
+
+        StepVerifier.create(dailyBalanceRepositoryAdapter.findMismatches())
+            .verifyComplete();
+    }
+
+    @Test
+    void rebuildShouldBackfillSnapshotsFromLedger() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        insertLedgerRow(yesterday.atTime(9, 0), "20.00", "120.00");
+        insertLedgerRow(yesterday.atTime(18, 0), "-5.00", "115.00");
+
+        StepVerifier.create(dailyBalanceRepositoryAdapter.findMismatches())
+            .expectNextMatches(mismatch -> mismatch.getBalanceDate().equals(yesterday)
+                && mismatch.getSnapshot() == null
+                && mismatch.getLedger().getClosingBalance().compareTo(new BigDecimal("115.00")) == 0)
+            .verifyComplete();
+
+        StepVerifier.create(dailyBalanceRepositoryAdapter.rebuild(ACCOUNT_NUMBER, null))
+            .expectNext(1L)
+            .verifyComplete();
+
+        List<DailyBalance> days = dailyBalanceRepositoryAdapter
+            .findForClient("client-snap", yesterday, yesterday)
+            .collectList()
+            .block();
+        assertThat(days).hasSize(1);
+        assertThat(days.get(0).getOpeningBalance()).isEqualByComparingTo("100.00");
+        assertThat(days.get(0).getClosingBalance()).isEqualByComparingTo("115.00");
+        assertThat(days.get(0).getMovementCount()).isEqualTo(2);
+
+        StepVerifier.create(dailyBalanceRepositoryAdapter.findMismatches())
+            .verifyComplete();
+    }
+
+    @Test
+    void findForClientShouldIncludeNearestSnapshotsOutsideRange() {
+        LocalDate today = LocalDate.now();
+        insertLedgerRow(today.minusDays(10).atTime(9, 0), "20.00", "120.00");
+        insertLedgerRow(today.minusDays(5).atTime(9, 0), "10.00", "130.00");
+        insertLedgerRow(today.minusDays(1).atTime(9, 0), "-30.00", "100.00");
+        dailyBalanceRepositoryAdapter.rebuild(ACCOUNT_NUMBER, null).block();
+
+        StepVerifier.create(dailyBalanceRepositoryAdapter.findForClient("client-snap", today.minusDays(4), today.minusDays(3)))
+            .expectNextMatches(day -> day.getBalanceDate().equals(today.minusDays(5)))
+            .expectNextMatches(day -> day.getBalanceDate().equals(today.minusDays(1)))
+            .verifyComplete();
+    }
+
+    @Test
+    void checkerShouldReportTamperedSnapshot() {
+        accountRepositoryAdapter.postTransaction(movement("50.00")).block();
+        databaseClient.sql("UPDATE account_daily_balance SET closing_balance = closing_balance + 1")
+            .then()
+            .block();
+
+        StepVerifier.create(dailyBalanceRepositoryAdapter.findMismatches())
+            .expectNextMatches(mismatch -> mismatch.getAccountNumber().equals(ACCOUNT_NUMBER)
+                && mismatch.getSnapshot().getClosingBalance().compareTo(new BigDecimal("151.00")) == 0
+                && mismatch.getLedger().getClosingBalance().compareTo(new BigDecimal("150.00")) == 0)
+            .verifyComplete();
+    }
+
+    private void insertLedgerRow(LocalDateTime date, String amount, String balance) {
+        databaseClient.sql("INSERT INTO transaction (date, transaction_type, amount, balance, account_number, created_at, updated_at) " +
+                "VALUES (:date, :type, :amount, :balance, :accountNumber, :date, :date)")
+            .bind("date", date)
+            .bind("type", amount.startsWith("-") ? "Retiro" : "Deposito")
+            .bind("amount", new BigDecimal(amount))
+            .bind("balance", new BigDecimal(balance))
+            .bind("accountNumber", ACCOUNT_NUMBER)
+            .then()
+            .block();
+    }
+
+    private Transaction movement(String amount) {
+        Transaction transaction = new Transaction();
+        transaction.setDate(LocalDateTime.now());
+        transaction.setTransactionType(amount.startsWith("-") ? "Retiro" : "Deposito");
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setAccountNumber(ACCOUNT_NUMBER);
+        return transaction;
+    }
+}
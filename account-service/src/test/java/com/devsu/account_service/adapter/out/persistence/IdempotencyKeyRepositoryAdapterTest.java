@@ -0,0 +1,106 @@
+package com.devsu.account_service.adapter.out.persistence;
+
+import com.devsu.account_service.adapter.out.persistence.entity.AccountEntity;
+import com.devsu.account_service.adapter.out.persistence.entity.TransactionEntity;
+import com.devsu.account_service.domain.exception.DuplicateIdempotencyKeyException;
+import com.devsu.account_service.domain.model.IdempotencyRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@DataR2dbcTest
+@Import(IdempotencyKeyRepositoryAdapter.class)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class IdempotencyKeyRepositoryAdapterTest {
+
+    private static final String ACCOUNT_NUMBER = "7200000001";
+
+    @Autowired
+    private IdempotencyKeyRepositoryAdapter idempotencyKeyRepositoryAdapter;
+
+    @Autowired
+    private AccountR2dbcRepository accountRepository;
+
+    @Autowired
+    private TransactionR2dbcRepository transactionRepository;
+
+    private Long transactionId;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository.deleteAll().block();
+        accountRepository.deleteAll().block();
+
+        AccountEntity account = new AccountEntity();
+        account.setAccountNumber(ACCOUNT_NUMBER);
+        account.setAccountType("AHORROS");
+        account.setBalance(new BigDecimal("1500.00"));
+        account.setStatus(true);
+        account.setClientId("client-1");
+        account.setClientName("Test Client");
+        account.setClientStatus(true);
+        account.setCreatedAt(LocalDateTime.now());
+        account.setUpdatedAt(LocalDateTime.now());
+        accountRepository.save(account).block();
+
+        TransactionEntity transaction = new TransactionEntity();
+        transaction.setDate(LocalDateTime.now());
+        transaction.setTransactionType("Deposito");
+        transaction.setAmount(new BigDecimal("500.00"));
+        transaction.setBalance(new BigDecimal("1500.00"));
+        transaction.setAccountNumber(ACCOUNT_NUMBER);
+        transaction.setCreatedAt(LocalDateTime.now());
+        transaction.setUpdatedAt(LocalDateTime.now());
+        transactionId = transactionRepository.save(transaction).block().getId();
+    }
+
+    @Test
+    void shouldSaveAndFindRecord() {
+        IdempotencyRecord record = record("key-1", LocalDateTime.now().plusHours(24));
+
+        StepVerifier.create(idempotencyKeyRepositoryAdapter.save(record)
+                .then(idempotencyKeyRepositoryAdapter.findByKey("key-1")))
+            .expectNextMatches(found ->
+                found.getRequestHash().equals("a".repeat(64)) &&
+                found.getTransactionId().equals(transactionId) &&
+                found.getExpiresAt() != null
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectKeyThatIsAlreadyRecorded() {
+        idempotencyKeyRepositoryAdapter.save(record("key-2", LocalDateTime.now().plusHours(24))).block();
+
+        StepVerifier.create(idempotencyKeyRepositoryAdapter.save(record("key-2", LocalDateTime.now().plusHours(24))))
+            .expectError(DuplicateIdempotencyKeyException.class)
+            .verify();
+    }
+
+    @Test
+    void shouldDeleteOnlyExpiredKeys() {
+        idempotencyKeyRepositoryAdapter.save(record("expired", LocalDateTime.now().minusMinutes(1))).block();
+        idempotencyKeyRepositoryAdapter.save(record("live", LocalDateTime.now().plusHours(1))).block();
+
+        StepVerifier.create(idempotencyKeyRepositoryAdapter.deleteExpired(LocalDateTime.now()))
+            .expectNext(1L)
+            .verifyComplete();
+
+        StepVerifier.create(idempotencyKeyRepositoryAdapter.findByKey("expired"))
+            .verifyComplete();
+        StepVerifier.create(idempotencyKeyRepositoryAdapter.findByKey("live"))
+            .expectNextCount(1)
+            .verifyComplete();
+    }
+
+    private IdempotencyRecord record(String key, LocalDateTime expiresAt) {
+        return new IdempotencyRecord(key, "a".repeat(64), transactionId, LocalDateTime.now(), expiresAt);
+    }
+}
@@ -1,6 +1,7 @@
 package com.devsu.account_service.adapter.out.persistence;
 
 import com.devsu.account_service.adapter.out.persistence.entity.AccountEntity;
+import com.devsu.account_service.domain.exception.ConcurrentUpdateException;
 import com.devsu.account_service.domain.model.Transaction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -95,6 +96,34 @@ class TransactionRepositoryAdapterTest {
             .verifyComplete();
     }
 
+    @Test
+    void shouldRejectUpdateBasedOnStaleVersion() {
+        Transaction transaction = new Transaction();
+        transaction.setDate(LocalDateTime.now());
+        transaction.setTransactionType("DEPOSIT");
+        transaction.setAmount(new BigDecimal("100.00"));
+        transaction.setBalance(new BigDecimal("1100.00"));
+        transaction.setAccountNumber(testAccountNumber);
+
+        Transaction saved = transactionRepositoryAdapter.save(transaction).block();
+        Transaction first = transactionRepositoryAdapter.findById(saved.getId()).block();
+        Transaction second = transactionRepositoryAdapter.findById(saved.getId()).block();
+
+        first.setAmount(new BigDecimal("150.00"));
+        StepVerifier.create(transactionRepositoryAdapter.save(first))
+            .expectNextMatches(updated -> updated.getVersion() == saved.getVersion() + 1)
+            .verifyComplete();
+
+        second.setAmount(new BigDecimal("200.00"));
+        StepVerifier.create(transactionRepositoryAdapter.save(second))
+            .expectError(ConcurrentUpdateException.class)
+            .verify();
+
+        StepVerifier.create(transactionRepositoryAdapter.findById(saved.getId()))
+            .expectNextMatches(current -> current.getAmount().compareTo(new BigDecimal("150.00")) == 0)
+            .verifyComplete();
+    }
+
     @Test
     void shouldFindAllTransactions() {
         Transaction transaction1 = new Transaction();
@@ -120,6 +149,28 @@ class TransactionRepositoryAdapterTest {
             .verifyComplete();
     }
 
+    @Test
+    void shouldFindPageAfterCursorOrderedById() {
+        Transaction first = new Transaction(null, LocalDateTime.now(), "DEPOSIT", new BigDecimal("100.00"), new BigDecimal("1100.00"), testAccountNumber);
+        Transaction second = new Transaction(null, LocalDateTime.now(), "DEPOSIT", new BigDecimal("100.00"), new BigDecimal("1200.00"), testAccountNumber);
+        Transaction third = new Transaction(null, LocalDateTime.now(), "DEPOSIT", new BigDecimal("100.00"), new BigDecimal("1300.00"), testAccountNumber);
+
+        Transaction savedFirst = transactionRepositoryAdapter.save(first).block();
+        Transaction savedSecond = transactionRepositoryAdapter.save(second).block();
+        Transaction savedThird = transactionRepositoryAdapter.save(third).block();
+
+        StepVerifier.create(transactionRepositoryAdapter.findPage(testAccountNumber, null, null, savedFirst.getId(), 1))
+            .expectNextMatches(t -> t.getId().equals(savedSecond.getId()))
+            .verifyComplete();
+
+        StepVerifier.create(transactionRepositoryAdapter.findPage(testAccountNumber, null, null, savedSecond.getId(), 10))
+            .expectNextMatches(t -> t.getId().equals(savedThird.getId()))
+            .verifyComplete();
+
+        StepVerifier.create(transactionRepositoryAdapter.findPage("OTHER", null, null, null, null))
+            .verifyComplete();
+    }
+
     @Test
     void shouldFindTransactionById() {
         Transaction transaction = new Transaction();
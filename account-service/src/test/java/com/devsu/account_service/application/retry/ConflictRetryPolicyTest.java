@@ -0,0 +1,94 @@
+package com.devsu.account_service.application.retry;
+
+import com.devsu.account_service.domain.exception.ConcurrentUpdateException;
+import com.devsu.account_service.domain.exception.InsufficientBalanceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConflictRetryPolicyTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void execute_shouldResubscribeUntilTheWriteStopsConflicting() {
+        ConflictRetryPolicy policy = policy(3);
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(policy.execute(() -> attempts.incrementAndGet() < 3
+                ? Mono.error(conflict())
+                : Mono.just("saved")))
+            .expectNext("saved")
+            .verifyComplete();
+
+        assertThat(attempts).hasValue(3);
+        assertThat(count("usecase.conflicts")).isEqualTo(2);
+        assertThat(count("usecase.conflict.retries")).isEqualTo(2);
+        assertThat(count("usecase.conflict.exhausted")).isZero();
+    }
+
+    @Test
+    void execute_shouldSurfaceTheConflict_whenRetriesAreExhausted() {
+        ConflictRetryPolicy policy = policy(2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(policy.execute(() -> {
+                attempts.incrementAndGet();
+                return Mono.error(conflict());
+            }))
+            .expectError(ConcurrentUpdateException.class)
+            .verify();
+
+        assertThat(attempts).hasValue(3);
+        assertThat(count("usecase.conflict.exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    void execute_shouldNotRetryOtherErrors() {
+        ConflictRetryPolicy policy = policy(3);
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(policy.execute(() -> {
+                attempts.incrementAndGet();
+                return Mono.error(new InsufficientBalanceException("Saldo no disponible"));
+            }))
+            .expectError(InsufficientBalanceException.class)
+            .verify();
+
+        assertThat(attempts).hasValue(1);
+        assertThat(count("usecase.conflicts")).isZero();
+    }
+
+    @Test
+    void forUseCase_shouldPreferUseCaseSettingsOverDefaults() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("account.conflict-retry.default.max-retries", "4")
+            .withProperty("account.conflict-retry.UpdateTransactionUseCase.max-retries", "9");
+        ConflictRetryPolicies policies = new ConflictRetryPolicies(environment, meterRegistry);
+
+        assertThat(policies.forUseCase("UpdateTransactionUseCase").getMaxRetries()).isEqualTo(9);
+        assertThat(policies.forUseCase("UpdateAccountUseCase").getMaxRetries()).isEqualTo(4);
+        assertThat(policies.forUseCase("UpdateAccountUseCase"))
+            .isSameAs(policies.forUseCase("UpdateAccountUseCase"));
+    }
+
+    private ConflictRetryPolicy policy(int maxRetries) {
+        return new ConflictRetryPolicy("TestUseCase", maxRetries, Duration.ofMillis(1), Duration.ofMillis(5),
+            0.5, meterRegistry);
+    }
+
+    private ConcurrentUpdateException conflict() {
+        return new ConcurrentUpdateException("1234567890", "Account was modified by another request");
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).tag("operation", "TestUseCase").counter().count();
+    }
+}
@@ -0,0 +1,94 @@
+package com.devsu.account_service.application.usecase.bulkcreatetransactions;
+
+import com.devsu.account_service.domain.model.PostingResult;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkCreateTransactionsUseCaseTest {
+
+    @Mock
+    private AccountRepositoryPort accountRepositoryPort;
+
+    private BulkCreateTransactionsUseCase bulkCreateTransactionsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        bulkCreateTransactionsUseCase = new BulkCreateTransactionsUseCase(accountRepositoryPort, 2);
+    }
+
+    @Test
+    void execute_shouldPostCommandsInChunksAndKeepTheirIndexes() {
+        when(accountRepositoryPort.postTransactionChunk(anyList())).thenAnswer(invocation -> {
+            List<Transaction> chunk = invocation.getArgument(0);
+            return Mono.just(chunk.stream()
+                .map(transaction -> transaction.getAmount().signum() < 0
+                    ? PostingResult.rejected(transaction, "Saldo no disponible")
+                    : PostingResult.posted(transaction))
+                .toList());
+        });
+
+        Flux<BulkTransactionCommand> commands = Flux.just(
+            command(3, "1111111111", "100.00"),
+            command(5, "2222222222", "-10.00"),
+            command(8, "1111111111", "20.00")
+        );
+
+        StepVerifier.create(bulkCreateTransactionsUseCase.execute(commands))
+            .expectNextMatches(result -> result.getIndex() == 3 && !result.isRejected()
+                && result.getTransaction().getDate() != null)
+            .expectNextMatches(result -> result.getIndex() == 5 && result.isRejected()
+                && "Saldo no disponible".equals(result.getReason()))
+            .expectNextMatches(result -> result.getIndex() == 8 && !result.isRejected())
+            .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transaction>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(accountRepositoryPort, times(2)).postTransactionChunk(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(2, 1);
+    }
+
+    @Test
+    void execute_shouldRejectOnlyTheFailedChunk_whenPostingAChunkFails() {
+        when(accountRepositoryPort.postTransactionChunk(anyList()))
+            .thenReturn(Mono.error(new IllegalStateException("connection reset")))
+            .thenAnswer(invocation -> {
+                List<Transaction> chunk = invocation.getArgument(0);
+                return Mono.just(chunk.stream().map(PostingResult::posted).toList());
+            });
+
+        Flux<BulkTransactionCommand> commands = Flux.just(
+            command(0, "1111111111", "1.00"),
+            command(1, "1111111111", "2.00"),
+            command(2, "1111111111", "3.00")
+        );
+
+        StepVerifier.create(bulkCreateTransactionsUseCase.execute(commands))
+            .expectNextMatches(result -> result.getIndex() == 0 && result.isRejected())
+            .expectNextMatches(result -> result.getIndex() == 1 && result.isRejected())
+            .expectNextMatches(result -> result.getIndex() == 2 && !result.isRejected())
+            .verifyComplete();
+    }
+
+    private BulkTransactionCommand command(long index, String accountNumber, String amount) {
+        return new BulkTransactionCommand(index, accountNumber, "Deposito", new BigDecimal(amount));
+    }
+}
@@ -0,0 +1,124 @@
+package com.devsu.account_service.application.usecase.createtransaction;
+
+import com.devsu.account_service.domain.exception.AccountNotFoundException;
+import com.devsu.account_service.domain.exception.InsufficientBalanceException;
+import com.devsu.account_service.domain.model.PostingResult;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchedCreateTransactionUseCaseTest {
+
+    @Mock
+    private AccountRepositoryPort accountRepositoryPort;
+
+    private BatchedCreateTransactionUseCase batchedCreateTransactionUseCase;
+
+    private AtomicReference<BigDecimal> balance;
+
+    @BeforeEach
+    void setUp() {
+        batchedCreateTransactionUseCase = new BatchedCreateTransactionUseCase(accountRepositoryPort, 4, 256);
+        balance = new AtomicReference<>(new BigDecimal("1000.00"));
+    }
+
+    @Test
+    void execute_shouldCompleteWithPostedTransaction() {
+        stubLedger(Duration.ZERO);
+
+        StepVerifier.create(batchedCreateTransactionUseCase.execute(
+                new CreateTransactionCommand("1234567890", "Deposit", new BigDecimal("500.00"))))
+            .expectNextMatches(t ->
+                t.getAccountNumber().equals("1234567890") &&
+                t.getBalance().compareTo(new BigDecimal("1500.00")) == 0
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void execute_shouldThrowInsufficientBalanceException_whenPostingIsRejected() {
+        stubLedger(Duration.ZERO);
+
+        StepVerifier.create(batchedCreateTransactionUseCase.execute(
+                new CreateTransactionCommand("1234567890", "Withdrawal", new BigDecimal("-1500.00"))))
+            .expectError(InsufficientBalanceException.class)
+            .verify();
+    }
+
+    @Test
+    void execute_shouldPropagateBatchFailureToEveryCaller() {
+        when(accountRepositoryPort.postTransactions(anyString(), anyList()))
+            .thenReturn(Mono.error(new AccountNotFoundException("9999999999", "Account not found")));
+
+        StepVerifier.create(batchedCreateTransactionUseCase.execute(
+                new CreateTransactionCommand("9999999999", "Deposit", new BigDecimal("100.00"))))
+            .expectError(AccountNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void execute_shouldCoalesceConcurrentPostingsAndReturnEachRunningBalance() {
+        int postings = 200;
+        stubLedger(Duration.ofMillis(20));
+
+        StepVerifier.create(
+            Flux.range(0, postings)
+                .flatMap(i -> batchedCreateTransactionUseCase.execute(
+                    new CreateTransactionCommand("1234567890", "Deposit", new BigDecimal("1.00"))), postings)
+                .map(Transaction::getBalance)
+                .collectSortedList()
+        )
+            .expectNextMatches(balances -> {
+                for (int i = 0; i < postings; i++) {
+                    if (balances.get(i).compareTo(new BigDecimal("1001.00").add(BigDecimal.valueOf(i))) != 0) {
+                        return false;
+                    }
+                }
+                return true;
+            })
+            .verifyComplete();
+
+        assertThat(balance.get()).isEqualByComparingTo("1200.00");
+        verify(accountRepositoryPort, atMost(postings / 2)).postTransactions(eq("1234567890"), anyList());
+    }
+
+    private void stubLedger(Duration latency) {
+        when(accountRepositoryPort.postTransactions(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Transaction> transactions = invocation.getArgument(1);
+            List<PostingResult> results = new ArrayList<>();
+            for (Transaction transaction : transactions) {
+                BigDecimal newBalance = balance.get().add(transaction.getAmount());
+                if (newBalance.compareTo(BigDecimal.ZERO) < 0) {
+                    results.add(PostingResult.rejected(transaction));
+                } else {
+                    balance.set(newBalance);
+                    transaction.setBalance(newBalance);
+                    results.add(PostingResult.posted(transaction));
+                }
+            }
+            return Mono.just(results).delayElement(latency);
+        });
+    }
+}
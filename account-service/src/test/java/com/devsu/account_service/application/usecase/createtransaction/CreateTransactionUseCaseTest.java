@@ -2,14 +2,12 @@ package com.devsu.account_service.application.usecase.createtransaction;
 
 import com.devsu.account_service.domain.exception.AccountNotFoundException;
 import com.devsu.account_service.domain.exception.InsufficientBalanceException;
-import com.devsu.account_service.domain.model.Account;
-import com.devsu.account_service.domain.model.AccountType;
 import com.devsu.account_service.domain.model.Transaction;
 import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
-import com.devsu.account_service.domain.port.out.TransactionRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,8 +17,9 @@ import reactor.test.StepVerifier;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,28 +28,13 @@ class CreateTransactionUseCaseTest {
     @Mock
     private AccountRepositoryPort accountRepositoryPort;
 
-    @Mock
-    private TransactionRepositoryPort transactionRepositoryPort;
-
     @InjectMocks
     private CreateTransactionUseCase createTransactionUseCase;
 
-    private Account account;
     private Transaction transaction;
 
     @BeforeEach
     void setUp() {
-        account = new Account(
-            1L,
-            "1234567890",
-            AccountType.AHORROS,
-            new BigDecimal("1000.00"),
-            true,
-            "client-1",
-            "John Doe",
-            true
-        );
-
         transaction = new Transaction(
             1L,
             LocalDateTime.now(),
@@ -69,9 +53,7 @@ class CreateTransactionUseCaseTest {
             new BigDecimal("500.00")
         );
 
-        when(accountRepositoryPort.findByAccountNumber(anyString())).thenReturn(Mono.just(account));
-        when(accountRepositoryPort.save(any(Account.class))).thenReturn(Mono.just(account));
-        when(transactionRepositoryPort.save(any(Transaction.class))).thenReturn(Mono.just(transaction));
+        when(accountRepositoryPort.postTransaction(any(Transaction.class))).thenReturn(Mono.just(transaction));
 
         StepVerifier.create(createTransactionUseCase.execute(command))
             .expectNextMatches(t -> 
@@ -98,9 +80,7 @@ class CreateTransactionUseCaseTest {
             "1234567890"
         );
 
-        when(accountRepositoryPort.findByAccountNumber(anyString())).thenReturn(Mono.just(account));
-        when(accountRepositoryPort.save(any(Account.class))).thenReturn(Mono.just(account));
-        when(transactionRepositoryPort.save(any(Transaction.class))).thenReturn(Mono.just(withdrawalTransaction));
+        when(accountRepositoryPort.postTransaction(any(Transaction.class))).thenReturn(Mono.just(withdrawalTransaction));
 
         StepVerifier.create(createTransactionUseCase.execute(command))
             .expectNextMatches(t -> 
@@ -118,7 +98,8 @@ class CreateTransactionUseCaseTest {
             new BigDecimal("-1500.00")
         );
 
-        when(accountRepositoryPort.findByAccountNumber(anyString())).thenReturn(Mono.just(account));
+        when(accountRepositoryPort.postTransaction(any(Transaction.class)))
+            .thenReturn(Mono.error(new InsufficientBalanceException("Saldo no disponible")));
 
         StepVerifier.create(createTransactionUseCase.execute(command))
             .expectError(InsufficientBalanceException.class)
@@ -133,10 +114,33 @@ class CreateTransactionUseCaseTest {
             new BigDecimal("100.00")
         );
 
-        when(accountRepositoryPort.findByAccountNumber(anyString())).thenReturn(Mono.empty());
+        when(accountRepositoryPort.postTransaction(any(Transaction.class)))
+            .thenReturn(Mono.error(new AccountNotFoundException("9999999999", "Account not found")));
 
         StepVerifier.create(createTransactionUseCase.execute(command))
             .expectError(AccountNotFoundException.class)
             .verify();
     }
+
+    @Test
+    void execute_shouldPostMovementBuiltFromCommand() {
+        CreateTransactionCommand command = new CreateTransactionCommand(
+            "1234567890",
+            "Deposit",
+            new BigDecimal("500.00")
+        );
+
+        when(accountRepositoryPort.postTransaction(any(Transaction.class))).thenReturn(Mono.just(transaction));
+
+        StepVerifier.create(createTransactionUseCase.execute(command))
+            .expectNext(transaction)
+            .verifyComplete();
+
+        ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+        verify(accountRepositoryPort).postTransaction(captor.capture());
+        assertThat(captor.getValue().getAccountNumber()).isEqualTo("1234567890");
+        assertThat(captor.getValue().getTransactionType()).isEqualTo("Deposit");
+        assertThat(captor.getValue().getAmount()).isEqualByComparingTo("500.00");
+        assertThat(captor.getValue().getDate()).isNotNull();
+    }
 }
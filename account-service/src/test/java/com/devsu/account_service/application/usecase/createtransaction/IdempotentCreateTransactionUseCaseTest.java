@@ -0,0 +1,207 @@
+package com.devsu.account_service.application.usecase.createtransaction;
+
+import com.devsu.account_service.domain.exception.DuplicateIdempotencyKeyException;
+import com.devsu.account_service.domain.exception.InsufficientBalanceException;
+import com.devsu.account_service.domain.exception.InvalidIdempotencyKeyException;
+import com.devsu.account_service.domain.model.IdempotencyRecord;
+import com.devsu.account_service.domain.model.IdempotentPosting;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.port.in.CreateTransactionPort;
+import com.devsu.account_service.domain.port.out.IdempotencyKeyRepositoryPort;
+import com.devsu.account_service.domain.port.out.TransactionRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentCreateTransactionUseCaseTest {
+
+    private static final String KEY = "3f1c9a52-6d1e-4b7a-9a0e-1d2c3b4a5f60";
+
+    @Mock
+    private CreateTransactionPort createTransactionPort;
+
+    @Mock
+    private TransactionRepositoryPort transactionRepositoryPort;
+
+    @Mock
+    private IdempotencyKeyRepositoryPort idempotencyKeyRepositoryPort;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private IdempotentCreateTransactionUseCase useCase;
+    private CreateTransactionCommand deposit;
+    private Transaction posted;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new IdempotentCreateTransactionUseCase(createTransactionPort, transactionRepositoryPort,
+            idempotencyKeyRepositoryPort, transactionalOperator, new SimpleMeterRegistry(), Duration.ofHours(24), 1000);
+        deposit = new CreateTransactionCommand("1234567890", "Deposito", new BigDecimal("500.00"));
+        posted = new Transaction(10L, LocalDateTime.now(), "Deposito", new BigDecimal("500.00"),
+            new BigDecimal("1500.00"), "1234567890");
+    }
+
+    @Test
+    void execute_shouldPostAndRecordKey_whenKeyIsNew() {
+        givenTransactional();
+        when(idempotencyKeyRepositoryPort.findByKey(KEY)).thenReturn(Mono.empty());
+        when(createTransactionPort.execute(deposit)).thenReturn(Mono.just(posted));
+        when(idempotencyKeyRepositoryPort.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(useCase.execute(new IdempotentCreateTransactionCommand(KEY, deposit)))
+            .expectNextMatches(posting -> posting.getTransaction().getId() == 10L && !posting.isReplayed())
+            .verifyComplete();
+
+        ArgumentCaptor<IdempotencyRecord> record = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyKeyRepositoryPort).save(record.capture());
+        assertThat(record.getValue().getKey()).isEqualTo(KEY);
+        assertThat(record.getValue().getTransactionId()).isEqualTo(10L);
+        assertThat(record.getValue().getExpiresAt()).isAfter(record.getValue().getCreatedAt());
+    }
+
+    @Test
+    void execute_shouldReplayFromMemory_withoutPostingAgain() {
+        givenTransactional();
+        when(idempotencyKeyRepositoryPort.findByKey(KEY)).thenReturn(Mono.empty());
+        when(createTransactionPort.execute(deposit)).thenReturn(Mono.just(posted));
+        when(idempotencyKeyRepositoryPort.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        useCase.execute(new IdempotentCreateTransactionCommand(KEY, deposit)).block();
+
+        CreateTransactionCommand sameDeposit = new CreateTransactionCommand("1234567890", "Deposito", new BigDecimal("500"));
+        StepVerifier.create(useCase.execute(new IdempotentCreateTransactionCommand(KEY, sameDeposit)))
+            .expectNextMatches(posting -> posting.getTransaction().getId() == 10L && posting.isReplayed())
+            .verifyComplete();
+
+        verify(createTransactionPort, times(1)).execute(any());
+        verify(idempotencyKeyRepositoryPort, times(1)).findByKey(KEY);
+    }
+
+    @Test
+    void execute_shouldShareInFlightPosting_withConcurrentDuplicates() {
+        givenTransactional();
+        Sinks.One<Transaction> inFlight = Sinks.one();
+        when(idempotencyKeyRepositoryPort.findByKey(KEY)).thenReturn(Mono.empty());
+        when(createTransactionPort.execute(deposit)).thenReturn(inFlight.asMono());
+        when(idempotencyKeyRepositoryPort.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        Mono<Boolean> first = useCase.execute(new IdempotentCreateTransactionCommand(KEY, deposit))
+            .map(IdempotentPosting::isReplayed).cache();
+        Mono<Boolean> second = useCase.execute(new IdempotentCreateTransactionCommand(KEY, deposit))
+            .map(IdempotentPosting::isReplayed).cache();
+        first.subscribe();
+        second.subscribe();
+
+        inFlight.tryEmitValue(posted);
+
+        StepVerifier.create(first).expectNext(false).verifyComplete();
+        StepVerifier.create(second).expectNext(true).verifyComplete();
+        verify(createTransactionPort, times(1)).execute(any());
+    }
+
+    @Test
+    void execute_shouldReplayFromDurableStore_whenKeyIsNotInMemory() {
+        when(idempotencyKeyRepositoryPort.findByKey(KEY)).thenReturn(Mono.just(new IdempotencyRecord(
+            KEY, IdempotentCreateTransactionUseCase.fingerprint(deposit), 10L,
+            LocalDateTime.now().minusMinutes(5), LocalDateTime.now().plusHours(23))));
+        when(transactionRepositoryPort.findById(10L)).thenReturn(Mono.just(posted));
+
+        StepVerifier.create(useCase.execute(new IdempotentCreateTransactionCommand(KEY, deposit)))
+            .expectNextMatches(posting -> posting.getTransaction().getId() == 10L && posting.isReplayed())
+            .verifyComplete();
+
+        verify(createTransactionPort, never()).execute(any());
+    }
+
+    @Test
+    void execute_shouldReplay_whenAnotherInstanceRecordedTheKeyFirst() {
+        givenTransactional();
+        when(idempotencyKeyRepositoryPort.findByKey(KEY)).thenReturn(
+            Mono.empty(),
+            Mono.just(new IdempotencyRecord(KEY, IdempotentCreateTransactionUseCase.fingerprint(deposit), 7L,
+                LocalDateTime.now(), LocalDateTime.now().plusHours(24))));
+        when(createTransactionPort.execute(deposit)).thenReturn(Mono.just(posted));
+        when(idempotencyKeyRepositoryPort.save(any())).thenReturn(
+            Mono.error(new DuplicateIdempotencyKeyException(KEY, "Idempotency key already recorded")));
+        Transaction original = new Transaction(7L, LocalDateTime.now(), "Deposito", new BigDecimal("500.00"),
+            new BigDecimal("1500.00"), "1234567890");
+        when(transactionRepositoryPort.findById(7L)).thenReturn(Mono.just(original));
+
+        StepVerifier.create(useCase.execute(new IdempotentCreateTransactionCommand(KEY, deposit)))
+            .expectNextMatches(posting -> posting.getTransaction().getId() == 7L && posting.isReplayed())
+            .verifyComplete();
+    }
+
+    @Test
+    void execute_shouldReject_whenKeyWasUsedForDifferentMovement() {
+        givenTransactional();
+        when(idempotencyKeyRepositoryPort.findByKey(KEY)).thenReturn(Mono.empty());
+        when(createTransactionPort.execute(deposit)).thenReturn(Mono.just(posted));
+        when(idempotencyKeyRepositoryPort.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        useCase.execute(new IdempotentCreateTransactionCommand(KEY, deposit)).block();
+
+        CreateTransactionCommand withdrawal = new CreateTransactionCommand("1234567890", "Retiro", new BigDecimal("-500.00"));
+        StepVerifier.create(useCase.execute(new IdempotentCreateTransactionCommand(KEY, withdrawal)))
+            .expectError(InvalidIdempotencyKeyException.class)
+            .verify();
+
+        verify(createTransactionPort, times(1)).execute(any());
+    }
+
+    @Test
+    void execute_shouldPostAgain_whenPreviousAttemptFailed() {
+        givenTransactional();
+        when(idempotencyKeyRepositoryPort.findByKey(KEY)).thenReturn(Mono.empty());
+        when(createTransactionPort.execute(deposit)).thenReturn(
+            Mono.error(new InsufficientBalanceException("Saldo no disponible")),
+            Mono.just(posted));
+        when(idempotencyKeyRepositoryPort.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(useCase.execute(new IdempotentCreateTransactionCommand(KEY, deposit)))
+            .expectError(InsufficientBalanceException.class)
+            .verify();
+
+        StepVerifier.create(useCase.execute(new IdempotentCreateTransactionCommand(KEY, deposit)))
+            .expectNextMatches(posting -> !posting.isReplayed())
+            .verifyComplete();
+
+        verify(createTransactionPort, times(2)).execute(any());
+    }
+
+    @Test
+    void execute_shouldReject_whenKeyIsTooLong() {
+        String key = "k".repeat(IdempotentCreateTransactionUseCase.MAX_KEY_LENGTH + 1);
+
+        StepVerifier.create(useCase.execute(new IdempotentCreateTransactionCommand(key, deposit)))
+            .expectError(InvalidIdempotencyKeyException.class)
+            .verify();
+
+        verify(idempotencyKeyRepositoryPort, never()).findByKey(any());
+    }
+
+    private void givenTransactional() {
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+}
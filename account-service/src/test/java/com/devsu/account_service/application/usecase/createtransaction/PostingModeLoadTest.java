@@ -0,0 +1,104 @@
+package com.devsu.account_service.application.usecase.createtransaction;
+
+import com.devsu.account_service.adapter.out.persistence.AccountR2dbcRepository;
+import com.devsu.account_service.adapter.out.persistence.AccountRepositoryAdapter;
+import com.devsu.account_service.adapter.out.persistence.DailyBalanceRecorder;
+import com.devsu.account_service.adapter.out.persistence.TransactionBatchInserter;
+import com.devsu.account_service.adapter.out.persistence.TransactionR2dbcRepository;
+import com.devsu.account_service.adapter.out.persistence.mapper.AccountPersistenceMapper;
+import com.devsu.account_service.adapter.out.persistence.mapper.TransactionPersistenceMapper;
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.AccountType;
+import com.devsu.account_service.domain.port.in.CreateTransactionPort;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataR2dbcTest
+@Import({
+    AccountRepositoryAdapter.class,
+    AccountPersistenceMapper.class,
+    TransactionPersistenceMapper.class,
+    TransactionBatchInserter.class,
+    DailyBalanceRecorder.class
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Slf4j
+class PostingModeLoadTest {
+
+    private static final int POSTINGS = 2000;
+    private static final int CONCURRENCY = 64;
+
+    @Autowired
+    private AccountRepositoryAdapter accountRepositoryAdapter;
+
+    @Autowired
+    private AccountR2dbcRepository accountRepository;
+
+    @Autowired
+    private TransactionR2dbcRepository transactionRepository;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository.deleteAll().block();
+        accountRepository.deleteAll().block();
+    }
+
+    @Test
+    void bothModesShouldPostEveryMovementOnAHotAccount() {
+        run(new CreateTransactionUseCase(accountRepositoryAdapter), "8000000003");
+        run(new BatchedCreateTransactionUseCase(accountRepositoryAdapter, 16, 256), "8000000004");
+    }
+
+    // Compares wall-clock throughput, so it only runs in the loadTest task, never in the default build
+    @Test
+    @Tag("load")
+    void batchedModeShouldPostHotAccountFasterThanDirectMode() {
+        double direct = run(new CreateTransactionUseCase(accountRepositoryAdapter), "8000000001");
+        double batched = run(new BatchedCreateTransactionUseCase(accountRepositoryAdapter, 16, 256), "8000000002");
+
+        log.info("Hot-account posting throughput: direct={} ops/s, batched={} ops/s",
+            Math.round(direct), Math.round(batched));
+        assertThat(batched).isGreaterThan(direct);
+    }
+
+    private double run(CreateTransactionPort port, String accountNumber) {
+        Account account = new Account();
+        account.setAccountNumber(accountNumber);
+        account.setAccountType(AccountType.CORRIENTE);
+        account.setBalance(BigDecimal.ZERO);
+        account.setStatus(true);
+        account.setClientId("client-load");
+        account.setClientName("Load Test");
+        account.setClientStatus(true);
+        accountRepositoryAdapter.save(account).block();
+
+        long start = System.nanoTime();
+        StepVerifier.create(
+            Flux.range(0, POSTINGS)
+                .flatMap(i -> port.execute(
+                    new CreateTransactionCommand(accountNumber, "Deposito", BigDecimal.ONE)), CONCURRENCY)
+                .count()
+        )
+            .expectNext((long) POSTINGS)
+            .verifyComplete();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber(accountNumber))
+            .expectNextMatches(found -> found.getBalance().compareTo(BigDecimal.valueOf(POSTINGS)) == 0)
+            .verifyComplete();
+
+        return POSTINGS / seconds;
+    }
+}
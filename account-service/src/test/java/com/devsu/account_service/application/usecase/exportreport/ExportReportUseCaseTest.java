@@ -0,0 +1,70 @@
+package com.devsu.account_service.application.usecase.exportreport;
+
+import com.devsu.account_service.application.usecase.generatereport.GenerateReportQuery;
+import com.devsu.account_service.domain.exception.ClientNotFoundException;
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.AccountType;
+import com.devsu.account_service.domain.model.StatementLine;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportReportUseCaseTest {
+
+    @Mock
+    private AccountRepositoryPort accountRepositoryPort;
+
+    @InjectMocks
+    private ExportReportUseCase exportReportUseCase;
+
+    private final LocalDateTime startDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private final LocalDateTime endDate = LocalDateTime.of(2024, 12, 31, 23, 59);
+
+    @Test
+    void execute_shouldStreamStatementLines_whenClientHasAccounts() {
+        Account account = new Account(
+            1L,
+            "1234567890",
+            AccountType.AHORROS,
+            new BigDecimal("1000.00"),
+            true,
+            "client-1",
+            "John Doe",
+            true
+        );
+        StatementLine line = new StatementLine(account, null);
+
+        when(accountRepositoryPort.findByClientId("client-1")).thenReturn(Flux.just(account));
+        when(accountRepositoryPort.findStatementLines("client-1", startDate, endDate)).thenReturn(Flux.just(line));
+
+        StepVerifier.create(exportReportUseCase.execute(new GenerateReportQuery("client-1", startDate, endDate)))
+            .expectNext(line)
+            .verifyComplete();
+    }
+
+    @Test
+    void execute_shouldThrowClientNotFoundException_whenClientHasNoAccounts() {
+        when(accountRepositoryPort.findByClientId(anyString())).thenReturn(Flux.empty());
+
+        StepVerifier.create(exportReportUseCase.execute(new GenerateReportQuery("client-999", startDate, endDate)))
+            .expectError(ClientNotFoundException.class)
+            .verify();
+
+        verify(accountRepositoryPort, never()).findStatementLines(anyString(), any(), any());
+    }
+}
@@ -1,31 +1,31 @@
 package com.devsu.account_service.application.usecase.generatereport;
 
-import com.devsu.account_service.adapter.in.web.dto.AccountStatementDto;
-import com.devsu.account_service.adapter.in.web.dto.ReportResponse;
 import com.devsu.account_service.adapter.in.web.mapper.ReportMapper;
 import com.devsu.account_service.domain.exception.ClientNotFoundException;
 import com.devsu.account_service.domain.model.Account;
 import com.devsu.account_service.domain.model.AccountType;
+import com.devsu.account_service.domain.model.DailyBalance;
+import com.devsu.account_service.domain.model.StatementLine;
 import com.devsu.account_service.domain.model.Transaction;
 import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
-import com.devsu.account_service.domain.port.out.TransactionRepositoryPort;
+import com.devsu.account_service.domain.port.out.DailyBalanceRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,10 +35,10 @@ class GenerateReportUseCaseTest {
     private AccountRepositoryPort accountRepositoryPort;
 
     @Mock
-    private TransactionRepositoryPort transactionRepositoryPort;
+    private DailyBalanceRepositoryPort dailyBalanceRepositoryPort;
 
-    @Mock
-    private ReportMapper reportMapper;
+    @Spy
+    private ReportMapper reportMapper = new ReportMapper();
 
     @InjectMocks
     private GenerateReportUseCase generateReportUseCase;
@@ -100,121 +100,89 @@ class GenerateReportUseCaseTest {
     void execute_shouldGenerateReport_whenClientHasAccounts() {
         GenerateReportQuery query = new GenerateReportQuery("client-1", startDate, endDate);
 
-        AccountStatementDto statement1 = new AccountStatementDto(
-            "1234567890",
-            "AHORROS",
-            new BigDecimal("1000.00"),
-            true,
-            Collections.emptyList()
-        );
-
-        AccountStatementDto statement2 = new AccountStatementDto(
-            "0987654321",
-            "CORRIENTE",
-            new BigDecimal("2000.00"),
-            true,
-            Collections.emptyList()
-        );
-
-        ReportResponse expectedReport = new ReportResponse(
-            "client-1",
-            "John Doe",
-            List.of(statement1, statement2)
-        );
-
-        when(accountRepositoryPort.findByClientId(anyString()))
-            .thenReturn(Flux.just(account1, account2));
-        when(transactionRepositoryPort.findByAccountNumberAndDateBetween(anyString(), any(), any()))
-            .thenReturn(Flux.just(transaction1))
-            .thenReturn(Flux.just(transaction2));
-        when(reportMapper.toAccountStatement(any(Account.class), anyList()))
-            .thenReturn(statement1)
-            .thenReturn(statement2);
-        when(reportMapper.toReportResponse(anyString(), anyString(), anyList()))
-            .thenReturn(expectedReport);
+        when(accountRepositoryPort.findStatementLines(anyString(), any(), any()))
+            .thenReturn(Flux.just(
+                new StatementLine(account1, transaction1),
+                new StatementLine(account2, transaction2)
+            ));
+        when(dailyBalanceRepositoryPort.findForClient(anyString(), any(), any())).thenReturn(Flux.empty());
 
         StepVerifier.create(generateReportUseCase.execute(query))
             .expectNextMatches(report -> 
                 report.getClientId().equals("client-1") &&
                 report.getClientName().equals("John Doe") &&
-                report.getAccounts().size() == 2
+                report.getAccounts().size() == 2 &&
+                report.getAccounts().get(0).getAccountNumber().equals("1234567890") &&
+                report.getAccounts().get(0).getTransactions().size() == 1 &&
+                report.getAccounts().get(1).getAccountNumber().equals("0987654321") &&
+                report.getAccounts().get(1).getTransactions().size() == 1
             )
             .verifyComplete();
     }
 
     @Test
-    void execute_shouldFilterTransactionsByDateRange_whenGeneratingReport() {
+    void execute_shouldQueryStatementLinesForClientAndDateRange() {
         GenerateReportQuery query = new GenerateReportQuery("client-1", startDate, endDate);
 
-        AccountStatementDto statement = new AccountStatementDto(
-            "1234567890",
-            "AHORROS",
-            new BigDecimal("1000.00"),
-            true,
-            Collections.emptyList()
-        );
-
-        ReportResponse expectedReport = new ReportResponse(
-            "client-1",
-            "John Doe",
-            List.of(statement)
-        );
-
-        when(accountRepositoryPort.findByClientId(anyString()))
-            .thenReturn(Flux.just(account1));
-        when(transactionRepositoryPort.findByAccountNumberAndDateBetween(
-            anyString(), 
-            any(LocalDateTime.class), 
-            any(LocalDateTime.class)
-        )).thenReturn(Flux.just(transaction1));
-        when(reportMapper.toAccountStatement(any(Account.class), anyList()))
-            .thenReturn(statement);
-        when(reportMapper.toReportResponse(anyString(), anyString(), anyList()))
-            .thenReturn(expectedReport);
+        when(accountRepositoryPort.findStatementLines(anyString(), any(), any()))
+            .thenReturn(Flux.just(new StatementLine(account1, transaction1)));
+        when(dailyBalanceRepositoryPort.findForClient(anyString(), any(), any())).thenReturn(Flux.empty());
 
         StepVerifier.create(generateReportUseCase.execute(query))
             .expectNextMatches(report -> report.getAccounts().size() == 1)
             .verifyComplete();
+
+        verify(accountRepositoryPort).findStatementLines("client-1", startDate, endDate);
     }
 
     @Test
-    void execute_shouldHandleMultipleAccounts_whenClientHasMultipleAccounts() {
+    void execute_shouldGroupConsecutiveMovementsByAccount_inOrder() {
         GenerateReportQuery query = new GenerateReportQuery("client-1", startDate, endDate);
 
-        AccountStatementDto statement1 = new AccountStatementDto(
-            "1234567890",
-            "AHORROS",
-            new BigDecimal("1000.00"),
-            true,
-            Collections.emptyList()
+        Transaction transaction3 = new Transaction(
+            3L,
+            LocalDateTime.of(2024, 8, 1, 9, 0),
+            "Withdrawal",
+            new BigDecimal("-100.00"),
+            new BigDecimal("1400.00"),
+            "1234567890"
         );
 
-        AccountStatementDto statement2 = new AccountStatementDto(
-            "0987654321",
-            "CORRIENTE",
-            new BigDecimal("2000.00"),
-            true,
-            Collections.emptyList()
-        );
+        when(accountRepositoryPort.findStatementLines(anyString(), any(), any()))
+            .thenReturn(Flux.just(
+                new StatementLine(account1, transaction1),
+                new StatementLine(account1, transaction3),
+                new StatementLine(account2, transaction2)
+            ));
+        when(dailyBalanceRepositoryPort.findForClient(anyString(), any(), any())).thenReturn(Flux.empty());
 
-        ReportResponse expectedReport = new ReportResponse(
-            "client-1",
-            "John Doe",
-            List.of(statement1, statement2)
-        );
+        StepVerifier.create(generateReportUseCase.execute(query))
+            .expectNextMatches(report -> 
+                report.getAccounts().size() == 2 &&
+                report.getAccounts().get(0).getTransactions().size() == 2 &&
+                report.getAccounts().get(0).getTransactions().get(1).getBalance().compareTo(new BigDecimal("1400.00")) == 0 &&
+                report.getAccounts().get(1).getTransactions().size() == 1
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void execute_shouldHandleMultipleAccounts_whenClientHasMultipleAccounts() {
+        GenerateReportQuery query = new GenerateReportQuery("client-1", startDate, endDate);
 
-        when(accountRepositoryPort.findByClientId(anyString()))
-            .thenReturn(Flux.just(account1, account2));
-        when(transactionRepositoryPort.findByAccountNumberAndDateBetween(anyString(), any(), any()))
-            .thenReturn(Flux.empty());
-        when(reportMapper.toAccountStatement(any(Account.class), anyList()))
-            .thenReturn(statement1)
-            .thenReturn(statement2);
-        when(reportMapper.toReportResponse(anyString(), anyString(), anyList()))
-            .thenReturn(expectedReport);
+        when(accountRepositoryPort.findStatementLines(anyString(), any(), any()))
+            .thenReturn(Flux.just(
+                new StatementLine(account1, null),
+                new StatementLine(account2, null)
+            ));
+        when(dailyBalanceRepositoryPort.findForClient(anyString(), any(), any())).thenReturn(Flux.empty());
 
         StepVerifier.create(generateReportUseCase.execute(query))
-            .expectNextMatches(report -> report.getAccounts().size() == 2)
+            .expectNextMatches(report -> 
+                report.getAccounts().size() == 2 &&
+                report.getAccounts().get(0).getTransactions().isEmpty() &&
+                report.getAccounts().get(1).getTransactions().isEmpty()
+            )
             .verifyComplete();
     }
 
@@ -222,10 +190,46 @@ class GenerateReportUseCaseTest {
     void execute_shouldThrowClientNotFoundException_whenClientHasNoAccounts() {
         GenerateReportQuery query = new GenerateReportQuery("client-999", startDate, endDate);
 
-        when(accountRepositoryPort.findByClientId(anyString())).thenReturn(Flux.empty());
+        when(accountRepositoryPort.findStatementLines(anyString(), any(), any())).thenReturn(Flux.empty());
 
         StepVerifier.create(generateReportUseCase.execute(query))
             .expectError(ClientNotFoundException.class)
             .verify();
     }
+
+    @Test
+    void execute_shouldDeriveOpeningAndClosingBalancesFromDailySnapshots() {
+        GenerateReportQuery query = new GenerateReportQuery(
+            "client-1",
+            LocalDateTime.of(2024, 6, 1, 0, 0),
+            LocalDateTime.of(2024, 6, 30, 23, 59)
+        );
+
+        when(accountRepositoryPort.findStatementLines(anyString(), any(), any()))
+            .thenReturn(Flux.just(
+                new StatementLine(account1, transaction1),
+                new StatementLine(account2, null)
+            ));
+        when(dailyBalanceRepositoryPort.findForClient("client-1", LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30)))
+            .thenReturn(Flux.just(
+                new DailyBalance("1234567890", LocalDate.of(2024, 5, 20), new BigDecimal("900.00"), new BigDecimal("1000.00"),
+                    new BigDecimal("100.00"), BigDecimal.ZERO, 1),
+                new DailyBalance("1234567890", LocalDate.of(2024, 6, 15), new BigDecimal("1000.00"), new BigDecimal("1500.00"),
+                    new BigDecimal("500.00"), BigDecimal.ZERO, 1),
+                new DailyBalance("0987654321", LocalDate.of(2024, 7, 20), new BigDecimal("2000.00"), new BigDecimal("1800.00"),
+                    BigDecimal.ZERO, new BigDecimal("200.00"), 1)
+            ));
+
+        StepVerifier.create(generateReportUseCase.execute(query))
+            .expectNextMatches(report -> 
+                report.getAccounts().get(0).getOpeningBalance().compareTo(new BigDecimal("1000.00")) == 0 &&
+                report.getAccounts().get(0).getClosingBalance().compareTo(new BigDecimal("1500.00")) == 0 &&
+                report.getAccounts().get(0).getDailyBalances().size() == 1 &&
+                report.getAccounts().get(0).getDailyBalances().get(0).getTotalCredits().compareTo(new BigDecimal("500.00")) == 0 &&
+                report.getAccounts().get(1).getOpeningBalance().compareTo(new BigDecimal("2000.00")) == 0 &&
+                report.getAccounts().get(1).getClosingBalance().compareTo(new BigDecimal("2000.00")) == 0 &&
+                report.getAccounts().get(1).getDailyBalances().isEmpty()
+            )
+            .verifyComplete();
+    }
 }
@@ -0,0 +1,60 @@
+package com.devsu.account_service.application.usecase.rebuilddailybalances;
+
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import com.devsu.account_service.domain.port.out.DailyBalanceRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RebuildDailyBalancesUseCaseTest {
+
+    @Mock
+    private AccountRepositoryPort accountRepositoryPort;
+
+    @Mock
+    private DailyBalanceRepositoryPort dailyBalanceRepositoryPort;
+
+    @InjectMocks
+    private RebuildDailyBalancesUseCase rebuildDailyBalancesUseCase;
+
+    @Test
+    void execute_shouldRebuildSingleAccount_whenAccountNumberGiven() {
+        LocalDate fromDate = LocalDate.of(2024, 1, 1);
+        when(dailyBalanceRepositoryPort.rebuild("1234567890", fromDate)).thenReturn(Mono.just(12L));
+
+        StepVerifier.create(rebuildDailyBalancesUseCase.execute(new RebuildDailyBalancesCommand("1234567890", fromDate)))
+            .expectNext(12L)
+            .verifyComplete();
+
+        verify(accountRepositoryPort, never()).findAll();
+    }
+
+    @Test
+    void execute_shouldRebuildEveryAccount_whenNoAccountNumberGiven() {
+        Account first = new Account();
+        first.setAccountNumber("1234567890");
+        Account second = new Account();
+        second.setAccountNumber("0987654321");
+
+        when(accountRepositoryPort.findAll()).thenReturn(Flux.just(first, second));
+        when(dailyBalanceRepositoryPort.rebuild("1234567890", null)).thenReturn(Mono.just(3L));
+        when(dailyBalanceRepositoryPort.rebuild("0987654321", null)).thenReturn(Mono.just(4L));
+
+        StepVerifier.create(rebuildDailyBalancesUseCase.execute(null))
+            .expectNext(7L)
+            .verifyComplete();
+    }
+}
@@ -0,0 +1,91 @@
+package com.devsu.account_service.application.usecase.transfer;
+
+import com.devsu.account_service.domain.exception.InsufficientBalanceException;
+import com.devsu.account_service.domain.exception.InvalidTransferException;
+import com.devsu.account_service.domain.model.Transfer;
+import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransferUseCaseTest {
+
+    @Mock
+    private AccountRepositoryPort accountRepositoryPort;
+
+    @InjectMocks
+    private TransferUseCase transferUseCase;
+
+    @Test
+    void execute_shouldPostDebitAndCreditLegsWithSharedCorrelationId() {
+        TransferCommand command = new TransferCommand("1111111111", "2222222222", new BigDecimal("75.00"));
+
+        when(accountRepositoryPort.postTransfer(any(Transfer.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(transferUseCase.execute(command))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        ArgumentCaptor<Transfer> captor = ArgumentCaptor.forClass(Transfer.class);
+        verify(accountRepositoryPort).postTransfer(captor.capture());
+        Transfer transfer = captor.getValue();
+
+        assertThat(transfer.getCorrelationId()).isNotBlank();
+        assertThat(transfer.getDebit().getAccountNumber()).isEqualTo("1111111111");
+        assertThat(transfer.getDebit().getAmount()).isEqualByComparingTo("-75.00");
+        assertThat(transfer.getCredit().getAccountNumber()).isEqualTo("2222222222");
+        assertThat(transfer.getCredit().getAmount()).isEqualByComparingTo("75.00");
+        assertThat(transfer.getDebit().getCorrelationId()).isEqualTo(transfer.getCorrelationId());
+        assertThat(transfer.getCredit().getCorrelationId()).isEqualTo(transfer.getCorrelationId());
+        assertThat(transfer.getDebit().getDate()).isEqualTo(transfer.getCredit().getDate());
+    }
+
+    @Test
+    void execute_shouldRejectTransferToTheSameAccount() {
+        TransferCommand command = new TransferCommand("1111111111", "1111111111", new BigDecimal("75.00"));
+
+        StepVerifier.create(transferUseCase.execute(command))
+            .expectError(InvalidTransferException.class)
+            .verify();
+
+        verifyNoInteractions(accountRepositoryPort);
+    }
+
+    @Test
+    void execute_shouldRejectNonPositiveAmount() {
+        TransferCommand command = new TransferCommand("1111111111", "2222222222", BigDecimal.ZERO);
+
+        StepVerifier.create(transferUseCase.execute(command))
+            .expectError(InvalidTransferException.class)
+            .verify();
+
+        verifyNoInteractions(accountRepositoryPort);
+    }
+
+    @Test
+    void execute_shouldPropagateInsufficientBalance() {
+        TransferCommand command = new TransferCommand("1111111111", "2222222222", new BigDecimal("75.00"));
+
+        when(accountRepositoryPort.postTransfer(any(Transfer.class)))
+            .thenReturn(Mono.error(new InsufficientBalanceException("Saldo no disponible")));
+
+        StepVerifier.create(transferUseCase.execute(command))
+            .expectError(InsufficientBalanceException.class)
+            .verify();
+    }
+}
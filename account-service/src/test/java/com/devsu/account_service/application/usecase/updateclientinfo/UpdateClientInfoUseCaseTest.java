@@ -1,145 +1,51 @@
 package com.devsu.account_service.application.usecase.updateclientinfo;
 
-import com.devsu.account_service.domain.model.Account;
-import com.devsu.account_service.domain.model.AccountType;
 import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class UpdateClientInfoUseCaseTest {
 
+    private static final LocalDateTime CHANGED_AT = LocalDateTime.of(2024, 1, 15, 10, 30);
+
     @Mock
     private AccountRepositoryPort accountRepositoryPort;
 
     @InjectMocks
     private UpdateClientInfoUseCase updateClientInfoUseCase;
 
-    private Account account1;
-    private Account account2;
-
-    @BeforeEach
-    void setUp() {
-        account1 = new Account(
-            1L,
-            "1234567890",
-            AccountType.AHORROS,
-            new BigDecimal("1000.00"),
-            true,
-            "client-1",
-            "Old Name",
-            true
-        );
-
-        account2 = new Account(
-            2L,
-            "0987654321",
-            AccountType.CORRIENTE,
-            new BigDecimal("2000.00"),
-            true,
-            "client-1",
-            "Old Name",
-            true
-        );
-    }
-
     @Test
-    void execute_shouldUpdateClientInfo_whenClientHasAccounts() {
+    void execute_shouldUpdateClientInfo_withSingleBulkUpdate() {
         UpdateClientInfoCommand command = new UpdateClientInfoCommand(
             "client-1",
             "Updated Name",
-            false
+            false,
+            CHANGED_AT
         );
 
-        Account updatedAccount1 = new Account(
-            1L,
-            "1234567890",
-            AccountType.AHORROS,
-            new BigDecimal("1000.00"),
-            true,
-            "client-1",
-            "Updated Name",
-            false
-        );
-
-        Account updatedAccount2 = new Account(
-            2L,
-            "0987654321",
-            AccountType.CORRIENTE,
-            new BigDecimal("2000.00"),
-            true,
-            "client-1",
-            "Updated Name",
-            false
-        );
-
-        when(accountRepositoryPort.findByClientId(anyString()))
-            .thenReturn(Flux.just(account1, account2));
-        when(accountRepositoryPort.save(any(Account.class)))
-            .thenReturn(Mono.just(updatedAccount1))
-            .thenReturn(Mono.just(updatedAccount2));
+        when(accountRepositoryPort.updateClientInfo("client-1", "Updated Name", false, CHANGED_AT))
+            .thenReturn(Mono.just(2L));
 
         StepVerifier.create(updateClientInfoUseCase.execute(command))
             .verifyComplete();
 
-        verify(accountRepositoryPort, times(2)).save(any(Account.class));
-    }
-
-    @Test
-    void execute_shouldUpdateMultipleAccounts_whenClientHasMultipleAccounts() {
-        UpdateClientInfoCommand command = new UpdateClientInfoCommand(
-            "client-1",
-            "New Client Name",
-            true
-        );
-
-        Account updatedAccount1 = new Account(
-            1L,
-            "1234567890",
-            AccountType.AHORROS,
-            new BigDecimal("1000.00"),
-            true,
-            "client-1",
-            "New Client Name",
-            true
-        );
-
-        Account updatedAccount2 = new Account(
-            2L,
-            "0987654321",
-            AccountType.CORRIENTE,
-            new BigDecimal("2000.00"),
-            true,
-            "client-1",
-            "New Client Name",
-            true
-        );
-
-        when(accountRepositoryPort.findByClientId(anyString()))
-            .thenReturn(Flux.just(account1, account2));
-        when(accountRepositoryPort.save(any(Account.class)))
-            .thenReturn(Mono.just(updatedAccount1))
-            .thenReturn(Mono.just(updatedAccount2));
-
-        StepVerifier.create(updateClientInfoUseCase.execute(command))
-            .verifyComplete();
-
-        verify(accountRepositoryPort, times(2)).save(any(Account.class));
+        verify(accountRepositoryPort).updateClientInfo("client-1", "Updated Name", false, CHANGED_AT);
+        verify(accountRepositoryPort, never()).findByClientId(anyString());
+        verify(accountRepositoryPort, never()).save(any());
     }
 
     @Test
@@ -147,29 +53,31 @@ class UpdateClientInfoUseCaseTest {
         UpdateClientInfoCommand command = new UpdateClientInfoCommand(
             "client-999",
             "Non Existent Client",
-            true
+            true,
+            CHANGED_AT
         );
 
-        when(accountRepositoryPort.findByClientId(anyString())).thenReturn(Flux.empty());
+        when(accountRepositoryPort.updateClientInfo(anyString(), anyString(), any(), any()))
+            .thenReturn(Mono.just(0L));
 
         StepVerifier.create(updateClientInfoUseCase.execute(command))
             .verifyComplete();
     }
 
     @Test
-    void execute_shouldHandleError_whenSaveFails() {
+    void execute_shouldPropagateError_whenUpdateFails() {
         UpdateClientInfoCommand command = new UpdateClientInfoCommand(
             "client-1",
             "Updated Name",
-            true
+            true,
+            CHANGED_AT
         );
 
-        when(accountRepositoryPort.findByClientId(anyString()))
-            .thenReturn(Flux.just(account1));
-        when(accountRepositoryPort.save(any(Account.class)))
+        when(accountRepositoryPort.updateClientInfo(anyString(), anyString(), any(), any()))
             .thenReturn(Mono.error(new RuntimeException("Database error")));
 
         StepVerifier.create(updateClientInfoUseCase.execute(command))
-            .verifyComplete();
+            .expectErrorMessage("Database error")
+            .verify();
     }
 }
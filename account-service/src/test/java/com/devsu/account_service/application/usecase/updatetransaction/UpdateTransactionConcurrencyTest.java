@@ -0,0 +1,126 @@
+package com.devsu.account_service.application.usecase.updatetransaction;
+
+import com.devsu.account_service.adapter.out.persistence.AccountR2dbcRepository;
+import com.devsu.account_service.adapter.out.persistence.AccountRepositoryAdapter;
+import com.devsu.account_service.adapter.out.persistence.DailyBalanceRecorder;
+import com.devsu.account_service.adapter.out.persistence.TransactionBatchInserter;
+import com.devsu.account_service.adapter.out.persistence.TransactionR2dbcRepository;
+import com.devsu.account_service.adapter.out.persistence.TransactionRepositoryAdapter;
+import com.devsu.account_service.adapter.out.persistence.mapper.AccountPersistenceMapper;
+import com.devsu.account_service.adapter.out.persistence.mapper.TransactionPersistenceMapper;
+import com.devsu.account_service.application.retry.ConflictRetryPolicies;
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.AccountType;
+import com.devsu.account_service.domain.model.Transaction;
+import com.devsu.account_service.domain.port.out.DailyBalanceRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Amends many movements of one hot account at increasing concurrency: every amendment must land in
+// the balance exactly once, and amending different movements never conflicts on the account row.
+@DataR2dbcTest
+@Import({
+    AccountRepositoryAdapter.class,
+    TransactionRepositoryAdapter.class,
+    AccountPersistenceMapper.class,
+    TransactionPersistenceMapper.class,
+    TransactionBatchInserter.class,
+    DailyBalanceRecorder.class
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Slf4j
+class UpdateTransactionConcurrencyTest {
+
+    private static final int AMENDMENTS = 200;
+    private static final BigDecimal OPENING_BALANCE = new BigDecimal("100000.00");
+
+    @Autowired
+    private AccountRepositoryAdapter accountRepositoryAdapter;
+
+    @Autowired
+    private TransactionRepositoryAdapter transactionRepositoryAdapter;
+
+    @Autowired
+    private AccountR2dbcRepository accountRepository;
+
+    @Autowired
+    private TransactionR2dbcRepository transactionRepository;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository.deleteAll().block();
+        accountRepository.deleteAll().block();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 16})
+    void concurrentAmendmentsShouldNeverLoseAnUpdate(int concurrency) {
+        String accountNumber = "90000000" + String.format("%02d", concurrency);
+        accountRepositoryAdapter.save(new Account(null, accountNumber, AccountType.CORRIENTE, OPENING_BALANCE,
+            true, "client-stress", "Stress Test", true)).block();
+        List<Long> transactionIds = Flux.range(0, AMENDMENTS)
+            .concatMap(i -> transactionRepositoryAdapter.save(new Transaction(null, LocalDateTime.now(),
+                "Deposito", BigDecimal.TEN, OPENING_BALANCE, accountNumber)))
+            .map(Transaction::getId)
+            .collectList()
+            .block();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("account.conflict-retry.default.max-retries", "50");
+        DailyBalanceRepositoryPort dailyBalanceRepositoryPort = mock(DailyBalanceRepositoryPort.class);
+        when(dailyBalanceRepositoryPort.rebuild(anyString(), any())).thenReturn(Mono.just(1L));
+        UpdateTransactionUseCase useCase = new UpdateTransactionUseCase(transactionRepositoryAdapter,
+            accountRepositoryAdapter, dailyBalanceRepositoryPort, transactionalOperator,
+            new ConflictRetryPolicies(environment, meterRegistry));
+
+        // Each movement goes from 10 to 11, so the account must end exactly AMENDMENTS above its opening balance
+        long start = System.nanoTime();
+        StepVerifier.create(
+            Flux.fromIterable(transactionIds)
+                .flatMap(id -> useCase.execute(
+                    new UpdateTransactionCommand(id, "Deposito", new BigDecimal("11.00"))), concurrency)
+                .count()
+        )
+            .expectNext((long) AMENDMENTS)
+            .verifyComplete();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber(accountNumber))
+            .expectNextMatches(found ->
+                found.getBalance().compareTo(OPENING_BALANCE.add(BigDecimal.valueOf(AMENDMENTS))) == 0)
+            .verifyComplete();
+
+        double retries = meterRegistry.get("usecase.conflict.retries").counter().count();
+        log.info("Amendments at concurrency {}: {} ops/s, {} retries ({} retries/s, {} per amendment)",
+            concurrency, Math.round(AMENDMENTS / seconds), Math.round(retries), Math.round(retries / seconds),
+            String.format("%.2f", retries / AMENDMENTS));
+        assertThat(meterRegistry.get("usecase.conflict.exhausted").counter().count()).isZero();
+        assertThat(retries).isZero();
+    }
+}
@@ -0,0 +1,132 @@
+package com.devsu.account_service.application.usecase.updatetransaction;
+
+import com.devsu.account_service.adapter.out.persistence.AccountR2dbcRepository;
+import com.devsu.account_service.adapter.out.persistence.AccountRepositoryAdapter;
+import com.devsu.account_service.adapter.out.persistence.DailyBalanceRecorder;
+import com.devsu.account_service.adapter.out.persistence.DailyBalanceRepositoryAdapter;
+import com.devsu.account_service.adapter.out.persistence.TransactionBatchInserter;
+import com.devsu.account_service.adapter.out.persistence.TransactionR2dbcRepository;
+import com.devsu.account_service.adapter.out.persistence.TransactionRepositoryAdapter;
+import com.devsu.account_service.adapter.out.persistence.mapper.AccountPersistenceMapper;
+import com.devsu.account_service.adapter.out.persistence.mapper.TransactionPersistenceMapper;
+import com.devsu.account_service.application.retry.ConflictRetryPolicies;
+import com.devsu.account_service.domain.model.Account;
+import com.devsu.account_service.domain.model.AccountType;
+import com.devsu.account_service.domain.model.DailyBalance;
+import com.devsu.account_service.domain.model.Transaction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Amends a movement that is not the account's latest: every later running balance and every later day's
+// snapshot must move by the same difference, and the consistency checker must agree with the result
+@DataR2dbcTest
+@Import({
+    AccountRepositoryAdapter.class,
+    TransactionRepositoryAdapter.class,
+    DailyBalanceRepositoryAdapter.class,
+    AccountPersistenceMapper.class,
+    TransactionPersistenceMapper.class,
+    TransactionBatchInserter.class,
+    DailyBalanceRecorder.class
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+class UpdateTransactionDailyBalanceTest {
+
+    private static final String ACCOUNT_NUMBER = "7200000001";
+    private static final String CLIENT_ID = "client-amend";
+
+    @Autowired
+    private AccountRepositoryAdapter accountRepositoryAdapter;
+
+    @Autowired
+    private TransactionRepositoryAdapter transactionRepositoryAdapter;
+
+    @Autowired
+    private DailyBalanceRepositoryAdapter dailyBalanceRepositoryAdapter;
+
+    @Autowired
+    private AccountR2dbcRepository accountRepository;
+
+    @Autowired
+    private TransactionR2dbcRepository transactionRepository;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    private UpdateTransactionUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository.deleteAll().block();
+        accountRepository.deleteAll().block();
+
+        useCase = new UpdateTransactionUseCase(transactionRepositoryAdapter, accountRepositoryAdapter,
+            dailyBalanceRepositoryAdapter, transactionalOperator,
+            new ConflictRetryPolicies(new MockEnvironment(), new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void amendingAnOlderMovementShouldShiftLaterBalancesAndSnapshots() {
+        LocalDate today = LocalDate.now();
+        accountRepositoryAdapter.save(new Account(null, ACCOUNT_NUMBER, AccountType.AHORROS, new BigDecimal("105.00"),
+            true, CLIENT_ID, "Amend Client", true)).block();
+        Transaction first = movement(today.minusDays(2).atTime(9, 0), "20.00", "120.00");
+        movement(today.minusDays(2).atTime(18, 0), "10.00", "130.00");
+        movement(today.minusDays(1).atTime(9, 0), "-30.00", "100.00");
+        movement(today.atStartOfDay(), "5.00", "105.00");
+        dailyBalanceRepositoryAdapter.rebuild(ACCOUNT_NUMBER, null).block();
+
+        StepVerifier.create(useCase.execute(new UpdateTransactionCommand(first.getId(), "Deposito", new BigDecimal("50.00"))))
+            .expectNextMatches(amended -> amended.getBalance().compareTo(new BigDecimal("150.00")) == 0)
+            .verifyComplete();
+
+        List<BigDecimal> runningBalances = transactionRepositoryAdapter.findByAccountNumber(ACCOUNT_NUMBER)
+            .sort((a, b) -> a.getId().compareTo(b.getId()))
+            .map(Transaction::getBalance)
+            .collectList()
+            .block();
+        assertThat(runningBalances).usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(new BigDecimal("150.00"), new BigDecimal("160.00"), new BigDecimal("130.00"),
+                new BigDecimal("135.00"));
+
+        List<DailyBalance> days = dailyBalanceRepositoryAdapter.findForClient(CLIENT_ID, today.minusDays(2), today)
+            .collectList()
+            .block();
+        assertThat(days).hasSize(3);
+        assertThat(days.get(0).getOpeningBalance()).isEqualByComparingTo("100.00");
+        assertThat(days.get(0).getClosingBalance()).isEqualByComparingTo("160.00");
+        assertThat(days.get(0).getTotalCredits()).isEqualByComparingTo("60.00");
+        assertThat(days.get(1).getOpeningBalance()).isEqualByComparingTo("160.00");
+        assertThat(days.get(1).getClosingBalance()).isEqualByComparingTo("130.00");
+        assertThat(days.get(2).getOpeningBalance()).isEqualByComparingTo("130.00");
+        assertThat(days.get(2).getClosingBalance()).isEqualByComparingTo("135.00");
+
+        StepVerifier.create(accountRepositoryAdapter.findByAccountNumber(ACCOUNT_NUMBER))
+            .expectNextMatches(account -> account.getBalance().compareTo(new BigDecimal("135.00")) == 0)
+            .verifyComplete();
+
+        StepVerifier.create(dailyBalanceRepositoryAdapter.findMismatches())
+            .verifyComplete();
+    }
+
+    private Transaction movement(LocalDateTime date, String amount, String balance) {
+        return transactionRepositoryAdapter.save(new Transaction(null, date,
+            amount.startsWith("-") ? "Retiro" : "Deposito", new BigDecimal(amount), new BigDecimal(balance),
+            ACCOUNT_NUMBER)).block();
+    }
+}
@@ -1,27 +1,36 @@
 package com.devsu.account_service.application.usecase.updatetransaction;
 
+import com.devsu.account_service.application.retry.ConflictRetryPolicies;
+import com.devsu.account_service.domain.exception.ConcurrentUpdateException;
 import com.devsu.account_service.domain.exception.InsufficientBalanceException;
 import com.devsu.account_service.domain.exception.TransactionNotFoundException;
-import com.devsu.account_service.domain.model.Account;
-import com.devsu.account_service.domain.model.AccountType;
 import com.devsu.account_service.domain.model.Transaction;
 import com.devsu.account_service.domain.port.out.AccountRepositoryPort;
+import com.devsu.account_service.domain.port.out.DailyBalanceRepositoryPort;
 import com.devsu.account_service.domain.port.out.TransactionRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,25 +42,23 @@ class UpdateTransactionUseCaseTest {
     @Mock
     private AccountRepositoryPort accountRepositoryPort;
 
+    @Mock
+    private DailyBalanceRepositoryPort dailyBalanceRepositoryPort;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Spy
+    private ConflictRetryPolicies conflictRetryPolicies =
+        new ConflictRetryPolicies(new MockEnvironment(), new SimpleMeterRegistry());
+
     @InjectMocks
     private UpdateTransactionUseCase updateTransactionUseCase;
 
-    private Account account;
     private Transaction existingTransaction;
 
     @BeforeEach
     void setUp() {
-        account = new Account(
-            1L,
-            "1234567890",
-            AccountType.AHORROS,
-            new BigDecimal("1000.00"),
-            true,
-            "client-1",
-            "John Doe",
-            true
-        );
-
         existingTransaction = new Transaction(
             1L,
             LocalDateTime.now(),
@@ -60,6 +67,8 @@ class UpdateTransactionUseCaseTest {
             new BigDecimal("1500.00"),
             "1234567890"
         );
+
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Test
@@ -80,15 +89,20 @@ class UpdateTransactionUseCaseTest {
         );
 
         when(transactionRepositoryPort.findById(anyLong())).thenReturn(Mono.just(existingTransaction));
-        when(accountRepositoryPort.findByAccountNumber(anyString())).thenReturn(Mono.just(account));
-        when(accountRepositoryPort.save(any(Account.class))).thenReturn(Mono.just(account));
+        when(accountRepositoryPort.applyBalanceDelta(anyString(), any(BigDecimal.class)))
+            .thenReturn(Mono.just(new BigDecimal("1100.00")));
         when(transactionRepositoryPort.save(any(Transaction.class))).thenReturn(Mono.just(updatedTransaction));
+        when(transactionRepositoryPort.shiftBalancesAfter(anyString(), anyLong(), any(BigDecimal.class)))
+            .thenReturn(Mono.just(0L));
+        when(dailyBalanceRepositoryPort.rebuild(anyString(), any())).thenReturn(Mono.just(1L));
 
         StepVerifier.create(updateTransactionUseCase.execute(command))
             .expectNextMatches(t -> 
                 t.getAmount().compareTo(new BigDecimal("600.00")) == 0
             )
             .verifyComplete();
+
+        verify(dailyBalanceRepositoryPort).rebuild("1234567890", existingTransaction.getDate().toLocalDate());
     }
 
     @Test
@@ -109,9 +123,12 @@ class UpdateTransactionUseCaseTest {
         );
 
         when(transactionRepositoryPort.findById(anyLong())).thenReturn(Mono.just(existingTransaction));
-        when(accountRepositoryPort.findByAccountNumber(anyString())).thenReturn(Mono.just(account));
-        when(accountRepositoryPort.save(any(Account.class))).thenReturn(Mono.just(account));
+        when(accountRepositoryPort.applyBalanceDelta(anyString(), any(BigDecimal.class)))
+            .thenReturn(Mono.just(new BigDecimal("800.00")));
         when(transactionRepositoryPort.save(any(Transaction.class))).thenReturn(Mono.just(updatedTransaction));
+        when(transactionRepositoryPort.shiftBalancesAfter(anyString(), anyLong(), any(BigDecimal.class)))
+            .thenReturn(Mono.just(0L));
+        when(dailyBalanceRepositoryPort.rebuild(anyString(), any())).thenReturn(Mono.just(1L));
 
         StepVerifier.create(updateTransactionUseCase.execute(command))
             .expectNextMatches(t -> 
@@ -119,6 +136,44 @@ class UpdateTransactionUseCaseTest {
                 t.getBalance().compareTo(new BigDecimal("800.00")) == 0
             )
             .verifyComplete();
+
+        verify(accountRepositoryPort).applyBalanceDelta("1234567890", new BigDecimal("-200.00"));
+        verify(transactionRepositoryPort).shiftBalancesAfter("1234567890", 1L, new BigDecimal("-200.00"));
+    }
+
+    @Test
+    void execute_shouldRetryFromFreshRead_whenMovementWasModifiedConcurrently() {
+        UpdateTransactionCommand command = new UpdateTransactionCommand(
+            1L,
+            "Deposit",
+            new BigDecimal("600.00")
+        );
+
+        when(transactionRepositoryPort.findById(anyLong())).thenReturn(
+            Mono.just(new Transaction(1L, existingTransaction.getDate(), "Deposit", new BigDecimal("500.00"),
+                new BigDecimal("1500.00"), "1234567890")),
+            Mono.just(new Transaction(1L, existingTransaction.getDate(), "Deposit", new BigDecimal("500.00"),
+                new BigDecimal("1500.00"), "1234567890")),
+            Mono.just(new Transaction(1L, existingTransaction.getDate(), "Deposit", new BigDecimal("550.00"),
+                new BigDecimal("1550.00"), "1234567890")));
+        when(accountRepositoryPort.applyBalanceDelta(anyString(), any(BigDecimal.class)))
+            .thenReturn(Mono.just(new BigDecimal("1300.00")), Mono.just(new BigDecimal("1250.00")));
+        when(transactionRepositoryPort.save(any(Transaction.class))).thenReturn(
+            Mono.error(new ConcurrentUpdateException("1", "Transaction was modified by another request")))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(transactionRepositoryPort.shiftBalancesAfter(anyString(), anyLong(), any(BigDecimal.class)))
+            .thenReturn(Mono.just(0L));
+        when(dailyBalanceRepositoryPort.rebuild(anyString(), any())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(updateTransactionUseCase.execute(command))
+            .expectNextMatches(t -> t.getBalance().compareTo(new BigDecimal("1600.00")) == 0)
+            .verifyComplete();
+
+        ArgumentCaptor<BigDecimal> deltas = ArgumentCaptor.forClass(BigDecimal.class);
+        verify(accountRepositoryPort, times(2)).applyBalanceDelta(anyString(), deltas.capture());
+        assertThat(deltas.getAllValues()).usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(new BigDecimal("100.00"), new BigDecimal("50.00"));
+        verify(transactionalOperator, times(2)).transactional(any(Mono.class));
     }
 
     @Test
@@ -130,7 +185,8 @@ class UpdateTransactionUseCaseTest {
         );
 
         when(transactionRepositoryPort.findById(anyLong())).thenReturn(Mono.just(existingTransaction));
-        when(accountRepositoryPort.findByAccountNumber(anyString())).thenReturn(Mono.just(account));
+        when(accountRepositoryPort.applyBalanceDelta(anyString(), any(BigDecimal.class)))
+            .thenReturn(Mono.error(new InsufficientBalanceException("Saldo no disponible")));
 
         StepVerifier.create(updateTransactionUseCase.execute(command))
             .expectError(InsufficientBalanceException.class)
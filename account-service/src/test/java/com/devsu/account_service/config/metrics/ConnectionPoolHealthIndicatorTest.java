@@ -0,0 +1,82 @@
+package com.devsu.account_service.config.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.PoolMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionPoolHealthIndicatorTest {
+
+    @Mock
+    private PoolMetrics poolMetrics;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConnectionPoolHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        healthIndicator = new ConnectionPoolHealthIndicator(poolMetrics, meterRegistry, "connectionFactory",
+            Duration.ofMillis(100));
+        when(poolMetrics.acquiredSize()).thenReturn(3);
+        when(poolMetrics.idleSize()).thenReturn(7);
+        when(poolMetrics.pendingAcquireSize()).thenReturn(0);
+        when(poolMetrics.getMaxAllocatedSize()).thenReturn(20);
+    }
+
+    @Test
+    void health_shouldBeUp_withPoolDetails_whenAcquiresAreFast() {
+        acquireTimer().record(Duration.ofMillis(5));
+
+        Health health = healthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails())
+            .containsEntry("acquired", 3)
+            .containsEntry("idle", 7)
+            .containsEntry("pending", 0)
+            .containsEntry("maxSize", 20)
+            .containsEntry("acquiresSinceLastCheck", 1L);
+    }
+
+    @Test
+    void health_shouldDegrade_whenMeanAcquireSinceLastCheckExceedsThreshold_andRecover() {
+        acquireTimer().record(Duration.ofMillis(5));
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+
+        acquireTimer().record(Duration.ofMillis(400));
+        acquireTimer().record(Duration.ofMillis(300));
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(ConnectionPoolHealthIndicator.DEGRADED);
+
+        acquireTimer().record(Duration.ofMillis(10));
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void health_shouldBeUp_whenNoConnectionsWereAcquired() {
+        Health health = healthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("acquiresSinceLastCheck", 0L);
+    }
+
+    private Timer acquireTimer() {
+        return Timer.builder("r2dbc.pool.acquire")
+            .tag("name", "connectionFactory")
+            .tag("outcome", "success")
+            .tag("exception", "none")
+            .register(meterRegistry);
+    }
+}
@@ -7,6 +7,8 @@ CREATE TABLE IF NOT EXISTS account (
     client_id VARCHAR(50) NOT NULL,
     client_name VARCHAR(100) NOT NULL,
     client_status BOOLEAN NOT NULL DEFAULT true,
+    client_changed_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
@@ -21,6 +23,8 @@ CREATE TABLE IF NOT EXISTS transaction (
     amount DECIMAL(15,2) NOT NULL,
     balance DECIMAL(15,2) NOT NULL,
     account_number VARCHAR(50) NOT NULL,
+    correlation_id VARCHAR(36),
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     CONSTRAINT fk_transaction_account FOREIGN KEY (account_number) 
@@ -30,3 +34,35 @@ CREATE TABLE IF NOT EXISTS transaction (
 
 CREATE INDEX IF NOT EXISTS idx_transaction_account_number ON transaction(account_number);
 CREATE INDEX IF NOT EXISTS idx_transaction_date ON transaction(date);
+CREATE INDEX IF NOT EXISTS idx_transaction_correlation_id ON transaction(correlation_id);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_account_number_id ON transaction(account_number, id);
+CREATE INDEX IF NOT EXISTS idx_account_client_id_id ON account(client_id, id);
+
+CREATE TABLE IF NOT EXISTS account_daily_balance (
+    account_number VARCHAR(50) NOT NULL,
+    balance_date DATE NOT NULL,
+    opening_balance DECIMAL(15,2) NOT NULL,
+    closing_balance DECIMAL(15,2) NOT NULL,
+    total_credits DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    total_debits DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    movement_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (account_number, balance_date),
+    CONSTRAINT fk_daily_balance_account FOREIGN KEY (account_number) 
+        REFERENCES account(account_number) 
+        ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS idempotency_key (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    transaction_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_idempotency_key_transaction FOREIGN KEY (transaction_id) 
+        REFERENCES transaction(id) 
+        ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_key_expires_at ON idempotency_key(expires_at);
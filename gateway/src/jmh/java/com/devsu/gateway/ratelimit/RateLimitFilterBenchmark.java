@@ -0,0 +1,74 @@
+package com.devsu.gateway.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Cost of the rate limit filter per request, against a chain that does nothing: passThrough is the
+// baseline (building the exchange), admitted takes a token and an in-flight slot, shed answers 429
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class RateLimitFilterBenchmark {
+	private static final GatewayFilterChain BACKEND = exchange -> Mono.empty();
+	
+	private Route route;
+	private MockServerHttpRequest withinLimit;
+	private MockServerHttpRequest overLimit;
+	private GatewayFilter unlimited;
+	private GatewayFilter exhausted;
+	
+	@Setup
+	public void setUp() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		RateLimitGatewayFilterFactory factory = new RateLimitGatewayFilterFactory(
+			new TokenBucketStore(meterRegistry, 100_000, Duration.ofMinutes(10)), meterRegistry, true, 50, 100, 256);
+		unlimited = factory.apply(factory.newConfig().setReplenishRate(1e9).setBurstCapacity(Integer.MAX_VALUE));
+		exhausted = factory.apply(factory.newConfig().setReplenishRate(1e-9).setBurstCapacity(1));
+		route = Route.async()
+			.id("account_service_transactions_route")
+			.uri("http://localhost:8081")
+			.predicate(exchange -> true)
+			.build();
+		withinLimit = MockServerHttpRequest.post("/movimientos?cliente=client-1").build();
+		overLimit = MockServerHttpRequest.post("/movimientos?cliente=client-2").build();
+	}
+	
+	@Benchmark
+	public Void passThrough() {
+		return BACKEND.filter(exchange(withinLimit)).block();
+	}
+	
+	@Benchmark
+	public Void admitted() {
+		return unlimited.filter(exchange(withinLimit), BACKEND).block();
+	}
+	
+	@Benchmark
+	public Void shed() {
+		return exhausted.filter(exchange(overLimit), BACKEND).block();
+	}
+	
+	private MockServerWebExchange exchange(MockServerHttpRequest request) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(request);
+		exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+		return exchange;
+	}
+}
@@ -1,36 +1,73 @@
 package com.devsu.gateway;
 
+import com.devsu.gateway.cache.CacheInvalidationListener;
+import com.devsu.gateway.cache.ResponseCacheGatewayFilterFactory;
+import com.devsu.gateway.ratelimit.RateLimitGatewayFilterFactory;
+import com.devsu.gateway.resilience.RouteResilience;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 
+import java.time.Duration;
+import java.util.Set;
+
 @SpringBootApplication
 public class GatewayApplication {
+	// Replicas of each service are listed under spring.cloud.discovery.client.simple.instances.<service id>
+	private static final String PERSON_SERVICE = "lb://person-service";
+	private static final String ACCOUNT_SERVICE = "lb://account-service";
 
 	public static void main(String[] args) {
 		SpringApplication.run(GatewayApplication.class, args);
 	}
 
 	@Bean
-	public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
+	public RouteLocator customRouteLocator(
+			RouteLocatorBuilder builder,
+			ResponseCacheGatewayFilterFactory responseCache,
+			RateLimitGatewayFilterFactory rateLimit,
+			RouteResilience resilience,
+			@Value("${gateway.response-cache.ttl.clientes:30s}") Duration clientsTtl,
+			@Value("${gateway.response-cache.ttl.cuentas:10s}") Duration accountsTtl,
+			@Value("${gateway.rate-limit.max-in-flight.clientes:256}") int clientsMaxInFlight,
+			@Value("${gateway.rate-limit.max-in-flight.cuentas:256}") int accountsMaxInFlight,
+			@Value("${gateway.rate-limit.max-in-flight.movimientos:256}") int transactionsMaxInFlight,
+			@Value("${gateway.rate-limit.max-in-flight.reportes:32}") int reportsMaxInFlight) {
 		return builder.routes()
 			// Route for person-service: Client operations
 			.route("person_service_route", r -> r.path("/clientes/**")
-				.uri("http://person-service:8082"))
+				.filters(f -> resilience.apply("person_service_route", f
+					.filter(rateLimit.apply(c -> c.setMaxInFlight(clientsMaxInFlight)))
+					.filter(responseCache.apply(c -> c
+						.setTtl(clientsTtl)
+						.setInvalidatedBy(Set.of(CacheInvalidationListener.CLIENT_EVENTS))))))
+				.uri(PERSON_SERVICE))
 			
 			// Route for account-service: Account operations
+			// Account reads embed the client name, so client events drop them too
 			.route("account_service_accounts_route", r -> r.path("/cuentas/**")
-				.uri("http://account-service:8081"))
+				.filters(f -> resilience.apply("account_service_accounts_route", f
+					.filter(rateLimit.apply(c -> c.setMaxInFlight(accountsMaxInFlight)))
+					.filter(responseCache.apply(c -> c
+						.setTtl(accountsTtl)
+						.setInvalidatedBy(Set.of(CacheInvalidationListener.ACCOUNT_EVENTS, CacheInvalidationListener.CLIENT_EVENTS))))))
+				.uri(ACCOUNT_SERVICE))
 			
 			// Route for account-service: Transaction operations
 			.route("account_service_transactions_route", r -> r.path("/movimientos/**")
-				.uri("http://account-service:8081"))
+				.filters(f -> resilience.apply("account_service_transactions_route", f
+					.filter(rateLimit.apply(c -> c.setMaxInFlight(transactionsMaxInFlight)))))
+				.uri(ACCOUNT_SERVICE))
 			
 			// Route for account-service: Report operations
+			// Reports are the heaviest reads, so fewer of them run at once
 			.route("account_service_reports_route", r -> r.path("/reportes/**")
-				.uri("http://account-service:8081"))
+				.filters(f -> resilience.apply("account_service_reports_route", f
+					.filter(rateLimit.apply(c -> c.setMaxInFlight(reportsMaxInFlight)))))
+				.uri(ACCOUNT_SERVICE))
 			
 			.build();
 	}
@@ -0,0 +1,6 @@
+package com.devsu.gateway.cache;
+
+import java.util.List;
+
+public record AccountsChangedEvent(List<String> accountNumbers) {
+}
@@ -0,0 +1,70 @@
+package com.devsu.gateway.cache;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheInvalidationConfiguration {
+	
+	@Value("${rabbitmq.exchange.client}")
+	private String clientExchange;
+	
+	@Value("${rabbitmq.routing-key.client-updated}")
+	private String clientUpdatedRoutingKey;
+	
+	@Value("${rabbitmq.exchange.account}")
+	private String accountExchange;
+	
+	@Value("${rabbitmq.routing-key.account-changed}")
+	private String accountChangedRoutingKey;
+	
+	@Bean
+	public Queue clientChangesQueue() {
+		return new AnonymousQueue(new Base64UrlNamingStrategy("gateway.cache.client."));
+	}
+	
+	@Bean
+	public Queue accountChangesQueue() {
+		return new AnonymousQueue(new Base64UrlNamingStrategy("gateway.cache.account."));
+	}
+	
+	@Bean
+	public TopicExchange clientExchange() {
+		return new TopicExchange(clientExchange);
+	}
+	
+	@Bean
+	public TopicExchange accountExchange() {
+		return new TopicExchange(accountExchange);
+	}
+	
+	@Bean
+	public Binding clientChangesBinding() {
+		return BindingBuilder
+			.bind(clientChangesQueue())
+			.to(clientExchange())
+			.with(clientUpdatedRoutingKey);
+	}
+	
+	@Bean
+	public Binding accountChangesBinding() {
+		return BindingBuilder
+			.bind(accountChangesQueue())
+			.to(accountExchange())
+			.with(accountChangedRoutingKey);
+	}
+	
+	@Bean
+	public MessageConverter jsonMessageConverter() {
+		return new Jackson2JsonMessageConverter();
+	}
+}
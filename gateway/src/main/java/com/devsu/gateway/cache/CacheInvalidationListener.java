@@ -0,0 +1,33 @@
+package com.devsu.gateway.cache;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Each gateway instance listens on its own anonymous queue, so every instance drops its own copies
+@Component
+public class CacheInvalidationListener {
+	public static final String CLIENT_EVENTS = "client";
+	public static final String ACCOUNT_EVENTS = "account";
+	
+	private final ResponseCache responseCache;
+	
+	public CacheInvalidationListener(ResponseCache responseCache) {
+		this.responseCache = responseCache;
+	}
+	
+	@RabbitListener(queues = "#{clientChangesQueue.name}")
+	public void onClientChanged(ClientChangedEvent event) {
+		if (event.clientId() != null) {
+			responseCache.invalidate(CLIENT_EVENTS, List.of(event.clientId()));
+		}
+	}
+	
+	@RabbitListener(queues = "#{accountChangesQueue.name}")
+	public void onAccountsChanged(AccountsChangedEvent event) {
+		if (event.accountNumbers() != null && !event.accountNumbers().isEmpty()) {
+			responseCache.invalidate(ACCOUNT_EVENTS, event.accountNumbers());
+		}
+	}
+}
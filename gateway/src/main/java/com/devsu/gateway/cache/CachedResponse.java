@@ -0,0 +1,53 @@
+package com.devsu.gateway.cache;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+
+// One cached representation; collection reads (no id segment after the route prefix) are dropped by
+// every event of their sources, item reads only when an event names them in the URI or the body
+public record CachedResponse(
+		String path,
+		String query,
+		MediaType contentType,
+		byte[] body,
+		String etag,
+		Duration ttl,
+		Set<String> invalidatedBy,
+		long storedAtMillis) {
+	
+	private static final int ENTRY_OVERHEAD_BYTES = 256;
+	
+	public int weight() {
+		return body.length + path.length() + (query == null ? 0 : query.length()) + ENTRY_OVERHEAD_BYTES;
+	}
+	
+	public boolean isCollection() {
+		return path.replaceAll("^/+|/+$", "").split("/").length <= 1;
+	}
+	
+	public boolean mentions(String id) {
+		if (path.contains(id) || (query != null && query.contains(id))) {
+			return true;
+		}
+		return indexOf(body, id.getBytes(StandardCharsets.UTF_8)) >= 0;
+	}
+	
+	private static int indexOf(byte[] haystack, byte[] needle) {
+		if (needle.length == 0) {
+			return 0;
+		}
+		outer:
+		for (int i = 0; i <= haystack.length - needle.length; i++) {
+			for (int j = 0; j < needle.length; j++) {
+				if (haystack[i + j] != needle[j]) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+}
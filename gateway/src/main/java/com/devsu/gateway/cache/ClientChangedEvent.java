@@ -0,0 +1,5 @@
+package com.devsu.gateway.cache;
+
+// Only the id matters here; the rest of the client event is ignored on read
+public record ClientChangedEvent(String clientId) {
+}
@@ -0,0 +1,118 @@
+package com.devsu.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Bounded by the bytes held rather than by entry count, since one list response can weigh as much as
+// thousands of item responses. Each entry expires after the TTL of the route that stored it.
+@Component
+public class ResponseCache {
+	public static final String CACHE_NAME = "gateway.responses";
+	
+	private static final Logger log = LoggerFactory.getLogger(ResponseCache.class);
+	
+	private final Cache<String, CachedResponse> cache;
+	private final MeterRegistry meterRegistry;
+	private final long maximumEntrySize;
+	
+	@Autowired
+	public ResponseCache(MeterRegistry meterRegistry,
+			@Value("${gateway.response-cache.maximum-size:64MB}") DataSize maximumSize,
+			@Value("${gateway.response-cache.maximum-entry-size:256KB}") DataSize maximumEntrySize) {
+		this(meterRegistry, maximumSize, maximumEntrySize, Ticker.systemTicker());
+	}
+	
+	ResponseCache(MeterRegistry meterRegistry, DataSize maximumSize, DataSize maximumEntrySize, Ticker ticker) {
+		this.meterRegistry = meterRegistry;
+		this.maximumEntrySize = maximumEntrySize.toBytes();
+		this.cache = Caffeine.newBuilder()
+			.maximumWeight(maximumSize.toBytes())
+			.weigher((String key, CachedResponse response) -> response.weight())
+			.expireAfter(new Expiry<String, CachedResponse>() {
+				@Override
+				public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+					return response.ttl().toNanos();
+				}
+				
+				@Override
+				public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+					return response.ttl().toNanos();
+				}
+				
+				@Override
+				public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+					return currentDuration;
+				}
+			})
+			.ticker(ticker)
+			.executor(Runnable::run)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+		Gauge.builder("gateway.response.cache.hit.ratio", cache, c -> c.stats().hitRate())
+			.description("Share of cacheable GETs answered without calling a backend")
+			.register(meterRegistry);
+	}
+	
+	public CachedResponse get(String key) {
+		return cache.getIfPresent(key);
+	}
+	
+	public boolean fits(long size) {
+		return size <= maximumEntrySize;
+	}
+	
+	public void put(String key, CachedResponse response) {
+		cache.put(key, response);
+	}
+	
+	public void record(String routeId, String result) {
+		Counter.builder("gateway.response.cache.requests")
+			.description("Cacheable GETs by route and outcome (hit, miss, bypass, not_modified)")
+			.tag("route", routeId)
+			.tag("result", result)
+			.register(meterRegistry)
+			.increment();
+	}
+	
+	// Scans the whole cache; events are coalesced upstream and the cache is bounded, so this stays cheap
+	public int invalidate(String source, Collection<String> ids) {
+		AtomicInteger removed = new AtomicInteger();
+		cache.asMap().entrySet().removeIf(entry -> {
+			CachedResponse response = entry.getValue();
+			boolean stale = response.invalidatedBy().contains(source)
+				&& (response.isCollection() || ids.stream().anyMatch(response::mentions));
+			if (stale) {
+				removed.incrementAndGet();
+			}
+			return stale;
+		});
+		Counter.builder("gateway.response.cache.invalidations")
+			.description("Entries dropped because a backend announced a change")
+			.tag("source", source)
+			.register(meterRegistry)
+			.increment(removed.get());
+		log.debug("Dropped {} cached responses after {} change of {}", removed.get(), source, ids);
+		return removed.get();
+	}
+	
+	long size() {
+		cache.cleanUp();
+		return cache.estimatedSize();
+	}
+}
@@ -0,0 +1,242 @@
+package com.devsu.gateway.cache;
+
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Serves GETs of the routes it is attached to from ResponseCache and tags every answer with an ETag,
+// so pollers that send If-None-Match get a 304 without a body. Streaming responses are never cached.
+@Component
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+	public static final String CACHE_STATUS_HEADER = "X-Cache";
+	
+	// Runs just before the filter that writes the backend response, so the decorator sees the body
+	private static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+	private static final List<MediaType> STREAMING_TYPES = List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+	// A cut-short list page names its next cursor in this header, which a cached copy would not replay
+	private static final String NEXT_AFTER_ID_HEADER = "X-Next-After-Id";
+	
+	private final ResponseCache responseCache;
+	private final boolean enabled;
+	
+	public ResponseCacheGatewayFilterFactory(ResponseCache responseCache,
+			@Value("${gateway.response-cache.enabled:true}") boolean enabled) {
+		super(Config.class);
+		this.responseCache = responseCache;
+		this.enabled = enabled;
+	}
+	
+	@Override
+	public List<String> shortcutFieldOrder() {
+		return List.of("ttl");
+	}
+	
+	@Override
+	public GatewayFilter apply(Config config) {
+		return new OrderedGatewayFilter((exchange, chain) -> filter(exchange, chain, config), ORDER);
+	}
+	
+	private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+		ServerHttpRequest request = exchange.getRequest();
+		if (!enabled || request.getMethod() != HttpMethod.GET) {
+			return chain.filter(exchange);
+		}
+		
+		String routeId = routeId(exchange);
+		String key = key(routeId, request);
+		String cacheControl = request.getHeaders().getCacheControl();
+		if (cacheControl != null && cacheControl.contains("no-cache")) {
+			responseCache.record(routeId, "bypass");
+		} else {
+			CachedResponse cached = responseCache.get(key);
+			if (cached != null) {
+				return writeCached(exchange, routeId, cached);
+			}
+			responseCache.record(routeId, "miss");
+		}
+		
+		CapturingResponse response = new CapturingResponse(exchange, key, config);
+		return chain.filter(exchange.mutate().response(response).build());
+	}
+	
+	private Mono<Void> writeCached(ServerWebExchange exchange, String routeId, CachedResponse cached) {
+		ServerHttpResponse response = exchange.getResponse();
+		HttpHeaders headers = response.getHeaders();
+		headers.setETag(cached.etag());
+		headers.set(CACHE_STATUS_HEADER, "HIT");
+		headers.set(HttpHeaders.AGE, String.valueOf((System.currentTimeMillis() - cached.storedAtMillis()) / 1000));
+		
+		if (matches(exchange.getRequest(), cached.etag())) {
+			responseCache.record(routeId, "not_modified");
+			response.setStatusCode(HttpStatus.NOT_MODIFIED);
+			return response.setComplete();
+		}
+		
+		responseCache.record(routeId, "hit");
+		response.setStatusCode(HttpStatus.OK);
+		if (cached.contentType() != null) {
+			headers.setContentType(cached.contentType());
+		}
+		headers.setContentLength(cached.body().length);
+		return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body())));
+	}
+	
+	private static boolean matches(ServerHttpRequest request, String etag) {
+		for (String candidate : request.getHeaders().getIfNoneMatch()) {
+			if (candidate.equals("*") || candidate.equals(etag) || candidate.equals("W/" + etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	private static String routeId(ServerWebExchange exchange) {
+		Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+		return route != null ? route.getId() : "unknown";
+	}
+	
+	// Accept is part of the key because the same path can be served as JSON or NDJSON
+	private static String key(String routeId, ServerHttpRequest request) {
+		String query = request.getURI().getRawQuery();
+		String accept = request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+		return routeId + ' ' + request.getURI().getRawPath() + (query != null ? '?' + query : "") + ' '
+			+ (accept != null ? accept : "*/*");
+	}
+	
+	private static String etagOf(byte[] body) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+			return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + '"';
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private class CapturingResponse extends ServerHttpResponseDecorator {
+		private final ServerHttpRequest request;
+		private final String key;
+		private final Config config;
+		
+		CapturingResponse(ServerWebExchange exchange, String key, Config config) {
+			super(exchange.getResponse());
+			this.request = exchange.getRequest();
+			this.key = key;
+			this.config = config;
+		}
+		
+		@Override
+		public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+			HttpHeaders headers = getHeaders();
+			if (!cacheable(headers)) {
+				headers.set(CACHE_STATUS_HEADER, "MISS");
+				return super.writeWith(body);
+			}
+			
+			return Flux.from(body)
+				.collectList()
+				.flatMap(buffers -> {
+					int size = buffers.stream().mapToInt(DataBuffer::readableByteCount).sum();
+					headers.set(CACHE_STATUS_HEADER, "MISS");
+					if (!responseCache.fits(size)) {
+						return super.writeWith(Flux.fromIterable(buffers));
+					}
+					
+					byte[] bytes = new byte[size];
+					int offset = 0;
+					for (DataBuffer buffer : buffers) {
+						int length = buffer.readableByteCount();
+						buffer.read(bytes, offset, length);
+						offset += length;
+						DataBufferUtils.release(buffer);
+					}
+					
+					String etag = headers.getETag() != null ? headers.getETag() : etagOf(bytes);
+					responseCache.put(key, new CachedResponse(
+						request.getURI().getRawPath(),
+						request.getURI().getRawQuery(),
+						headers.getContentType(),
+						bytes,
+						etag,
+						config.getTtl(),
+						Set.copyOf(config.getInvalidatedBy()),
+						System.currentTimeMillis()));
+					
+					headers.setETag(etag);
+					headers.remove(HttpHeaders.TRANSFER_ENCODING);
+					if (matches(request, etag)) {
+						setStatusCode(HttpStatus.NOT_MODIFIED);
+						headers.remove(HttpHeaders.CONTENT_LENGTH);
+						return getDelegate().setComplete();
+					}
+					headers.setContentLength(bytes.length);
+					return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+				});
+		}
+		
+		private boolean cacheable(HttpHeaders headers) {
+			if (getStatusCode() == null || getStatusCode().value() != HttpStatus.OK.value()) {
+				return false;
+			}
+			MediaType contentType = headers.getContentType();
+			if (contentType != null && STREAMING_TYPES.stream().anyMatch(contentType::isCompatibleWith)) {
+				return false;
+			}
+			if (headers.containsKey(NEXT_AFTER_ID_HEADER)) {
+				return false;
+			}
+			String cacheControl = headers.getCacheControl();
+			return cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+		}
+	}
+	
+	public static class Config {
+		private Duration ttl = Duration.ofSeconds(30);
+		private Set<String> invalidatedBy = new HashSet<>();
+		
+		public Duration getTtl() {
+			return ttl;
+		}
+		
+		public Config setTtl(Duration ttl) {
+			this.ttl = ttl;
+			return this;
+		}
+		
+		public Set<String> getInvalidatedBy() {
+			return invalidatedBy;
+		}
+		
+		public Config setInvalidatedBy(Set<String> invalidatedBy) {
+			this.invalidatedBy = invalidatedBy;
+			return this;
+		}
+	}
+}
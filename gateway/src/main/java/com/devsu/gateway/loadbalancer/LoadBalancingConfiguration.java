@@ -0,0 +1,10 @@
+package com.devsu.gateway.loadbalancer;
+
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+// Every lb:// service gets an OutstandingRequestsLoadBalancer in its own load balancer context
+@Configuration
+@LoadBalancerClients(defaultConfiguration = OutstandingRequestsLoadBalancerConfiguration.class)
+public class LoadBalancingConfiguration {
+}
@@ -0,0 +1,93 @@
+package com.devsu.gateway.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Picks the replica with the fewest requests in flight, among the ones passive health checking has not
+// ejected. Least-outstanding scans every replica; power-of-two-choices compares two random ones, which
+// costs the same at any replica count and keeps gateway instances from all piling onto the same replica.
+public class OutstandingRequestsLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+	public enum Strategy {
+		LEAST_OUTSTANDING,
+		POWER_OF_TWO_CHOICES;
+		
+		static Strategy fromProperty(String value) {
+			return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+		}
+	}
+	
+	private final ObjectProvider<ServiceInstanceListSupplier> suppliers;
+	private final ReplicaStatsStore replicaStats;
+	private final Strategy strategy;
+	private final AtomicInteger position = new AtomicInteger();
+	
+	public OutstandingRequestsLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> suppliers,
+			ReplicaStatsStore replicaStats, Strategy strategy) {
+		this.suppliers = suppliers;
+		this.replicaStats = replicaStats;
+		this.strategy = strategy;
+	}
+	
+	@Override
+	public Mono<Response<ServiceInstance>> choose(Request request) {
+		ServiceInstanceListSupplier supplier = suppliers.getIfAvailable(NoopServiceInstanceListSupplier::new);
+		return supplier.get(request).next().map(this::pick);
+	}
+	
+	private Response<ServiceInstance> pick(List<ServiceInstance> instances) {
+		if (instances.isEmpty()) {
+			return new EmptyResponse();
+		}
+		List<ServiceInstance> candidates = replicaStats.available(instances);
+		ServiceInstance chosen = strategy == Strategy.LEAST_OUTSTANDING
+			? leastOutstanding(candidates)
+			: powerOfTwoChoices(candidates);
+		return new DefaultResponse(chosen);
+	}
+	
+	// Starts the scan one replica further each time, so ties are shared round-robin
+	private ServiceInstance leastOutstanding(List<ServiceInstance> candidates) {
+		int size = candidates.size();
+		int start = Math.floorMod(position.getAndIncrement(), size);
+		ServiceInstance best = candidates.get(start);
+		int bestOutstanding = replicaStats.stats(best).outstanding();
+		for (int i = 1; i < size && bestOutstanding > 0; i++) {
+			ServiceInstance candidate = candidates.get((start + i) % size);
+			int outstanding = replicaStats.stats(candidate).outstanding();
+			if (outstanding < bestOutstanding) {
+				best = candidate;
+				bestOutstanding = outstanding;
+			}
+		}
+		return best;
+	}
+	
+	private ServiceInstance powerOfTwoChoices(List<ServiceInstance> candidates) {
+		int size = candidates.size();
+		if (size == 1) {
+			return candidates.get(0);
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int first = random.nextInt(size);
+		int second = random.nextInt(size - 1);
+		if (second >= first) {
+			second++;
+		}
+		ServiceInstance a = candidates.get(first);
+		ServiceInstance b = candidates.get(second);
+		return replicaStats.stats(b).outstanding() < replicaStats.stats(a).outstanding() ? b : a;
+	}
+}
@@ -0,0 +1,26 @@
+package com.devsu.gateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+// Loaded once per service into that service's load balancer context, which is why it is not a @Configuration:
+// component scanning would register the load balancer in the main context for every service at once.
+// gateway.load-balancer.services.<service id>.strategy overrides gateway.load-balancer.strategy.
+public class OutstandingRequestsLoadBalancerConfiguration {
+	
+	@Bean
+	ReactorLoadBalancer<ServiceInstance> outstandingRequestsLoadBalancer(Environment environment,
+			LoadBalancerClientFactory loadBalancerClientFactory, ReplicaStatsStore replicaStats) {
+		String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+		String strategy = environment.getProperty("gateway.load-balancer.services." + serviceId + ".strategy",
+			environment.getProperty("gateway.load-balancer.strategy", "power-of-two-choices"));
+		return new OutstandingRequestsLoadBalancer(
+			loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+			replicaStats,
+			OutstandingRequestsLoadBalancer.Strategy.fromProperty(strategy));
+	}
+}
@@ -0,0 +1,43 @@
+package com.devsu.gateway.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// What the gateway has seen of one replica: requests it is waiting on, failures in a row, and until when
+// the replica is ejected. Every field is its own atomic, so recording never takes a lock.
+final class ReplicaStats {
+	private static final long NOT_EJECTED = Long.MIN_VALUE;
+	
+	private final AtomicInteger outstanding = new AtomicInteger();
+	private final AtomicInteger consecutiveFailures = new AtomicInteger();
+	private final AtomicLong ejectedUntilNanos = new AtomicLong(NOT_EJECTED);
+	
+	int outstanding() {
+		return outstanding.get();
+	}
+	
+	void started() {
+		outstanding.incrementAndGet();
+	}
+	
+	// Returns true when this failure ejected the replica; it comes back after the ejection time and
+	// needs a fresh run of failures to be ejected again
+	boolean finished(boolean failed, long nowNanos, int failureThreshold, long ejectionNanos) {
+		outstanding.decrementAndGet();
+		if (!failed) {
+			consecutiveFailures.set(0);
+			return false;
+		}
+		if (consecutiveFailures.incrementAndGet() < failureThreshold) {
+			return false;
+		}
+		consecutiveFailures.set(0);
+		ejectedUntilNanos.set(nowNanos + ejectionNanos);
+		return true;
+	}
+	
+	boolean ejected(long nowNanos) {
+		long until = ejectedUntilNanos.get();
+		return until != NOT_EJECTED && nowNanos - until < 0;
+	}
+}
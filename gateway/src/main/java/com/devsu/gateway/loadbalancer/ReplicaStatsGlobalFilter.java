@@ -0,0 +1,59 @@
+package com.devsu.gateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+// Counts a request against the replica the load balancer just picked until the backend answers, and tells
+// passive health checking how it went. doFinally also sees requests cancelled by a time limiter, so the
+// outstanding count never leaks. Each retry goes back through the load balancer and is recorded on its own.
+@Component
+public class ReplicaStatsGlobalFilter implements GlobalFilter, Ordered {
+	private final ReplicaStatsStore replicaStats;
+	
+	public ReplicaStatsGlobalFilter(ReplicaStatsStore replicaStats) {
+		this.replicaStats = replicaStats;
+	}
+	
+	@Override
+	public int getOrder() {
+		return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+	}
+	
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+		Response<ServiceInstance> chosen = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+		if (chosen == null || !chosen.hasServer()) {
+			return chain.filter(exchange);
+		}
+		
+		ServiceInstance instance = chosen.getServer();
+		Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+		String routeId = route != null ? route.getId() : null;
+		ReplicaStats stats = replicaStats.stats(instance);
+		long startedNanos = replicaStats.now();
+		stats.started();
+		return chain.filter(exchange)
+			.doFinally(signal -> replicaStats.finished(instance, stats, routeId, startedNanos,
+				failed(signal, exchange)));
+	}
+	
+	// The chain completes once the backend's status and headers are in, so a 5xx is already visible here
+	private static boolean failed(SignalType signal, ServerWebExchange exchange) {
+		if (signal == SignalType.ON_ERROR) {
+			return true;
+		}
+		HttpStatusCode status = exchange.getResponse().getStatusCode();
+		return signal == SignalType.ON_COMPLETE && status != null && status.is5xxServerError();
+	}
+}
@@ -0,0 +1,118 @@
+package com.devsu.gateway.loadbalancer;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Passive health checking: replicas are judged by the requests the gateway already sends them. A replica
+// that fails or answers slower than the slow-call threshold that many times in a row is ejected for a while.
+// If every replica of a service is ejected they are all used anyway, since refusing traffic helps nobody.
+// Routes that are slow by design (reports) set their own threshold with
+// gateway.load-balancer.routes.<route id>.slow-call-threshold, so their calls do not eject healthy replicas.
+@Component
+public class ReplicaStatsStore {
+	private static final Logger log = LoggerFactory.getLogger(ReplicaStatsStore.class);
+	private static final String ROUTE_PREFIX = "gateway.load-balancer.routes.";
+	
+	private final Map<String, ReplicaStats> replicas = new ConcurrentHashMap<>();
+	private final Map<String, Long> slowCallNanosByRoute = new ConcurrentHashMap<>();
+	private final MeterRegistry meterRegistry;
+	private final long slowCallNanos;
+	private final Function<String, Duration> routeSlowCallThreshold;
+	private final int consecutiveFailures;
+	private final long ejectionNanos;
+	private final Ticker ticker;
+	
+	@Autowired
+	public ReplicaStatsStore(MeterRegistry meterRegistry, Environment environment,
+			@Value("${gateway.load-balancer.slow-call-threshold:2s}") Duration slowCallThreshold,
+			@Value("${gateway.load-balancer.consecutive-failures:5}") int consecutiveFailures,
+			@Value("${gateway.load-balancer.ejection-time:30s}") Duration ejectionTime) {
+		this(meterRegistry, slowCallThreshold,
+			routeId -> environment.getProperty(ROUTE_PREFIX + routeId + ".slow-call-threshold", Duration.class),
+			consecutiveFailures, ejectionTime, Ticker.systemTicker());
+	}
+	
+	ReplicaStatsStore(MeterRegistry meterRegistry, Duration slowCallThreshold,
+			Function<String, Duration> routeSlowCallThreshold, int consecutiveFailures, Duration ejectionTime,
+			Ticker ticker) {
+		this.meterRegistry = meterRegistry;
+		this.slowCallNanos = slowCallThreshold.toNanos();
+		this.routeSlowCallThreshold = routeSlowCallThreshold;
+		this.consecutiveFailures = Math.max(1, consecutiveFailures);
+		this.ejectionNanos = ejectionTime.toNanos();
+		this.ticker = ticker;
+	}
+	
+	long now() {
+		return ticker.read();
+	}
+	
+	List<ServiceInstance> available(List<ServiceInstance> instances) {
+		long now = ticker.read();
+		List<ServiceInstance> available = new ArrayList<>(instances.size());
+		for (ServiceInstance instance : instances) {
+			if (!stats(instance).ejected(now)) {
+				available.add(instance);
+			}
+		}
+		return available.isEmpty() ? instances : available;
+	}
+	
+	ReplicaStats stats(ServiceInstance instance) {
+		String key = instance.getServiceId() + ' ' + instance.getUri();
+		ReplicaStats stats = replicas.get(key);
+		if (stats != null) {
+			return stats;
+		}
+		return replicas.computeIfAbsent(key, k -> {
+			ReplicaStats created = new ReplicaStats();
+			Gauge.builder("gateway.lb.requests.outstanding", created, ReplicaStats::outstanding)
+				.description("Requests sent to a replica and not yet answered")
+				.tag("service", instance.getServiceId())
+				.tag("instance", instance.getUri().toString())
+				.register(meterRegistry);
+			return created;
+		});
+	}
+	
+	void finished(ServiceInstance instance, ReplicaStats stats, String routeId, long startedNanos, boolean failed) {
+		long now = ticker.read();
+		boolean slow = now - startedNanos > slowCallNanos(routeId);
+		if (stats.finished(failed || slow, now, consecutiveFailures, ejectionNanos)) {
+			log.warn("Ejected {} replica {} after {} failed or slow calls in a row",
+				instance.getServiceId(), instance.getUri(), consecutiveFailures);
+			Counter.builder("gateway.lb.ejections")
+				.description("Times a replica was taken out of rotation by passive health checking")
+				.tag("service", instance.getServiceId())
+				.tag("instance", instance.getUri().toString())
+				.register(meterRegistry)
+				.increment();
+		}
+	}
+	
+	private long slowCallNanos(String routeId) {
+		if (routeId == null) {
+			return slowCallNanos;
+		}
+		return slowCallNanosByRoute.computeIfAbsent(routeId, id -> {
+			Duration threshold = routeSlowCallThreshold.apply(id);
+			return threshold != null ? threshold.toNanos() : slowCallNanos;
+		});
+	}
+}
@@ -0,0 +1,187 @@
+package com.devsu.gateway.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Sheds load before it reaches a backend: every client gets a token bucket per route, and each route
+// caps the requests it has in flight. Both answer 429 with Retry-After so well-behaved clients back off.
+@Component
+public class RateLimitGatewayFilterFactory extends AbstractGatewayFilterFactory<RateLimitGatewayFilterFactory.Config> {
+	public static final String API_KEY_HEADER = "X-API-Key";
+	public static final String CLIENT_PARAMETER = "cliente";
+	public static final String RATE_LIMITED = "rate_limit";
+	public static final String CONCURRENCY_LIMITED = "concurrency";
+	
+	// Runs ahead of every other route filter, so a shed request costs no further work
+	private static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+	private static final long CONCURRENCY_RETRY_AFTER_NANOS = TimeUnit.SECONDS.toNanos(1);
+	
+	private final TokenBucketStore bucketStore;
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+	private final double defaultReplenishRate;
+	private final int defaultBurstCapacity;
+	private final int defaultMaxInFlight;
+	private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+	
+	public RateLimitGatewayFilterFactory(TokenBucketStore bucketStore, MeterRegistry meterRegistry,
+			@Value("${gateway.rate-limit.enabled:true}") boolean enabled,
+			@Value("${gateway.rate-limit.replenish-rate:50}") double defaultReplenishRate,
+			@Value("${gateway.rate-limit.burst-capacity:100}") int defaultBurstCapacity,
+			@Value("${gateway.rate-limit.max-in-flight.default:256}") int defaultMaxInFlight) {
+		super(Config.class);
+		this.bucketStore = bucketStore;
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+		this.defaultReplenishRate = defaultReplenishRate;
+		this.defaultBurstCapacity = defaultBurstCapacity;
+		this.defaultMaxInFlight = defaultMaxInFlight;
+	}
+	
+	@Override
+	public List<String> shortcutFieldOrder() {
+		return List.of("replenishRate", "burstCapacity", "maxInFlight");
+	}
+	
+	// Routes only override what differs from the gateway.rate-limit.* defaults
+	@Override
+	public Config newConfig() {
+		return new Config()
+			.setReplenishRate(defaultReplenishRate)
+			.setBurstCapacity(defaultBurstCapacity)
+			.setMaxInFlight(defaultMaxInFlight);
+	}
+	
+	@Override
+	public GatewayFilter apply(Config config) {
+		return new OrderedGatewayFilter((exchange, chain) -> filter(exchange, chain, config), ORDER);
+	}
+	
+	private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+		if (!enabled) {
+			return chain.filter(exchange);
+		}
+		
+		String routeId = routeId(exchange);
+		long waitNanos = bucketStore.tryAcquire(routeId + ' ' + clientKey(exchange.getRequest()),
+			config.getReplenishRate(), config.getBurstCapacity());
+		if (waitNanos > 0) {
+			return shed(exchange, routeId, RATE_LIMITED, waitNanos);
+		}
+		
+		AtomicInteger routeInFlight = inFlight(routeId);
+		if (routeInFlight.incrementAndGet() > config.getMaxInFlight()) {
+			routeInFlight.decrementAndGet();
+			return shed(exchange, routeId, CONCURRENCY_LIMITED, CONCURRENCY_RETRY_AFTER_NANOS);
+		}
+		return chain.filter(exchange)
+			.doFinally(signal -> routeInFlight.decrementAndGet());
+	}
+	
+	private Mono<Void> shed(ServerWebExchange exchange, String routeId, String reason, long retryAfterNanos) {
+		Counter.builder("gateway.requests.shed")
+			.description("Requests answered with 429 by the gateway instead of being routed")
+			.tag("route", routeId)
+			.tag("reason", reason)
+			.register(meterRegistry)
+			.increment();
+		
+		ServerHttpResponse response = exchange.getResponse();
+		response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+		response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+			String.valueOf(Math.max(1, (retryAfterNanos + 999_999_999L) / 1_000_000_000L)));
+		return response.setComplete();
+	}
+	
+	private AtomicInteger inFlight(String routeId) {
+		AtomicInteger counter = inFlight.get(routeId);
+		if (counter != null) {
+			return counter;
+		}
+		return inFlight.computeIfAbsent(routeId, id -> {
+			AtomicInteger created = new AtomicInteger();
+			Gauge.builder("gateway.requests.in.flight", created, AtomicInteger::get)
+				.description("Requests routed and not yet answered")
+				.tag("route", id)
+				.register(meterRegistry);
+			return created;
+		});
+	}
+	
+	private static String routeId(ServerWebExchange exchange) {
+		Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+		return route != null ? route.getId() : "unknown";
+	}
+	
+	// An integrator is identified by its API key, otherwise by the client the request is about,
+	// and as a last resort by the caller's address
+	static String clientKey(ServerHttpRequest request) {
+		String apiKey = request.getHeaders().getFirst(API_KEY_HEADER);
+		if (apiKey != null && !apiKey.isBlank()) {
+			return "key:" + apiKey;
+		}
+		String client = request.getQueryParams().getFirst(CLIENT_PARAMETER);
+		if (client != null && !client.isBlank()) {
+			return "cliente:" + client;
+		}
+		InetSocketAddress remoteAddress = request.getRemoteAddress();
+		return "ip:" + (remoteAddress != null && remoteAddress.getAddress() != null
+			? remoteAddress.getAddress().getHostAddress() : "unknown");
+	}
+	
+	public static class Config {
+		private double replenishRate;
+		private int burstCapacity;
+		private int maxInFlight;
+		
+		public double getReplenishRate() {
+			return replenishRate;
+		}
+		
+		public Config setReplenishRate(double replenishRate) {
+			this.replenishRate = replenishRate;
+			return this;
+		}
+		
+		public int getBurstCapacity() {
+			return burstCapacity;
+		}
+		
+		public Config setBurstCapacity(int burstCapacity) {
+			this.burstCapacity = burstCapacity;
+			return this;
+		}
+		
+		public int getMaxInFlight() {
+			return maxInFlight;
+		}
+		
+		public Config setMaxInFlight(int maxInFlight) {
+			this.maxInFlight = maxInFlight;
+			return this;
+		}
+	}
+}
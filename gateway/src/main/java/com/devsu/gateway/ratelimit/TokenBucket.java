@@ -0,0 +1,33 @@
+package com.devsu.gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// A token bucket kept as a single timestamp (the generic cell rate algorithm): every admitted request
+// pushes the theoretical arrival time one emission interval ahead, and the bucket is empty once that
+// time runs more than the burst ahead of the clock. Admission is one compare-and-set, no locks.
+final class TokenBucket {
+	private final long emissionIntervalNanos;
+	private final long burstToleranceNanos;
+	private final AtomicLong theoreticalArrival;
+	
+	TokenBucket(double replenishRate, int burstCapacity, long nowNanos) {
+		this.emissionIntervalNanos = Math.max(1, (long) (1_000_000_000d / replenishRate));
+		this.burstToleranceNanos = emissionIntervalNanos * (Math.max(1, burstCapacity) - 1);
+		this.theoreticalArrival = new AtomicLong(nowNanos);
+	}
+	
+	// Returns 0 when a token was taken, otherwise how long until the next one is available
+	long tryAcquire(long nowNanos) {
+		while (true) {
+			long current = theoreticalArrival.get();
+			long arrival = Math.max(current, nowNanos);
+			long ahead = arrival - nowNanos;
+			if (ahead > burstToleranceNanos) {
+				return ahead - burstToleranceNanos;
+			}
+			if (theoreticalArrival.compareAndSet(current, arrival + emissionIntervalNanos)) {
+				return 0;
+			}
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.devsu.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Buckets live in this gateway instance only, so each instance enforces the limits on its own share of
+// the traffic. A bucket idle for longer than it takes to refill is full anyway and can be dropped,
+// which keeps the store bounded by the clients active in that window.
+@Component
+public class TokenBucketStore {
+	public static final String CACHE_NAME = "gateway.rate-limit.buckets";
+	
+	private final Cache<String, TokenBucket> buckets;
+	private final Ticker ticker;
+	
+	@Autowired
+	public TokenBucketStore(MeterRegistry meterRegistry,
+			@Value("${gateway.rate-limit.maximum-clients:100000}") long maximumClients,
+			@Value("${gateway.rate-limit.expire-after-idle:10m}") Duration expireAfterIdle) {
+		this(meterRegistry, maximumClients, expireAfterIdle, Ticker.systemTicker());
+	}
+	
+	TokenBucketStore(MeterRegistry meterRegistry, long maximumClients, Duration expireAfterIdle, Ticker ticker) {
+		this.ticker = ticker;
+		this.buckets = Caffeine.newBuilder()
+			.maximumSize(maximumClients)
+			.expireAfterAccess(expireAfterIdle)
+			.ticker(ticker)
+			.executor(Runnable::run)
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, buckets, CACHE_NAME);
+	}
+	
+	// Returns 0 when the request may proceed, otherwise the nanoseconds until the client's next token
+	public long tryAcquire(String key, double replenishRate, int burstCapacity) {
+		long now = ticker.read();
+		return buckets.get(key, k -> new TokenBucket(replenishRate, burstCapacity, now)).tryAcquire(now);
+	}
+}
@@ -0,0 +1,213 @@
+package com.devsu.gateway.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+// Retries requests that are safe to repeat when the backend fails before answering, with exponential
+// backoff and jitter so clients that failed together do not come back together. Each route's RetryBudget
+// decides whether a retry is still affordable, which keeps retries from piling onto a backend that is down.
+@Component
+public class AdaptiveRetryGatewayFilterFactory extends AbstractGatewayFilterFactory<AdaptiveRetryGatewayFilterFactory.Config> {
+	public static final String RETRIED = "retried";
+	public static final String BUDGET_EXHAUSTED = "budget_exhausted";
+	
+	// Runs inside the circuit breaker filter (order 0), so the breaker and its time limiter see one call
+	// per client request, with every attempt counted against the same time limit
+	private static final int ORDER = 10;
+	private static final Set<HttpStatus> RETRYABLE_STATUSES = Set.of(
+		HttpStatus.BAD_GATEWAY, HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.GATEWAY_TIMEOUT);
+	private static final List<Class<? extends Throwable>> RETRYABLE_EXCEPTIONS = List.of(IOException.class, TimeoutException.class);
+	
+	private final MeterRegistry meterRegistry;
+	private final double budgetRatio;
+	private final int budgetBurst;
+	private final int defaultRetries;
+	private final Duration defaultFirstBackoff;
+	private final Duration defaultMaxBackoff;
+	private final Map<String, RetryBudget> budgets = new ConcurrentHashMap<>();
+	
+	public AdaptiveRetryGatewayFilterFactory(MeterRegistry meterRegistry,
+			@Value("${gateway.resilience.retry.budget-ratio:0.1}") double budgetRatio,
+			@Value("${gateway.resilience.retry.budget-burst:10}") int budgetBurst,
+			@Value("${gateway.resilience.retry.retries:2}") int defaultRetries,
+			@Value("${gateway.resilience.retry.first-backoff:50ms}") Duration defaultFirstBackoff,
+			@Value("${gateway.resilience.retry.max-backoff:500ms}") Duration defaultMaxBackoff) {
+		super(Config.class);
+		this.meterRegistry = meterRegistry;
+		this.budgetRatio = budgetRatio;
+		this.budgetBurst = budgetBurst;
+		this.defaultRetries = defaultRetries;
+		this.defaultFirstBackoff = defaultFirstBackoff;
+		this.defaultMaxBackoff = defaultMaxBackoff;
+	}
+	
+	@Override
+	public List<String> shortcutFieldOrder() {
+		return List.of("retries");
+	}
+	
+	// Routes only override what differs from the gateway.resilience.retry.* defaults. Only methods without a
+	// body are retried: the request body arrives from Netty once and cannot be replayed.
+	@Override
+	public Config newConfig() {
+		return new Config()
+			.setRetries(defaultRetries)
+			.setMethods(Set.of(HttpMethod.GET, HttpMethod.HEAD))
+			.setFirstBackoff(defaultFirstBackoff)
+			.setMaxBackoff(defaultMaxBackoff);
+	}
+	
+	@Override
+	public GatewayFilter apply(Config config) {
+		return new OrderedGatewayFilter((exchange, chain) -> filter(exchange, chain, config), ORDER);
+	}
+	
+	private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+		if (config.getRetries() <= 0 || !config.getMethods().contains(exchange.getRequest().getMethod())) {
+			return chain.filter(exchange);
+		}
+		
+		String routeId = routeId(exchange);
+		RetryBudget budget = budgets.computeIfAbsent(routeId, id -> new RetryBudget(budgetRatio, budgetBurst));
+		budget.deposit();
+		return attempt(exchange, chain, config, routeId, budget, 0);
+	}
+	
+	private Mono<Void> attempt(ServerWebExchange exchange, GatewayFilterChain chain, Config config,
+			String routeId, RetryBudget budget, int attempt) {
+		return chain.filter(exchange)
+			.then(Mono.just(Optional.<Throwable>empty()))
+			.onErrorResume(error -> Mono.just(Optional.of(error)))
+			.flatMap(failure -> {
+				Mono<Void> giveUp = failure.<Mono<Void>>map(Mono::error).orElseGet(Mono::empty);
+				boolean retryable = failure.map(AdaptiveRetryGatewayFilterFactory::retryable)
+					.orElseGet(() -> retryable(exchange.getResponse().getStatusCode()));
+				if (!retryable || attempt >= config.getRetries() || exchange.getResponse().isCommitted()) {
+					return giveUp;
+				}
+				if (!budget.tryWithdraw()) {
+					count(routeId, BUDGET_EXHAUSTED);
+					return giveUp;
+				}
+				
+				count(routeId, RETRIED);
+				reset(exchange);
+				return Mono.delay(backoff(config, attempt))
+					.then(Mono.defer(() -> attempt(exchange, chain, config, routeId, budget, attempt + 1)));
+			});
+	}
+	
+	// Doubles per attempt up to the cap, then picks a point in the upper half of that window
+	static Duration backoff(Config config, int attempt) {
+		long first = config.getFirstBackoff().toMillis();
+		long ceiling = Math.min(config.getMaxBackoff().toMillis(), first << Math.min(attempt, 20));
+		return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+	}
+	
+	private static boolean retryable(HttpStatusCode status) {
+		HttpStatus resolved = status != null ? HttpStatus.resolve(status.value()) : null;
+		return resolved != null && RETRYABLE_STATUSES.contains(resolved);
+	}
+	
+	private static boolean retryable(Throwable error) {
+		for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+			for (Class<? extends Throwable> type : RETRYABLE_EXCEPTIONS) {
+				if (type.isInstance(cause)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	// Releases the failed attempt's backend connection and the response headers it copied
+	private static void reset(ServerWebExchange exchange) {
+		Connection connection = exchange.getAttribute(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR);
+		if (connection != null) {
+			connection.dispose();
+			exchange.getAttributes().remove(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR);
+		}
+		ServerWebExchangeUtils.reset(exchange);
+	}
+	
+	private void count(String routeId, String outcome) {
+		Counter.builder("gateway.requests.retries")
+			.description("Retries the gateway made, or skipped because the route's retry budget was spent")
+			.tag("route", routeId)
+			.tag("outcome", outcome)
+			.register(meterRegistry)
+			.increment();
+	}
+	
+	private static String routeId(ServerWebExchange exchange) {
+		Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+		return route != null ? route.getId() : "unknown";
+	}
+	
+	public static class Config {
+		private int retries;
+		private Set<HttpMethod> methods;
+		private Duration firstBackoff;
+		private Duration maxBackoff;
+		
+		public int getRetries() {
+			return retries;
+		}
+		
+		public Config setRetries(int retries) {
+			this.retries = retries;
+			return this;
+		}
+		
+		public Set<HttpMethod> getMethods() {
+			return methods;
+		}
+		
+		public Config setMethods(Set<HttpMethod> methods) {
+			this.methods = methods;
+			return this;
+		}
+		
+		public Duration getFirstBackoff() {
+			return firstBackoff;
+		}
+		
+		public Config setFirstBackoff(Duration firstBackoff) {
+			this.firstBackoff = firstBackoff;
+			return this;
+		}
+		
+		public Duration getMaxBackoff() {
+			return maxBackoff;
+		}
+		
+		public Config setMaxBackoff(Duration maxBackoff) {
+			this.maxBackoff = maxBackoff;
+			return this;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.devsu.gateway.resilience;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+// Where the circuit breakers forward a request they gave up on: an open circuit, a call that ran out of
+// time, or a backend that kept answering 502/503/504. Answers right away so the caller never waits on it.
+@RestController
+public class FallbackController {
+	public static final String FALLBACK_PATH = "/fallback";
+	public static final String CIRCUIT_OPEN = "circuit_open";
+	public static final String TIMEOUT = "timeout";
+	public static final String UNAVAILABLE = "unavailable";
+	
+	private final MeterRegistry meterRegistry;
+	private final Duration retryAfter;
+	
+	public FallbackController(MeterRegistry meterRegistry,
+			@Value("${gateway.resilience.fallback.retry-after:10s}") Duration retryAfter) {
+		this.meterRegistry = meterRegistry;
+		this.retryAfter = retryAfter;
+	}
+	
+	@RequestMapping(FALLBACK_PATH)
+	public Mono<ResponseEntity<Map<String, Object>>> fallback(ServerWebExchange exchange) {
+		Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+		String routeId = route != null ? route.getId() : "unknown";
+		String reason = reason(exchange.getAttribute(ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR));
+		
+		Counter.builder("gateway.requests.fallback")
+			.description("Requests answered by the gateway fallback instead of the backend")
+			.tag("route", routeId)
+			.tag("reason", reason)
+			.register(meterRegistry)
+			.increment();
+		
+		HttpStatus status = TIMEOUT.equals(reason) ? HttpStatus.GATEWAY_TIMEOUT : HttpStatus.SERVICE_UNAVAILABLE;
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("timestamp", LocalDateTime.now());
+		body.put("status", status.value());
+		body.put("error", status.getReasonPhrase());
+		body.put("message", message(reason));
+		body.put("route", routeId);
+		
+		ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+		if (CIRCUIT_OPEN.equals(reason)) {
+			response.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+		}
+		return Mono.just(response.body(body));
+	}
+	
+	static String reason(Throwable failure) {
+		for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+			if (cause instanceof CallNotPermittedException) {
+				return CIRCUIT_OPEN;
+			}
+			if (cause instanceof TimeoutException) {
+				return TIMEOUT;
+			}
+		}
+		return UNAVAILABLE;
+	}
+	
+	private static String message(String reason) {
+		return switch (reason) {
+			case CIRCUIT_OPEN -> "The service is failing and is not taking requests for now";
+			case TIMEOUT -> "The service did not answer in time";
+			default -> "The service is unavailable";
+		};
+	}
+}
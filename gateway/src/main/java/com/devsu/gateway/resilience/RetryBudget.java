@@ -0,0 +1,41 @@
+package com.devsu.gateway.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Caps retries at a fraction of the traffic a route sees: every first attempt deposits that fraction of a
+// token, every retry spends a whole one. When a backend is down for everyone the balance drains and the
+// gateway stops multiplying the load it sends there. Kept in thousandths of a token so it fits one AtomicLong.
+final class RetryBudget {
+	private static final long TOKEN = 1000;
+	
+	private final long depositPerRequest;
+	private final long maxBalance;
+	private final AtomicLong balance;
+	
+	RetryBudget(double ratio, int burst) {
+		this.depositPerRequest = Math.round(ratio * TOKEN);
+		this.maxBalance = Math.max(1, burst) * TOKEN;
+		this.balance = new AtomicLong(maxBalance);
+	}
+	
+	void deposit() {
+		while (true) {
+			long current = balance.get();
+			if (current >= maxBalance || balance.compareAndSet(current, Math.min(maxBalance, current + depositPerRequest))) {
+				return;
+			}
+		}
+	}
+	
+	boolean tryWithdraw() {
+		while (true) {
+			long current = balance.get();
+			if (current < TOKEN) {
+				return false;
+			}
+			if (balance.compareAndSet(current, current - TOKEN)) {
+				return true;
+			}
+		}
+	}
+}
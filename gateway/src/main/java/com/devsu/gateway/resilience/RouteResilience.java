@@ -0,0 +1,48 @@
+package com.devsu.gateway.resilience;
+
+import org.springframework.cloud.gateway.route.builder.GatewayFilterSpec;
+import org.springframework.cloud.gateway.route.builder.UriSpec;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+// Puts the same resilience stack on every route, tuned per route id: connect and response timeouts for each
+// attempt, retries of safe methods, and a circuit breaker named after the route, so resilience4j.circuitbreaker.*
+// and resilience4j.timelimiter.* instances are configured by route id. gateway.resilience.routes.<route id>.*
+// overrides the gateway.resilience.* defaults.
+@Component
+public class RouteResilience {
+	private static final String ROUTE_PREFIX = "gateway.resilience.routes.";
+	private static final Set<String> FAILURE_STATUSES = Set.of("502", "503", "504");
+	
+	private final Environment environment;
+	private final AdaptiveRetryGatewayFilterFactory retry;
+	
+	public RouteResilience(Environment environment, AdaptiveRetryGatewayFilterFactory retry) {
+		this.environment = environment;
+		this.retry = retry;
+	}
+	
+	public UriSpec apply(String routeId, GatewayFilterSpec filters) {
+		Duration connectTimeout = setting(routeId, "connect-timeout", Duration.class, Duration.ofSeconds(1));
+		Duration responseTimeout = setting(routeId, "response-timeout", Duration.class, Duration.ofSeconds(3));
+		int retries = setting(routeId, "retries", Integer.class, retry.newConfig().getRetries());
+		
+		return filters
+			.circuitBreaker(c -> c
+				.setName(routeId)
+				.setFallbackUri("forward:" + FallbackController.FALLBACK_PATH)
+				.setStatusCodes(FAILURE_STATUSES))
+			.filter(retry.apply(c -> c.setRetries(retries)))
+			.metadata(RouteMetadataUtils.CONNECT_TIMEOUT_ATTR, (int) connectTimeout.toMillis())
+			.metadata(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR, responseTimeout.toMillis());
+	}
+	
+	private <T> T setting(String routeId, String name, Class<T> type, T defaultValue) {
+		T value = environment.getProperty(ROUTE_PREFIX + routeId + '.' + name, type);
+		return value != null ? value : environment.getProperty("gateway.resilience." + name, type, defaultValue);
+	}
+}
@@ -0,0 +1,144 @@
+package com.devsu.gateway.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheGatewayFilterFactoryTest {
+
+	private static final String ACCOUNT_BODY = "{\"accountNumber\":\"1234567890\",\"clientId\":\"client-1\"}";
+
+	private SimpleMeterRegistry meterRegistry;
+	private ResponseCache responseCache;
+	private GatewayFilter filter;
+	private AtomicInteger backendCalls;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		responseCache = new ResponseCache(meterRegistry, DataSize.ofMegabytes(1), DataSize.ofKilobytes(16));
+		filter = new ResponseCacheGatewayFilterFactory(responseCache, true)
+			.apply(config -> config
+				.setTtl(Duration.ofMinutes(1))
+				.setInvalidatedBy(Set.of(CacheInvalidationListener.ACCOUNT_EVENTS)));
+		backendCalls = new AtomicInteger();
+	}
+
+	@Test
+	void shouldServeRepeatedGetFromCache_withTheSameEtag() {
+		MockServerWebExchange first = get("/cuentas/1234567890");
+		filter.filter(first, backend(ACCOUNT_BODY)).block();
+		MockServerWebExchange second = get("/cuentas/1234567890");
+		filter.filter(second, backend(ACCOUNT_BODY)).block();
+
+		assertThat(backendCalls.get()).isEqualTo(1);
+		assertThat(first.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+		assertThat(second.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+		assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(ACCOUNT_BODY);
+		assertThat(second.getResponse().getHeaders().getETag()).isEqualTo(first.getResponse().getHeaders().getETag());
+		assertThat(meterRegistry.get("gateway.response.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+	}
+
+	@Test
+	void shouldAnswerNotModified_whenIfNoneMatchCarriesTheCachedEtag() {
+		MockServerWebExchange first = get("/cuentas/1234567890");
+		filter.filter(first, backend(ACCOUNT_BODY)).block();
+		String etag = first.getResponse().getHeaders().getETag();
+
+		MockServerWebExchange conditional = MockServerWebExchange.from(MockServerHttpRequest.get("/cuentas/1234567890")
+			.header(HttpHeaders.IF_NONE_MATCH, etag));
+		conditional.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route());
+		filter.filter(conditional, backend(ACCOUNT_BODY)).block();
+
+		assertThat(conditional.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(conditional.getResponse().getBodyAsString().block()).isNullOrEmpty();
+		assertThat(backendCalls.get()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldDropEntriesThatMentionTheChangedAccount_andEveryCollection() {
+		filter.filter(get("/cuentas/1234567890"), backend(ACCOUNT_BODY)).block();
+		filter.filter(get("/cuentas/5555555555"), backend("{\"accountNumber\":\"5555555555\"}")).block();
+		filter.filter(get("/cuentas?clientId=client-9"), backend("[]")).block();
+
+		int removed = responseCache.invalidate(CacheInvalidationListener.ACCOUNT_EVENTS, List.of("1234567890"));
+		assertThat(removed).isEqualTo(2);
+		assertThat(responseCache.invalidate(CacheInvalidationListener.CLIENT_EVENTS, List.of("5555555555"))).isZero();
+
+		filter.filter(get("/cuentas/5555555555"), backend("{}")).block();
+		filter.filter(get("/cuentas/1234567890"), backend(ACCOUNT_BODY)).block();
+		assertThat(backendCalls.get()).isEqualTo(4);
+	}
+
+	@Test
+	void shouldNotCacheErrorsOrStreamingResponses() {
+		filter.filter(get("/cuentas/0000000000"), backend(HttpStatus.NOT_FOUND, MediaType.APPLICATION_JSON, "{}")).block();
+		filter.filter(get("/cuentas/0000000000"), backend(HttpStatus.NOT_FOUND, MediaType.APPLICATION_JSON, "{}")).block();
+		filter.filter(get("/cuentas"), backend(HttpStatus.OK, MediaType.APPLICATION_NDJSON, ACCOUNT_BODY + "\n")).block();
+		filter.filter(get("/cuentas"), backend(HttpStatus.OK, MediaType.APPLICATION_NDJSON, ACCOUNT_BODY + "\n")).block();
+
+		assertThat(backendCalls.get()).isEqualTo(4);
+	}
+
+	@Test
+	void shouldNotCacheListPagesThatNameANextCursor() {
+		GatewayFilterChain cutShortPage = exchange -> {
+			exchange.getResponse().getHeaders().set("X-Next-After-Id", "7");
+			return backend("[" + ACCOUNT_BODY + "]").filter(exchange);
+		};
+		filter.filter(get("/cuentas?limit=1"), cutShortPage).block();
+		MockServerWebExchange second = get("/cuentas?limit=1");
+		filter.filter(second, cutShortPage).block();
+
+		assertThat(backendCalls.get()).isEqualTo(2);
+		assertThat(second.getResponse().getHeaders().getFirst("X-Next-After-Id")).isEqualTo("7");
+	}
+
+	private MockServerWebExchange get(String uri) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(uri));
+		exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route());
+		return exchange;
+	}
+
+	private Route route() {
+		return Route.async()
+			.id("account_service_accounts_route")
+			.uri("http://localhost:8081")
+			.predicate(exchange -> true)
+			.build();
+	}
+
+	private GatewayFilterChain backend(String body) {
+		return backend(HttpStatus.OK, MediaType.APPLICATION_JSON, body);
+	}
+
+	private GatewayFilterChain backend(HttpStatus status, MediaType contentType, String body) {
+		return exchange -> {
+			backendCalls.incrementAndGet();
+			ServerHttpResponse response = exchange.getResponse();
+			response.setStatusCode(status);
+			response.getHeaders().setContentType(contentType);
+			return response.writeWith(Mono.just(response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+		};
+	}
+}
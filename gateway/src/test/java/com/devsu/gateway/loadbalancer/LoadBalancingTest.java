@@ -0,0 +1,104 @@
+package com.devsu.gateway.loadbalancer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Routes through the real gateway to three local replicas per service; one account-service replica is slow
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+	"gateway.rate-limit.enabled=false",
+	"gateway.response-cache.enabled=false",
+	"gateway.load-balancer.services.person-service.strategy=least-outstanding",
+	"gateway.load-balancer.services.account-service.strategy=power-of-two-choices",
+	"gateway.load-balancer.slow-call-threshold=150ms",
+	"gateway.load-balancer.consecutive-failures=2",
+	"gateway.load-balancer.ejection-time=1m"
+})
+class LoadBalancingTest {
+
+	private static final List<AtomicInteger> personCalls = List.of(new AtomicInteger(), new AtomicInteger(), new AtomicInteger());
+	private static final List<AtomicInteger> accountCalls = List.of(new AtomicInteger(), new AtomicInteger(), new AtomicInteger());
+
+	private static final List<DisposableServer> personReplicas = List.of(
+		replica(personCalls.get(0), Duration.ZERO),
+		replica(personCalls.get(1), Duration.ZERO),
+		replica(personCalls.get(2), Duration.ZERO));
+	private static final List<DisposableServer> accountReplicas = List.of(
+		replica(accountCalls.get(0), Duration.ZERO),
+		replica(accountCalls.get(1), Duration.ZERO),
+		replica(accountCalls.get(2), Duration.ofMillis(400)));
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@DynamicPropertySource
+	static void replicas(DynamicPropertyRegistry registry) {
+		for (int i = 0; i < 3; i++) {
+			DisposableServer person = personReplicas.get(i);
+			DisposableServer account = accountReplicas.get(i);
+			registry.add("spring.cloud.discovery.client.simple.instances.person-service[" + i + "].uri",
+				() -> "http://localhost:" + person.port());
+			registry.add("spring.cloud.discovery.client.simple.instances.account-service[" + i + "].uri",
+				() -> "http://localhost:" + account.port());
+		}
+	}
+
+	@AfterAll
+	static void stopReplicas() {
+		personReplicas.forEach(DisposableServer::disposeNow);
+		accountReplicas.forEach(DisposableServer::disposeNow);
+	}
+
+	@Test
+	void shouldSpreadRequestsEvenlyAcrossHealthyReplicas() {
+		for (int i = 0; i < 30; i++) {
+			webTestClient.get().uri("/clientes/client-" + i)
+				.exchange()
+				.expectStatus().isOk();
+		}
+
+		assertThat(personCalls).allSatisfy(calls -> assertThat(calls.get()).isEqualTo(10));
+	}
+
+	@Test
+	void shouldEjectTheSlowReplica_andKeepServingFromTheOthers() {
+		for (int i = 0; i < 40; i++) {
+			webTestClient.get().uri("/cuentas/" + i)
+				.exchange()
+				.expectStatus().isOk();
+		}
+
+		assertThat(accountCalls.get(2).get()).isEqualTo(2);
+		assertThat(accountCalls.get(0).get()).isGreaterThanOrEqualTo(8);
+		assertThat(accountCalls.get(1).get()).isGreaterThanOrEqualTo(8);
+		assertThat(accountCalls.get(0).get() + accountCalls.get(1).get()).isEqualTo(38);
+	}
+
+	private static DisposableServer replica(AtomicInteger calls, Duration delay) {
+		return HttpServer.create()
+			.port(0)
+			.handle((request, response) -> {
+				calls.incrementAndGet();
+				return Mono.delay(delay)
+					.then(response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+						.sendString(Mono.just("{}"))
+						.then());
+			})
+			.bindNow();
+	}
+}
@@ -0,0 +1,59 @@
+package com.devsu.gateway.loadbalancer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaStatsStoreTest {
+
+	private static final String REPORTS_ROUTE = "account_service_reports_route";
+
+	private final AtomicLong nanos = new AtomicLong();
+	private final ServiceInstance replica = new DefaultServiceInstance("a", "account-service", "localhost", 9001, false);
+	private final ServiceInstance other = new DefaultServiceInstance("b", "account-service", "localhost", 9002, false);
+	private ReplicaStatsStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = new ReplicaStatsStore(new SimpleMeterRegistry(), Duration.ofSeconds(2),
+			Map.of(REPORTS_ROUTE, Duration.ofSeconds(10))::get, 2, Duration.ofSeconds(30), nanos::get);
+	}
+
+	@Test
+	void shouldEjectReplica_whenCallsExceedTheDefaultThreshold() {
+		call("account_service_accounts_route", Duration.ofSeconds(3));
+		call("account_service_accounts_route", Duration.ofSeconds(3));
+
+		assertThat(store.available(List.of(replica, other))).containsExactly(other);
+	}
+
+	@Test
+	void shouldJudgeRoutesWithTheirOwnThreshold() {
+		call(REPORTS_ROUTE, Duration.ofSeconds(8));
+		call(REPORTS_ROUTE, Duration.ofSeconds(8));
+
+		assertThat(store.available(List.of(replica, other))).containsExactly(replica, other);
+
+		call(REPORTS_ROUTE, Duration.ofSeconds(11));
+		call(REPORTS_ROUTE, Duration.ofSeconds(11));
+
+		assertThat(store.available(List.of(replica, other))).containsExactly(other);
+	}
+
+	private void call(String routeId, Duration took) {
+		ReplicaStats stats = store.stats(replica);
+		long started = store.now();
+		stats.started();
+		nanos.addAndGet(took.toNanos());
+		store.finished(replica, stats, routeId, started, false);
+	}
+}
@@ -0,0 +1,124 @@
+package com.devsu.gateway.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitGatewayFilterFactoryTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private AtomicLong clock;
+	private RateLimitGatewayFilterFactory factory;
+	private AtomicInteger backendCalls;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		clock = new AtomicLong();
+		TokenBucketStore bucketStore = new TokenBucketStore(meterRegistry, 1000, Duration.ofMinutes(10), clock::get);
+		factory = new RateLimitGatewayFilterFactory(bucketStore, meterRegistry, true, 10, 3, 100);
+		backendCalls = new AtomicInteger();
+	}
+
+	@Test
+	void shouldShedClientBeyondItsBurst_untilTokensAreReplenished() {
+		GatewayFilter filter = factory.apply(factory.newConfig());
+
+		for (int i = 0; i < 3; i++) {
+			MockServerWebExchange admitted = get("/reportes?cliente=client-1");
+			filter.filter(admitted, backend()).block();
+			assertThat(admitted.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+		}
+
+		MockServerWebExchange shed = get("/reportes?cliente=client-1");
+		filter.filter(shed, backend()).block();
+		assertThat(shed.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(shed.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+		MockServerWebExchange otherClient = get("/reportes?cliente=client-2");
+		filter.filter(otherClient, backend()).block();
+		assertThat(otherClient.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+		MockServerWebExchange replenished = get("/reportes?cliente=client-1");
+		filter.filter(replenished, backend()).block();
+		assertThat(replenished.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+
+		assertThat(backendCalls.get()).isEqualTo(5);
+		assertThat(meterRegistry.get("gateway.requests.shed")
+			.tag("route", "account_service_reports_route")
+			.tag("reason", RateLimitGatewayFilterFactory.RATE_LIMITED)
+			.counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldShedRequestsBeyondTheRouteInFlightCap() {
+		GatewayFilter filter = factory.apply(factory.newConfig().setBurstCapacity(100).setMaxInFlight(1));
+		Sinks.Empty<Void> slowBackend = Sinks.empty();
+
+		MockServerWebExchange inFlight = get("/reportes?cliente=client-1");
+		filter.filter(inFlight, exchange -> slowBackend.asMono()).subscribe();
+
+		MockServerWebExchange shed = get("/reportes?cliente=client-2");
+		filter.filter(shed, backend()).block();
+		assertThat(shed.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(shed.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		assertThat(meterRegistry.get("gateway.requests.in.flight").gauge().value()).isEqualTo(1);
+
+		slowBackend.tryEmitEmpty();
+
+		MockServerWebExchange admitted = get("/reportes?cliente=client-2");
+		filter.filter(admitted, backend()).block();
+		assertThat(admitted.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(meterRegistry.get("gateway.requests.in.flight").gauge().value()).isZero();
+		assertThat(meterRegistry.get("gateway.requests.shed")
+			.tag("reason", RateLimitGatewayFilterFactory.CONCURRENCY_LIMITED)
+			.counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldIdentifyClientsByApiKeyFirst_thenByClienteParameter() {
+		MockServerHttpRequest withKey = MockServerHttpRequest.get("/reportes?cliente=client-1")
+			.header(RateLimitGatewayFilterFactory.API_KEY_HEADER, "integrator-7")
+			.build();
+		MockServerHttpRequest withClient = MockServerHttpRequest.get("/reportes?cliente=client-1").build();
+
+		assertThat(RateLimitGatewayFilterFactory.clientKey(withKey)).isEqualTo("key:integrator-7");
+		assertThat(RateLimitGatewayFilterFactory.clientKey(withClient)).isEqualTo("cliente:client-1");
+	}
+
+	private MockServerWebExchange get(String uri) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(uri));
+		exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+			.id("account_service_reports_route")
+			.uri("http://localhost:8081")
+			.predicate(e -> true)
+			.build());
+		return exchange;
+	}
+
+	private GatewayFilterChain backend() {
+		return exchange -> {
+			backendCalls.incrementAndGet();
+			exchange.getResponse().setStatusCode(HttpStatus.OK);
+			return Mono.empty();
+		};
+	}
+}
@@ -0,0 +1,139 @@
+package com.devsu.gateway.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Routes through the real gateway to a local stub backend that answers slowly or fails on purpose
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+	"gateway.rate-limit.enabled=false",
+	"gateway.response-cache.enabled=false",
+	"gateway.resilience.retry.first-backoff=10ms",
+	"gateway.resilience.retry.max-backoff=20ms",
+	"gateway.resilience.routes.account_service_reports_route.response-timeout=300ms",
+	"resilience4j.timelimiter.instances.account_service_reports_route.timeout-duration=1s",
+	"gateway.resilience.routes.person_service_route.retries=0",
+	"resilience4j.circuitbreaker.instances.person_service_route.sliding-window-size=4",
+	"resilience4j.circuitbreaker.instances.person_service_route.minimum-number-of-calls=4",
+	"resilience4j.circuitbreaker.instances.person_service_route.wait-duration-in-open-state=1m"
+})
+class GatewayResilienceTest {
+
+	private static final AtomicInteger flakyAccountCalls = new AtomicInteger();
+	private static final AtomicInteger transactionCalls = new AtomicInteger();
+	private static final AtomicInteger clientCalls = new AtomicInteger();
+
+	private static final DisposableServer backend = HttpServer.create()
+		.port(0)
+		.route(routes -> routes
+			.get("/cuentas/flaky", (request, response) -> flakyAccountCalls.incrementAndGet() == 1
+				? response.status(HttpResponseStatus.SERVICE_UNAVAILABLE).send()
+				: response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+					.sendString(Mono.just("{\"accountNumber\":\"flaky\"}")))
+			.get("/reportes", (request, response) -> Mono.delay(Duration.ofSeconds(5))
+				.then(response.sendString(Mono.just("[]")).then()))
+			.post("/movimientos", (request, response) -> {
+				transactionCalls.incrementAndGet();
+				return request.receive().then(response.status(HttpResponseStatus.SERVICE_UNAVAILABLE).send().then());
+			})
+			.get("/clientes/{id}", (request, response) -> {
+				clientCalls.incrementAndGet();
+				return response.status(HttpResponseStatus.BAD_GATEWAY).send();
+			}))
+		.bindNow();
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@DynamicPropertySource
+	static void backendUrls(DynamicPropertyRegistry registry) {
+		registry.add("service.account.url", () -> "http://localhost:" + backend.port());
+		registry.add("service.person.url", () -> "http://localhost:" + backend.port());
+	}
+
+	@AfterAll
+	static void stopBackend() {
+		backend.disposeNow();
+	}
+
+	@Test
+	void shouldRetryIdempotentGet_whenTheBackendFailsOnce() {
+		webTestClient.get().uri("/cuentas/flaky")
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody().jsonPath("$.accountNumber").isEqualTo("flaky");
+
+		assertThat(flakyAccountCalls.get()).isEqualTo(2);
+		assertThat(meterRegistry.get("gateway.requests.retries")
+			.tag("route", "account_service_accounts_route")
+			.tag("outcome", AdaptiveRetryGatewayFilterFactory.RETRIED)
+			.counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldNotRetryPost_andAnswerFromTheFallback() {
+		webTestClient.post().uri("/movimientos")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue("{\"accountNumber\":\"1234567890\",\"transactionType\":\"DEPOSITO\",\"value\":10}")
+			.exchange()
+			.expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+			.expectBody().jsonPath("$.route").isEqualTo("account_service_transactions_route");
+
+		assertThat(transactionCalls.get()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldBoundLatency_whenTheBackendHangs() {
+		long started = System.nanoTime();
+		webTestClient.mutate().responseTimeout(Duration.ofSeconds(10)).build()
+			.get().uri("/reportes")
+			.exchange()
+			.expectStatus().isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+
+		assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(2));
+	}
+
+	@Test
+	void shouldOpenTheCircuit_andStopCallingTheFailingBackend() {
+		for (int i = 0; i < 4; i++) {
+			webTestClient.get().uri("/clientes/client-1")
+				.exchange()
+				.expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		}
+		assertThat(clientCalls.get()).isEqualTo(4);
+
+		long started = System.nanoTime();
+		webTestClient.get().uri("/clientes/client-1")
+			.exchange()
+			.expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+			.expectHeader().exists(HttpHeaders.RETRY_AFTER)
+			.expectBody().jsonPath("$.route").isEqualTo("person_service_route");
+
+		assertThat(clientCalls.get()).isEqualTo(4);
+		assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(500));
+		assertThat(meterRegistry.get("gateway.requests.fallback")
+			.tag("route", "person_service_route")
+			.tag("reason", FallbackController.CIRCUIT_OPEN)
+			.counter().count()).isEqualTo(1);
+	}
+}
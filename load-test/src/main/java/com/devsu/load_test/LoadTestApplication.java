@@ -0,0 +1,112 @@
+package com.devsu.load_test;
+
+import com.devsu.load_test.infrastructure.LocalBroker;
+import com.devsu.load_test.infrastructure.LocalPostgres;
+import com.devsu.load_test.infrastructure.ServiceProcess;
+import com.devsu.load_test.workload.GatewayCacheStats;
+import com.devsu.load_test.workload.LoadTestReport;
+import com.devsu.load_test.workload.LoadTestSettings;
+import com.devsu.load_test.workload.OpenModelDriver;
+import com.devsu.load_test.workload.RouteStats;
+import com.devsu.load_test.workload.SeedData;
+import com.devsu.load_test.workload.Seeder;
+import com.devsu.load_test.workload.Workloads;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Boots Postgres, an AMQP broker, both services and the gateway on free local ports, then runs the workload through the gateway
+@Slf4j
+public class LoadTestApplication {
+    private static final String PERSON_DATABASE = "mydatabase";
+    private static final String ACCOUNT_DATABASE = "accountdb";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Files.createDirectories(settings.getReportDir());
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        
+        int postgresPort = freePort();
+        int brokerPort = freePort();
+        int personPort = freePort();
+        int accountPort = freePort();
+        int accountManagementPort = freePort();
+        int gatewayPort = freePort();
+        int gatewayManagementPort = freePort();
+        
+        try (LocalPostgres postgres = LocalPostgres.start(postgresPort, PERSON_DATABASE, ACCOUNT_DATABASE);
+             LocalBroker broker = LocalBroker.start(brokerPort, settings.getReportDir().resolve("broker"));
+             ServiceProcess person = ServiceProcess.start("person-service", settings.getPersonJar(), settings.getServiceHeap(),
+                 serviceArgs(personPort, brokerPort, postgres, PERSON_DATABASE), settings.getReportDir().resolve("person-service.log"));
+             ServiceProcess account = ServiceProcess.start("account-service", settings.getAccountJar(), settings.getServiceHeap(),
+                 serviceArgs(accountPort, brokerPort, postgres, ACCOUNT_DATABASE,
+                     "--management.server.port=" + accountManagementPort), settings.getReportDir().resolve("account-service.log"));
+             ServiceProcess gateway = ServiceProcess.start("gateway", settings.getGatewayJar(), settings.getServiceHeap(),
+                 List.of(
+                     "--server.port=" + gatewayPort,
+                     "--management.server.port=" + gatewayManagementPort,
+                     "--service.person.url=http://localhost:" + personPort,
+                     "--service.account.url=http://localhost:" + accountPort,
+                     "--spring.rabbitmq.host=localhost",
+                     "--spring.rabbitmq.port=" + brokerPort,
+                     "--gateway.response-cache.enabled=" + settings.isGatewayCache(),
+                     "--gateway.rate-limit.enabled=" + settings.isGatewayRateLimit()
+                 ), settings.getReportDir().resolve("gateway.log"))) {
+            
+            person.awaitReady(healthUri(personPort), true, STARTUP_TIMEOUT);
+            account.awaitReady(healthUri(accountManagementPort), true, STARTUP_TIMEOUT);
+            URI gatewayUri = URI.create("http://localhost:" + gatewayPort);
+            gateway.awaitReady(gatewayUri, false, STARTUP_TIMEOUT);
+            
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+            SeedData seed = new Seeder(client, objectMapper, gatewayUri, settings.getRequestTimeout())
+                .seed(settings.getSeedClients());
+            Map<String, RouteStats> results = new OpenModelDriver(client, settings)
+                .run(Workloads.standard(gatewayUri, seed, settings, objectMapper));
+            Map<String, Object> gatewayCache = new GatewayCacheStats(client, objectMapper,
+                URI.create("http://localhost:" + gatewayManagementPort)).fetch();
+            new LoadTestReport(settings, objectMapper).write(results, gatewayCache);
+        }
+    }
+    
+    private static List<String> serviceArgs(int port, int brokerPort, LocalPostgres postgres, String database,
+                                            String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=" + port,
+            "--spring.r2dbc.url=" + postgres.r2dbcUrl(database),
+            "--spring.r2dbc.username=" + LocalPostgres.USERNAME,
+            "--spring.r2dbc.password=" + LocalPostgres.PASSWORD,
+            "--spring.flyway.url=" + postgres.jdbcUrl(database),
+            "--spring.flyway.user=" + LocalPostgres.USERNAME,
+            "--spring.flyway.password=" + LocalPostgres.PASSWORD,
+            "--spring.rabbitmq.host=localhost",
+            "--spring.rabbitmq.port=" + brokerPort,
+            "--spring.docker.compose.enabled=false"
+        ));
+        args.addAll(List.of(extraArgs));
+        return args;
+    }
+    
+    private static URI healthUri(int port) {
+        return URI.create("http://localhost:" + port + "/actuator/health");
+    }
+    
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.devsu.load_test.infrastructure;
+
+import org.apache.qpid.server.SystemLauncher;
+import org.apache.qpid.server.model.SystemConfig;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+// In-memory AMQP 0-9-1 broker standing in for RabbitMQ; nothing is written to disk
+public class LocalBroker implements AutoCloseable {
+    private final SystemLauncher launcher;
+    
+    private LocalBroker(SystemLauncher launcher) {
+        this.launcher = launcher;
+    }
+    
+    public static LocalBroker start(int port, Path workDir) throws Exception {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(SystemConfig.TYPE, "Memory");
+        attributes.put(SystemConfig.INITIAL_CONFIGURATION_LOCATION,
+            LocalBroker.class.getResource("/qpid-config.json").toExternalForm());
+        attributes.put(SystemConfig.STARTUP_LOGGED_TO_SYSTEM_OUT, false);
+        attributes.put(SystemConfig.CONTEXT, Map.of(
+            "qpid.amqp_port", String.valueOf(port),
+            "qpid.work_dir", workDir.toAbsolutePath().toString()
+        ));
+        
+        SystemLauncher launcher = new SystemLauncher();
+        launcher.startup(attributes);
+        return new LocalBroker(launcher);
+    }
+    
+    @Override
+    public void close() {
+        launcher.shutdown();
+    }
+}
@@ -0,0 +1,47 @@
+package com.devsu.load_test.infrastructure;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class LocalPostgres implements AutoCloseable {
+    public static final String USERNAME = "postgres";
+    public static final String PASSWORD = "postgres";
+    
+    private final EmbeddedPostgres postgres;
+    
+    private LocalPostgres(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+    }
+    
+    // Each service keeps its own database, as in compose, but they share one local server
+    public static LocalPostgres start(int port, String... databases) throws IOException, SQLException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+            .setPort(port)
+            .setServerConfig("max_connections", "300")
+            .start();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String database : databases) {
+                statement.execute("CREATE DATABASE " + database);
+            }
+        }
+        return new LocalPostgres(postgres);
+    }
+    
+    public String r2dbcUrl(String database) {
+        return "r2dbc:postgresql://localhost:" + postgres.getPort() + "/" + database;
+    }
+    
+    public String jdbcUrl(String database) {
+        return "jdbc:postgresql://localhost:" + postgres.getPort() + "/" + database;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
@@ -0,0 +1,77 @@
+package com.devsu.load_test.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Each service runs in its own JVM from its boot jar, so every one keeps its own application.properties
+@Slf4j
+public class ServiceProcess implements AutoCloseable {
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(20);
+    
+    private final String name;
+    private final Process process;
+    
+    private ServiceProcess(String name, Process process) {
+        this.name = name;
+        this.process = process;
+    }
+    
+    public static ServiceProcess start(String name, Path jar, String heap, List<String> args, Path logFile) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Xmx" + heap);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(args);
+        
+        log.info("Starting {} from {}", name, jar);
+        Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(logFile.toFile())
+            .start();
+        return new ServiceProcess(name, process);
+    }
+    
+    // Any HTTP answer counts for the gateway; the services must report UP on their health endpoint
+    public void awaitReady(URI probe, boolean requireSuccess, Duration timeout) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with code " + process.exitValue() + " during startup");
+            }
+            try {
+                HttpResponse<Void> response = client.send(
+                    HttpRequest.newBuilder(probe).timeout(Duration.ofSeconds(2)).build(),
+                    HttpResponse.BodyHandlers.discarding());
+                if (!requireSuccess || response.statusCode() == 200) {
+                    log.info("{} is ready", name);
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(name + " was not ready after " + timeout);
+    }
+    
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("{} did not stop in {}, killing it", name, STOP_TIMEOUT);
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
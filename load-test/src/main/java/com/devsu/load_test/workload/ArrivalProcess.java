@@ -0,0 +1,21 @@
+package com.devsu.load_test.workload;
+
+import java.util.SplittableRandom;
+
+public enum ArrivalProcess {
+    CONSTANT {
+        @Override
+        public double nextIntervalNanos(double meanIntervalNanos, SplittableRandom random) {
+            return meanIntervalNanos;
+        }
+    },
+    // Exponential inter-arrival times: independent users hitting the route at a mean rate
+    POISSON {
+        @Override
+        public double nextIntervalNanos(double meanIntervalNanos, SplittableRandom random) {
+            return -Math.log(1.0 - random.nextDouble()) * meanIntervalNanos;
+        }
+    };
+    
+    public abstract double nextIntervalNanos(double meanIntervalNanos, SplittableRandom random);
+}
@@ -0,0 +1,63 @@
+package com.devsu.load_test.workload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Reads the gateway's cache counters after the run; they cover the whole run, warmup included
+@Slf4j
+@RequiredArgsConstructor
+public class GatewayCacheStats {
+    private static final String METRIC = "/actuator/metrics/gateway.response.cache.requests";
+    private static final List<String> RESULTS = List.of("hit", "not_modified", "miss", "bypass");
+    
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final URI gatewayManagement;
+    
+    public Map<String, Object> fetch() throws InterruptedException {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        double answeredByCache = 0;
+        double total = 0;
+        for (String result : RESULTS) {
+            double count = count(result);
+            stats.put(result, (long) count);
+            total += count;
+            if (!result.equals("miss") && !result.equals("bypass")) {
+                answeredByCache += count;
+            }
+        }
+        stats.put("hitRatio", total == 0 ? 0.0 : answeredByCache / total);
+        return stats;
+    }
+    
+    private double count(String result) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(gatewayManagement.resolve(METRIC + "?tag=result:" + result))
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            // 404 means the meter was never registered, i.e. no request had that outcome
+            if (response.statusCode() != 200) {
+                return 0;
+            }
+            JsonNode measurements = objectMapper.readTree(response.body()).path("measurements");
+            return measurements.isEmpty() ? 0 : measurements.get(0).path("value").asDouble();
+        } catch (IOException e) {
+            log.warn("Could not read {} from the gateway", METRIC, e);
+            return 0;
+        }
+    }
+}
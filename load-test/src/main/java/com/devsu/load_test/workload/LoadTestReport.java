@@ -0,0 +1,106 @@
+package com.devsu.load_test.workload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// report.json holds the summary per route; <route>.hgrm holds the full HdrHistogram percentile distribution in ms
+@Slf4j
+@RequiredArgsConstructor
+public class LoadTestReport {
+    private static final double MICROS_PER_MILLI = 1000.0;
+    
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper;
+    
+    public Path write(Map<String, RouteStats> results, Map<String, Object> gatewayCache) throws IOException {
+        Path reportDir = settings.getReportDir();
+        Files.createDirectories(reportDir);
+        double seconds = settings.getDuration().toMillis() / 1000.0;
+        
+        Map<String, Object> routes = new LinkedHashMap<>();
+        results.forEach((route, stats) -> {
+            Histogram latency = stats.getLatencyMicros();
+            long completed = stats.getSucceeded() + stats.getErrorCount();
+            
+            Map<String, Object> latencyMillis = new LinkedHashMap<>();
+            latencyMillis.put("mean", latency.getMean() / MICROS_PER_MILLI);
+            latencyMillis.put("p50", percentile(latency, 50));
+            latencyMillis.put("p90", percentile(latency, 90));
+            latencyMillis.put("p99", percentile(latency, 99));
+            latencyMillis.put("p99.9", percentile(latency, 99.9));
+            latencyMillis.put("max", latency.getMaxValue() / MICROS_PER_MILLI);
+            
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("sent", stats.getSent());
+            summary.put("succeeded", stats.getSucceeded());
+            summary.put("failed", stats.getErrorCount());
+            summary.put("dropped", stats.getDropped());
+            summary.put("throughputPerSecond", stats.getSucceeded() / seconds);
+            summary.put("errorRate", completed == 0 ? 0.0 : (double) stats.getErrorCount() / completed);
+            summary.put("errors", stats.getErrors());
+            summary.put("latencyMillis", latencyMillis);
+            routes.put(route, summary);
+            
+            writeHistogram(reportDir.resolve(fileName(route) + ".hgrm"), latency);
+        });
+        
+        Map<String, Object> workload = new LinkedHashMap<>();
+        workload.put("arrival", settings.getArrival().name().toLowerCase());
+        workload.put("warmupSeconds", settings.getWarmup().toSeconds());
+        workload.put("durationSeconds", settings.getDuration().toSeconds());
+        workload.put("maxInFlight", settings.getMaxInFlight());
+        workload.put("gatewayCache", settings.isGatewayCache());
+        workload.put("gatewayRateLimit", settings.isGatewayRateLimit());
+        workload.put("seedClients", settings.getSeedClients());
+        workload.put("ratesPerSecond", Map.of(
+            "movimientos", settings.getTransactionsPerSecond(),
+            "reportes", settings.getReportsPerSecond(),
+            "clientes", settings.getClientUpdatesPerSecond(),
+            "cuentas-get", settings.getAccountReadsPerSecond(),
+            "clientes-get", settings.getClientReadsPerSecond()
+        ));
+        
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("workload", workload);
+        report.put("routes", routes);
+        report.put("gatewayCache", gatewayCache);
+        
+        Path reportFile = reportDir.resolve("report.json");
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        
+        results.forEach((route, stats) -> log.info("{}: {} ok, {} failed, {} dropped, p50={} ms, p99={} ms",
+            route, stats.getSucceeded(), stats.getErrorCount(), stats.getDropped(),
+            percentile(stats.getLatencyMicros(), 50), percentile(stats.getLatencyMicros(), 99)));
+        log.info("Gateway response cache: {}", gatewayCache);
+        log.info("Report written to {}", reportFile);
+        return reportFile;
+    }
+    
+    private static double percentile(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+    
+    private static String fileName(String route) {
+        return route.toLowerCase().replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+    }
+    
+    private static void writeHistogram(Path file, Histogram histogram) {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        } catch (IOException e) {
+            log.warn("Could not write {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.devsu.load_test.workload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+
+@Getter
+@AllArgsConstructor
+public class LoadTestSettings {
+    private final Duration warmup;
+    private final Duration duration;
+    private final ArrivalProcess arrival;
+    private final double transactionsPerSecond;
+    private final double reportsPerSecond;
+    private final double clientUpdatesPerSecond;
+    private final double accountReadsPerSecond;
+    private final double clientReadsPerSecond;
+    private final boolean gatewayCache;
+    private final boolean gatewayRateLimit;
+    private final int maxInFlight;
+    private final int seedClients;
+    private final Duration requestTimeout;
+    private final String serviceHeap;
+    private final Path reportDir;
+    private final Path gatewayJar;
+    private final Path personJar;
+    private final Path accountJar;
+    
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 15)),
+            Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60)),
+            ArrivalProcess.valueOf(System.getProperty("loadtest.arrival", "poisson").toUpperCase(Locale.ROOT)),
+            doubleProperty("loadtest.rate.movimientos", 200),
+            doubleProperty("loadtest.rate.reportes", 20),
+            doubleProperty("loadtest.rate.clientes", 2),
+            doubleProperty("loadtest.rate.cuentas-get", 100),
+            doubleProperty("loadtest.rate.clientes-get", 50),
+            Boolean.parseBoolean(System.getProperty("loadtest.gateway-cache", "true")),
+            Boolean.parseBoolean(System.getProperty("loadtest.gateway-rate-limit", "false")),
+            Integer.getInteger("loadtest.max-in-flight", 2000),
+            Integer.getInteger("loadtest.seed-clients", 50),
+            Duration.ofSeconds(Long.getLong("loadtest.request-timeout-seconds", 10)),
+            System.getProperty("loadtest.service-heap", "512m"),
+            Path.of(System.getProperty("loadtest.report-dir", "build/reports/load-test")),
+            requiredPath("loadtest.jar.gateway"),
+            requiredPath("loadtest.jar.person"),
+            requiredPath("loadtest.jar.account")
+        );
+    }
+    
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+    
+    private static Path requiredPath(String name) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing system property " + name + "; run through ./gradlew loadTest");
+        }
+        return Path.of(value);
+    }
+}
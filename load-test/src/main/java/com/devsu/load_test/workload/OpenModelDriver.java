@@ -0,0 +1,88 @@
+package com.devsu.load_test.workload;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Open model: arrivals follow the schedule whether or not earlier requests have completed
+@Slf4j
+@RequiredArgsConstructor
+public class OpenModelDriver {
+    private static final long START_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    
+    private final HttpClient client;
+    private final LoadTestSettings settings;
+    
+    public Map<String, RouteStats> run(List<RouteWorkload> workloads) throws InterruptedException {
+        long start = System.nanoTime() + START_DELAY_NANOS;
+        long measureFrom = start + settings.getWarmup().toNanos();
+        long end = measureFrom + settings.getDuration().toNanos();
+        Semaphore inFlight = new Semaphore(settings.getMaxInFlight());
+        
+        Map<String, RouteStats> results = new LinkedHashMap<>();
+        List<Thread> generators = new ArrayList<>();
+        for (RouteWorkload workload : workloads) {
+            RouteStats stats = new RouteStats(measureFrom);
+            results.put(workload.getRoute(), stats);
+            generators.add(Thread.ofPlatform()
+                .name("arrivals " + workload.getRoute())
+                .start(() -> generate(workload, stats, start, end, inFlight)));
+        }
+        
+        log.info("Driving {} route(s): {} warmup, {} measured", workloads.size(), settings.getWarmup(), settings.getDuration());
+        for (Thread generator : generators) {
+            generator.join();
+        }
+        
+        // Late responses still count against their intended start
+        long drainMillis = settings.getRequestTimeout().toMillis() + 1000;
+        if (!inFlight.tryAcquire(settings.getMaxInFlight(), drainMillis, TimeUnit.MILLISECONDS)) {
+            log.warn("Requests still in flight after {} ms; they are not part of the report", drainMillis);
+        }
+        return results;
+    }
+    
+    private void generate(RouteWorkload workload, RouteStats stats, long start, long end, Semaphore inFlight) {
+        if (workload.getRatePerSecond() <= 0) {
+            return;
+        }
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / workload.getRatePerSecond();
+        SplittableRandom random = new SplittableRandom();
+        double next = start;
+        
+        while (next < end) {
+            long intendedStart = (long) next;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            
+            // Past max-in-flight the system is saturated; the arrival is counted as dropped instead of queued here
+            if (inFlight.tryAcquire()) {
+                stats.recordSent(intendedStart);
+                client.sendAsync(workload.getRequests().get(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.release();
+                        if (error != null) {
+                            stats.recordFailure(intendedStart, error);
+                        } else {
+                            stats.recordResponse(intendedStart, response.statusCode());
+                        }
+                    });
+            } else {
+                stats.recordDropped(intendedStart);
+            }
+            next += settings.getArrival().nextIntervalNanos(meanIntervalNanos, random);
+        }
+    }
+}
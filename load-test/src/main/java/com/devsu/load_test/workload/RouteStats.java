@@ -0,0 +1,92 @@
+package com.devsu.load_test.workload;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latency is measured from the intended start, so a stalled system cannot hide queueing delay (no coordinated omission)
+public class RouteStats {
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+    
+    private final long measureFromNanos;
+    private final Histogram latencyMicros = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    
+    public RouteStats(long measureFromNanos) {
+        this.measureFromNanos = measureFromNanos;
+    }
+    
+    public void recordSent(long intendedStartNanos) {
+        if (measured(intendedStartNanos)) {
+            sent.increment();
+        }
+    }
+    
+    public void recordDropped(long intendedStartNanos) {
+        if (measured(intendedStartNanos)) {
+            dropped.increment();
+        }
+    }
+    
+    public void recordResponse(long intendedStartNanos, int status) {
+        if (!measured(intendedStartNanos)) {
+            return;
+        }
+        if (status >= 400) {
+            recordError(String.valueOf(status));
+            return;
+        }
+        succeeded.increment();
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        latencyMicros.recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+    }
+    
+    public void recordFailure(long intendedStartNanos, Throwable error) {
+        if (measured(intendedStartNanos)) {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            recordError(cause.getClass().getSimpleName());
+        }
+    }
+    
+    public Histogram getLatencyMicros() {
+        return latencyMicros;
+    }
+    
+    public long getSent() {
+        return sent.sum();
+    }
+    
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+    
+    public long getDropped() {
+        return dropped.sum();
+    }
+    
+    public long getErrorCount() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+    
+    public Map<String, Long> getErrors() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        errors.forEach((key, count) -> snapshot.put(key, count.sum()));
+        return snapshot;
+    }
+    
+    private void recordError(String key) {
+        errors.computeIfAbsent(key, ignored -> new LongAdder()).increment();
+    }
+    
+    private boolean measured(long intendedStartNanos) {
+        return intendedStartNanos >= measureFromNanos;
+    }
+}
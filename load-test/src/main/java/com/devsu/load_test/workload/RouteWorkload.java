@@ -0,0 +1,15 @@
+package com.devsu.load_test.workload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.net.http.HttpRequest;
+import java.util.function.Supplier;
+
+@Getter
+@AllArgsConstructor
+public class RouteWorkload {
+    private final String route;
+    private final double ratePerSecond;
+    private final Supplier<HttpRequest> requests;
+}
@@ -0,0 +1,16 @@
+package com.devsu.load_test.workload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class SeedData {
+    // clientId -> the request body the client was created with, reused for PUT /clientes/{id}
+    private final Map<String, Map<String, Object>> clients;
+    private final List<String> clientIds;
+    private final List<String> accountNumbers;
+}
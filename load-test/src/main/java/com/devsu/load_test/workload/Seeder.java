@@ -0,0 +1,80 @@
+package com.devsu.load_test.workload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Creates clients and one account each through the gateway so the workload has data to hit
+@Slf4j
+@RequiredArgsConstructor
+public class Seeder {
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final URI gateway;
+    private final Duration requestTimeout;
+    
+    public SeedData seed(int clients) throws IOException, InterruptedException {
+        Map<String, Map<String, Object>> createdClients = new LinkedHashMap<>();
+        List<String> accountNumbers = new ArrayList<>();
+        
+        for (int i = 0; i < clients; i++) {
+            Map<String, Object> clientRequest = clientRequest(i);
+            JsonNode created = post("/clientes", clientRequest);
+            String clientId = created.get("clientId").asText();
+            createdClients.put(clientId, clientRequest);
+            
+            String accountNumber = String.format("LT%08d", i);
+            Map<String, Object> accountRequest = new LinkedHashMap<>();
+            accountRequest.put("accountNumber", accountNumber);
+            accountRequest.put("accountType", "AHORROS");
+            accountRequest.put("initialBalance", 1_000_000);
+            accountRequest.put("status", true);
+            accountRequest.put("clientId", clientId);
+            accountRequest.put("clientName", clientRequest.get("name"));
+            accountRequest.put("clientStatus", true);
+            post("/cuentas", accountRequest);
+            accountNumbers.add(accountNumber);
+        }
+        
+        log.info("Seeded {} clients with one account each", clients);
+        return new SeedData(createdClients, List.copyOf(createdClients.keySet()), accountNumbers);
+    }
+    
+    private Map<String, Object> clientRequest(int index) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("name", "Load Test " + index);
+        request.put("gender", index % 2 == 0 ? "female" : "male");
+        request.put("birthDate", "1990-01-01");
+        request.put("identification", String.format("LT%08d", index));
+        request.put("address", "Calle " + index);
+        request.put("phone", "300" + String.format("%07d", index));
+        request.put("password", "LoadTest1234");
+        request.put("status", true);
+        return request;
+    }
+    
+    private JsonNode post(String path, Map<String, Object> body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(gateway.resolve(path))
+            .timeout(requestTimeout)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+            .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Seeding POST " + path + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
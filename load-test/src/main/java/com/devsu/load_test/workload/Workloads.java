@@ -0,0 +1,79 @@
+package com.devsu.load_test.workload;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class Workloads {
+    
+    private Workloads() {
+    }
+    
+    public static List<RouteWorkload> standard(URI gateway, SeedData seed, LoadTestSettings settings, ObjectMapper objectMapper) {
+        String reportRange = LocalDate.now().minusDays(30) + "," + LocalDate.now().plusDays(1);
+        
+        return List.of(
+            new RouteWorkload("POST /movimientos", settings.getTransactionsPerSecond(), () -> {
+                String accountNumber = pick(seed.getAccountNumbers());
+                boolean deposit = ThreadLocalRandom.current().nextBoolean();
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("accountNumber", accountNumber);
+                body.put("transactionType", deposit ? "Deposito" : "Retiro");
+                body.put("amount", deposit ? 10 : -5);
+                return json(gateway.resolve("/movimientos"), settings)
+                    .POST(HttpRequest.BodyPublishers.ofString(write(objectMapper, body)))
+                    .build();
+            }),
+            new RouteWorkload("GET /reportes", settings.getReportsPerSecond(), () ->
+                HttpRequest.newBuilder(gateway.resolve("/reportes?fecha=" + reportRange + "&cliente=" + pick(seed.getClientIds())))
+                    .timeout(settings.getRequestTimeout())
+                    .GET()
+                    .build()),
+            new RouteWorkload("PUT /clientes/{id}", settings.getClientUpdatesPerSecond(), () -> {
+                String clientId = pick(seed.getClientIds());
+                Map<String, Object> body = new LinkedHashMap<>(seed.getClients().get(clientId));
+                body.put("address", "Calle " + ThreadLocalRandom.current().nextInt(10_000));
+                return json(gateway.resolve("/clientes/" + clientId), settings)
+                    .PUT(HttpRequest.BodyPublishers.ofString(write(objectMapper, body)))
+                    .build();
+            }),
+            // Dashboard-style polling; mostly answered by the gateway response cache
+            new RouteWorkload("GET /cuentas/{numero}", settings.getAccountReadsPerSecond(), () ->
+                HttpRequest.newBuilder(gateway.resolve("/cuentas/" + pick(seed.getAccountNumbers())))
+                    .timeout(settings.getRequestTimeout())
+                    .GET()
+                    .build()),
+            new RouteWorkload("GET /clientes/{id}", settings.getClientReadsPerSecond(), () ->
+                HttpRequest.newBuilder(gateway.resolve("/clientes/" + pick(seed.getClientIds())))
+                    .timeout(settings.getRequestTimeout())
+                    .GET()
+                    .build())
+        );
+    }
+    
+    private static HttpRequest.Builder json(URI uri, LoadTestSettings settings) {
+        return HttpRequest.newBuilder(uri)
+            .timeout(settings.getRequestTimeout())
+            .header("Content-Type", "application/json");
+    }
+    
+    private static String write(ObjectMapper objectMapper, Map<String, Object> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
@@ -0,0 +1,98 @@
+package com.devsu.person_service.adapter.out.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// Run with: ./gradlew jmh -PjmhIncludes=PasswordHashingBenchmark
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+    private static final String PASSWORD = "Password123";
+    
+    @Param({"100000", "600000"})
+    public int iterations;
+    
+    private PasswordHashingAdapter adapter;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        adapter = new PasswordHashingAdapter(iterations, 0, 10_000);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        adapter.dispose();
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public String legacySha512Hash() throws NoSuchAlgorithmException {
+        MessageDigest sha512 = MessageDigest.getInstance("SHA-512");
+        return legacyHex(sha512.digest(PASSWORD.getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public String pbkdf2Hash() {
+        return adapter.hashNow(PASSWORD);
+    }
+    
+    // Time the calling (event loop) thread is held: the old hasher ran inline, the port only schedules
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String callerBlockedInline() throws NoSuchAlgorithmException {
+        return legacySha512Hash();
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void callerBlockedOffloaded(InFlightHash inFlight, Blackhole blackhole) {
+        CountDownLatch done = new CountDownLatch(1);
+        inFlight.done = done;
+        adapter.hash(PASSWORD)
+            .doFinally(signal -> done.countDown())
+            .subscribe(blackhole::consume, blackhole::consume);
+    }
+    
+    // Waits for each offloaded hash outside the measured call, so exactly one hash is in flight per invocation
+    // and the score never includes a full pool or rejected submissions
+    @State(Scope.Thread)
+    public static class InFlightHash {
+        CountDownLatch done;
+        
+        @TearDown(Level.Invocation)
+        public void await() throws InterruptedException {
+            if (done != null) {
+                done.await();
+            }
+        }
+    }
+    
+    private static String legacyHex(byte[] bytes) {
+        StringBuilder hexString = new StringBuilder();
+        for (byte b : bytes) {
+            String hex = Integer.toHexString(0xff & b);
+            if (hex.length() == 1) hexString.append('0');
+            hexString.append(hex);
+        }
+        return hexString.toString();
+    }
+}
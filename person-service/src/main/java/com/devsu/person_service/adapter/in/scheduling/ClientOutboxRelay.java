@@ -0,0 +1,95 @@
+package com.devsu.person_service.adapter.in.scheduling;
+
+import com.devsu.person_service.domain.model.OutboxRelayResult;
+import com.devsu.person_service.domain.port.in.RelayClientEventsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+@ConditionalOnProperty(name = "client.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ClientOutboxRelay {
+    private final RelayClientEventsPort relayClientEventsPort;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final AtomicReference<LocalDateTime> oldestPendingAt = new AtomicReference<>();
+    private Disposable subscription;
+    
+    public ClientOutboxRelay(RelayClientEventsPort relayClientEventsPort,
+                             MeterRegistry meterRegistry,
+                             @Value("${client.outbox.relay.batch-size:100}") int batchSize,
+                             @Value("${client.outbox.relay.poll-interval:500ms}") Duration pollInterval) {
+        this.relayClientEventsPort = relayClientEventsPort;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.publishedCounter = Counter.builder("client.outbox.relay.published")
+            .description("Client events confirmed by the broker")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("client.outbox.relay.failures")
+            .description("Outbox batches that could not be published")
+            .register(meterRegistry);
+        Gauge.builder("client.outbox.relay.lag", this, ClientOutboxRelay::lagSeconds)
+            .description("Age of the oldest client event still waiting in the outbox")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = Flux.interval(pollInterval)
+            .onBackpressureDrop()
+            .concatMap(tick -> drain())
+            .subscribe();
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+    
+    public Mono<Integer> drain() {
+        return relayClientEventsPort.execute(batchSize)
+            .expand(result -> !result.isFailed() && result.getPublished() >= batchSize
+                ? relayClientEventsPort.execute(batchSize)
+                : Mono.empty())
+            .doOnNext(this::record)
+            .reduce(0, (total, result) -> total + result.getPublished())
+            .onErrorResume(e -> {
+                log.error("Client outbox relay cycle failed", e);
+                failureCounter.increment();
+                return Mono.just(0);
+            });
+    }
+    
+    private void record(OutboxRelayResult result) {
+        publishedCounter.increment(result.getPublished());
+        if (result.isFailed()) {
+            failureCounter.increment();
+        }
+        oldestPendingAt.set(result.getOldestPendingAt());
+    }
+    
+    double lagSeconds() {
+        LocalDateTime oldest = oldestPendingAt.get();
+        return oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+}
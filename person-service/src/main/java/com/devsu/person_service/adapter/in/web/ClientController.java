@@ -5,6 +5,7 @@ import com.devsu.person_service.adapter.in.web.dto.ClientRequest;
 import com.devsu.person_service.adapter.in.web.dto.ClientResponse;
 import com.devsu.person_service.adapter.in.web.mapper.ClientMapper;
 import com.devsu.person_service.application.usecase.createclient.CreateClientCommand;
+import com.devsu.person_service.application.usecase.getallclients.GetAllClientsQuery;
 import com.devsu.person_service.application.usecase.patchclient.PatchClientCommand;
 import com.devsu.person_service.application.usecase.updateclient.UpdateClientCommand;
 import com.devsu.person_service.domain.exception.ClientAlreadyExistsException;
@@ -18,8 +19,11 @@ import com.devsu.person_service.domain.port.in.PatchClientPort;
 import com.devsu.person_service.domain.port.in.UpdateClientPort;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -28,6 +32,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -36,6 +41,7 @@ import reactor.core.publisher.Mono;
 @RequestMapping("/clientes")
 @RequiredArgsConstructor
 public class ClientController {
+    static final String NEXT_AFTER_ID_HEADER = "X-Next-After-Id";
     
     private final CreateClientPort createClientPort;
     private final GetAllClientsPort getAllClientsPort;
@@ -45,6 +51,12 @@ public class ClientController {
     private final DeleteClientPort deleteClientPort;
     private final ClientMapper mapper;
     
+    @Value("${client.pagination.default-limit:100}")
+    private int defaultPageLimit;
+    
+    @Value("${client.pagination.max-limit:1000}")
+    private int maxPageLimit;
+    
     @PostMapping
     public Mono<ResponseEntity<ClientResponse>> createClient(@Valid @RequestBody ClientRequest request) {
         Client client = mapper.toDomain(request);
@@ -55,10 +67,29 @@ public class ClientController {
             .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
     }
     
-    @GetMapping
-    public Flux<ClientResponse> getAllClients() {
-        return getAllClientsPort.execute(null)
-            .map(mapper::toResponse);
+    // JSON gets a bounded page and, when it was cut short, the next afterId in X-Next-After-Id.
+    // NDJSON is never capped: backpressure keeps memory flat however many clients there are.
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<ClientResponse>>> getAllClients(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit,
+            ServerHttpRequest request) {
+        if (streaming(request)) {
+            return Mono.just(ResponseEntity.ok(getAllClientsPort.execute(new GetAllClientsQuery(afterId, limit))
+                .map(mapper::toResponse)));
+        }
+        
+        int pageSize = limit != null && limit > 0 ? Math.min(limit, maxPageLimit) : defaultPageLimit;
+        return getAllClientsPort.execute(new GetAllClientsQuery(afterId, pageSize + 1))
+            .collectList()
+            .map(clients -> {
+                if (clients.size() <= pageSize) {
+                    return ResponseEntity.ok(Flux.fromIterable(clients).map(mapper::toResponse));
+                }
+                return ResponseEntity.ok()
+                    .header(NEXT_AFTER_ID_HEADER, clients.get(pageSize - 1).getClientId())
+                    .body(Flux.fromIterable(clients.subList(0, pageSize)).map(mapper::toResponse));
+            });
     }
     
     @GetMapping("/{clientId}")
@@ -102,4 +133,9 @@ public class ClientController {
         return deleteClientPort.execute(clientId)
             .then(Mono.just(ResponseEntity.noContent().<Void>build()));
     }
+    
+    private static boolean streaming(ServerHttpRequest request) {
+        return request.getHeaders().getAccept().stream()
+            .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
 }
@@ -1,22 +1,28 @@
 package com.devsu.person_service.adapter.out.messaging;
 
 import com.devsu.person_service.adapter.out.messaging.dto.ClientUpdatedEvent;
-import com.devsu.person_service.domain.port.out.PublishClientEventPort;
+import com.devsu.person_service.domain.model.ClientEvent;
+import com.devsu.person_service.domain.port.out.ClientEventBrokerPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-import java.time.LocalDateTime;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class RabbitMQClientEventPublisher implements PublishClientEventPort {
+public class RabbitMQClientEventPublisher implements ClientEventBrokerPort {
     
     private final RabbitTemplate rabbitTemplate;
+    private final Scheduler clientEventRelayScheduler;
+    private final MeterRegistry meterRegistry;
     
     @Value("${rabbitmq.exchange.client}")
     private String exchange;
@@ -24,24 +30,45 @@ public class RabbitMQClientEventPublisher implements PublishClientEventPort {
     @Value("${rabbitmq.routing-key.client-updated}")
     private String routingKey;
     
+    @Value("${rabbitmq.publisher.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+    
+    // RabbitTemplate blocks, so the batch runs on the relay scheduler and never on a Netty event loop
     @Override
-    public Mono<Void> publish(String clientId, String clientName, Boolean clientStatus, String eventType) {
+    public Mono<Void> publishAll(List<ClientEvent> events) {
         return Mono.fromRunnable(() -> {
-            ClientUpdatedEvent event = new ClientUpdatedEvent(
-                clientId,
-                clientName,
-                clientStatus,
-                eventType,
-                LocalDateTime.now()
-            );
-            
-            rabbitTemplate.convertAndSend(exchange, routingKey, event);
-            log.info("Published {} event for clientId: {}", eventType, clientId);
-        })
-        .onErrorResume(e -> {
-            log.error("Failed to publish event for clientId: {}, eventType: {}", clientId, eventType, e);
-            return Mono.empty();
-        })
-        .then();
+                Timer.Sample sample = Timer.start(meterRegistry);
+                String outcome = "error";
+                try {
+                    rabbitTemplate.invoke(operations -> {
+                        for (ClientEvent event : events) {
+                            operations.convertAndSend(exchange, routingKey, toMessage(event));
+                        }
+                        operations.waitForConfirmsOrDie(confirmTimeoutMs);
+                        return null;
+                    });
+                    outcome = "success";
+                } finally {
+                    // Send plus broker confirm for the whole batch
+                    sample.stop(Timer.builder("amqp.publish")
+                        .tag("exchange", exchange)
+                        .tag("routing.key", routingKey)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+                }
+                log.info("Published {} client events", events.size());
+            })
+            .subscribeOn(clientEventRelayScheduler)
+            .then();
+    }
+    
+    private ClientUpdatedEvent toMessage(ClientEvent event) {
+        return new ClientUpdatedEvent(
+            event.getClientId(),
+            event.getClientName(),
+            event.getClientStatus(),
+            event.getEventType(),
+            event.getOccurredAt()
+        );
     }
 }
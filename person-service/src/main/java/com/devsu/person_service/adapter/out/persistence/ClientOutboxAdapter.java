@@ -0,0 +1,74 @@
+package com.devsu.person_service.adapter.out.persistence;
+
+import com.devsu.person_service.domain.model.ClientEvent;
+import com.devsu.person_service.domain.port.out.ClientOutboxPort;
+import com.devsu.person_service.domain.port.out.PublishClientEventPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ClientOutboxAdapter implements PublishClientEventPort, ClientOutboxPort {
+    private static final String INSERT_EVENT =
+        "INSERT INTO client_outbox (client_id, client_name, client_status, event_type, occurred_at) " +
+        "VALUES (:clientId, :clientName, :clientStatus, :eventType, :occurredAt)";
+    // Locks the batch for the relaying transaction and skips rows another replica's relay already holds,
+    // so each event is published by one replica only
+    private static final String SELECT_PENDING =
+        "SELECT id, client_id, client_name, client_status, event_type, occurred_at " +
+        "FROM client_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED";
+    private static final String SELECT_OLDEST_PENDING =
+        "SELECT occurred_at FROM client_outbox ORDER BY id LIMIT 1";
+    private static final String DELETE_PUBLISHED =
+        "DELETE FROM client_outbox WHERE id IN (:ids)";
+    
+    private final DatabaseClient databaseClient;
+    
+    // Joins the caller's transaction, so the event is stored if and only if the client change commits
+    @Override
+    public Mono<Void> publish(String clientId, String clientName, Boolean clientStatus, String eventType) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_EVENT)
+            .bind("clientId", clientId)
+            .bind("eventType", eventType)
+            .bind("occurredAt", LocalDateTime.now());
+        spec = clientName != null ? spec.bind("clientName", clientName) : spec.bindNull("clientName", String.class);
+        spec = clientStatus != null ? spec.bind("clientStatus", clientStatus) : spec.bindNull("clientStatus", Boolean.class);
+        
+        return spec.fetch().rowsUpdated().then();
+    }
+    
+    @Override
+    public Flux<ClientEvent> findPending(int limit) {
+        return databaseClient.sql(SELECT_PENDING)
+            .bind("limit", limit)
+            .map((row, metadata) -> new ClientEvent(
+                row.get("id", Long.class),
+                row.get("client_id", String.class),
+                row.get("client_name", String.class),
+                row.get("client_status", Boolean.class),
+                row.get("event_type", String.class),
+                row.get("occurred_at", LocalDateTime.class)))
+            .all();
+    }
+    
+    @Override
+    public Mono<Long> removePublished(List<Long> ids) {
+        return databaseClient.sql(DELETE_PUBLISHED)
+            .bind("ids", ids)
+            .fetch()
+            .rowsUpdated();
+    }
+    
+    @Override
+    public Mono<LocalDateTime> findOldestPendingAt() {
+        return databaseClient.sql(SELECT_OLDEST_PENDING)
+            .map((row, metadata) -> row.get("occurred_at", LocalDateTime.class))
+            .one();
+    }
+}
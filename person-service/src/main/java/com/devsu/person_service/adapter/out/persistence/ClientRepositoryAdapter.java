@@ -6,6 +6,7 @@ import com.devsu.person_service.adapter.out.persistence.entity.PersonEntity;
 import com.devsu.person_service.domain.model.Client;
 import com.devsu.person_service.domain.port.out.ClientRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
@@ -19,6 +20,8 @@ public class ClientRepositoryAdapter implements ClientRepositoryPort {
     private final PersonR2dbcRepository personRepository;
     private final ClientR2dbcRepository clientRepository;
     private final ClientMapper mapper;
+    private final DatabaseClient databaseClient;
+    private final ClientRowMapper rowMapper;
     
     @Override
     @Transactional
@@ -73,24 +76,39 @@ public class ClientRepositoryAdapter implements ClientRepositoryPort {
     
     @Override
     public Flux<Client> findAll() {
-        return clientRepository.findAll()
-            .filter(clientEntity -> !Boolean.TRUE.equals(clientEntity.getDeleted()))
-            .flatMap(clientEntity -> 
-                personRepository.findById(clientEntity.getPersonId())
-                    .filter(personEntity -> !Boolean.TRUE.equals(personEntity.getDeleted()))
-                    .map(personEntity -> mapper.toDomain(personEntity, clientEntity))
-            );
+        return databaseClient.sql(ClientRowMapper.SELECT_ACTIVE_CLIENTS + " ORDER BY c.id")
+            .map(rowMapper)
+            .all();
+    }
+    
+    @Override
+    public Flux<Client> findPage(Long afterId, Integer limit) {
+        StringBuilder sql = new StringBuilder(ClientRowMapper.SELECT_ACTIVE_CLIENTS);
+        if (afterId != null) {
+            sql.append(" AND c.id > :afterId");
+        }
+        sql.append(" ORDER BY c.id");
+        if (limit != null && limit > 0) {
+            sql.append(" LIMIT :limit");
+        }
+        
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        if (afterId != null) {
+            spec = spec.bind("afterId", afterId);
+        }
+        if (limit != null && limit > 0) {
+            spec = spec.bind("limit", limit);
+        }
+        
+        return spec.map(rowMapper).all();
     }
     
     @Override
     public Mono<Client> findByClientId(String clientId) {
-        return clientRepository.findById(Long.parseLong(clientId))
-            .filter(clientEntity -> !Boolean.TRUE.equals(clientEntity.getDeleted()))
-            .flatMap(clientEntity -> 
-                personRepository.findById(clientEntity.getPersonId())
-                    .filter(personEntity -> !Boolean.TRUE.equals(personEntity.getDeleted()))
-                    .map(personEntity -> mapper.toDomain(personEntity, clientEntity))
-            );
+        return databaseClient.sql(ClientRowMapper.SELECT_ACTIVE_CLIENTS + " AND c.id = :clientId")
+            .bind("clientId", Long.parseLong(clientId))
+            .map(rowMapper)
+            .one();
     }
     
     @Override
@@ -0,0 +1,35 @@
+package com.devsu.person_service.adapter.out.persistence;
+
+import com.devsu.person_service.domain.model.Client;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.function.BiFunction;
+
+@Component
+public class ClientRowMapper implements BiFunction<Row, RowMetadata, Client> {
+    
+    public static final String SELECT_ACTIVE_CLIENTS =
+        "SELECT c.id AS client_id, c.password, c.status, " +
+        "p.id AS person_id, p.name, p.gender, p.birth_date, p.identification, p.address, p.phone " +
+        "FROM client c JOIN person p ON p.id = c.person_id " +
+        "WHERE c.deleted = false AND p.deleted = false";
+    
+    @Override
+    public Client apply(Row row, RowMetadata metadata) {
+        Client client = new Client();
+        client.setId(row.get("person_id", Long.class));
+        client.setName(row.get("name", String.class));
+        client.setGender(row.get("gender", String.class));
+        client.setBirthDate(row.get("birth_date", LocalDate.class));
+        client.setIdentification(row.get("identification", String.class));
+        client.setAddress(row.get("address", String.class));
+        client.setPhone(row.get("phone", String.class));
+        client.setClientId(String.valueOf(row.get("client_id", Long.class)));
+        client.setPassword(row.get("password", String.class));
+        client.setStatus(row.get("status", Boolean.class));
+        return client;
+    }
+}
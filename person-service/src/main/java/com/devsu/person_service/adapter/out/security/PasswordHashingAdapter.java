@@ -0,0 +1,66 @@
+package com.devsu.person_service.adapter.out.security;
+
+import com.devsu.person_service.domain.port.out.PasswordHashingPort;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+@Component
+public class PasswordHashingAdapter implements PasswordHashingPort {
+    private static final String PBKDF2_PREFIX = "pbkdf2-sha256$";
+    private static final String PBKDF2_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+    
+    private final int iterations;
+    private final Scheduler scheduler;
+    private final SecureRandom random = new SecureRandom();
+    private final Base64.Encoder base64Encoder = Base64.getEncoder().withoutPadding();
+    
+    public PasswordHashingAdapter(@Value("${security.password.pbkdf2-iterations:600000}") int iterations,
+                                  @Value("${security.password.hashing-threads:0}") int threads,
+                                  @Value("${security.password.hashing-queue:1000}") int queueCapacity) {
+        this.iterations = iterations;
+        // Hashing is CPU bound: cap it at the core count and reject instead of queueing without limit
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.scheduler = Schedulers.newBoundedElastic(poolSize, queueCapacity, "password-hashing");
+    }
+    
+    @Override
+    public Mono<String> hash(String rawPassword) {
+        return Mono.fromCallable(() -> hashNow(rawPassword))
+            .subscribeOn(scheduler);
+    }
+    
+    @PreDestroy
+    public void dispose() {
+        scheduler.dispose();
+    }
+    
+    String hashNow(String rawPassword) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        byte[] key = pbkdf2(rawPassword, salt, iterations);
+        return PBKDF2_PREFIX + iterations + "$" + base64Encoder.encodeToString(salt) + "$" + base64Encoder.encodeToString(key);
+    }
+    
+    private static byte[] pbkdf2(String rawPassword, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(rawPassword.toCharArray(), salt, iterations, KEY_BITS);
+        try {
+            return SecretKeyFactory.getInstance(PBKDF2_ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(PBKDF2_ALGORITHM + " algorithm not available", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.devsu.person_service.application.usecase.createclient;
 
-import com.devsu.person_service.application.service.PasswordHasher;
 import com.devsu.person_service.domain.exception.ClientAlreadyExistsException;
 import com.devsu.person_service.domain.exception.InvalidPasswordException;
 import com.devsu.person_service.domain.model.Client;
 import com.devsu.person_service.domain.port.in.CreateClientPort;
 import com.devsu.person_service.domain.port.out.ClientRepositoryPort;
+import com.devsu.person_service.domain.port.out.PasswordHashingPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
@@ -14,7 +14,7 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class CreateClientUseCase implements CreateClientPort {
     private final ClientRepositoryPort clientRepositoryPort;
-    private final PasswordHasher passwordHasher;
+    private final PasswordHashingPort passwordHashingPort;
     
     @Override
     public Mono<Client> execute(CreateClientCommand command) {
@@ -35,8 +35,11 @@ public class CreateClientUseCase implements CreateClientPort {
                     ));
                 }
                 
-                client.setPassword(passwordHasher.hash(command.getRawPassword()));
-                return clientRepositoryPort.save(client);
+                return passwordHashingPort.hash(command.getRawPassword())
+                    .flatMap(hashed -> {
+                        client.setPassword(hashed);
+                        return clientRepositoryPort.save(client);
+                    });
             });
     }
 }
@@ -0,0 +1,13 @@
+package com.devsu.person_service.application.usecase.getallclients;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetAllClientsQuery {
+    private Long afterId;
+    private Integer limit;
+}
@@ -13,7 +13,8 @@ public class GetAllClientsUseCase implements GetAllClientsPort {
     private final ClientRepositoryPort clientRepositoryPort;
     
     @Override
-    public Flux<Client> execute(Void input) {
-        return clientRepositoryPort.findAll();
+    public Flux<Client> execute(GetAllClientsQuery query) {
+        GetAllClientsQuery criteria = query != null ? query : new GetAllClientsQuery();
+        return clientRepositoryPort.findPage(criteria.getAfterId(), criteria.getLimit());
     }
 }
@@ -1,24 +1,26 @@
 package com.devsu.person_service.application.usecase.patchclient;
 
-import com.devsu.person_service.application.service.PasswordHasher;
 import com.devsu.person_service.domain.exception.ClientNotFoundException;
 import com.devsu.person_service.domain.exception.InvalidPasswordException;
 import com.devsu.person_service.domain.model.Client;
 import com.devsu.person_service.domain.port.in.PatchClientPort;
 import com.devsu.person_service.domain.port.out.ClientRepositoryPort;
+import com.devsu.person_service.domain.port.out.PasswordHashingPort;
 import com.devsu.person_service.domain.port.out.PublishClientEventPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
 @Component
 @RequiredArgsConstructor
 public class PatchClientUseCase implements PatchClientPort {
     private final ClientRepositoryPort clientRepositoryPort;
-    private final PasswordHasher passwordHasher;
+    private final PasswordHashingPort passwordHashingPort;
     private final PublishClientEventPort publishClientEventPort;
     
     @Override
+    @Transactional
     public Mono<Client> execute(PatchClientCommand command) {
         return clientRepositoryPort.findByClientId(command.getClientId())
             .switchIfEmpty(Mono.error(new ClientNotFoundException(
@@ -34,16 +36,20 @@ public class PatchClientUseCase implements PatchClientPort {
                 if (partial.getAddress() != null) existing.setAddress(partial.getAddress());
                 if (partial.getPhone() != null) existing.setPhone(partial.getPhone());
                 
+                if (partial.getStatus() != null) existing.setStatus(partial.getStatus());
+                
                 if (command.getRawPassword() != null) {
                     if (!Client.isValidPassword(command.getRawPassword())) {
                         return Mono.error(new InvalidPasswordException(
                             "Password must be at least 8 characters with 1 lowercase, 1 uppercase, and 1 digit"));
                     }
-                    existing.setPassword(passwordHasher.hash(command.getRawPassword()));
+                    return passwordHashingPort.hash(command.getRawPassword())
+                        .flatMap(hashed -> {
+                            existing.setPassword(hashed);
+                            return clientRepositoryPort.save(existing);
+                        });
                 }
                 
-                if (partial.getStatus() != null) existing.setStatus(partial.getStatus());
-                
                 return clientRepositoryPort.save(existing);
             })
             .flatMap(savedClient -> 
@@ -53,7 +59,6 @@ public class PatchClientUseCase implements PatchClientPort {
                     savedClient.getStatus(),
                     "CLIENT_UPDATED"
                 )
-                .onErrorResume(e -> Mono.empty())
                 .thenReturn(savedClient)
             );
     }
@@ -0,0 +1,52 @@
+package com.devsu.person_service.application.usecase.relayclientevents;
+
+import com.devsu.person_service.domain.model.ClientEvent;
+import com.devsu.person_service.domain.model.OutboxRelayResult;
+import com.devsu.person_service.domain.port.in.RelayClientEventsPort;
+import com.devsu.person_service.domain.port.out.ClientEventBrokerPort;
+import com.devsu.person_service.domain.port.out.ClientOutboxPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RelayClientEventsUseCase implements RelayClientEventsPort {
+    private final ClientOutboxPort clientOutboxPort;
+    private final ClientEventBrokerPort clientEventBrokerPort;
+    
+    // One transaction per batch: the pending rows stay locked until they are deleted or the attempt gives up.
+    // After a published batch the lag is the age of whatever is still waiting, not just of the failed ones.
+    @Override
+    @Transactional
+    public Mono<OutboxRelayResult> execute(Integer batchSize) {
+        return clientOutboxPort.findPending(batchSize)
+            .collectList()
+            .flatMap(events -> events.isEmpty()
+                ? Mono.just(new OutboxRelayResult(0, null, false))
+                : relay(events))
+            .flatMap(result -> result.isFailed()
+                ? Mono.just(result)
+                : clientOutboxPort.findOldestPendingAt()
+                    .map(oldest -> new OutboxRelayResult(result.getPublished(), oldest, false))
+                    .defaultIfEmpty(result));
+    }
+    
+    private Mono<OutboxRelayResult> relay(List<ClientEvent> events) {
+        List<Long> ids = events.stream().map(ClientEvent::getId).toList();
+        
+        // Events stay in the outbox until the broker confirms them, so a failed batch is retried as a whole
+        return clientEventBrokerPort.publishAll(events)
+            .then(Mono.defer(() -> clientOutboxPort.removePublished(ids)))
+            .thenReturn(new OutboxRelayResult(events.size(), null, false))
+            .onErrorResume(e -> {
+                log.warn("Could not relay {} client events, will retry: {}", events.size(), e.getMessage());
+                return Mono.just(new OutboxRelayResult(0, events.get(0).getOccurredAt(), true));
+            });
+    }
+}
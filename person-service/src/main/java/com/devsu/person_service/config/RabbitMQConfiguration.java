@@ -6,6 +6,8 @@ import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 @Configuration
 public class RabbitMQConfiguration {
@@ -13,6 +15,9 @@ public class RabbitMQConfiguration {
     @Value("${rabbitmq.exchange.client}")
     private String clientExchange;
 
+    @Value("${client.outbox.relay.threads:2}")
+    private int relayThreads;
+
     @Bean
     public TopicExchange clientExchange() {
         return new TopicExchange(clientExchange);
@@ -22,4 +27,9 @@ public class RabbitMQConfiguration {
     public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
     }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler clientEventRelayScheduler() {
+        return Schedulers.newBoundedElastic(relayThreads, 16, "client-event-relay");
+    }
 }
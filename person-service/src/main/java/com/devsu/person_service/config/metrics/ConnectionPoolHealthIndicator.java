@@ -0,0 +1,60 @@
+package com.devsu.person_service.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.PoolMetrics;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// DEGRADED when the mean wait for a connection since the previous check exceeds the threshold; the pool still serves
+public class ConnectionPoolHealthIndicator implements HealthIndicator {
+    public static final Status DEGRADED = new Status("DEGRADED", "Connection acquisition is slower than the threshold");
+    
+    private final PoolMetrics poolMetrics;
+    private final MeterRegistry meterRegistry;
+    private final String connectionFactoryName;
+    private final Duration acquireThreshold;
+    
+    private long lastCount;
+    private double lastTotalNanos;
+    
+    public ConnectionPoolHealthIndicator(PoolMetrics poolMetrics, MeterRegistry meterRegistry,
+                                         String connectionFactoryName, Duration acquireThreshold) {
+        this.poolMetrics = poolMetrics;
+        this.meterRegistry = meterRegistry;
+        this.connectionFactoryName = connectionFactoryName;
+        this.acquireThreshold = acquireThreshold;
+    }
+    
+    @Override
+    public synchronized Health health() {
+        long count = 0;
+        double totalNanos = 0;
+        for (Timer timer : meterRegistry.find("r2dbc.pool.acquire").tag("name", connectionFactoryName).timers()) {
+            count += timer.count();
+            totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+        long acquires = count - lastCount;
+        Duration meanAcquire = acquires > 0
+            ? Duration.ofNanos((long) ((totalNanos - lastTotalNanos) / acquires))
+            : Duration.ZERO;
+        lastCount = count;
+        lastTotalNanos = totalNanos;
+        
+        Health.Builder builder = meanAcquire.compareTo(acquireThreshold) > 0 ? Health.status(DEGRADED) : Health.up();
+        builder.withDetail("acquiresSinceLastCheck", acquires)
+            .withDetail("meanAcquireTime", meanAcquire.toMillis() + "ms")
+            .withDetail("acquireThreshold", acquireThreshold.toMillis() + "ms");
+        if (poolMetrics != null) {
+            builder.withDetail("acquired", poolMetrics.acquiredSize())
+                .withDetail("idle", poolMetrics.idleSize())
+                .withDetail("pending", poolMetrics.pendingAcquireSize())
+                .withDetail("maxSize", poolMetrics.getMaxAllocatedSize());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.devsu.person_service.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// Mono and Flux results are timed from subscription to their terminal signal, not from assembly
+public class OperationTimer {
+    private final MeterRegistry meterRegistry;
+    
+    public OperationTimer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    public Object record(String metric, Tags tags, boolean histogram, Invocation invocation) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable error) {
+            sample.stop(timer(metric, tags, histogram, "error", error));
+            throw error;
+        }
+        
+        if (result instanceof Mono<?> mono) {
+            return time(mono, metric, tags, histogram);
+        }
+        if (result instanceof Flux<?> flux) {
+            return time(flux, metric, tags, histogram);
+        }
+        sample.stop(timer(metric, tags, histogram, "success", null));
+        return result;
+    }
+    
+    public <T> Mono<T> time(Mono<T> mono, String metric, Tags tags, boolean histogram) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            return mono
+                .doOnError(failure::set)
+                .doFinally(signal -> stop(sample, metric, tags, histogram, signal, failure.get()));
+        });
+    }
+    
+    public <T> Flux<T> time(Flux<T> flux, String metric, Tags tags, boolean histogram) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            return flux
+                .doOnError(failure::set)
+                .doFinally(signal -> stop(sample, metric, tags, histogram, signal, failure.get()));
+        });
+    }
+    
+    private void stop(Timer.Sample sample, String metric, Tags tags, boolean histogram, SignalType signal, Throwable failure) {
+        String outcome = switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> "success";
+        };
+        sample.stop(timer(metric, tags, histogram, outcome, failure));
+    }
+    
+    private Timer timer(String metric, Tags tags, boolean histogram, String outcome, Throwable failure) {
+        return Timer.builder(metric)
+            .tags(tags)
+            .tag("outcome", outcome)
+            .tag("exception", failure == null ? "none" : failure.getClass().getSimpleName())
+            .publishPercentileHistogram(histogram)
+            .register(meterRegistry);
+    }
+    
+    @FunctionalInterface
+    public interface Invocation {
+        Object proceed() throws Throwable;
+    }
+}
@@ -0,0 +1,26 @@
+package com.devsu.person_service.config.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import java.util.Set;
+
+@Aspect
+@RequiredArgsConstructor
+public class RepositoryPortMetricsAspect {
+    private final OperationTimer operationTimer;
+    private final Set<String> histogramOperations;
+    
+    @Around("execution(* com.devsu.person_service.domain.port.out.ClientRepositoryPort.*(..))")
+    public Object timeClientRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = "ClientRepositoryPort." + joinPoint.getSignature().getName();
+        Tags tags = Tags.of(
+            "operation", operation,
+            "adapter", joinPoint.getTarget().getClass().getSimpleName()
+        );
+        return operationTimer.record("repository.port", tags, histogramOperations.contains(operation), joinPoint::proceed);
+    }
+}
@@ -0,0 +1,45 @@
+package com.devsu.person_service.config.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import org.reactivestreams.Publisher;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+// Records how long callers wait for a pooled connection; Wrapped keeps the pool visible to actuator's r2dbc.pool gauges
+public class TimedConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>, AutoCloseable {
+    private final ConnectionFactory delegate;
+    private final OperationTimer operationTimer;
+    private final Tags tags;
+    
+    public TimedConnectionFactory(ConnectionFactory delegate, OperationTimer operationTimer, String name) {
+        this.delegate = delegate;
+        this.operationTimer = operationTimer;
+        this.tags = Tags.of("name", name);
+    }
+    
+    @Override
+    public Publisher<? extends Connection> create() {
+        return operationTimer.time(Mono.from(delegate.create()), "r2dbc.pool.acquire", tags, true);
+    }
+    
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+    
+    @Override
+    public ConnectionFactory unwrap() {
+        return delegate;
+    }
+    
+    @Override
+    public void close() {
+        if (delegate instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.devsu.person_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientEvent {
+    private Long id;
+    private String clientId;
+    private String clientName;
+    private Boolean clientStatus;
+    private String eventType;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,16 @@
+package com.devsu.person_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxRelayResult {
+    private int published;
+    private LocalDateTime oldestPendingAt;
+    private boolean failed;
+}
@@ -0,0 +1,8 @@
+package com.devsu.person_service.domain.port.in;
+
+import com.devsu.person_service.domain.model.OutboxRelayResult;
+import com.devsu.person_service.domain.usecase.UseCase;
+import reactor.core.publisher.Mono;
+
+public interface RelayClientEventsPort extends UseCase<Integer, Mono<OutboxRelayResult>> {
+}
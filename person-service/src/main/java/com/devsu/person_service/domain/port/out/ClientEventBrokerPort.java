@@ -0,0 +1,10 @@
+package com.devsu.person_service.domain.port.out;
+
+import com.devsu.person_service.domain.model.ClientEvent;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ClientEventBrokerPort {
+    Mono<Void> publishAll(List<ClientEvent> events);
+}
@@ -0,0 +1,14 @@
+package com.devsu.person_service.domain.port.out;
+
+import com.devsu.person_service.domain.model.ClientEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ClientOutboxPort {
+    Flux<ClientEvent> findPending(int limit);
+    Mono<Long> removePublished(List<Long> ids);
+    Mono<LocalDateTime> findOldestPendingAt();
+}
@@ -7,6 +7,7 @@ import reactor.core.publisher.Mono;
 public interface ClientRepositoryPort {
     Mono<Client> save(Client client);
     Flux<Client> findAll();
+    Flux<Client> findPage(Long afterId, Integer limit);
     Mono<Client> findByClientId(String clientId);
     Mono<Boolean> existsByClientId(String clientId);
     Mono<Boolean> existsByIdentification(String identification);
@@ -0,0 +1,7 @@
+package com.devsu.person_service.domain.port.out;
+
+import reactor.core.publisher.Mono;
+
+public interface PasswordHashingPort {
+    Mono<String> hash(String rawPassword);
+}
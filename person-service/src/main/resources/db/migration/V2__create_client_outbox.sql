@@ -0,0 +1,8 @@
+CREATE TABLE client_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    client_id VARCHAR(50) NOT NULL,
+    client_name VARCHAR(255),
+    client_status BOOLEAN,
+    event_type VARCHAR(50) NOT NULL,
+    occurred_at TIMESTAMP NOT NULL
+);
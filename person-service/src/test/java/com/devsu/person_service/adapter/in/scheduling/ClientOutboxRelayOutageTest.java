@@ -0,0 +1,176 @@
+package com.devsu.person_service.adapter.in.scheduling;
+
+import com.devsu.person_service.adapter.in.web.mapper.ClientMapper;
+import com.devsu.person_service.adapter.out.persistence.ClientOutboxAdapter;
+import com.devsu.person_service.adapter.out.persistence.ClientR2dbcRepository;
+import com.devsu.person_service.adapter.out.persistence.ClientRepositoryAdapter;
+import com.devsu.person_service.adapter.out.persistence.ClientRowMapper;
+import com.devsu.person_service.adapter.out.persistence.PersonR2dbcRepository;
+import com.devsu.person_service.adapter.out.security.PasswordHashingAdapter;
+import com.devsu.person_service.application.usecase.relayclientevents.RelayClientEventsUseCase;
+import com.devsu.person_service.application.usecase.updateclient.UpdateClientCommand;
+import com.devsu.person_service.application.usecase.updateclient.UpdateClientUseCase;
+import com.devsu.person_service.domain.model.Client;
+import com.devsu.person_service.domain.model.ClientEvent;
+import com.devsu.person_service.domain.port.out.ClientEventBrokerPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataR2dbcTest
+@Import({
+    ClientRepositoryAdapter.class,
+    ClientRowMapper.class,
+    ClientMapper.class,
+    ClientOutboxAdapter.class,
+    PasswordHashingAdapter.class,
+    UpdateClientUseCase.class
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Slf4j
+class ClientOutboxRelayOutageTest {
+
+    private static final int UPDATES = 200;
+    private static final Duration BROKER_STALL = Duration.ofSeconds(2);
+
+    @Autowired
+    private ClientRepositoryAdapter clientRepositoryAdapter;
+
+    @Autowired
+    private ClientOutboxAdapter clientOutboxAdapter;
+
+    @Autowired
+    private UpdateClientUseCase updateClientUseCase;
+
+    @Autowired
+    private PersonR2dbcRepository personRepository;
+
+    @Autowired
+    private ClientR2dbcRepository clientRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    private final AtomicBoolean brokerUp = new AtomicBoolean(false);
+    private final List<ClientEvent> delivered = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM client_outbox").fetch().rowsUpdated().block();
+        clientRepository.deleteAll().block();
+        personRepository.deleteAll().block();
+    }
+
+    @Test
+    void brokerOutage_shouldNeitherSlowDownUpdatesNorLoseEvents() throws Exception {
+        Client seeded = clientRepositoryAdapter.save(client("Name seed")).block();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ClientOutboxRelay relay = new ClientOutboxRelay(
+            new RelayClientEventsUseCase(clientOutboxAdapter, broker()),
+            meterRegistry,
+            50,
+            Duration.ofMillis(50));
+        relay.start();
+
+        long maxLatencyMs = 0;
+        for (int i = 0; i < UPDATES; i++) {
+            Client update = client("Name " + i);
+            update.setClientId(seeded.getClientId());
+            long start = System.nanoTime();
+            updateClientUseCase.execute(new UpdateClientCommand(seeded.getClientId(), update, null)).block();
+            maxLatencyMs = Math.max(maxLatencyMs, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+
+        awaitUntil(() -> meterRegistry.get("client.outbox.relay.failures").counter().count() > 0);
+        double lagDuringOutage = meterRegistry.get("client.outbox.relay.lag").gauge().value();
+        log.info("{} updates during broker outage: max latency {} ms, relay lag {} s",
+            UPDATES, maxLatencyMs, lagDuringOutage);
+
+        assertThat(maxLatencyMs).isLessThan(BROKER_STALL.toMillis());
+        assertThat(pendingEvents()).isEqualTo(UPDATES);
+        assertThat(lagDuringOutage).isGreaterThan(0);
+        assertThat(delivered).isEmpty();
+
+        relay.stop();
+        brokerUp.set(true);
+        StepVerifier.create(relay.drain())
+            .expectNext(UPDATES)
+            .verifyComplete();
+
+        assertThat(pendingEvents()).isZero();
+        assertThat(delivered).hasSize(UPDATES);
+        assertThat(delivered.get(0).getClientName()).isEqualTo("Name 0");
+        assertThat(delivered.get(UPDATES - 1).getClientName()).isEqualTo("Name " + (UPDATES - 1));
+        assertThat(meterRegistry.get("client.outbox.relay.published").counter().count()).isEqualTo(UPDATES);
+        assertThat(meterRegistry.get("client.outbox.relay.lag").gauge().value()).isZero();
+    }
+
+    @Test
+    void outboxWrite_shouldRollBackWithTheSurroundingTransaction() {
+        StepVerifier.create(transactionalOperator.transactional(
+                clientOutboxAdapter.publish("1", "John Doe", true, "CLIENT_UPDATED")
+                    .then(Mono.error(new IllegalStateException("Client update failed")))))
+            .expectErrorMessage("Client update failed")
+            .verify();
+
+        assertThat(pendingEvents()).isZero();
+    }
+
+    private ClientEventBrokerPort broker() {
+        return events -> Mono.defer(() -> brokerUp.get()
+            ? Mono.fromRunnable(() -> delivered.addAll(events))
+            : Mono.delay(BROKER_STALL).then(Mono.error(new AmqpConnectException(new ConnectException("Connection refused")))));
+    }
+
+    private long pendingEvents() {
+        return databaseClient.sql("SELECT COUNT(*) AS pending FROM client_outbox")
+            .map((row, metadata) -> row.get("pending", Long.class))
+            .one()
+            .block();
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private Client client(String name) {
+        Client client = new Client();
+        client.setName(name);
+        client.setGender("Male");
+        client.setBirthDate(LocalDate.of(1990, 1, 1));
+        client.setIdentification("1234567890");
+        client.setAddress("123 Main St");
+        client.setPhone("555-1234");
+        client.setPassword("hashedPassword");
+        client.setStatus(true);
+        return client;
+    }
+}
@@ -5,6 +5,7 @@ import com.devsu.person_service.adapter.in.web.dto.ClientRequest;
 import com.devsu.person_service.adapter.in.web.dto.ClientResponse;
 import com.devsu.person_service.adapter.in.web.mapper.ClientMapper;
 import com.devsu.person_service.application.usecase.createclient.CreateClientCommand;
+import com.devsu.person_service.application.usecase.getallclients.GetAllClientsQuery;
 import com.devsu.person_service.application.usecase.patchclient.PatchClientCommand;
 import com.devsu.person_service.application.usecase.updateclient.UpdateClientCommand;
 import com.devsu.person_service.domain.exception.ClientNotFoundException;
@@ -28,6 +29,7 @@ import reactor.core.publisher.Mono;
 import java.time.LocalDate;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @WebFluxTest(ClientController.class)
@@ -135,7 +137,7 @@ class ClientControllerTest {
         response2.setClientId("2");
         response2.setName("Jane Smith");
 
-        when(getAllClientsPort.execute(null)).thenReturn(Flux.just(client1, client2));
+        when(getAllClientsPort.execute(any())).thenReturn(Flux.just(client1, client2));
         when(mapper.toResponse(client1)).thenReturn(response1);
         when(mapper.toResponse(client2)).thenReturn(response2);
 
@@ -147,6 +149,46 @@ class ClientControllerTest {
                 .hasSize(2);
     }
 
+    @Test
+    void getAllClients_withLimit_shouldCutJsonPageAndNameNextCursor() {
+        Client client1 = new Client();
+        client1.setClientId("3");
+        Client client2 = new Client();
+        client2.setClientId("5");
+
+        when(getAllClientsPort.execute(any())).thenReturn(Flux.just(client1, client2));
+        when(mapper.toResponse(any(Client.class))).thenReturn(new ClientResponse());
+
+        webTestClient.get()
+                .uri("/clientes?limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(ClientController.NEXT_AFTER_ID_HEADER, "3")
+                .expectBodyList(ClientResponse.class)
+                .hasSize(1);
+    }
+
+    @Test
+    void getAllClients_asNdjson_shouldStreamPastMaxLimit() {
+        when(getAllClientsPort.execute(any())).thenReturn(Flux.range(1, 2500).map(i -> {
+            Client client = new Client();
+            client.setClientId(String.valueOf(i));
+            return client;
+        }));
+        when(mapper.toResponse(any(Client.class))).thenReturn(new ClientResponse());
+
+        webTestClient.get()
+                .uri("/clientes")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(ClientResponse.class)
+                .hasSize(2500);
+
+        verify(getAllClientsPort).execute(new GetAllClientsQuery(null, null));
+    }
+
     @Test
     void getClientById_withExistingClient_shouldReturn200() {
         Client client = new Client();
@@ -1,20 +1,26 @@
 package com.devsu.person_service.adapter.out.messaging;
 
 import com.devsu.person_service.adapter.out.messaging.dto.ClientUpdatedEvent;
+import com.devsu.person_service.domain.model.ClientEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -24,7 +30,11 @@ class RabbitMQClientEventPublisherTest {
     @Mock
     private RabbitTemplate rabbitTemplate;
 
-    @InjectMocks
+    @Mock
+    private RabbitOperations operations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private RabbitMQClientEventPublisher publisher;
 
     private static final String TEST_EXCHANGE = "client.exchange";
@@ -32,146 +42,75 @@ class RabbitMQClientEventPublisherTest {
 
     @BeforeEach
     void setUp() {
+        publisher = new RabbitMQClientEventPublisher(rabbitTemplate, Schedulers.boundedElastic(), meterRegistry);
         ReflectionTestUtils.setField(publisher, "exchange", TEST_EXCHANGE);
         ReflectionTestUtils.setField(publisher, "routingKey", TEST_ROUTING_KEY);
+        ReflectionTestUtils.setField(publisher, "confirmTimeoutMs", 5000L);
     }
 
     @Test
-    void publish_withValidData_shouldPublishEventSuccessfully() {
-        String clientId = "CLI-12345";
-        String clientName = "John Doe";
-        Boolean clientStatus = true;
-        String eventType = "CLIENT_UPDATED";
-
-        ArgumentCaptor<ClientUpdatedEvent> eventCaptor = ArgumentCaptor.forClass(ClientUpdatedEvent.class);
+    void publishAll_shouldSendEveryEventAndWaitForConfirms() {
+        LocalDateTime occurredAt = LocalDateTime.of(2024, 1, 15, 10, 0);
+        ClientEvent first = new ClientEvent(1L, "CLI-1", "John Doe", true, "CLIENT_UPDATED", occurredAt);
+        ClientEvent second = new ClientEvent(2L, "CLI-2", "Jane Smith", false, "CLIENT_UPDATED", occurredAt.plusSeconds(1));
+        runCallbackAgainstOperations();
 
-        StepVerifier.create(publisher.publish(clientId, clientName, clientStatus, eventType))
+        StepVerifier.create(publisher.publishAll(List.of(first, second)))
                 .verifyComplete();
 
-        verify(rabbitTemplate, times(1)).convertAndSend(
-                eq(TEST_EXCHANGE),
-                eq(TEST_ROUTING_KEY),
-                eventCaptor.capture()
-        );
-
-        ClientUpdatedEvent capturedEvent = eventCaptor.getValue();
-        assertThat(capturedEvent.getClientId()).isEqualTo(clientId);
-        assertThat(capturedEvent.getClientName()).isEqualTo(clientName);
-        assertThat(capturedEvent.getClientStatus()).isEqualTo(clientStatus);
-        assertThat(capturedEvent.getEventType()).isEqualTo(eventType);
-        assertThat(capturedEvent.getTimestamp()).isNotNull();
-        assertThat(capturedEvent.getTimestamp()).isBefore(LocalDateTime.now().plusSeconds(1));
-    }
-
-    @Test
-    void publish_shouldSetTimestampOnEventCreation() {
-        String clientId = "CLI-12345";
-        String clientName = "John Doe";
-        Boolean clientStatus = true;
-        String eventType = "CLIENT_UPDATED";
-
-        LocalDateTime beforePublish = LocalDateTime.now();
-
         ArgumentCaptor<ClientUpdatedEvent> eventCaptor = ArgumentCaptor.forClass(ClientUpdatedEvent.class);
+        verify(operations, times(2)).convertAndSend(eq(TEST_EXCHANGE), eq(TEST_ROUTING_KEY), eventCaptor.capture());
+        verify(operations).waitForConfirmsOrDie(5000L);
 
-        StepVerifier.create(publisher.publish(clientId, clientName, clientStatus, eventType))
-                .verifyComplete();
-
-        verify(rabbitTemplate).convertAndSend(
-                eq(TEST_EXCHANGE),
-                eq(TEST_ROUTING_KEY),
-                eventCaptor.capture()
-        );
-
-        ClientUpdatedEvent capturedEvent = eventCaptor.getValue();
-        LocalDateTime afterPublish = LocalDateTime.now();
-
-        assertThat(capturedEvent.getTimestamp()).isNotNull();
-        assertThat(capturedEvent.getTimestamp()).isAfterOrEqualTo(beforePublish);
-        assertThat(capturedEvent.getTimestamp()).isBeforeOrEqualTo(afterPublish);
-    }
-
-    @Test
-    void publish_shouldCreateEventWithCorrectEventType() {
-        String clientId = "CLI-12345";
-        String clientName = "John Doe";
-        Boolean clientStatus = false;
-        String eventType = "CLIENT_UPDATED";
-
-        ArgumentCaptor<ClientUpdatedEvent> eventCaptor = ArgumentCaptor.forClass(ClientUpdatedEvent.class);
-
-        StepVerifier.create(publisher.publish(clientId, clientName, clientStatus, eventType))
-                .verifyComplete();
-
-        verify(rabbitTemplate).convertAndSend(
-                eq(TEST_EXCHANGE),
-                eq(TEST_ROUTING_KEY),
-                eventCaptor.capture()
-        );
-
-        ClientUpdatedEvent capturedEvent = eventCaptor.getValue();
+        ClientUpdatedEvent capturedEvent = eventCaptor.getAllValues().get(0);
+        assertThat(capturedEvent.getClientId()).isEqualTo("CLI-1");
+        assertThat(capturedEvent.getClientName()).isEqualTo("John Doe");
+        assertThat(capturedEvent.getClientStatus()).isTrue();
         assertThat(capturedEvent.getEventType()).isEqualTo("CLIENT_UPDATED");
+        assertThat(capturedEvent.getTimestamp()).isEqualTo(occurredAt);
+        assertThat(eventCaptor.getAllValues().get(1).getClientId()).isEqualTo("CLI-2");
+        assertThat(meterRegistry.get("amqp.publish").tag("outcome", "success").timer().count()).isEqualTo(1);
     }
 
     @Test
-    void publish_whenRabbitTemplateThrowsException_shouldHandleErrorGracefully() {
-        String clientId = "CLI-12345";
-        String clientName = "John Doe";
-        Boolean clientStatus = true;
-        String eventType = "CLIENT_UPDATED";
-
-        doThrow(new RuntimeException("RabbitMQ connection failed"))
-                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(ClientUpdatedEvent.class));
-
-        StepVerifier.create(publisher.publish(clientId, clientName, clientStatus, eventType))
-                .verifyComplete();
+    void publishAll_shouldPropagateError_whenConfirmsAreNotReceived() {
+        ClientEvent event = new ClientEvent(1L, "CLI-1", "John Doe", true, "CLIENT_UPDATED", LocalDateTime.now());
+        runCallbackAgainstOperations();
+        doThrow(new AmqpException("Nacked")).when(operations).waitForConfirmsOrDie(anyLong());
 
-        verify(rabbitTemplate, times(1)).convertAndSend(
-                eq(TEST_EXCHANGE),
-                eq(TEST_ROUTING_KEY),
-                any(ClientUpdatedEvent.class)
-        );
+        StepVerifier.create(publisher.publishAll(List.of(event)))
+                .expectError(AmqpException.class)
+                .verify();
     }
 
     @Test
-    void publish_whenErrorOccurs_shouldReturnMonoEmptyWithoutThrowing() {
-        String clientId = "CLI-99999";
-        String clientName = "Error Client";
-        Boolean clientStatus = true;
-        String eventType = "CLIENT_UPDATED";
+    void publishAll_shouldPropagateError_whenBrokerIsUnreachable() {
+        ClientEvent event = new ClientEvent(1L, "CLI-1", "John Doe", true, "CLIENT_UPDATED", LocalDateTime.now());
+        when(rabbitTemplate.invoke(any())).thenThrow(new AmqpException("RabbitMQ connection failed"));
 
-        doThrow(new RuntimeException("Serialization error"))
-                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(ClientUpdatedEvent.class));
-
-        StepVerifier.create(publisher.publish(clientId, clientName, clientStatus, eventType))
-                .expectComplete()
+        StepVerifier.create(publisher.publishAll(List.of(event)))
+                .expectErrorMessage("RabbitMQ connection failed")
                 .verify();
+
+        assertThat(meterRegistry.get("amqp.publish").tag("outcome", "error").timer().count()).isEqualTo(1);
     }
 
     @Test
-    void publish_shouldVerifyClientUpdatedEventStructure() {
-        String clientId = "CLI-54321";
-        String clientName = "Jane Smith";
-        Boolean clientStatus = false;
-        String eventType = "CLIENT_UPDATED";
-
-        ArgumentCaptor<ClientUpdatedEvent> eventCaptor = ArgumentCaptor.forClass(ClientUpdatedEvent.class);
-
-        StepVerifier.create(publisher.publish(clientId, clientName, clientStatus, eventType))
+    void publishAll_shouldNotRunOnCallerThread() {
+        ClientEvent event = new ClientEvent(1L, "CLI-1", "John Doe", true, "CLIENT_UPDATED", LocalDateTime.now());
+        Thread caller = Thread.currentThread();
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation -> {
+            assertThat(Thread.currentThread()).isNotSameAs(caller);
+            return null;
+        });
+
+        StepVerifier.create(publisher.publishAll(List.of(event)))
                 .verifyComplete();
+    }
 
-        verify(rabbitTemplate).convertAndSend(
-                eq(TEST_EXCHANGE),
-                eq(TEST_ROUTING_KEY),
-                eventCaptor.capture()
-        );
-
-        ClientUpdatedEvent event = eventCaptor.getValue();
-        assertThat(event).isNotNull();
-        assertThat(event.getClientId()).isEqualTo(clientId);
-        assertThat(event.getClientName()).isEqualTo(clientName);
-        assertThat(event.getClientStatus()).isEqualTo(clientStatus);
-        assertThat(event.getEventType()).isEqualTo(eventType);
-        assertThat(event.getTimestamp()).isInstanceOf(LocalDateTime.class);
+    @SuppressWarnings("unchecked")
+    private void runCallbackAgainstOperations() {
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                ((RabbitOperations.OperationsCallback<Object>) invocation.getArgument(0)).doInRabbit(operations));
     }
 }
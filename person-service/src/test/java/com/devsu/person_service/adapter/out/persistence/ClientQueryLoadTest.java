@@ -0,0 +1,186 @@
+package com.devsu.person_service.adapter.out.persistence;
+
+import com.devsu.person_service.adapter.in.web.mapper.ClientMapper;
+import com.devsu.person_service.adapter.out.persistence.entity.ClientEntity;
+import com.devsu.person_service.domain.model.Client;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataR2dbcTest
+@Import({ClientRepositoryAdapter.class, ClientRowMapper.class, ClientMapper.class})
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Slf4j
+class ClientQueryLoadTest {
+
+    private static final int CLIENTS = 100_000;
+    private static final int PAGE_SIZE = 1_000;
+    private static final int LOOKUPS = 1_000;
+    private static final int SMALL_CLIENTS = 1_000;
+    private static final int SMALL_PAGE_SIZE = 100;
+
+    @Autowired
+    private ClientRepositoryAdapter clientRepositoryAdapter;
+
+    @Autowired
+    private PersonR2dbcRepository personRepository;
+
+    @Autowired
+    private ClientR2dbcRepository clientRepository;
+
+    @Autowired
+    private ClientMapper mapper;
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        clientRepository.deleteAll().block();
+        personRepository.deleteAll().block();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientRepository.deleteAll().block();
+        personRepository.deleteAll().block();
+    }
+
+    @Test
+    void joinedQueriesShouldReturnTheLegacyRowsInOneRoundTripEach() {
+        seed(SMALL_CLIENTS);
+
+        AtomicInteger legacyRoundTrips = new AtomicInteger();
+        List<Client> legacyPage = legacyFindPage(SMALL_PAGE_SIZE, legacyRoundTrips).collectList().block();
+        List<Client> joinedPage = clientRepositoryAdapter.findPage(null, SMALL_PAGE_SIZE).collectList().block();
+
+        assertThat(joinedPage).hasSize(SMALL_PAGE_SIZE);
+        assertThat(joinedPage).extracting(Client::getClientId)
+            .containsAll(legacyPage.stream().map(Client::getClientId).toList());
+        assertThat(legacyRoundTrips.get()).isEqualTo(SMALL_PAGE_SIZE + 1);
+
+        List<String> clientIds = joinedPage.stream().map(Client::getClientId).toList();
+        List<Client> legacyLookups = Flux.fromIterable(clientIds)
+            .concatMap(clientId -> legacyFindByClientId(clientId, legacyRoundTrips))
+            .collectList()
+            .block();
+        List<Client> joinedLookups = Flux.fromIterable(clientIds)
+            .concatMap(clientRepositoryAdapter::findByClientId)
+            .collectList()
+            .block();
+
+        assertThat(joinedLookups).extracting(Client::getClientId)
+            .containsExactlyElementsOf(legacyLookups.stream().map(Client::getClientId).toList());
+        assertThat(legacyRoundTrips.get()).isEqualTo(SMALL_PAGE_SIZE + 1 + clientIds.size() * 2);
+        assertThat(clientRepositoryAdapter.findAll().count().block()).isLessThan(SMALL_CLIENTS).isGreaterThan(0L);
+    }
+
+    // Compares wall-clock time over 100k rows, so it only runs in the loadTest task, never in the default build
+    @Test
+    @Tag("load")
+    void joinedQueriesShouldBeatPerRowLookups() {
+        seed(CLIENTS);
+
+        AtomicInteger legacyRoundTrips = new AtomicInteger();
+        long start = System.nanoTime();
+        List<Client> legacyPage = legacyFindPage(PAGE_SIZE, legacyRoundTrips).collectList().block();
+        long legacyPageMillis = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        List<Client> joinedPage = clientRepositoryAdapter.findPage(null, PAGE_SIZE).collectList().block();
+        long joinedPageMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(joinedPage).hasSize(PAGE_SIZE);
+        assertThat(joinedPage).extracting(Client::getClientId)
+            .containsAll(legacyPage.stream().map(Client::getClientId).toList());
+
+        List<String> clientIds = joinedPage.stream().map(Client::getClientId).limit(LOOKUPS).toList();
+
+        start = System.nanoTime();
+        Flux.fromIterable(clientIds)
+            .concatMap(clientId -> legacyFindByClientId(clientId, legacyRoundTrips))
+            .blockLast();
+        long legacyLookupMillis = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        Flux.fromIterable(clientIds)
+            .concatMap(clientRepositoryAdapter::findByClientId)
+            .blockLast();
+        long joinedLookupMillis = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        Long listed = clientRepositoryAdapter.findAll().count().block();
+        long joinedFullListMillis = (System.nanoTime() - start) / 1_000_000;
+
+        log.info("Client page of {}: legacy={} ms / {} round-trips, joined={} ms / 1 round-trip",
+            PAGE_SIZE, legacyPageMillis, PAGE_SIZE + 1, joinedPageMillis);
+        log.info("{} client lookups: legacy={} ms / {} round-trips, joined={} ms / {} round-trips",
+            clientIds.size(), legacyLookupMillis, clientIds.size() * 2, joinedLookupMillis, clientIds.size());
+        log.info("Full list of {} active clients out of {} seeded: joined={} ms / 1 round-trip",
+            listed, CLIENTS, joinedFullListMillis);
+
+        assertThat(legacyRoundTrips.get()).isEqualTo(PAGE_SIZE + 1 + clientIds.size() * 2);
+        assertThat(listed).isLessThan(CLIENTS).isGreaterThan(0L);
+        assertThat(joinedPageMillis).isLessThan(legacyPageMillis);
+    }
+
+    private void seed(int clients) {
+        databaseClient.sql(
+            "INSERT INTO person (name, gender, birth_date, identification, address, phone, deleted) " +
+            "SELECT CONCAT('Client ', X), 'Male', DATE '1990-01-01', CONCAT('ID-', X), '123 Main St', '555-1234', " +
+            "MOD(X, 50) = 0 FROM SYSTEM_RANGE(1, " + clients + ")")
+            .then()
+            .block();
+        databaseClient.sql(
+            "INSERT INTO client (person_id, password, status, deleted) " +
+            "SELECT id, 'hashedPassword', true, MOD(id, 40) = 0 FROM person")
+            .then()
+            .block();
+    }
+
+    private Flux<Client> legacyFindPage(int pageSize, AtomicInteger roundTrips) {
+        roundTrips.incrementAndGet();
+        return template.select(ClientEntity.class)
+            .matching(Query.query(Criteria.where("deleted").isFalse()).sort(Sort.by("id")).limit(pageSize))
+            .all()
+            .concatMap(clientEntity -> {
+                roundTrips.incrementAndGet();
+                return personRepository.findById(clientEntity.getPersonId())
+                    .filter(personEntity -> !Boolean.TRUE.equals(personEntity.getDeleted()))
+                    .map(personEntity -> mapper.toDomain(personEntity, clientEntity));
+            });
+    }
+
+    private Mono<Client> legacyFindByClientId(String clientId, AtomicInteger roundTrips) {
+        roundTrips.incrementAndGet();
+        return clientRepository.findById(Long.parseLong(clientId))
+            .filter(clientEntity -> !Boolean.TRUE.equals(clientEntity.getDeleted()))
+            .flatMap(clientEntity -> {
+                roundTrips.incrementAndGet();
+                return personRepository.findById(clientEntity.getPersonId())
+                    .filter(personEntity -> !Boolean.TRUE.equals(personEntity.getDeleted()))
+                    .map(personEntity -> mapper.toDomain(personEntity, clientEntity));
+            });
+    }
+}
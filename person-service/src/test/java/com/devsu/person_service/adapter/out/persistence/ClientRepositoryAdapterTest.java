@@ -1,5 +1,6 @@
 package com.devsu.person_service.adapter.out.persistence;
 
+import com.devsu.person_service.adapter.in.web.mapper.ClientMapper;
 import com.devsu.person_service.adapter.out.persistence.entity.ClientEntity;
 import com.devsu.person_service.adapter.out.persistence.entity.PersonEntity;
 import com.devsu.person_service.domain.model.Client;
@@ -14,7 +15,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @DataR2dbcTest
-@Import(ClientRepositoryAdapter.class)
+@Import({ClientRepositoryAdapter.class, ClientRowMapper.class, ClientMapper.class})
 @org.springframework.test.context.TestPropertySource(locations = "classpath:application-test.properties")
 class ClientRepositoryAdapterTest {
 
@@ -120,6 +121,26 @@ class ClientRepositoryAdapterTest {
                 .verifyComplete();
     }
 
+    @Test
+    void findPage_shouldReturnNonDeletedClientsAfterCursorOrderedById() {
+        PersonEntity savedPerson1 = personRepository.save(createPersonEntity("John Doe", "1234567890")).block();
+        ClientEntity savedClient1 = clientRepository.save(createClientEntity(savedPerson1.getId(), "password1", true, false)).block();
+
+        PersonEntity savedPerson2 = personRepository.save(createPersonEntity("Deleted User", "1111111111")).block();
+        clientRepository.save(createClientEntity(savedPerson2.getId(), "password2", true, true)).block();
+
+        PersonEntity savedPerson3 = personRepository.save(createPersonEntity("Jane Smith", "0987654321")).block();
+        ClientEntity savedClient3 = clientRepository.save(createClientEntity(savedPerson3.getId(), "password3", true, false)).block();
+
+        StepVerifier.create(clientRepositoryAdapter.findPage(null, 1))
+                .expectNextMatches(client -> client.getClientId().equals(String.valueOf(savedClient1.getId())))
+                .verifyComplete();
+
+        StepVerifier.create(clientRepositoryAdapter.findPage(savedClient1.getId(), 10))
+                .expectNextMatches(client -> client.getClientId().equals(String.valueOf(savedClient3.getId())))
+                .verifyComplete();
+    }
+
     @Test
     void findByClientId_withExistingClient_shouldReturnClient() {
         PersonEntity person = createPersonEntity("John Doe", "1234567890");
@@ -134,6 +155,17 @@ class ClientRepositoryAdapterTest {
                 .verifyComplete();
     }
 
+    @Test
+    void findByClientId_withDeletedPerson_shouldReturnEmpty() {
+        PersonEntity person = createPersonEntity("John Doe", "1234567890");
+        person.setDeleted(true);
+        PersonEntity savedPerson = personRepository.save(person).block();
+        ClientEntity savedClient = clientRepository.save(createClientEntity(savedPerson.getId(), "hashedPassword", true, false)).block();
+
+        StepVerifier.create(clientRepositoryAdapter.findByClientId(String.valueOf(savedClient.getId())))
+                .verifyComplete();
+    }
+
     @Test
     void findByClientId_withDeletedClient_shouldReturnEmpty() {
         PersonEntity person = createPersonEntity("Deleted User", "1234567890");
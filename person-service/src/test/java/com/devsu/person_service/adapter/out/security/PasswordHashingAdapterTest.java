@@ -0,0 +1,41 @@
+package com.devsu.person_service.adapter.out.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingAdapterTest {
+
+    private PasswordHashingAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new PasswordHashingAdapter(1_000, 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.dispose();
+    }
+
+    @Test
+    void hash_shouldProduceSaltedPbkdf2Hashes() {
+        String first = adapter.hash("Password123").block();
+        String second = adapter.hash("Password123").block();
+
+        assertThat(first).startsWith("pbkdf2-sha256$1000$");
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first.length()).isLessThanOrEqualTo(128);
+    }
+
+    @Test
+    void hash_shouldRunOnDedicatedPool() {
+        StepVerifier.create(adapter.hash("Password123").then(Mono.fromCallable(() -> Thread.currentThread().getName())))
+            .expectNextMatches(thread -> thread.startsWith("password-hashing"))
+            .verifyComplete();
+    }
+}
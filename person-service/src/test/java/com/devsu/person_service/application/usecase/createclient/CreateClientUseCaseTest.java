@@ -1,9 +1,9 @@
 package com.devsu.person_service.application.usecase.createclient;
 
-import com.devsu.person_service.application.service.PasswordHasher;
 import com.devsu.person_service.domain.exception.InvalidPasswordException;
 import com.devsu.person_service.domain.model.Client;
 import com.devsu.person_service.domain.port.out.ClientRepositoryPort;
+import com.devsu.person_service.domain.port.out.PasswordHashingPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -24,7 +24,7 @@ class CreateClientUseCaseTest {
     private ClientRepositoryPort clientRepositoryPort;
 
     @Mock
-    private PasswordHasher passwordHasher;
+    private PasswordHashingPort passwordHashingPort;
 
     @InjectMocks
     private CreateClientUseCase createClientUseCase;
@@ -48,7 +48,7 @@ class CreateClientUseCaseTest {
         savedClient.setName("John Doe");
         savedClient.setPassword("hashedPassword");
 
-        when(passwordHasher.hash("Password123")).thenReturn("hashedPassword");
+        when(passwordHashingPort.hash("Password123")).thenReturn(Mono.just("hashedPassword"));
         when(clientRepositoryPort.save(any(Client.class))).thenReturn(Mono.just(savedClient));
 
         StepVerifier.create(createClientUseCase.execute(command))
@@ -37,7 +37,7 @@ class GetAllClientsUseCaseTest {
         client2.setGender("Female");
         client2.setBirthDate(LocalDate.of(1985, 5, 15));
 
-        when(clientRepositoryPort.findAll()).thenReturn(Flux.just(client1, client2));
+        when(clientRepositoryPort.findPage(null, null)).thenReturn(Flux.just(client1, client2));
 
         StepVerifier.create(getAllClientsUseCase.execute(null))
                 .expectNext(client1)
@@ -47,9 +47,21 @@ class GetAllClientsUseCaseTest {
 
     @Test
     void execute_withNoClients_shouldReturnEmptyFlux() {
-        when(clientRepositoryPort.findAll()).thenReturn(Flux.empty());
+        when(clientRepositoryPort.findPage(null, null)).thenReturn(Flux.empty());
 
         StepVerifier.create(getAllClientsUseCase.execute(null))
                 .verifyComplete();
     }
+
+    @Test
+    void execute_withCursor_shouldRequestPageAfterId() {
+        Client client = new Client();
+        client.setClientId("CLI003");
+
+        when(clientRepositoryPort.findPage(2L, 1)).thenReturn(Flux.just(client));
+
+        StepVerifier.create(getAllClientsUseCase.execute(new GetAllClientsQuery(2L, 1)))
+                .expectNext(client)
+                .verifyComplete();
+    }
 }
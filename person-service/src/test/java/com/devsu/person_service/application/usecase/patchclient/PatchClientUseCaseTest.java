@@ -1,10 +1,10 @@
 package com.devsu.person_service.application.usecase.patchclient;
 
-import com.devsu.person_service.application.service.PasswordHasher;
 import com.devsu.person_service.domain.exception.ClientNotFoundException;
 import com.devsu.person_service.domain.exception.InvalidPasswordException;
 import com.devsu.person_service.domain.model.Client;
 import com.devsu.person_service.domain.port.out.ClientRepositoryPort;
+import com.devsu.person_service.domain.port.out.PasswordHashingPort;
 import com.devsu.person_service.domain.port.out.PublishClientEventPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,7 +31,7 @@ class PatchClientUseCaseTest {
     private ClientRepositoryPort clientRepositoryPort;
 
     @Mock
-    private PasswordHasher passwordHasher;
+    private PasswordHashingPort passwordHashingPort;
 
     @Mock
     private PublishClientEventPort publishClientEventPort;
@@ -135,7 +135,7 @@ class PatchClientUseCaseTest {
     }
 
     @Test
-    void execute_shouldSucceedEvenIfEventPublishingFails() {
+    void execute_shouldFail_whenOutboxWriteFails() {
         Client existingClient = new Client();
         existingClient.setId(1L);
         existingClient.setClientId("CLI001");
@@ -157,11 +157,11 @@ class PatchClientUseCaseTest {
         when(clientRepositoryPort.findByClientId("CLI001")).thenReturn(Mono.just(existingClient));
         when(clientRepositoryPort.save(any(Client.class))).thenReturn(Mono.just(existingClient));
         when(publishClientEventPort.publish(anyString(), anyString(), anyBoolean(), anyString()))
-                .thenReturn(Mono.error(new RuntimeException("RabbitMQ connection failed")));
+                .thenReturn(Mono.error(new RuntimeException("Outbox insert failed")));
 
         StepVerifier.create(patchClientUseCase.execute(command))
-                .expectNextMatches(result -> result.getClientId().equals("CLI001"))
-                .verifyComplete();
+                .expectErrorMessage("Outbox insert failed")
+                .verify();
 
         verify(publishClientEventPort, times(1)).publish(
                 eq("CLI001"),
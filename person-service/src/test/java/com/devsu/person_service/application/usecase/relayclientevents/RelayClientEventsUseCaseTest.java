@@ -0,0 +1,94 @@
+package com.devsu.person_service.application.usecase.relayclientevents;
+
+import com.devsu.person_service.domain.model.ClientEvent;
+import com.devsu.person_service.domain.port.out.ClientEventBrokerPort;
+import com.devsu.person_service.domain.port.out.ClientOutboxPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RelayClientEventsUseCaseTest {
+
+    @Mock
+    private ClientOutboxPort clientOutboxPort;
+
+    @Mock
+    private ClientEventBrokerPort clientEventBrokerPort;
+
+    @InjectMocks
+    private RelayClientEventsUseCase relayClientEventsUseCase;
+
+    private final LocalDateTime occurredAt = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    @Test
+    void execute_shouldPublishPendingEventsAndRemoveThem() {
+        ClientEvent first = new ClientEvent(1L, "CLI-1", "John Doe", true, "CLIENT_UPDATED", occurredAt);
+        ClientEvent second = new ClientEvent(2L, "CLI-2", "Jane Smith", true, "CLIENT_UPDATED", occurredAt);
+        when(clientOutboxPort.findPending(100)).thenReturn(Flux.just(first, second));
+        when(clientEventBrokerPort.publishAll(List.of(first, second))).thenReturn(Mono.empty());
+        when(clientOutboxPort.removePublished(List.of(1L, 2L))).thenReturn(Mono.just(2L));
+        when(clientOutboxPort.findOldestPendingAt()).thenReturn(Mono.empty());
+
+        StepVerifier.create(relayClientEventsUseCase.execute(100))
+            .expectNextMatches(result -> result.getPublished() == 2 && !result.isFailed()
+                && result.getOldestPendingAt() == null)
+            .verifyComplete();
+    }
+
+    @Test
+    void execute_shouldReportOldestRemainingEvent_whenBacklogIsLeftAfterBatch() {
+        ClientEvent first = new ClientEvent(1L, "CLI-1", "John Doe", true, "CLIENT_UPDATED", occurredAt);
+        LocalDateTime waitingSince = occurredAt.plusMinutes(5);
+        when(clientOutboxPort.findPending(1)).thenReturn(Flux.just(first));
+        when(clientEventBrokerPort.publishAll(List.of(first))).thenReturn(Mono.empty());
+        when(clientOutboxPort.removePublished(List.of(1L))).thenReturn(Mono.just(1L));
+        when(clientOutboxPort.findOldestPendingAt()).thenReturn(Mono.just(waitingSince));
+
+        StepVerifier.create(relayClientEventsUseCase.execute(1))
+            .expectNextMatches(result -> result.getPublished() == 1 && !result.isFailed()
+                && waitingSince.equals(result.getOldestPendingAt()))
+            .verifyComplete();
+    }
+
+    @Test
+    void execute_shouldReturnEmptyResult_whenOutboxIsEmpty() {
+        when(clientOutboxPort.findPending(100)).thenReturn(Flux.empty());
+        when(clientOutboxPort.findOldestPendingAt()).thenReturn(Mono.empty());
+
+        StepVerifier.create(relayClientEventsUseCase.execute(100))
+            .expectNextMatches(result -> result.getPublished() == 0 && !result.isFailed())
+            .verifyComplete();
+
+        verify(clientEventBrokerPort, never()).publishAll(any());
+    }
+
+    @Test
+    void execute_shouldKeepEvents_whenBrokerFails() {
+        ClientEvent event = new ClientEvent(1L, "CLI-1", "John Doe", true, "CLIENT_UPDATED", occurredAt);
+        when(clientOutboxPort.findPending(100)).thenReturn(Flux.just(event));
+        when(clientEventBrokerPort.publishAll(anyList())).thenReturn(Mono.error(new RuntimeException("Broker down")));
+
+        StepVerifier.create(relayClientEventsUseCase.execute(100))
+            .expectNextMatches(result -> result.getPublished() == 0 && result.isFailed()
+                && occurredAt.equals(result.getOldestPendingAt()))
+            .verifyComplete();
+
+        verify(clientOutboxPort, never()).removePublished(anyList());
+        verify(clientOutboxPort, never()).findOldestPendingAt();
+    }
+}
@@ -1,10 +1,10 @@
 package com.devsu.person_service.application.usecase.updateclient;
 
-import com.devsu.person_service.application.service.PasswordHasher;
 import com.devsu.person_service.domain.exception.ClientNotFoundException;
 import com.devsu.person_service.domain.exception.InvalidPasswordException;
 import com.devsu.person_service.domain.model.Client;
 import com.devsu.person_service.domain.port.out.ClientRepositoryPort;
+import com.devsu.person_service.domain.port.out.PasswordHashingPort;
 import com.devsu.person_service.domain.port.out.PublishClientEventPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,7 +31,7 @@ class UpdateClientUseCaseTest {
     private ClientRepositoryPort clientRepositoryPort;
 
     @Mock
-    private PasswordHasher passwordHasher;
+    private PasswordHashingPort passwordHashingPort;
 
     @Mock
     private PublishClientEventPort publishClientEventPort;
@@ -59,7 +59,7 @@ class UpdateClientUseCaseTest {
         UpdateClientCommand command = new UpdateClientCommand("CLI001", updatedClient, "NewPassword123");
 
         when(clientRepositoryPort.findByClientId("CLI001")).thenReturn(Mono.just(existingClient));
-        when(passwordHasher.hash("NewPassword123")).thenReturn("newHashedPassword");
+        when(passwordHashingPort.hash("NewPassword123")).thenReturn(Mono.just("newHashedPassword"));
         when(clientRepositoryPort.save(any(Client.class))).thenReturn(Mono.just(updatedClient));
         when(publishClientEventPort.publish(anyString(), anyString(), anyBoolean(), anyString())).thenReturn(Mono.empty());
 
@@ -119,7 +119,7 @@ class UpdateClientUseCaseTest {
         UpdateClientCommand command = new UpdateClientCommand("CLI001", updatedClient, "NewPassword123");
 
         when(clientRepositoryPort.findByClientId("CLI001")).thenReturn(Mono.just(existingClient));
-        when(passwordHasher.hash("NewPassword123")).thenReturn("newHashedPassword");
+        when(passwordHashingPort.hash("NewPassword123")).thenReturn(Mono.just("newHashedPassword"));
         when(clientRepositoryPort.save(any(Client.class))).thenReturn(Mono.just(updatedClient));
         when(publishClientEventPort.publish(anyString(), anyString(), anyBoolean(), anyString())).thenReturn(Mono.empty());
 
@@ -136,7 +136,7 @@ class UpdateClientUseCaseTest {
     }
 
     @Test
-    void execute_shouldSucceedEvenIfEventPublishingFails() {
+    void execute_shouldFail_whenOutboxWriteFails() {
         Client existingClient = new Client();
         existingClient.setId(1L);
         existingClient.setClientId("CLI001");
@@ -155,14 +155,14 @@ class UpdateClientUseCaseTest {
         UpdateClientCommand command = new UpdateClientCommand("CLI001", updatedClient, "NewPassword123");
 
         when(clientRepositoryPort.findByClientId("CLI001")).thenReturn(Mono.just(existingClient));
-        when(passwordHasher.hash("NewPassword123")).thenReturn("newHashedPassword");
+        when(passwordHashingPort.hash("NewPassword123")).thenReturn(Mono.just("newHashedPassword"));
         when(clientRepositoryPort.save(any(Client.class))).thenReturn(Mono.just(updatedClient));
         when(publishClientEventPort.publish(anyString(), anyString(), anyBoolean(), anyString()))
-                .thenReturn(Mono.error(new RuntimeException("RabbitMQ connection failed")));
+                .thenReturn(Mono.error(new RuntimeException("Outbox insert failed")));
 
         StepVerifier.create(updateClientUseCase.execute(command))
-                .expectNextMatches(result -> result.getClientId().equals("CLI001"))
-                .verifyComplete();
+                .expectErrorMessage("Outbox insert failed")
+                .verify();
 
         verify(publishClientEventPort, times(1)).publish(
                 eq("CLI001"),
@@ -192,7 +192,7 @@ class UpdateClientUseCaseTest {
         UpdateClientCommand command = new UpdateClientCommand("CLI002", updatedClient, "SecurePass456");
 
         when(clientRepositoryPort.findByClientId("CLI002")).thenReturn(Mono.just(existingClient));
-        when(passwordHasher.hash("SecurePass456")).thenReturn("newHashedPassword");
+        when(passwordHashingPort.hash("SecurePass456")).thenReturn(Mono.just("newHashedPassword"));
         when(clientRepositoryPort.save(any(Client.class))).thenReturn(Mono.just(updatedClient));
         when(publishClientEventPort.publish(anyString(), anyString(), anyBoolean(), anyString())).thenReturn(Mono.empty());
 
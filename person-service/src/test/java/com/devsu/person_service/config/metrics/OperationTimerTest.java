@@ -0,0 +1,82 @@
+package com.devsu.person_service.config.metrics;
+
+import com.devsu.person_service.domain.usecase.UseCase;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OperationTimerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OperationTimer operationTimer = new OperationTimer(meterRegistry);
+
+    @Test
+    void record_shouldTimeMonoFromSubscription_notAssembly() throws Throwable {
+        Mono<?> result = (Mono<?>) operationTimer.record("test.operation", Tags.of("operation", "op"), false,
+            () -> Mono.delay(Duration.ofMillis(50)));
+
+        assertThat(meterRegistry.find("test.operation").timer()).isNull();
+
+        StepVerifier.create(result).expectNextCount(1).verifyComplete();
+
+        Timer timer = meterRegistry.get("test.operation").tags("operation", "op", "outcome", "success", "exception", "none").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(40);
+    }
+
+    @Test
+    void record_shouldTagErrorsWithExceptionType() throws Throwable {
+        Flux<?> result = (Flux<?>) operationTimer.record("test.operation", Tags.of("operation", "op"), false,
+            () -> Flux.error(new IllegalStateException("boom")));
+
+        StepVerifier.create(result).expectError(IllegalStateException.class).verify();
+
+        assertThat(meterRegistry.get("test.operation")
+            .tags("outcome", "error", "exception", "IllegalStateException").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void record_shouldTimeSynchronousFailures() {
+        assertThatThrownBy(() -> operationTimer.record("test.operation", Tags.empty(), false, () -> {
+            throw new IllegalArgumentException("bad input");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(meterRegistry.get("test.operation")
+            .tags("outcome", "error", "exception", "IllegalArgumentException").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void useCaseAspect_shouldTimeExecuteByUseCaseClass_withHistogramForConfiguredOperations() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new EchoUseCase());
+        factory.addAspect(new UseCaseMetricsAspect(operationTimer, Set.of("EchoUseCase")));
+        EchoPort proxy = factory.getProxy();
+
+        StepVerifier.create(proxy.execute("hello")).expectNext("hello").verifyComplete();
+
+        Timer timer = meterRegistry.get("usecase.execute").tags("operation", "EchoUseCase", "outcome", "success").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.takeSnapshot().histogramCounts()).isNotEmpty();
+    }
+
+    interface EchoPort extends UseCase<String, Mono<String>> {
+    }
+
+    static class EchoUseCase implements EchoPort {
+        @Override
+        public Mono<String> execute(String input) {
+            return Mono.just(input);
+        }
+    }
+}